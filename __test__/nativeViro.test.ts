@@ -0,0 +1,243 @@
+import {
+  afterEach,
+  beforeEach,
+  describe,
+  expect,
+  jest,
+  test,
+} from "@jest/globals";
+import {
+  applyPhysicsCommands,
+  findCollisionsWithRays,
+  getBoundingBoxes,
+  getBoundingBoxesSync,
+  getNodeTransforms,
+  getNodeTransformsSync,
+  setGeometryData,
+  setNodeTransforms,
+  updateGeometryVertices,
+  updateInstanceColors,
+  updateInstanceTransforms,
+  ViroPhysicsOp,
+} from "../fabric-interop/NativeViro";
+
+// Install a fake of the object the JSI bridge puts on global
+function installNativeViro(methods: Record<string, unknown>) {
+  (global as any).NativeViro = methods;
+}
+
+let warn: ReturnType<typeof jest.spyOn>;
+
+beforeEach(() => {
+  warn = jest.spyOn(console, "warn").mockImplementation(() => {});
+});
+
+afterEach(() => {
+  delete (global as any).NativeViro;
+  warn.mockRestore();
+});
+
+describe("setNodeTransforms", () => {
+  test("passes the packed handles and transforms through", () => {
+    const setViroNodeTransforms = jest.fn();
+    installNativeViro({ setViroNodeTransforms });
+    const handles = new Int32Array([3, 4]);
+    const transforms = new Float32Array(18);
+    transforms[9] = NaN;
+
+    setNodeTransforms(handles, transforms);
+    expect(setViroNodeTransforms).toHaveBeenCalledWith(handles, transforms);
+  });
+
+  test("warns without the native module", () => {
+    setNodeTransforms(new Int32Array(1), new Float32Array(9));
+    expect(warn).toHaveBeenCalled();
+  });
+});
+
+describe("instanced mesh updates", () => {
+  test("forward the mesh handle, first instance and values", () => {
+    const updateViroInstanceTransforms = jest.fn();
+    const updateViroInstanceColors = jest.fn();
+    installNativeViro({
+      updateViroInstanceTransforms,
+      updateViroInstanceColors,
+    });
+    const transforms = new Float32Array(9);
+    const colors = new Uint32Array([0xff00ff00, 0]);
+
+    updateInstanceTransforms(5, 2, transforms);
+    updateInstanceColors(5, 3, colors);
+    expect(updateViroInstanceTransforms).toHaveBeenCalledWith(5, 2, transforms);
+    expect(updateViroInstanceColors).toHaveBeenCalledWith(5, 3, colors);
+  });
+
+  test("warn without the native module", () => {
+    updateInstanceTransforms(5, 0, new Float32Array(9));
+    updateInstanceColors(5, 0, new Uint32Array(1));
+    expect(warn).toHaveBeenCalledTimes(2);
+  });
+});
+
+describe("node queries", () => {
+  test("ask for transforms or bounding boxes of the handles", async () => {
+    const result = new Float32Array(9);
+    const queryViroNodesAsync = jest.fn(() => Promise.resolve(result));
+    installNativeViro({ queryViroNodesAsync });
+    const handles = new Int32Array([1, 2]);
+
+    await expect(getNodeTransforms(handles)).resolves.toBe(result);
+    expect(queryViroNodesAsync).toHaveBeenLastCalledWith(handles, false);
+    await expect(getBoundingBoxes(handles)).resolves.toBe(result);
+    expect(queryViroNodesAsync).toHaveBeenLastCalledWith(handles, true);
+  });
+
+  test("reject without the native module", async () => {
+    await expect(getNodeTransforms(new Int32Array(1))).rejects.toThrow();
+    await expect(getBoundingBoxes(new Int32Array(1))).rejects.toThrow();
+  });
+
+  test("have synchronous variants", () => {
+    const result = new Float32Array(6);
+    const queryViroNodes = jest.fn(() => result);
+    installNativeViro({ queryViroNodes });
+    const handles = new Int32Array([1]);
+
+    expect(getNodeTransformsSync(handles)).toBe(result);
+    expect(queryViroNodes).toHaveBeenLastCalledWith(handles, false);
+    expect(getBoundingBoxesSync(handles)).toBe(result);
+    expect(queryViroNodes).toHaveBeenLastCalledWith(handles, true);
+  });
+
+  test("synchronous variants return null without the native module", () => {
+    expect(getNodeTransformsSync(new Int32Array(1))).toBeNull();
+    expect(getBoundingBoxesSync(new Int32Array(1))).toBeNull();
+    expect(warn).toHaveBeenCalledTimes(2);
+  });
+});
+
+describe("applyPhysicsCommands", () => {
+  test("counts the commands the native side applied", async () => {
+    const applyViroPhysicsCommands = jest.fn(() =>
+      Promise.resolve(new Float32Array([1]))
+    );
+    installNativeViro({ applyViroPhysicsCommands });
+    const commands = new Int32Array([
+      4,
+      ViroPhysicsOp.Impulse,
+      8,
+      ViroPhysicsOp.Velocity,
+      9,
+      ViroPhysicsOp.TorqueImpulse,
+    ]);
+    const values = new Float32Array(18);
+
+    const result = await applyPhysicsCommands(commands, values);
+    expect(applyViroPhysicsCommands).toHaveBeenCalledWith(commands, values);
+    expect(result.applied).toBe(2);
+    expect(result.failed).toBeInstanceOf(Int32Array);
+    expect(Array.from(result.failed)).toEqual([1]);
+  });
+
+  test("only counts commands with all their values", async () => {
+    installNativeViro({
+      applyViroPhysicsCommands: () => Promise.resolve(new Float32Array(0)),
+    });
+    const result = await applyPhysicsCommands(
+      new Int32Array(6),
+      new Float32Array(12)
+    );
+    expect(result.applied).toBe(2);
+  });
+
+  test("rejects without the native module", async () => {
+    await expect(
+      applyPhysicsCommands(new Int32Array(2), new Float32Array(6))
+    ).rejects.toThrow();
+  });
+});
+
+describe("findCollisionsWithRays", () => {
+  const origins = new Float32Array([0, 0, 0, 1, 0, 0]);
+  const directions = new Float32Array([0, 0, -1, 0, 0, -1]);
+
+  test("passes no tag and no shape by default", async () => {
+    const result = { data: new Float32Array(14), tags: [null, null] };
+    const findViroCollisionsWithRays = jest.fn(() => Promise.resolve(result));
+    installNativeViro({ findViroCollisionsWithRays });
+
+    await expect(
+      findCollisionsWithRays(3, origins, directions, 50)
+    ).resolves.toBe(result);
+    expect(findViroCollisionsWithRays).toHaveBeenCalledWith(
+      3,
+      origins,
+      directions,
+      50,
+      null,
+      null,
+      []
+    );
+  });
+
+  test("passes the tag and the sweep shape", async () => {
+    const findViroCollisionsWithRays = jest.fn(() =>
+      Promise.resolve({ data: new Float32Array(14), tags: [] })
+    );
+    installNativeViro({ findViroCollisionsWithRays });
+
+    await findCollisionsWithRays(3, origins, directions, 50, {
+      tag: "target",
+      shape: { type: "sphere", params: [0.25] },
+    });
+    expect(findViroCollisionsWithRays).toHaveBeenCalledWith(
+      3,
+      origins,
+      directions,
+      50,
+      "target",
+      "sphere",
+      [0.25]
+    );
+  });
+
+  test("rejects without the native module", async () => {
+    await expect(
+      findCollisionsWithRays(3, origins, directions, 50)
+    ).rejects.toThrow();
+  });
+});
+
+describe("geometry updates", () => {
+  test("setGeometryData passes null for parts left out", () => {
+    const setViroGeometryData = jest.fn();
+    installNativeViro({ setViroGeometryData });
+    const vertices = new Float32Array(9);
+    const indices = new Uint32Array([0, 1, 2]);
+
+    setGeometryData(6, { vertices, indices });
+    expect(setViroGeometryData).toHaveBeenCalledWith(
+      6,
+      vertices,
+      null,
+      null,
+      indices,
+      null
+    );
+  });
+
+  test("updateGeometryVertices forwards the vertex offset", () => {
+    const updateViroGeometryVertices = jest.fn();
+    installNativeViro({ updateViroGeometryVertices });
+    const vertices = new Float32Array(6);
+
+    updateGeometryVertices(6, 10, vertices);
+    expect(updateViroGeometryVertices).toHaveBeenCalledWith(6, 10, vertices);
+  });
+
+  test("warn without the native module", () => {
+    setGeometryData(6, {});
+    updateGeometryVertices(6, 0, new Float32Array(3));
+    expect(warn).toHaveBeenCalledTimes(2);
+  });
+});
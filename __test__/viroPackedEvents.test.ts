@@ -0,0 +1,155 @@
+import { afterEach, describe, expect, jest, test } from "@jest/globals";
+import {
+  decodeCameraTransform,
+  decodeDragEvent,
+  forEachPackedEvent,
+  handleViroPackedEvents,
+  registerPackedEventListener,
+  ViroPackedEventType,
+} from "../fabric-interop/ViroPackedEvents";
+
+type PackedRecord = { type: number; handle: number; values: number[] };
+
+// Lay records out as ViroPackedEventBuffer does: three int32 header words,
+// then the float32 payload, all little endian.
+function pack(records: PackedRecord[]): ArrayBuffer {
+  const words = records.reduce((sum, r) => sum + 3 + r.values.length, 0);
+  const buffer = new ArrayBuffer(words * 4);
+  const view = new DataView(buffer);
+  let offset = 0;
+  for (const record of records) {
+    view.setInt32(offset, record.type, true);
+    view.setInt32(offset + 4, record.handle, true);
+    view.setInt32(offset + 8, record.values.length, true);
+    offset += 12;
+    for (const value of record.values) {
+      view.setFloat32(offset, value, true);
+      offset += 4;
+    }
+  }
+  return buffer;
+}
+
+function collect(buffer: ArrayBuffer) {
+  const seen: PackedRecord[] = [];
+  forEachPackedEvent(buffer, (type, handle, values) => {
+    seen.push({ type, handle, values: Array.from(values) });
+  });
+  return seen;
+}
+
+describe("forEachPackedEvent", () => {
+  test("visits every record in order with its payload", () => {
+    const records = [
+      { type: ViroPackedEventType.DRAG, handle: 7, values: [1, 0.5, -2, 3] },
+      { type: ViroPackedEventType.SCROLL, handle: 9, values: [2, 0.25, 0.75] },
+      { type: ViroPackedEventType.TRANSFORM_UPDATE, handle: 7, values: [] },
+    ];
+    expect(collect(pack(records))).toEqual(records);
+  });
+
+  test("skips records superseded in the same frame", () => {
+    const buffer = pack([
+      { type: ViroPackedEventType.SKIPPED, handle: 7, values: [1, 2, 3, 4] },
+      { type: ViroPackedEventType.DRAG, handle: 7, values: [1, 5, 6, 7] },
+    ]);
+    expect(collect(buffer)).toEqual([
+      { type: ViroPackedEventType.DRAG, handle: 7, values: [1, 5, 6, 7] },
+    ]);
+  });
+
+  test("stops at a truncated or corrupt record", () => {
+    const buffer = pack([
+      { type: ViroPackedEventType.SCROLL, handle: 1, values: [0, 1, 2] },
+      { type: ViroPackedEventType.DRAG, handle: 2, values: [1, 2, 3, 4] },
+    ]);
+    // Drop the last float of the second record
+    const truncated = buffer.slice(0, buffer.byteLength - 4);
+    expect(collect(truncated)).toEqual([
+      { type: ViroPackedEventType.SCROLL, handle: 1, values: [0, 1, 2] },
+    ]);
+
+    const negative = pack([
+      { type: ViroPackedEventType.SCROLL, handle: 1, values: [0] },
+    ]);
+    new DataView(negative).setInt32(8, -1, true);
+    expect(collect(negative)).toEqual([]);
+  });
+
+  test("an empty buffer has no records", () => {
+    expect(collect(new ArrayBuffer(0))).toEqual([]);
+  });
+});
+
+describe("decoders", () => {
+  test("decodeDragEvent", () => {
+    expect(decodeDragEvent(new Float32Array([1, 0.5, -2, 3]))).toEqual({
+      source: 1,
+      dragToPos: [0.5, -2, 3],
+    });
+  });
+
+  test("decodeCameraTransform", () => {
+    const values = new Float32Array([1, 2, 3, 4, 5, 6, 0, 0, -1, 0, 1, 0]);
+    expect(decodeCameraTransform(values)).toEqual({
+      position: [1, 2, 3],
+      rotation: [4, 5, 6],
+      forward: [0, 0, -1],
+      up: [0, 1, 0],
+    });
+  });
+});
+
+describe("packed event listeners", () => {
+  afterEach(() => {
+    delete (global as any).NativeViro;
+  });
+
+  test("route records to the listener of their node and type", () => {
+    const unregister = jest.fn();
+    (global as any).NativeViro = {
+      registerPackedEventCallback: jest.fn(() => 12),
+      unregisterPackedEventCallback: unregister,
+    };
+    const listener = jest.fn();
+    const remove = registerPackedEventListener("node-a", "onDrag", listener);
+    expect(remove).not.toBeNull();
+
+    handleViroPackedEvents(
+      pack([
+        { type: ViroPackedEventType.DRAG, handle: 12, values: [1, 2, 3, 4] },
+        // Same node, other type; other node, same type
+        { type: ViroPackedEventType.SCROLL, handle: 12, values: [1, 2, 3] },
+        { type: ViroPackedEventType.DRAG, handle: 13, values: [1, 5, 6, 7] },
+      ])
+    );
+    expect(listener).toHaveBeenCalledTimes(1);
+    expect(Array.from(listener.mock.calls[0][0] as Float32Array)).toEqual([
+      1, 2, 3, 4,
+    ]);
+
+    remove!();
+    expect(unregister).toHaveBeenCalledWith("node-a", "onDrag");
+    handleViroPackedEvents(
+      pack([
+        { type: ViroPackedEventType.DRAG, handle: 12, values: [1, 2, 3, 4] },
+      ])
+    );
+    expect(listener).toHaveBeenCalledTimes(1);
+  });
+
+  test("are not registered for events without a packed form", () => {
+    const register = jest.fn(() => 12);
+    (global as any).NativeViro = { registerPackedEventCallback: register };
+    expect(
+      registerPackedEventListener("node-a", "onClick", jest.fn())
+    ).toBeNull();
+    expect(register).not.toHaveBeenCalled();
+  });
+
+  test("are not registered without the native module", () => {
+    expect(
+      registerPackedEventListener("node-a", "onDrag", jest.fn())
+    ).toBeNull();
+  });
+});
@@ -0,0 +1,79 @@
+import { describe, expect, jest, test } from "@jest/globals";
+
+jest.mock("react-native", () => ({
+  Platform: { OS: "android" },
+  NativeModules: {
+    VRTNodeModule: {
+      applyPhysicsCommands: jest.fn(() =>
+        Promise.resolve({ applied: 2, failed: [] })
+      ),
+    },
+  },
+}));
+
+import { NativeModules } from "react-native";
+import {
+  applyPhysicsCommands,
+  decodeFloat32Array,
+  encodeTypedArray,
+  ViroPhysicsOp,
+} from "../components/Utilities/ViroUtils";
+
+describe("applyPhysicsCommands", () => {
+  test("packs the commands into handle, op and value arrays", async () => {
+    const result = await applyPhysicsCommands([
+      {
+        tag: 4,
+        op: ViroPhysicsOp.Impulse,
+        vector: [1, 2, 3],
+        position: [0.5, 0, -0.5],
+      },
+      { tag: 8, op: ViroPhysicsOp.Velocity, vector: [0, 9, 0] },
+    ]);
+
+    expect(result).toEqual({ applied: 2, failed: [] });
+    expect(
+      NativeModules.VRTNodeModule.applyPhysicsCommands
+    ).toHaveBeenCalledWith(
+      [4, ViroPhysicsOp.Impulse, 8, ViroPhysicsOp.Velocity],
+      [1, 2, 3, 0.5, 0, -0.5, 0, 9, 0, 0, 0, 0]
+    );
+  });
+});
+
+function nodeBase64(array: Float32Array | Uint32Array) {
+  return Buffer.from(array.buffer, array.byteOffset, array.byteLength).toString(
+    "base64"
+  );
+}
+
+describe("typed array base64", () => {
+  test.each([0, 1, 2, 3, 5, 17])("encodes %i values like Buffer", (n) => {
+    const values = new Uint32Array(n);
+    for (let i = 0; i < n; i++) {
+      values[i] = (i * 0x9e3779b9) >>> 0;
+    }
+    expect(encodeTypedArray(values)).toBe(nodeBase64(values));
+  });
+
+  test("encodes only the bytes of a subarray", () => {
+    const values = new Float32Array([1, 2, 3, 4, 5]).subarray(1, 4);
+    expect(encodeTypedArray(values)).toBe(nodeBase64(values));
+  });
+
+  test.each([0, 1, 2, 3, 5, 17])("round trips %i floats", (n) => {
+    const values = new Float32Array(n);
+    for (let i = 0; i < n; i++) {
+      values[i] = i * 1.5 - 7.25;
+    }
+    const decoded = decodeFloat32Array(encodeTypedArray(values));
+    expect(Array.from(decoded)).toEqual(Array.from(values));
+  });
+
+  test("decodes base64 encoded elsewhere", () => {
+    const values = new Float32Array([Math.PI, -0.5, 1e10]);
+    expect(Array.from(decodeFloat32Array(nodeBase64(values)))).toEqual(
+      Array.from(values)
+    );
+  });
+});
@@ -0,0 +1,54 @@
+package com.viromedia.bridge.component.node;
+
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks the level selection of VRTLOD. This runs on device because VRTLOD extends VRTNode,
+ * which needs the React Native and ViroCore classes.
+ */
+@RunWith(AndroidJUnit4.class)
+public class VRTLODTest {
+
+    private static final float[] DISTANCES = {10, 20};
+    private static final float HYSTERESIS = 0.1f;
+
+    @Test
+    public void walksToTheLevelOfTheDistance() {
+        assertEquals(0, VRTLOD.selectLevel(DISTANCES, HYSTERESIS, 5, 2));
+        assertEquals(1, VRTLOD.selectLevel(DISTANCES, HYSTERESIS, 15, 0));
+        assertEquals(2, VRTLOD.selectLevel(DISTANCES, HYSTERESIS, 30, 0));
+    }
+
+    @Test
+    public void crossesThresholdsOnlyPastTheHysteresis() {
+        // Moving away: level 0 holds until 10 * 1.1
+        assertEquals(0, VRTLOD.selectLevel(DISTANCES, HYSTERESIS, 10.5f, 0));
+        assertEquals(1, VRTLOD.selectLevel(DISTANCES, HYSTERESIS, 11.5f, 0));
+        // Moving closer: level 1 holds until 10 * 0.9
+        assertEquals(1, VRTLOD.selectLevel(DISTANCES, HYSTERESIS, 9.5f, 1));
+        assertEquals(0, VRTLOD.selectLevel(DISTANCES, HYSTERESIS, 8.5f, 1));
+    }
+
+    @Test
+    public void noHysteresisSwitchesAtTheThreshold() {
+        assertEquals(1, VRTLOD.selectLevel(DISTANCES, 0, 10.01f, 0));
+        assertEquals(0, VRTLOD.selectLevel(DISTANCES, 0, 9.99f, 1));
+    }
+
+    @Test
+    public void noDistancesAlwaysSelectsTheFirstLevel() {
+        assertEquals(0, VRTLOD.selectLevel(new float[0], HYSTERESIS, 100, 0));
+        assertEquals(0, VRTLOD.selectLevel(new float[0], HYSTERESIS, 100, 3));
+    }
+
+    @Test
+    public void clampsTheStartingLevel() {
+        assertEquals(2, VRTLOD.selectLevel(DISTANCES, HYSTERESIS, 30, 7));
+        assertEquals(0, VRTLOD.selectLevel(DISTANCES, HYSTERESIS, 1, -4));
+    }
+}
@@ -0,0 +1,89 @@
+package com.viromedia.bridge.component.node.control;
+
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks how VRTInstancedMesh bakes static instances. This runs on device because
+ * VRTInstancedMesh extends VRTNode, which needs the React Native and ViroCore classes.
+ */
+@RunWith(AndroidJUnit4.class)
+public class VRTInstancedMeshTest {
+
+    private static final float EPSILON = 1e-5f;
+    private static final float[] POINT = {1, 2, 3};
+
+    private static float[] instance(float px, float py, float pz, float rx, float ry, float rz,
+                                    float sx, float sy, float sz) {
+        return new float[] {px, py, pz, rx, ry, rz, sx, sy, sz};
+    }
+
+    @Test
+    public void identityLeavesPointsAlone() {
+        float[] transforms = instance(0, 0, 0, 0, 0, 0, 1, 1, 1);
+        assertArrayEquals(POINT, VRTInstancedMesh.bakeVertices(POINT, transforms, new int[] {0}, false), EPSILON);
+    }
+
+    @Test
+    public void scalesThenTranslates() {
+        float[] transforms = instance(10, 20, 30, 0, 0, 0, 2, 3, 4);
+        assertArrayEquals(new float[] {12, 26, 42},
+                VRTInstancedMesh.bakeVertices(POINT, transforms, new int[] {0}, false), EPSILON);
+    }
+
+    @Test
+    public void rotatesAboutEachAxis() {
+        float[] x = {1, 0, 0};
+        float[] y = {0, 1, 0};
+        assertArrayEquals(new float[] {0, 1, 0},
+                VRTInstancedMesh.bakeVertices(x, instance(0, 0, 0, 0, 0, 90, 1, 1, 1), new int[] {0}, false), EPSILON);
+        assertArrayEquals(new float[] {0, 0, -1},
+                VRTInstancedMesh.bakeVertices(x, instance(0, 0, 0, 0, 90, 0, 1, 1, 1), new int[] {0}, false), EPSILON);
+        assertArrayEquals(new float[] {0, 0, 1},
+                VRTInstancedMesh.bakeVertices(y, instance(0, 0, 0, 90, 0, 0, 1, 1, 1), new int[] {0}, false), EPSILON);
+    }
+
+    @Test
+    public void rotatesAboutXThenYThenZ() {
+        // x takes +y to +z, then y takes +z to +x. Rotating about y first would end at +z.
+        float[] y = {0, 1, 0};
+        assertArrayEquals(new float[] {1, 0, 0},
+                VRTInstancedMesh.bakeVertices(y, instance(0, 0, 0, 90, 90, 0, 1, 1, 1), new int[] {0}, false), EPSILON);
+    }
+
+    @Test
+    public void writesTheGivenInstancesBackToBack() {
+        float[] transforms = new float[27];
+        System.arraycopy(instance(1, 0, 0, 0, 0, 0, 1, 1, 1), 0, transforms, 0, 9);
+        System.arraycopy(instance(2, 0, 0, 0, 0, 0, 1, 1, 1), 0, transforms, 9, 9);
+        System.arraycopy(instance(3, 0, 0, 0, 0, 0, 1, 1, 1), 0, transforms, 18, 9);
+        float[] baked = VRTInstancedMesh.bakeVertices(new float[] {0, 0, 0, 0, 1, 0}, transforms, new int[] {2, 0}, false);
+        assertArrayEquals(new float[] {3, 0, 0, 3, 1, 0, 1, 0, 0, 1, 1, 0}, baked, EPSILON);
+    }
+
+    @Test
+    public void normalsIgnoreTranslationAndStayUnitLength() {
+        float[] transforms = instance(5, 5, 5, 0, 0, 0, 4, 4, 4);
+        assertArrayEquals(new float[] {0, 1, 0},
+                VRTInstancedMesh.bakeVertices(new float[] {0, 1, 0}, transforms, new int[] {0}, true), EPSILON);
+    }
+
+    @Test
+    public void normalsStayPerpendicularUnderNonUniformScale() {
+        // The plane x + y = 0 stretched 2x along x becomes x / 2 + y = 0, with normal (1, 2, 0)
+        float[] transforms = instance(0, 0, 0, 0, 0, 0, 2, 1, 1);
+        float[] baked = VRTInstancedMesh.bakeVertices(new float[] {1, 1, 0}, transforms, new int[] {0}, true);
+        float length = (float) Math.sqrt(5);
+        assertArrayEquals(new float[] {1 / length, 2 / length, 0}, baked, EPSILON);
+    }
+
+    @Test
+    public void noInstancesBakeNothing() {
+        assertEquals(0, VRTInstancedMesh.bakeVertices(POINT, new float[0], new int[0], false).length);
+    }
+}
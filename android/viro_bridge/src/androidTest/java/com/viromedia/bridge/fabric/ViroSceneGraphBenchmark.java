@@ -0,0 +1,136 @@
+package com.viromedia.bridge.fabric;
+
+import android.util.Log;
+import android.view.View;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.ReactContext;
+import com.facebook.react.bridge.WritableMap;
+
+import com.viromedia.bridge.component.VRTComponent;
+import com.viromedia.bridge.component.node.VRTNode;
+import com.viromedia.bridge.component.node.VRTScene;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Benchmark for scene graph bookkeeping on a 10 level, 5,000 node tree: attaching the tree under
+ * a scene, propagating the scene down to it, and a bottom-up property pass that marks the
+ * top-most changed element.
+ *
+ * The property pass is also run the way it used to work, where each Node cleared the flag on its
+ * whole subtree, so the two can be compared on the same tree. Run on the UI thread, by
+ * ViroSceneGraphBenchmarkTest.
+ */
+public class ViroSceneGraphBenchmark {
+
+    private static final String TAG = "ViroSceneGraphBenchmark";
+
+    // Nodes per level; 10 levels, 5,000 nodes
+    private static final int[] LEVEL_SIZES = {1, 3, 9, 27, 81, 243, 486, 972, 1458, 1720};
+    private static final int ITERATIONS = 5;
+
+    private final ReactContext mReactContext;
+    private long mLegacyVisits = 0;
+
+    public ViroSceneGraphBenchmark(ReactContext reactContext) {
+        mReactContext = reactContext;
+    }
+
+    /**
+     * Build the tree, time each phase and tear the tree down again.
+     *
+     * @return timings in milliseconds (best of several runs for the property passes), the node
+     * count and whether only the root Node ends up as the top-most changed element.
+     */
+    public WritableMap run() {
+        WritableMap results = Arguments.createMap();
+        // Lightweight, as the Fabric container creates them
+        VRTScene scene = new VRTScene(mReactContext);
+        scene.setLightweight(true);
+        scene.setScene(scene);
+        List<VRTNode> nodes = new ArrayList<>();
+
+        try {
+            // Create and attach top-down, level by level
+            List<List<VRTNode>> levels = new ArrayList<>();
+            long start = System.nanoTime();
+            for (int level = 0; level < LEVEL_SIZES.length; level++) {
+                List<VRTNode> levelNodes = new ArrayList<>(LEVEL_SIZES[level]);
+                for (int i = 0; i < LEVEL_SIZES[level]; i++) {
+                    VRTNode node = new VRTNode(mReactContext);
+                    node.setLightweight(true);
+                    VRTComponent parent = level == 0 ? scene : levels.get(level - 1).get(i % LEVEL_SIZES[level - 1]);
+                    parent.addView(node);
+                    levelNodes.add(node);
+                    nodes.add(node);
+                }
+                levels.add(levelNodes);
+            }
+            results.putDouble("attachMs", elapsedMs(start));
+
+            start = System.nanoTime();
+            VRTComponent.flushPendingPropagation();
+            results.putDouble("propagationMs", elapsedMs(start));
+            results.putInt("nodes", nodes.size());
+            results.putInt("levels", LEVEL_SIZES.length);
+
+            // Props are set from the bottom of the tree up
+            double legacyBest = Double.MAX_VALUE;
+            double incrementalBest = Double.MAX_VALUE;
+            for (int iteration = 0; iteration < ITERATIONS; iteration++) {
+                mLegacyVisits = 0;
+                start = System.nanoTime();
+                for (int i = nodes.size() - 1; i >= 0; i--) {
+                    legacyClearChildren(nodes.get(i));
+                }
+                legacyBest = Math.min(legacyBest, elapsedMs(start));
+
+                start = System.nanoTime();
+                for (int i = nodes.size() - 1; i >= 0; i--) {
+                    nodes.get(i).markPropsChanged();
+                }
+                incrementalBest = Math.min(incrementalBest, elapsedMs(start));
+            }
+            results.putDouble("legacyPropPassMs", legacyBest);
+            results.putDouble("legacyNodesVisited", mLegacyVisits);
+            results.putDouble("incrementalPropPassMs", incrementalBest);
+
+            // The lazy check walks up instead; only the root Node of the tree is top-most
+            start = System.nanoTime();
+            int topMost = 0;
+            for (VRTNode node : nodes) {
+                if (node.isTopMostChangedElement()) {
+                    topMost++;
+                }
+            }
+            results.putDouble("topMostQueryMs", elapsedMs(start));
+            results.putBoolean("correct", topMost == 1 && nodes.get(0).isTopMostChangedElement());
+
+            Log.i(TAG, "Prop pass over " + nodes.size() + " nodes: legacy " + legacyBest
+                    + "ms, incremental " + incrementalBest + "ms");
+        } catch (Exception e) {
+            Log.e(TAG, "Scene graph benchmark failed: " + e.getMessage(), e);
+            results.putString("error", e.getMessage());
+        } finally {
+            scene.forceCascadeTearDown();
+        }
+        return results;
+    }
+
+    // The subtree walk each Node's onPropsSet used to do
+    private void legacyClearChildren(VRTComponent component) {
+        for (int i = 0; i < component.getChildCount(); i++) {
+            View child = component.getChildAt(i);
+            if (child instanceof VRTNode) {
+                mLegacyVisits++;
+                legacyClearChildren((VRTNode) child);
+            }
+        }
+    }
+
+    private static double elapsedMs(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1e6;
+    }
+}
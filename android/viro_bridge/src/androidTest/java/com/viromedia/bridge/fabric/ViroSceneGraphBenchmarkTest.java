@@ -0,0 +1,41 @@
+package com.viromedia.bridge.fabric;
+
+import android.content.Context;
+
+import androidx.test.platform.app.InstrumentationRegistry;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+
+import com.facebook.react.bridge.ReactApplicationContext;
+import com.facebook.react.bridge.WritableMap;
+import com.facebook.soloader.SoLoader;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Runs ViroSceneGraphBenchmark on the UI thread and checks that the incremental property pass
+ * leaves only the root Node as the top-most changed element. Timings are logged by the benchmark.
+ */
+@RunWith(AndroidJUnit4.class)
+public class ViroSceneGraphBenchmarkTest {
+
+    @Test
+    public void sceneGraphBenchmark() {
+        Context context = InstrumentationRegistry.getInstrumentation().getTargetContext();
+        SoLoader.init(context, false);
+        final ReactApplicationContext reactContext = new ReactApplicationContext(context);
+        final WritableMap[] results = new WritableMap[1];
+        InstrumentationRegistry.getInstrumentation().runOnMainSync(new Runnable() {
+            @Override
+            public void run() {
+                results[0] = new ViroSceneGraphBenchmark(reactContext).run();
+            }
+        });
+
+        assertFalse(results[0].toHashMap().toString(), results[0].hasKey("error"));
+        assertTrue(results[0].getBoolean("correct"));
+    }
+}
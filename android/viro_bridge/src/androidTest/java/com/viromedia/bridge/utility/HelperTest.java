@@ -0,0 +1,62 @@
+package com.viromedia.bridge.utility;
+
+import android.util.Base64;
+
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks the base64 typed array helpers against the layout JS uses. This runs on device because
+ * android.util.Base64 is only a stub in local unit tests.
+ */
+@RunWith(AndroidJUnit4.class)
+public class HelperTest {
+
+    private static String littleEndian(float... values) {
+        ByteBuffer bytes = ByteBuffer.allocate(values.length * 4).order(ByteOrder.LITTLE_ENDIAN);
+        for (float value : values) {
+            bytes.putFloat(value);
+        }
+        return Base64.encodeToString(bytes.array(), Base64.DEFAULT);
+    }
+
+    @Test
+    public void decodesLittleEndianFloats() {
+        float[] values = {1, -0.5f, (float) Math.PI, Float.NaN};
+        assertArrayEquals(values, Helper.decodeFloats(littleEndian(values)), 0);
+    }
+
+    @Test
+    public void decodesLittleEndianInts() {
+        // The bytes of a JS Uint32Array [1, 0xff00ff00]
+        String base64 = Base64.encodeToString(new byte[] {
+                1, 0, 0, 0, 0, (byte) 0xff, 0, (byte) 0xff}, Base64.NO_WRAP);
+        assertArrayEquals(new int[] {1, 0xff00ff00}, Helper.decodeInts(base64));
+    }
+
+    @Test
+    public void decodesEmptyArrays() {
+        assertEquals(0, Helper.decodeFloats("").length);
+        assertEquals(0, Helper.decodeInts("").length);
+    }
+
+    @Test
+    public void encodesWithoutLineBreaks() {
+        float[] values = new float[64];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i * 1.5f - 7.25f;
+        }
+        String encoded = Helper.encodeFloats(values);
+        assertEquals(-1, encoded.indexOf('\n'));
+        assertEquals(littleEndian(values).replace("\n", ""), encoded);
+        assertArrayEquals(values, Helper.decodeFloats(encoded), 0);
+    }
+}
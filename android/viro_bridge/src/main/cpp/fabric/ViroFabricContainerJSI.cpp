@@ -1,5 +1,6 @@
 // Use the Prefab-provided headers
 #include <fbjni/fbjni.h>
+#include <fbjni/ByteBuffer.h>
 #include <jsi/jsi.h>
 #include <react/jni/ReadableNativeMap.h>
 #include <react/jni/WritableNativeMap.h>
@@ -9,7 +10,12 @@
 #include <android/log.h>
 #include <memory>
 #include <string>
+#include <vector>
+#include <cstring>
+#include <cstdint>
+#include <type_traits>
 #include <map>
+#include <algorithm>
 #include <mutex>
 #include <thread>
 #include <chrono>
@@ -29,6 +35,9 @@ public:
             makeNativeMethod("dispatchEventToJS", ViroFabricContainerJSI::dispatchEventToJS),
             makeNativeMethod("resolvePromise", ViroFabricContainerJSI::resolvePromise),
             makeNativeMethod("rejectPromise", ViroFabricContainerJSI::rejectPromise),
+            makeNativeMethod("resolvePromiseWithFloats", ViroFabricContainerJSI::resolvePromiseWithFloats),
+            makeNativeMethod("resolvePromiseWithFloatsAndTags", ViroFabricContainerJSI::resolvePromiseWithFloatsAndTags),
+            makeNativeMethod("dispatchPackedEvents", ViroFabricContainerJSI::dispatchPackedEvents),
         });
     }
 
@@ -267,11 +276,12 @@ private:
                 // Call the Java method
                 static const auto registerEventCallbackMethod = 
                     javaPart_->getClass()->getMethod<void(jstring, jstring, jstring)>("registerEventCallback");
+                // Java signature is (callbackId, eventName, componentId)
                 registerEventCallbackMethod(
                     javaPart_.get(),
-                    jni::make_jstring(nodeId).get(),
+                    jni::make_jstring(callbackId).get(),
                     jni::make_jstring(eventName).get(),
-                    jni::make_jstring(callbackId).get());
+                    jni::make_jstring(nodeId).get());
                 
                 return jsi::Value::undefined();
             }
@@ -293,11 +303,12 @@ private:
                 // Call the Java method
                 static const auto unregisterEventCallbackMethod = 
                     javaPart_->getClass()->getMethod<void(jstring, jstring, jstring)>("unregisterEventCallback");
+                // Java signature is (callbackId, eventName, componentId)
                 unregisterEventCallbackMethod(
                     javaPart_.get(),
-                    jni::make_jstring(nodeId).get(),
+                    jni::make_jstring(callbackId).get(),
                     jni::make_jstring(eventName).get(),
-                    jni::make_jstring(callbackId).get());
+                    jni::make_jstring(nodeId).get());
                 
                 return jsi::Value::undefined();
             }
@@ -440,6 +451,30 @@ private:
             }
         ));
         
+        nativeViro.setProperty(runtime, "preloadViroScene", jsi::Function::createFromHostFunction(
+            runtime,
+            jsi::PropNameID::forAscii(runtime, "preloadViroScene"),
+            2,  // sceneId, activationThreshold
+            [this](jsi::Runtime& rt, const jsi::Value& thisValue, const jsi::Value* args, size_t count) -> jsi::Value {
+                if (count < 1) {
+                    throw jsi::JSError(rt, "preloadViroScene requires at least 1 argument");
+                }
+                
+                auto sceneId = args[0].getString(rt).utf8(rt);
+                double threshold = (count > 1 && args[1].isNumber()) ? args[1].asNumber() : 1.0;
+                
+                // Call the Java method
+                static const auto preloadSceneMethod = 
+                    javaPart_->getClass()->getMethod<void(jstring, jfloat)>("preloadScene");
+                preloadSceneMethod(
+                    javaPart_.get(),
+                    jni::make_jstring(sceneId).get(),
+                    static_cast<jfloat>(threshold));
+                
+                return jsi::Value::undefined();
+            }
+        ));
+        
         nativeViro.setProperty(runtime, "getViroSceneState", jsi::Function::createFromHostFunction(
             runtime,
             jsi::PropNameID::forAscii(runtime, "getViroSceneState"),
@@ -467,6 +502,110 @@ private:
             }
         ));
         
+        nativeViro.setProperty(runtime, "snapshotViroSubtree", jsi::Function::createFromHostFunction(
+            runtime,
+            jsi::PropNameID::forAscii(runtime, "snapshotViroSubtree"),
+            1,  // rootId
+            [this](jsi::Runtime& rt, const jsi::Value& thisValue, const jsi::Value* args, size_t count) -> jsi::Value {
+                if (count < 1) {
+                    throw jsi::JSError(rt, "snapshotViroSubtree requires 1 argument");
+                }
+                
+                auto rootId = args[0].getString(rt).utf8(rt);
+                
+                // Call the Java method
+                static const auto snapshotSubtreeMethod = 
+                    javaPart_->getClass()->getMethod<jni::JArrayByte::javaobject(jstring)>("snapshotSubtree");
+                auto snapshot = snapshotSubtreeMethod(
+                    javaPart_.get(),
+                    jni::make_jstring(rootId).get());
+                
+                if (!snapshot) {
+                    return jsi::Value::null();
+                }
+                
+                size_t length = snapshot->size();
+                auto arrayBufferConstructor = rt.global().getPropertyAsFunction(rt, "ArrayBuffer");
+                auto arrayBuffer = arrayBufferConstructor.callAsConstructor(
+                    rt, static_cast<double>(length)).getObject(rt).getArrayBuffer(rt);
+                if (length > 0) {
+                    snapshot->getRegion(0, static_cast<jsize>(length),
+                        reinterpret_cast<jbyte*>(arrayBuffer.data(rt)));
+                }
+                return jsi::Value(rt, arrayBuffer);
+            }
+        ));
+        
+        nativeViro.setProperty(runtime, "instantiateViroSnapshot", jsi::Function::createFromHostFunction(
+            runtime,
+            jsi::PropNameID::forAscii(runtime, "instantiateViroSnapshot"),
+            3,  // snapshot, parentId, idPrefix
+            [this](jsi::Runtime& rt, const jsi::Value& thisValue, const jsi::Value* args, size_t count) -> jsi::Value {
+                if (count < 3 || !args[0].isObject()) {
+                    throw jsi::JSError(rt, "instantiateViroSnapshot requires a snapshot, a parent id and an id prefix");
+                }
+                
+                auto bytes = readByteArray(rt, args[0].getObject(rt));
+                auto idPrefix = args[2].getString(rt).utf8(rt);
+                
+                auto snapshot = jni::JArrayByte::newArray(static_cast<jsize>(bytes.size()));
+                if (!bytes.empty()) {
+                    snapshot->setRegion(0, static_cast<jsize>(bytes.size()),
+                        reinterpret_cast<const jbyte*>(bytes.data()));
+                }
+                
+                jni::local_ref<jni::JString> parentId;
+                if (args[1].isString()) {
+                    parentId = jni::make_jstring(args[1].getString(rt).utf8(rt));
+                }
+                
+                // Call the Java method
+                static const auto instantiateSnapshotMethod = 
+                    javaPart_->getClass()->getMethod<jni::JArrayInt::javaobject(jni::JArrayByte::javaobject, jstring, jstring)>("instantiateSnapshot");
+                auto handles = instantiateSnapshotMethod(
+                    javaPart_.get(),
+                    snapshot.get(),
+                    parentId.get(),
+                    jni::make_jstring(idPrefix).get());
+                
+                size_t handleCount = handles ? handles->size() : 0;
+                auto int32ArrayConstructor = rt.global().getPropertyAsFunction(rt, "Int32Array");
+                auto result = int32ArrayConstructor.callAsConstructor(rt, static_cast<double>(handleCount)).getObject(rt);
+                if (handleCount > 0) {
+                    auto buffer = result.getPropertyAsObject(rt, "buffer").getArrayBuffer(rt);
+                    handles->getRegion(0, static_cast<jsize>(handleCount),
+                        reinterpret_cast<jint*>(buffer.data(rt)));
+                }
+                return jsi::Value(rt, result);
+            }
+        ));
+        
+        nativeViro.setProperty(runtime, "getViroSceneInfo", jsi::Function::createFromHostFunction(
+            runtime,
+            jsi::PropNameID::forAscii(runtime, "getViroSceneInfo"),
+            1,  // sceneId
+            [this](jsi::Runtime& rt, const jsi::Value& thisValue, const jsi::Value* args, size_t count) -> jsi::Value {
+                if (count < 1) {
+                    return jsi::Value::null();
+                }
+                
+                auto sceneId = args[0].getString(rt).utf8(rt);
+                
+                // Call the Java method
+                static const auto getSceneInfoMethod = 
+                    javaPart_->getClass()->getMethod<ReadableNativeMap::javaobject(jstring)>("getSceneInfo");
+                auto info = getSceneInfoMethod(
+                    javaPart_.get(),
+                    jni::make_jstring(sceneId).get());
+                
+                if (info) {
+                    return convertReadableMapToJSIValue(rt, info);
+                }
+                
+                return jsi::Value::null();
+            }
+        ));
+        
         // Memory management functions
         nativeViro.setProperty(runtime, "getViroMemoryStats", jsi::Function::createFromHostFunction(
             runtime,
@@ -501,6 +640,48 @@ private:
             }
         ));
         
+        nativeViro.setProperty(runtime, "setViroMetricsSampleInterval", jsi::Function::createFromHostFunction(
+            runtime,
+            jsi::PropNameID::forAscii(runtime, "setViroMetricsSampleInterval"),
+            1,  // intervalMs
+            [this](jsi::Runtime& rt, const jsi::Value& thisValue, const jsi::Value* args, size_t count) -> jsi::Value {
+                if (count < 1 || !args[0].isNumber()) {
+                    throw jsi::JSError(rt, "setViroMetricsSampleInterval requires a number of milliseconds");
+                }
+                
+                // Call the Java method
+                static const auto setMetricsSampleIntervalMethod = 
+                    javaPart_->getClass()->getMethod<void(jint)>("setMetricsSampleInterval");
+                setMetricsSampleIntervalMethod(
+                    javaPart_.get(),
+                    static_cast<jint>(args[0].asNumber()));
+                
+                return jsi::Value::undefined();
+            }
+        ));
+        
+        nativeViro.setProperty(runtime, "setViroResourceBudgets", jsi::Function::createFromHostFunction(
+            runtime,
+            jsi::PropNameID::forAscii(runtime, "setViroResourceBudgets"),
+            1,  // budgets
+            [this](jsi::Runtime& rt, const jsi::Value& thisValue, const jsi::Value* args, size_t count) -> jsi::Value {
+                if (count < 1) {
+                    throw jsi::JSError(rt, "setViroResourceBudgets requires 1 argument");
+                }
+                
+                auto budgetsMap = convertJSIValueToReadableMap(rt, args[0]);
+                
+                // Call the Java method
+                static const auto setResourceBudgetsMethod = 
+                    javaPart_->getClass()->getMethod<void(ReadableNativeMap::javaobject)>("setResourceBudgets");
+                setResourceBudgetsMethod(
+                    javaPart_.get(),
+                    budgetsMap.get());
+                
+                return jsi::Value::undefined();
+            }
+        ));
+        
         // Material management functions
         nativeViro.setProperty(runtime, "createViroMaterial", jsi::Function::createFromHostFunction(
             runtime,
@@ -829,6 +1010,506 @@ private:
             }
         ));
         
+        // Packed binary events
+        nativeViro.setProperty(runtime, "registerPackedEventCallback", jsi::Function::createFromHostFunction(
+            runtime,
+            jsi::PropNameID::forAscii(runtime, "registerPackedEventCallback"),
+            2,  // nodeId, eventName
+            [this](jsi::Runtime& rt, const jsi::Value& thisValue, const jsi::Value* args, size_t count) -> jsi::Value {
+                if (count < 2) {
+                    throw jsi::JSError(rt, "registerPackedEventCallback requires 2 arguments");
+                }
+                
+                auto nodeId = args[0].getString(rt).utf8(rt);
+                auto eventName = args[1].getString(rt).utf8(rt);
+                
+                static const auto registerPackedEventCallbackMethod = 
+                    javaPart_->getClass()->getMethod<jint(jstring, jstring)>("registerPackedEventCallback");
+                jint handle = registerPackedEventCallbackMethod(
+                    javaPart_.get(),
+                    jni::make_jstring(nodeId).get(),
+                    jni::make_jstring(eventName).get());
+                
+                return jsi::Value(static_cast<int>(handle));
+            }
+        ));
+        
+        nativeViro.setProperty(runtime, "unregisterPackedEventCallback", jsi::Function::createFromHostFunction(
+            runtime,
+            jsi::PropNameID::forAscii(runtime, "unregisterPackedEventCallback"),
+            2,  // nodeId, eventName
+            [this](jsi::Runtime& rt, const jsi::Value& thisValue, const jsi::Value* args, size_t count) -> jsi::Value {
+                if (count < 2) {
+                    throw jsi::JSError(rt, "unregisterPackedEventCallback requires 2 arguments");
+                }
+                
+                auto nodeId = args[0].getString(rt).utf8(rt);
+                auto eventName = args[1].getString(rt).utf8(rt);
+                
+                static const auto unregisterPackedEventCallbackMethod = 
+                    javaPart_->getClass()->getMethod<void(jstring, jstring)>("unregisterPackedEventCallback");
+                unregisterPackedEventCallbackMethod(
+                    javaPart_.get(),
+                    jni::make_jstring(nodeId).get(),
+                    jni::make_jstring(eventName).get());
+                
+                return jsi::Value::undefined();
+            }
+        ));
+        
+        nativeViro.setProperty(runtime, "getViroNodeHandle", jsi::Function::createFromHostFunction(
+            runtime,
+            jsi::PropNameID::forAscii(runtime, "getViroNodeHandle"),
+            1,  // nodeId
+            [this](jsi::Runtime& rt, const jsi::Value& thisValue, const jsi::Value* args, size_t count) -> jsi::Value {
+                if (count < 1) {
+                    throw jsi::JSError(rt, "getViroNodeHandle requires 1 argument");
+                }
+                
+                auto nodeId = args[0].getString(rt).utf8(rt);
+                
+                // Call the Java method
+                static const auto getNodeHandleMethod = 
+                    javaPart_->getClass()->getMethod<jint(jstring)>("getNodeHandle");
+                jint handle = getNodeHandleMethod(
+                    javaPart_.get(),
+                    jni::make_jstring(nodeId).get());
+                
+                return jsi::Value(static_cast<int>(handle));
+            }
+        ));
+        
+        nativeViro.setProperty(runtime, "setViroNodeTransforms", jsi::Function::createFromHostFunction(
+            runtime,
+            jsi::PropNameID::forAscii(runtime, "setViroNodeTransforms"),
+            2,  // handles, transforms
+            [this](jsi::Runtime& rt, const jsi::Value& thisValue, const jsi::Value* args, size_t count) -> jsi::Value {
+                if (count < 2 || !args[0].isObject() || !args[1].isObject()) {
+                    throw jsi::JSError(rt, "setViroNodeTransforms requires an Int32Array of handles and a Float32Array of transforms");
+                }
+                
+                // One copy of each array, then a single call for all nodes
+                auto handles = readIntArray(rt, args[0].getObject(rt));
+                auto transforms = readFloatArray(rt, args[1].getObject(rt));
+                
+                auto jHandles = jni::JArrayInt::newArray(handles.size());
+                jHandles->setRegion(0, handles.size(), handles.data());
+                auto jTransforms = jni::JArrayFloat::newArray(transforms.size());
+                jTransforms->setRegion(0, transforms.size(), transforms.data());
+                
+                static const auto setNodeTransformsMethod = 
+                    javaPart_->getClass()->getMethod<void(jintArray, jfloatArray)>("setNodeTransforms");
+                setNodeTransformsMethod(
+                    javaPart_.get(),
+                    jHandles.get(),
+                    jTransforms.get());
+                
+                return jsi::Value::undefined();
+            }
+        ));
+        
+        nativeViro.setProperty(runtime, "updateViroInstanceTransforms", jsi::Function::createFromHostFunction(
+            runtime,
+            jsi::PropNameID::forAscii(runtime, "updateViroInstanceTransforms"),
+            3,  // handle, start, transforms
+            [this](jsi::Runtime& rt, const jsi::Value& thisValue, const jsi::Value* args, size_t count) -> jsi::Value {
+                if (count < 3 || !args[0].isNumber() || !args[1].isNumber() || !args[2].isObject()) {
+                    throw jsi::JSError(rt, "updateViroInstanceTransforms requires a handle, a start index and a Float32Array of transforms");
+                }
+                
+                auto transforms = readFloatArray(rt, args[2].getObject(rt));
+                auto jTransforms = jni::JArrayFloat::newArray(transforms.size());
+                jTransforms->setRegion(0, transforms.size(), transforms.data());
+                
+                static const auto updateInstanceTransformsMethod = 
+                    javaPart_->getClass()->getMethod<void(jint, jint, jfloatArray)>("updateInstanceTransforms");
+                updateInstanceTransformsMethod(
+                    javaPart_.get(),
+                    static_cast<jint>(args[0].getNumber()),
+                    static_cast<jint>(args[1].getNumber()),
+                    jTransforms.get());
+                
+                return jsi::Value::undefined();
+            }
+        ));
+        
+        nativeViro.setProperty(runtime, "updateViroInstanceColors", jsi::Function::createFromHostFunction(
+            runtime,
+            jsi::PropNameID::forAscii(runtime, "updateViroInstanceColors"),
+            3,  // handle, start, colors
+            [this](jsi::Runtime& rt, const jsi::Value& thisValue, const jsi::Value* args, size_t count) -> jsi::Value {
+                if (count < 3 || !args[0].isNumber() || !args[1].isNumber() || !args[2].isObject()) {
+                    throw jsi::JSError(rt, "updateViroInstanceColors requires a handle, a start index and a Uint32Array of colors");
+                }
+                
+                auto colors = readIntArray(rt, args[2].getObject(rt));
+                auto jColors = jni::JArrayInt::newArray(colors.size());
+                jColors->setRegion(0, colors.size(), colors.data());
+                
+                static const auto updateInstanceColorsMethod = 
+                    javaPart_->getClass()->getMethod<void(jint, jint, jintArray)>("updateInstanceColors");
+                updateInstanceColorsMethod(
+                    javaPart_.get(),
+                    static_cast<jint>(args[0].getNumber()),
+                    static_cast<jint>(args[1].getNumber()),
+                    jColors.get());
+                
+                return jsi::Value::undefined();
+            }
+        ));
+        
+        nativeViro.setProperty(runtime, "setViroGeometryData", jsi::Function::createFromHostFunction(
+            runtime,
+            jsi::PropNameID::forAscii(runtime, "setViroGeometryData"),
+            6,  // handle, vertices, normals, texcoords, indices, submeshCounts
+            [this](jsi::Runtime& rt, const jsi::Value& thisValue, const jsi::Value* args, size_t count) -> jsi::Value {
+                if (count < 1 || !args[0].isNumber()) {
+                    throw jsi::JSError(rt, "setViroGeometryData requires a handle");
+                }
+                
+                // Parts not given are passed as null and left unchanged
+                auto floatsArg = [&](size_t i) {
+                    if (count <= i || !args[i].isObject()) {
+                        return jni::local_ref<jni::JArrayFloat>();
+                    }
+                    auto values = readFloatArray(rt, args[i].getObject(rt));
+                    auto jValues = jni::JArrayFloat::newArray(values.size());
+                    if (!values.empty()) {
+                        jValues->setRegion(0, values.size(), values.data());
+                    }
+                    return jValues;
+                };
+                auto intsArg = [&](size_t i) {
+                    if (count <= i || !args[i].isObject()) {
+                        return jni::local_ref<jni::JArrayInt>();
+                    }
+                    auto values = readIntArray(rt, args[i].getObject(rt));
+                    auto jValues = jni::JArrayInt::newArray(values.size());
+                    if (!values.empty()) {
+                        jValues->setRegion(0, values.size(), values.data());
+                    }
+                    return jValues;
+                };
+                auto jVertices = floatsArg(1);
+                auto jNormals = floatsArg(2);
+                auto jTexcoords = floatsArg(3);
+                auto jIndices = intsArg(4);
+                auto jSubmeshCounts = intsArg(5);
+                
+                static const auto setGeometryDataMethod = 
+                    javaPart_->getClass()->getMethod<void(jint, jfloatArray, jfloatArray, jfloatArray, jintArray, jintArray)>("setGeometryData");
+                setGeometryDataMethod(
+                    javaPart_.get(),
+                    static_cast<jint>(args[0].getNumber()),
+                    jVertices.get(),
+                    jNormals.get(),
+                    jTexcoords.get(),
+                    jIndices.get(),
+                    jSubmeshCounts.get());
+                
+                return jsi::Value::undefined();
+            }
+        ));
+        
+        nativeViro.setProperty(runtime, "updateViroGeometryVertices", jsi::Function::createFromHostFunction(
+            runtime,
+            jsi::PropNameID::forAscii(runtime, "updateViroGeometryVertices"),
+            3,  // handle, offset, vertices
+            [this](jsi::Runtime& rt, const jsi::Value& thisValue, const jsi::Value* args, size_t count) -> jsi::Value {
+                if (count < 3 || !args[0].isNumber() || !args[1].isNumber() || !args[2].isObject()) {
+                    throw jsi::JSError(rt, "updateViroGeometryVertices requires a handle, a vertex offset and a Float32Array of vertices");
+                }
+                
+                auto vertices = readFloatArray(rt, args[2].getObject(rt));
+                auto jVertices = jni::JArrayFloat::newArray(vertices.size());
+                jVertices->setRegion(0, vertices.size(), vertices.data());
+                
+                static const auto updateGeometryVerticesMethod = 
+                    javaPart_->getClass()->getMethod<void(jint, jint, jfloatArray)>("updateGeometryVertices");
+                updateGeometryVerticesMethod(
+                    javaPart_.get(),
+                    static_cast<jint>(args[0].getNumber()),
+                    static_cast<jint>(args[1].getNumber()),
+                    jVertices.get());
+                
+                return jsi::Value::undefined();
+            }
+        ));
+        
+        nativeViro.setProperty(runtime, "queryViroNodes", jsi::Function::createFromHostFunction(
+            runtime,
+            jsi::PropNameID::forAscii(runtime, "queryViroNodes"),
+            2,  // handles, boundingBoxes
+            [this](jsi::Runtime& rt, const jsi::Value& thisValue, const jsi::Value* args, size_t count) -> jsi::Value {
+                if (count < 1 || !args[0].isObject()) {
+                    throw jsi::JSError(rt, "queryViroNodes requires an Int32Array of handles");
+                }
+                
+                auto handles = readIntArray(rt, args[0].getObject(rt));
+                bool boundingBoxes = count > 1 && args[1].isBool() && args[1].getBool();
+                auto jHandles = jni::JArrayInt::newArray(handles.size());
+                jHandles->setRegion(0, handles.size(), handles.data());
+                
+                // Synchronous: the values are those of the last rendered frame
+                static const auto queryNodesMethod = 
+                    javaPart_->getClass()->getMethod<jfloatArray(jintArray, jboolean)>("queryNodes");
+                auto result = queryNodesMethod(
+                    javaPart_.get(),
+                    jHandles.get(),
+                    static_cast<jboolean>(boundingBoxes));
+                
+                std::vector<float> values(result ? result->size() : 0);
+                if (!values.empty()) {
+                    result->getRegion(0, values.size(), values.data());
+                }
+                return createFloat32Array(rt, values.data(), values.size());
+            }
+        ));
+        
+        nativeViro.setProperty(runtime, "queryViroNodesAsync", jsi::Function::createFromHostFunction(
+            runtime,
+            jsi::PropNameID::forAscii(runtime, "queryViroNodesAsync"),
+            2,  // handles, boundingBoxes
+            [this](jsi::Runtime& rt, const jsi::Value& thisValue, const jsi::Value* args, size_t count) -> jsi::Value {
+                if (count < 1 || !args[0].isObject()) {
+                    auto promiseConstructor = rt.global().getPropertyAsObject(rt, "Promise");
+                    auto rejectMethod = promiseConstructor.getPropertyAsFunction(rt, "reject");
+                    auto error = jsi::Object(rt);
+                    error.setProperty(rt, "message", jsi::String::createFromUtf8(rt, "queryViroNodesAsync requires an Int32Array of handles"));
+                    return rejectMethod.callWithThis(rt, promiseConstructor, error);
+                }
+                
+                auto handles = readIntArray(rt, args[0].getObject(rt));
+                bool boundingBoxes = count > 1 && args[1].isBool() && args[1].getBool();
+                
+                auto promiseConstructor = rt.global().getPropertyAsObject(rt, "Promise");
+                return promiseConstructor.callAsConstructor(rt, jsi::Function::createFromHostFunction(
+                    rt,
+                    jsi::PropNameID::forAscii(rt, "queryViroNodesPromiseExecutor"),
+                    2,
+                    [this, handles, boundingBoxes](jsi::Runtime& rt, const jsi::Value& thisValue, const jsi::Value* args, size_t count) -> jsi::Value {
+                        if (count != 2) {
+                            return jsi::Value::undefined();
+                        }
+                        
+                        std::string promiseId = generatePromiseId();
+                        
+                        {
+                            std::lock_guard<std::mutex> lock(promisesMutex_);
+                            pendingPromises_[promiseId] = {
+                                std::shared_ptr<jsi::Runtime>(&rt, [](jsi::Runtime*){}), // Non-owning shared_ptr
+                                std::make_shared<jsi::Function>(args[0].getObject(rt).getFunction(rt)),
+                                std::make_shared<jsi::Function>(args[1].getObject(rt).getFunction(rt))
+                            };
+                        }
+                        
+                        auto jHandles = jni::JArrayInt::newArray(handles.size());
+                        jHandles->setRegion(0, handles.size(), handles.data());
+                        
+                        static const auto queryNodesAsyncMethod = 
+                            javaPart_->getClass()->getMethod<void(jintArray, jboolean, jstring)>("queryNodesAsync");
+                        queryNodesAsyncMethod(
+                            javaPart_.get(),
+                            jHandles.get(),
+                            static_cast<jboolean>(boundingBoxes),
+                            jni::make_jstring(promiseId).get());
+                        
+                        return jsi::Value::undefined();
+                    }
+                ));
+            }
+        ));
+        
+        nativeViro.setProperty(runtime, "applyViroPhysicsCommands", jsi::Function::createFromHostFunction(
+            runtime,
+            jsi::PropNameID::forAscii(runtime, "applyViroPhysicsCommands"),
+            2,  // commands, values
+            [this](jsi::Runtime& rt, const jsi::Value& thisValue, const jsi::Value* args, size_t count) -> jsi::Value {
+                if (count < 2 || !args[0].isObject() || !args[1].isObject()) {
+                    auto promiseConstructor = rt.global().getPropertyAsObject(rt, "Promise");
+                    auto rejectMethod = promiseConstructor.getPropertyAsFunction(rt, "reject");
+                    auto error = jsi::Object(rt);
+                    error.setProperty(rt, "message", jsi::String::createFromUtf8(rt, "applyViroPhysicsCommands requires an Int32Array of commands and a Float32Array of values"));
+                    return rejectMethod.callWithThis(rt, promiseConstructor, error);
+                }
+                
+                // One copy of each array; the whole batch is applied in a single UI thread pass
+                auto commands = readIntArray(rt, args[0].getObject(rt));
+                auto values = readFloatArray(rt, args[1].getObject(rt));
+                
+                auto promiseConstructor = rt.global().getPropertyAsObject(rt, "Promise");
+                return promiseConstructor.callAsConstructor(rt, jsi::Function::createFromHostFunction(
+                    rt,
+                    jsi::PropNameID::forAscii(rt, "applyPhysicsCommandsPromiseExecutor"),
+                    2,
+                    [this, commands, values](jsi::Runtime& rt, const jsi::Value& thisValue, const jsi::Value* args, size_t count) -> jsi::Value {
+                        if (count != 2) {
+                            return jsi::Value::undefined();
+                        }
+                        
+                        std::string promiseId = generatePromiseId();
+                        
+                        {
+                            std::lock_guard<std::mutex> lock(promisesMutex_);
+                            pendingPromises_[promiseId] = {
+                                std::shared_ptr<jsi::Runtime>(&rt, [](jsi::Runtime*){}), // Non-owning shared_ptr
+                                std::make_shared<jsi::Function>(args[0].getObject(rt).getFunction(rt)),
+                                std::make_shared<jsi::Function>(args[1].getObject(rt).getFunction(rt))
+                            };
+                        }
+                        
+                        auto jCommands = jni::JArrayInt::newArray(commands.size());
+                        jCommands->setRegion(0, commands.size(), commands.data());
+                        auto jValues = jni::JArrayFloat::newArray(values.size());
+                        jValues->setRegion(0, values.size(), values.data());
+                        
+                        static const auto applyPhysicsCommandsMethod = 
+                            javaPart_->getClass()->getMethod<void(jintArray, jfloatArray, jstring)>("applyPhysicsCommandsAsync");
+                        applyPhysicsCommandsMethod(
+                            javaPart_.get(),
+                            jCommands.get(),
+                            jValues.get(),
+                            jni::make_jstring(promiseId).get());
+                        
+                        return jsi::Value::undefined();
+                    }
+                ));
+            }
+        ));
+        
+        nativeViro.setProperty(runtime, "findViroCollisionsWithRays", jsi::Function::createFromHostFunction(
+            runtime,
+            jsi::PropNameID::forAscii(runtime, "findViroCollisionsWithRays"),
+            7,  // sceneHandle, origins, directions, maxDistance, tag, shapeType, shapeParams
+            [this](jsi::Runtime& rt, const jsi::Value& thisValue, const jsi::Value* args, size_t count) -> jsi::Value {
+                if (count < 4 || !args[0].isNumber() || !args[1].isObject() || !args[2].isObject() || !args[3].isNumber()) {
+                    auto promiseConstructor = rt.global().getPropertyAsObject(rt, "Promise");
+                    auto rejectMethod = promiseConstructor.getPropertyAsFunction(rt, "reject");
+                    auto error = jsi::Object(rt);
+                    error.setProperty(rt, "message", jsi::String::createFromUtf8(rt, "findViroCollisionsWithRays requires a scene handle, Float32Arrays of origins and directions and a max distance"));
+                    return rejectMethod.callWithThis(rt, promiseConstructor, error);
+                }
+                
+                int sceneHandle = static_cast<int>(args[0].getNumber());
+                auto origins = readFloatArray(rt, args[1].getObject(rt));
+                auto directions = readFloatArray(rt, args[2].getObject(rt));
+                float maxDistance = static_cast<float>(args[3].getNumber());
+                bool hasTag = count > 4 && args[4].isString();
+                std::string tag = hasTag ? args[4].getString(rt).utf8(rt) : "";
+                bool hasShape = count > 5 && args[5].isString();
+                std::string shapeType = hasShape ? args[5].getString(rt).utf8(rt) : "";
+                std::vector<float> shapeParams;
+                if (count > 6 && args[6].isObject()) {
+                    shapeParams = readFloatArray(rt, args[6].getObject(rt));
+                }
+                
+                auto promiseConstructor = rt.global().getPropertyAsObject(rt, "Promise");
+                return promiseConstructor.callAsConstructor(rt, jsi::Function::createFromHostFunction(
+                    rt,
+                    jsi::PropNameID::forAscii(rt, "findCollisionsWithRaysPromiseExecutor"),
+                    2,
+                    [this, sceneHandle, origins, directions, maxDistance, hasTag, tag, hasShape, shapeType, shapeParams](
+                            jsi::Runtime& rt, const jsi::Value& thisValue, const jsi::Value* args, size_t count) -> jsi::Value {
+                        if (count != 2) {
+                            return jsi::Value::undefined();
+                        }
+                        
+                        std::string promiseId = generatePromiseId();
+                        
+                        {
+                            std::lock_guard<std::mutex> lock(promisesMutex_);
+                            pendingPromises_[promiseId] = {
+                                std::shared_ptr<jsi::Runtime>(&rt, [](jsi::Runtime*){}), // Non-owning shared_ptr
+                                std::make_shared<jsi::Function>(args[0].getObject(rt).getFunction(rt)),
+                                std::make_shared<jsi::Function>(args[1].getObject(rt).getFunction(rt))
+                            };
+                        }
+                        
+                        auto jOrigins = jni::JArrayFloat::newArray(origins.size());
+                        jOrigins->setRegion(0, origins.size(), origins.data());
+                        auto jDirections = jni::JArrayFloat::newArray(directions.size());
+                        jDirections->setRegion(0, directions.size(), directions.data());
+                        auto jShapeParams = jni::JArrayFloat::newArray(shapeParams.size());
+                        if (!shapeParams.empty()) {
+                            jShapeParams->setRegion(0, shapeParams.size(), shapeParams.data());
+                        }
+                        auto jTag = hasTag ? jni::make_jstring(tag) : jni::local_ref<jstring>();
+                        auto jShapeType = hasShape ? jni::make_jstring(shapeType) : jni::local_ref<jstring>();
+                        
+                        static const auto findCollisionsWithRaysMethod = 
+                            javaPart_->getClass()->getMethod<void(jint, jfloatArray, jfloatArray, jfloat, jstring, jfloatArray, jstring, jstring)>("findCollisionsWithRaysAsync");
+                        findCollisionsWithRaysMethod(
+                            javaPart_.get(),
+                            static_cast<jint>(sceneHandle),
+                            jOrigins.get(),
+                            jDirections.get(),
+                            static_cast<jfloat>(maxDistance),
+                            jShapeType.get(),
+                            jShapeParams.get(),
+                            jTag.get(),
+                            jni::make_jstring(promiseId).get());
+                        
+                        return jsi::Value::undefined();
+                    }
+                ));
+            }
+        ));
+        
+        nativeViro.setProperty(runtime, "projectPoints", jsi::Function::createFromHostFunction(
+            runtime,
+            jsi::PropNameID::forAscii(runtime, "projectPoints"),
+            2,  // points, unproject
+            [this](jsi::Runtime& rt, const jsi::Value& thisValue, const jsi::Value* args, size_t count) -> jsi::Value {
+                if (count < 1 || !args[0].isObject()) {
+                    auto promiseConstructor = rt.global().getPropertyAsObject(rt, "Promise");
+                    auto rejectMethod = promiseConstructor.getPropertyAsFunction(rt, "reject");
+                    auto error = jsi::Object(rt);
+                    error.setProperty(rt, "message", jsi::String::createFromUtf8(rt, "projectPoints requires a Float32Array of packed [x, y, z] points"));
+                    return rejectMethod.callWithThis(rt, promiseConstructor, error);
+                }
+                
+                // Copy the packed points once, accepting a Float32Array or a plain number array
+                auto points = readFloatArray(rt, args[0].getObject(rt));
+                bool unproject = count > 1 && args[1].isBool() && args[1].getBool();
+                
+                auto promiseConstructor = rt.global().getPropertyAsObject(rt, "Promise");
+                return promiseConstructor.callAsConstructor(rt, jsi::Function::createFromHostFunction(
+                    rt,
+                    jsi::PropNameID::forAscii(rt, "projectPointsPromiseExecutor"),
+                    2,
+                    [this, points, unproject](jsi::Runtime& rt, const jsi::Value& thisValue, const jsi::Value* args, size_t count) -> jsi::Value {
+                        if (count != 2) {
+                            return jsi::Value::undefined();
+                        }
+                        
+                        std::string promiseId = generatePromiseId();
+                        
+                        {
+                            std::lock_guard<std::mutex> lock(promisesMutex_);
+                            pendingPromises_[promiseId] = {
+                                std::shared_ptr<jsi::Runtime>(&rt, [](jsi::Runtime*){}), // Non-owning shared_ptr
+                                std::make_shared<jsi::Function>(args[0].getObject(rt).getFunction(rt)),
+                                std::make_shared<jsi::Function>(args[1].getObject(rt).getFunction(rt))
+                            };
+                        }
+                        
+                        auto jPoints = jni::JArrayFloat::newArray(points.size());
+                        jPoints->setRegion(0, points.size(), points.data());
+                        
+                        static const auto projectPointsAsyncMethod = 
+                            javaPart_->getClass()->getMethod<void(jfloatArray, jboolean, jstring)>("projectPointsAsync");
+                        projectPointsAsyncMethod(
+                            javaPart_.get(),
+                            jPoints.get(),
+                            static_cast<jboolean>(unproject),
+                            jni::make_jstring(promiseId).get());
+                        
+                        return jsi::Value::undefined();
+                    }
+                ));
+            }
+        ));
+        
         // Attach the NativeViro object to the global object
         runtime.global().setProperty(runtime, "NativeViro", std::move(nativeViro));
         
@@ -935,6 +1616,138 @@ private:
         return ReadableNativeMap::convertToValue(runtime, map);
     }
 
+    // Helper method to read a Float32Array (or plain number array) into a float vector
+    std::vector<float> readFloatArray(jsi::Runtime& runtime, const jsi::Object& obj) {
+        return readNumberArray<float>(runtime, obj);
+    }
+    
+    // Helper method to read an Int32Array (or a plain number array) into ints
+    std::vector<jint> readIntArray(jsi::Runtime& runtime, const jsi::Object& obj) {
+        return readNumberArray<jint>(runtime, obj);
+    }
+    
+    // Helper method to read a plain number array or a typed array of any element type. Typed
+    // arrays of the matching layout are copied directly; others are converted element by
+    // element rather than reinterpreted. Unknown objects read as empty.
+    template <typename T>
+    std::vector<T> readNumberArray(jsi::Runtime& runtime, const jsi::Object& obj) {
+        std::vector<T> result;
+        if (obj.isArray(runtime)) {
+            auto array = obj.getArray(runtime);
+            size_t length = array.size(runtime);
+            result.resize(length);
+            for (size_t i = 0; i < length; i++) {
+                result[i] = static_cast<T>(array.getValueAtIndex(runtime, i).getNumber());
+            }
+            return result;
+        }
+        
+        auto bufferValue = obj.getProperty(runtime, "buffer");
+        if (!bufferValue.isObject() || !bufferValue.getObject(runtime).isArrayBuffer(runtime)) {
+            return result;
+        }
+        
+        auto buffer = bufferValue.getObject(runtime).getArrayBuffer(runtime);
+        size_t byteOffset = static_cast<size_t>(obj.getProperty(runtime, "byteOffset").getNumber());
+        size_t length = static_cast<size_t>(obj.getProperty(runtime, "length").getNumber());
+        std::string type = typedArrayName(runtime, obj);
+        size_t elementSize = typedArrayElementSize(type);
+        if (elementSize == 0 || byteOffset + length * elementSize > buffer.size(runtime)) {
+            return result;
+        }
+        
+        const uint8_t* data = buffer.data(runtime) + byteOffset;
+        result.resize(length);
+        if (type == "Float32Array") {
+            convertElements<float, T>(data, length, result);
+        } else if (type == "Float64Array") {
+            convertElements<double, T>(data, length, result);
+        } else if (type == "Int32Array") {
+            convertElements<int32_t, T>(data, length, result);
+        } else if (type == "Uint32Array") {
+            convertElements<uint32_t, T>(data, length, result);
+        } else if (type == "Int16Array") {
+            convertElements<int16_t, T>(data, length, result);
+        } else if (type == "Uint16Array") {
+            convertElements<uint16_t, T>(data, length, result);
+        } else if (type == "Int8Array") {
+            convertElements<int8_t, T>(data, length, result);
+        } else {
+            convertElements<uint8_t, T>(data, length, result);
+        }
+        return result;
+    }
+    
+    template <typename From, typename To>
+    static void convertElements(const uint8_t* data, size_t length, std::vector<To>& out) {
+        if (std::is_same<From, To>::value) {
+            std::memcpy(out.data(), data, length * sizeof(To));
+            return;
+        }
+        for (size_t i = 0; i < length; i++) {
+            From value;
+            std::memcpy(&value, data + i * sizeof(From), sizeof(From));
+            out[i] = static_cast<To>(value);
+        }
+    }
+    
+    static std::string typedArrayName(jsi::Runtime& runtime, const jsi::Object& obj) {
+        auto constructor = obj.getProperty(runtime, "constructor");
+        if (!constructor.isObject()) {
+            return "";
+        }
+        auto name = constructor.getObject(runtime).getProperty(runtime, "name");
+        return name.isString() ? name.getString(runtime).utf8(runtime) : "";
+    }
+    
+    static size_t typedArrayElementSize(const std::string& type) {
+        if (type == "Float64Array") {
+            return 8;
+        } else if (type == "Float32Array" || type == "Int32Array" || type == "Uint32Array") {
+            return 4;
+        } else if (type == "Int16Array" || type == "Uint16Array") {
+            return 2;
+        } else if (type == "Int8Array" || type == "Uint8Array" || type == "Uint8ClampedArray") {
+            return 1;
+        }
+        return 0;
+    }
+    
+    // Helper method to copy the bytes of an ArrayBuffer or typed array view
+    std::vector<uint8_t> readByteArray(jsi::Runtime& runtime, const jsi::Object& obj) {
+        if (obj.isArrayBuffer(runtime)) {
+            auto buffer = obj.getArrayBuffer(runtime);
+            return std::vector<uint8_t>(buffer.data(runtime), buffer.data(runtime) + buffer.size(runtime));
+        }
+        
+        std::vector<uint8_t> result;
+        auto bufferValue = obj.getProperty(runtime, "buffer");
+        if (!bufferValue.isObject() || !bufferValue.getObject(runtime).isArrayBuffer(runtime)) {
+            return result;
+        }
+        
+        auto buffer = bufferValue.getObject(runtime).getArrayBuffer(runtime);
+        size_t byteOffset = static_cast<size_t>(obj.getProperty(runtime, "byteOffset").getNumber());
+        size_t byteLength = static_cast<size_t>(obj.getProperty(runtime, "byteLength").getNumber());
+        if (byteOffset + byteLength > buffer.size(runtime)) {
+            return result;
+        }
+        
+        result.assign(buffer.data(runtime) + byteOffset, buffer.data(runtime) + byteOffset + byteLength);
+        return result;
+    }
+    
+    // Helper method to create a Float32Array holding a copy of the given floats
+    jsi::Value createFloat32Array(jsi::Runtime& runtime, const float* data, size_t length) {
+        auto float32ArrayConstructor = runtime.global().getPropertyAsFunction(runtime, "Float32Array");
+        auto array = float32ArrayConstructor.callAsConstructor(runtime, static_cast<double>(length)).getObject(runtime);
+        if (length > 0) {
+            auto buffer = array.getPropertyAsObject(runtime, "buffer").getArrayBuffer(runtime);
+            std::memcpy(buffer.data(runtime), data, length * sizeof(float));
+        }
+        return jsi::Value(runtime, array);
+    }
+
     // Method to dispatch events to JavaScript using TurboModule
     void dispatchEventToJS(jni::alias_ref<jstring> callbackId, jni::alias_ref<ReadableNativeMap::javaobject> data) {
         std::string callbackIdStr = callbackId->toStdString();
@@ -973,6 +1786,37 @@ private:
         }
     }
 
+    // Copy a frame of packed events out of the reusable Java buffer and hand it to
+    // global.handleViroPackedEvents as an ArrayBuffer on the JS thread
+    void dispatchPackedEvents(jni::alias_ref<jni::JByteBuffer> buffer, jint length) {
+        if (!buffer || length <= 0 || !jsCallInvoker_ || !runtime_) {
+            return;
+        }
+        
+        size_t byteLength = std::min(static_cast<size_t>(length), buffer->getDirectSize());
+        auto bytes = std::make_shared<std::vector<uint8_t>>(
+            buffer->getDirectBytes(), buffer->getDirectBytes() + byteLength);
+        
+        jsCallInvoker_->invokeAsync([this, bytes]() {
+            try {
+                auto& runtime = *runtime_;
+                auto handler = runtime.global().getProperty(runtime, "handleViroPackedEvents");
+                if (!handler.isObject() || !handler.getObject(runtime).isFunction(runtime)) {
+                    return;
+                }
+                
+                auto arrayBufferConstructor = runtime.global().getPropertyAsFunction(runtime, "ArrayBuffer");
+                auto arrayBuffer = arrayBufferConstructor.callAsConstructor(
+                    runtime, static_cast<double>(bytes->size())).getObject(runtime).getArrayBuffer(runtime);
+                std::memcpy(arrayBuffer.data(runtime), bytes->data(), bytes->size());
+                
+                handler.getObject(runtime).getFunction(runtime).call(runtime, jsi::Value(runtime, arrayBuffer));
+            } catch (const std::exception& e) {
+                __android_log_print(ANDROID_LOG_ERROR, "ViroFabricJSI", "Error dispatching packed events: %s", e.what());
+            }
+        });
+    }
+
     // Promise callback handling
     void resolvePromise(jni::alias_ref<jstring> promiseId, jni::alias_ref<jstring> result) {
         std::string promiseIdStr = promiseId->toStdString();
@@ -1022,6 +1866,80 @@ private:
         }
     }
     
+    void resolvePromiseWithFloats(jni::alias_ref<jstring> promiseId, jni::alias_ref<jni::JArrayFloat> result) {
+        std::string promiseIdStr = promiseId->toStdString();
+        
+        std::vector<float> values(result ? result->size() : 0);
+        if (!values.empty()) {
+            result->getRegion(0, values.size(), values.data());
+        }
+        
+        std::lock_guard<std::mutex> lock(promisesMutex_);
+        auto it = pendingPromises_.find(promiseIdStr);
+        if (it != pendingPromises_.end()) {
+            auto& promiseData = it->second;
+            
+            if (jsCallInvoker_) {
+                jsCallInvoker_->invokeAsync([this, promiseData, values = std::move(values)]() {
+                    try {
+                        auto& runtime = *promiseData.runtime;
+                        promiseData.resolve->call(runtime, createFloat32Array(runtime, values.data(), values.size()));
+                    } catch (const std::exception& e) {
+                        __android_log_print(ANDROID_LOG_ERROR, "ViroFabricJSI", "Error resolving promise: %s", e.what());
+                    }
+                });
+            }
+            
+            pendingPromises_.erase(it);
+        }
+    }
+    
+    void resolvePromiseWithFloatsAndTags(jni::alias_ref<jstring> promiseId, jni::alias_ref<jni::JArrayFloat> result,
+                                         jni::alias_ref<jni::JArrayClass<jstring>> tags) {
+        std::string promiseIdStr = promiseId->toStdString();
+        
+        std::vector<float> values(result ? result->size() : 0);
+        if (!values.empty()) {
+            result->getRegion(0, values.size(), values.data());
+        }
+        // Null tags are kept as absent entries
+        std::vector<std::pair<bool, std::string>> tagValues(tags ? tags->size() : 0);
+        for (size_t i = 0; i < tagValues.size(); i++) {
+            auto tag = tags->getElement(i);
+            if (tag) {
+                tagValues[i] = {true, tag->toStdString()};
+            }
+        }
+        
+        std::lock_guard<std::mutex> lock(promisesMutex_);
+        auto it = pendingPromises_.find(promiseIdStr);
+        if (it != pendingPromises_.end()) {
+            auto& promiseData = it->second;
+            
+            if (jsCallInvoker_) {
+                jsCallInvoker_->invokeAsync([this, promiseData, values = std::move(values), tagValues = std::move(tagValues)]() {
+                    try {
+                        auto& runtime = *promiseData.runtime;
+                        auto tagArray = jsi::Array(runtime, tagValues.size());
+                        for (size_t i = 0; i < tagValues.size(); i++) {
+                            tagArray.setValueAtIndex(runtime, i, tagValues[i].first
+                                    ? jsi::Value(jsi::String::createFromUtf8(runtime, tagValues[i].second))
+                                    : jsi::Value::null());
+                        }
+                        auto resultObject = jsi::Object(runtime);
+                        resultObject.setProperty(runtime, "data", createFloat32Array(runtime, values.data(), values.size()));
+                        resultObject.setProperty(runtime, "tags", tagArray);
+                        promiseData.resolve->call(runtime, resultObject);
+                    } catch (const std::exception& e) {
+                        __android_log_print(ANDROID_LOG_ERROR, "ViroFabricJSI", "Error resolving promise: %s", e.what());
+                    }
+                });
+            }
+            
+            pendingPromises_.erase(it);
+        }
+    }
+    
     void rejectPromise(jni::alias_ref<jstring> promiseId, jni::alias_ref<jstring> error) {
         std::string promiseIdStr = promiseId->toStdString();
         std::string errorStr = error->toStdString();
@@ -51,6 +51,7 @@ import com.viromedia.bridge.component.node.VRTSceneManagerImpl;
 import com.viromedia.bridge.component.node.control.VRT3DObjectManager;
 import com.viromedia.bridge.component.node.control.VRTAnimatedImageManager;
 import com.viromedia.bridge.component.node.control.VRTGeometryManager;
+import com.viromedia.bridge.component.node.control.VRTInstancedMeshManager;
 import com.viromedia.bridge.component.node.control.VRTParticleEmitterManager;
 import com.viromedia.bridge.component.node.control.VRTPolygonManager;
 import com.viromedia.bridge.component.node.control.VRTPolylineManager;
@@ -59,6 +60,7 @@ import com.viromedia.bridge.component.VRT360VideoManager;
 import com.viromedia.bridge.component.node.VRTCameraManager;
 import com.viromedia.bridge.component.node.VRTOrbitCameraManager;
 import com.viromedia.bridge.component.node.VRTFlexViewManager;
+import com.viromedia.bridge.component.node.VRTLODManager;
 import com.viromedia.bridge.component.node.VRTNodeManagerImpl;
 import com.viromedia.bridge.component.node.control.VRTBoxManager;
 import com.viromedia.bridge.component.VRTSceneNavigatorManager;
@@ -135,9 +137,11 @@ public class ReactViroPackage implements ReactPackage {
                 new VRT3DSceneNavigatorManager(reactContext, mViroPlatform),
                 new VRTBoxManager(reactContext),
                 new VRTGeometryManager(reactContext),
+                new VRTInstancedMeshManager(reactContext),
                 new VRTVideoSurfaceManager(reactContext),
                 new VRT360VideoManager(reactContext),
                 new VRTNodeManagerImpl(reactContext),
+                new VRTLODManager(reactContext),
                 new VRTCameraManager(reactContext),
                 new VRTOrbitCameraManager(reactContext),
                 new VRTSphereManager(reactContext),
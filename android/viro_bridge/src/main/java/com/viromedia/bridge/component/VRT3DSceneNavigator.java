@@ -31,6 +31,7 @@ import android.widget.FrameLayout;
 import com.facebook.react.bridge.LifecycleEventListener;
 import com.facebook.react.bridge.ReactContext;
 import com.facebook.react.uimanager.events.RCTEventEmitter;
+import com.viro.core.Renderer;
 import com.viro.core.RendererConfiguration;
 import com.viro.core.ViroContext;
 
@@ -43,9 +44,11 @@ import com.viromedia.bridge.module.MaterialManager;
 import com.viromedia.bridge.utility.ViroEvents;
 import com.viromedia.bridge.module.PerfMonitor;
 import com.viromedia.bridge.utility.ViroLog;
+import com.viromedia.bridge.utility.ViroTrace;
 
 import java.lang.ref.WeakReference;
 import java.util.ArrayList;
+import java.util.Arrays;
 
 /**
  * VRT3DSceneNavigator manages the various scenes{@link ViroViewScene} that a Viro App can navigate between.
@@ -53,6 +56,14 @@ import java.util.ArrayList;
 public class VRT3DSceneNavigator extends FrameLayout {
     private static final String TAG = ViroLog.getTag(VRT3DSceneNavigator.class);
 
+    /*
+     World points projected around each projectPoints batch to detect a camera update during
+     it. Their directions from any camera position are not all collinear, so any change of the
+     camera's position or orientation moves at least one of them.
+     */
+    private static final float[] CAMERA_PROBES = {0, 0, 0, 1, 0, 0, 0, 1, 0, 0, 0, 1};
+    private static final int PROJECTION_ATTEMPTS = 3;
+
     private static final String DAYDREAM = "daydream";
 
     private static class StartupListener3DScene implements ViroViewScene.StartupListener {
@@ -254,6 +265,20 @@ public class VRT3DSceneNavigator extends FrameLayout {
         }
     }
 
+    /**
+     * Switch to a scene that is already a child of this navigator.
+     *
+     * @return false if the scene is not attached to this navigator.
+     */
+    public boolean showScene(VRTScene scene) {
+        int index = mSceneArray.indexOf(scene);
+        if (index < 0) {
+            return false;
+        }
+        setCurrentSceneIndex(index);
+        return true;
+    }
+
     public void setCurrentSceneIndex(int index) {
         mSelectedSceneIndex = index;
         if (index < 0 || index >= mSceneArray.size()){
@@ -261,9 +286,14 @@ public class VRT3DSceneNavigator extends FrameLayout {
             return;
         }
 
-        setViroContext();
-        mViroView.setScene(mSceneArray.get(mSelectedSceneIndex).getNativeScene());
-        mSceneArray.get(mSelectedSceneIndex).parentDidAppear();
+        ViroTrace.beginSection(ViroTrace.ACTIVATE_SCENE);
+        try {
+            setViroContext();
+            mViroView.setScene(mSceneArray.get(mSelectedSceneIndex).getNativeScene());
+            mSceneArray.get(mSelectedSceneIndex).parentDidAppear();
+        } finally {
+            ViroTrace.endSection();
+        }
     }
 
     @Override
@@ -417,6 +447,58 @@ public class VRT3DSceneNavigator extends FrameLayout {
         return  mViroView.getRenderer().projectPoint(point.x, point.y, point.z);
     }
 
+    /**
+     * Project (or unproject) a packed array of x,y,z triples against a single camera.
+     *
+     * The renderer updates its camera on the GL thread, and projectPoint reads the camera
+     * current at each call. To keep a batch on one camera, a few fixed probe points are
+     * projected before and after it: if they land on the same pixels and depth, no camera update
+     * happened during the batch. Otherwise the batch is projected again, up to
+     * PROJECTION_ATTEMPTS times; a batch that still straddles an update is returned as is, with a
+     * warning.
+     * @param points packed x,y,z triples; trailing values that do not form a triple are ignored.
+     * @param out destination for the packed results, at least as long as points.
+     * @param unproject true to treat the input as screen coordinates, see {@link #unprojectPoint(Vector)}.
+     */
+    public void projectPoints(float[] points, float[] out, boolean unproject) {
+        if (mViroView == null || mViroView.getRenderer() == null) {
+            throw new IllegalStateException("Unable to invoke projectPoints. Renderer is not initalized");
+        }
+
+        Renderer renderer = mViroView.getRenderer();
+        float[] before = new float[CAMERA_PROBES.length];
+        float[] after = new float[CAMERA_PROBES.length];
+        projectEach(renderer, CAMERA_PROBES, before, false);
+        for (int attempt = 1; ; attempt++) {
+            projectEach(renderer, points, out, unproject);
+            projectEach(renderer, CAMERA_PROBES, after, false);
+            if (Arrays.equals(before, after)) {
+                return;
+            }
+            if (attempt == PROJECTION_ATTEMPTS) {
+                ViroLog.warn(TAG, "Camera moved during each of " + attempt + " attempts at "
+                        + "projecting " + points.length / 3 + " points");
+                return;
+            }
+            float[] swap = before;
+            before = after;
+            after = swap;
+        }
+    }
+
+    private static void projectEach(Renderer renderer, float[] points, float[] out,
+                                    boolean unproject) {
+        int count = points.length - (points.length % 3);
+        for (int i = 0; i < count; i += 3) {
+            Vector result = unproject
+                    ? renderer.unprojectPoint(points[i], points[i + 1], points[i + 2])
+                    : renderer.projectPoint(points[i], points[i + 1], points[i + 2]);
+            out[i] = result.x;
+            out[i + 1] = result.y;
+            out[i + 2] = result.z;
+        }
+    }
+
     public void setHDREnabled(boolean enabled) {
         mRendererConfig.setHDREnabled(enabled);
         if (mViroView != null) {
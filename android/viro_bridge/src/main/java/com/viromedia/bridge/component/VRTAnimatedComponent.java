@@ -113,8 +113,8 @@ public class VRTAnimatedComponent extends VRTComponent {
         mChildNode = (VRTNode) child;
         mManagedAnimation.setNode((VRTNode) child);
         // Check if our child is already a child of our parent node, if not, then add it
-        if (getParent() != null) {
-            VRTNode parent = (VRTNode) getParent();
+        if (getParentComponent() != null) {
+            VRTNode parent = (VRTNode) getParentComponent();
             if (!parent.containsChild(mChildNode)) {
                 parent.addNativeChild(mChildNode);
             }
@@ -129,7 +129,7 @@ public class VRTAnimatedComponent extends VRTComponent {
     @Override
     public void removeView(View child) {
         super.removeView(child);
-        ((VRTNode) getParent()).removeNativeChild((VRTNode) child);
+        ((VRTNode) getParentComponent()).removeNativeChild((VRTNode) child);
         mChildNode = null;
     }
 
@@ -35,8 +35,9 @@ import com.viromedia.bridge.module.SoundModule;
 import com.viromedia.bridge.utility.Helper;
 import com.viromedia.bridge.utility.ViroEvents;
 import com.viromedia.bridge.utility.ViroLog;
+import com.viromedia.bridge.utility.ViroResourceGovernor;
 
-public abstract class VRTBaseSound extends VRTComponent {
+public abstract class VRTBaseSound extends VRTComponent implements ViroResourceGovernor.Resource {
 
     private static final String TAG = ViroLog.getTag(VRTBaseSound.class);
     protected static final String NAME = "name";
@@ -51,6 +52,7 @@ public abstract class VRTBaseSound extends VRTComponent {
 
     protected boolean mShouldResetSound = false;
     protected boolean mReady = false;
+    private boolean mSoundEvicted = false;
 
     public VRTBaseSound(ReactContext reactContext) {
         super(reactContext.getBaseContext(), null, -1, -1, reactContext);
@@ -119,6 +121,10 @@ public abstract class VRTBaseSound extends VRTComponent {
 
     @Override
     protected void handleAppearanceChange() {
+        // Reload the sound if the resource governor evicted it while hidden.
+        if (mSoundEvicted && shouldAppear()) {
+            resetSound();
+        }
         // re-run the setPaused logic to start/stop playback.
         setPaused(mPaused);
         super.handleAppearanceChange();
@@ -141,6 +147,7 @@ public abstract class VRTBaseSound extends VRTComponent {
         }
 
         mShouldResetSound = false;
+        mSoundEvicted = false;
 
         // figure out what type of audio I have
         if (mSource.hasKey(NAME)) {
@@ -157,9 +164,45 @@ public abstract class VRTBaseSound extends VRTComponent {
             throw new IllegalArgumentException("Unknown sound source.");
         }
 
+        ViroResourceGovernor.getInstance().track(this, ViroResourceGovernor.Kind.SOUND,
+                ViroResourceGovernor.ESTIMATED_SOUND_BYTES);
         setNativeProps();
     }
 
+    @Override
+    public boolean isResourceVisible() {
+        return shouldAppear();
+    }
+
+    @Override
+    public long evictResource() {
+        if (isTornDown() || mNativeSound == null) {
+            return 0;
+        }
+        mNativeSound.pause();
+        mNativeSound.dispose();
+        mNativeSound = null;
+        mReady = false;
+        mShouldResetSound = true;
+        mSoundEvicted = true;
+        return ViroResourceGovernor.ESTIMATED_SOUND_BYTES;
+    }
+
+    @Override
+    public boolean downscaleResource() {
+        return false;
+    }
+
+    @Override
+    public String getResourceSource() {
+        if (mSource == null) {
+            return null;
+        } else if (mSource.hasKey(URI)) {
+            return mSource.getString(URI);
+        }
+        return mSource.hasKey(NAME) ? mSource.getString(NAME) : null;
+    }
+
     private SoundData getSoundDataForName(String name) {
         SoundModule soundModule = mReactContext.getNativeModule(SoundModule.class);
         return soundModule.getSoundData(name);
@@ -167,6 +210,7 @@ public abstract class VRTBaseSound extends VRTComponent {
 
     @Override
     public void onTearDown() {
+        ViroResourceGovernor.getInstance().untrack(this);
         super.onTearDown();
         if (mNativeSound != null) {
             mNativeSound.dispose();
@@ -23,17 +23,23 @@ package com.viromedia.bridge.component;
 
 import android.content.Context;
 import android.util.AttributeSet;
+import android.view.Choreographer;
 import android.view.View;
+import android.view.ViewParent;
 
 import com.facebook.react.bridge.Arguments;
 import com.facebook.react.bridge.ReactContext;
+import com.facebook.react.bridge.UiThreadUtil;
 import com.facebook.react.bridge.WritableMap;
 import com.facebook.react.uimanager.events.RCTEventEmitter;
 import com.facebook.react.views.view.ReactViewGroup;
 import com.viro.core.ViroContext;
 import com.viromedia.bridge.component.node.VRTScene;
+import com.viromedia.bridge.utility.ViroEventSubscriptions;
 import com.viromedia.bridge.utility.ViroEvents;
 
+import java.util.ArrayList;
+
 /**
  * Base class for any Viro UI Component. Equivalent to the VRTView in iOS.
  */
@@ -60,6 +66,34 @@ public class VRTComponent extends ReactViewGroup {
     private boolean mDropped = false;
     private boolean mDetached = false;
 
+    /*
+     Events JS has subscribed to on this component. Null while the component is driven by
+     props alone (the legacy bridge), in which case every enabled event is delivered.
+     */
+    private volatile ViroEventSubscriptions mEventSubscriptions = null;
+
+    /*
+     Asset load states reported by getAssetLoadState(), used to track scene preload progress.
+     */
+    public static final int ASSETS_NONE = 0;
+    public static final int ASSETS_LOADING = 1;
+    public static final int ASSETS_SETTLED = 2;
+
+    /*
+     Children of a lightweight component are kept in this list, mirroring the native Node tree,
+     instead of being added as Android child views. Such children never take part in measure,
+     layout or draw passes, and track their parent in mLightweightParent since View.getParent()
+     is not theirs to set. Null while the component uses the regular view hierarchy.
+     */
+    private ArrayList<VRTComponent> mLightweightChildren = null;
+    private VRTComponent mLightweightParent = null;
+
+    /*
+     True while this component waits for ContextPropagator to hand it its parent's ViroContext
+     and scene. Guarded by ContextPropagator's lock.
+     */
+    private boolean mPropagationPending = false;
+
     public VRTComponent(ReactContext reactContext) {
         this(reactContext.getBaseContext(), null, -1, -1, reactContext);
     }
@@ -78,6 +112,31 @@ public class VRTComponent extends ReactViewGroup {
         return mReactContext;
     }
 
+    /**
+     * Returns the event subscriptions of this component, creating them on first use. Once created,
+     * gated events are only delivered to JS while subscribed.
+     */
+    public ViroEventSubscriptions getEventSubscriptions() {
+        if (mEventSubscriptions == null) {
+            synchronized (this) {
+                if (mEventSubscriptions == null) {
+                    mEventSubscriptions = new ViroEventSubscriptions();
+                }
+            }
+        }
+        return mEventSubscriptions;
+    }
+
+    /**
+     * Returns true if the given ViroEvents event should be built and sent to JS. Events that are
+     * not gated by subscriptions (see ViroEventSubscriptions.isGated) always are.
+     */
+    public boolean hasEventListener(String eventName) {
+        ViroEventSubscriptions subscriptions = mEventSubscriptions;
+        return subscriptions == null || !ViroEventSubscriptions.isGated(eventName)
+                || subscriptions.contains(eventName);
+    }
+
     public ViroContext getViroContext() { return mViroContext; }
 
     public void setViroContext(ViroContext context) {
@@ -104,13 +163,75 @@ public class VRTComponent extends ReactViewGroup {
         }
     }
 
+    /**
+     * Keep children in a compact list outside the Android view hierarchy. Only components whose
+     * children need no 2D layout (anything but flex views) should be lightweight. The mode can
+     * only be changed while the component has no children.
+     */
+    public void setLightweight(boolean lightweight) {
+        if (lightweight == isLightweight()) {
+            return;
+        }
+        if (getChildCount() > 0) {
+            throw new IllegalStateException("Cannot change the child storage of a component with children");
+        }
+        mLightweightChildren = lightweight ? new ArrayList<VRTComponent>(4) : null;
+    }
+
+    public boolean isLightweight() {
+        return mLightweightChildren != null;
+    }
+
+    /**
+     * Returns the parent component, whether this component is a lightweight child or a child view.
+     */
+    public VRTComponent getParentComponent() {
+        if (mLightweightParent != null) {
+            return mLightweightParent;
+        }
+        ViewParent parent = getParent();
+        return parent instanceof VRTComponent ? (VRTComponent) parent : null;
+    }
+
+    /**
+     * Returns true if this component is attached to a parent component or view.
+     */
+    public boolean hasParent() {
+        return mLightweightParent != null || getParent() != null;
+    }
+
+    @Override
+    public int getChildCount() {
+        return mLightweightChildren != null ? mLightweightChildren.size() : super.getChildCount();
+    }
+
+    @Override
+    public View getChildAt(int index) {
+        if (mLightweightChildren != null) {
+            return index >= 0 && index < mLightweightChildren.size() ? mLightweightChildren.get(index) : null;
+        }
+        return super.getChildAt(index);
+    }
+
+    @Override
+    public int indexOfChild(View child) {
+        if (mLightweightChildren != null) {
+            return mLightweightChildren.indexOf(child);
+        }
+        return super.indexOfChild(child);
+    }
+
     /**
      * If in the case a React view is added / destroyed, update
      * the ViroContext of child views if we can (if we have it).
      */
     @Override
     public void addView(View child, int index) {
-        super.addView(child, index);
+        if (mLightweightChildren != null) {
+            addLightweightChild(child, index);
+        } else {
+            super.addView(child, index);
+        }
 
         if (!(child instanceof VRTComponent)){
             throw new IllegalArgumentException("Attempted to add a non-Component child of type: [" +
@@ -118,11 +239,15 @@ public class VRTComponent extends ReactViewGroup {
         }
 
         VRTComponent component = (VRTComponent) child;
-        if (mViroContext != null && component.mViroContext == null){
-            component.setViroContext(mViroContext);
-        }
-        if (mScene != null && component.mScene == null){
-            component.setScene(mScene);
+        if ((mViroContext != null && component.mViroContext == null)
+                || (mScene != null && component.mScene == null)) {
+            if (shouldAppear()) {
+                // The child appears right away and needs its context and scene for that
+                component.propagateFromParent();
+            } else {
+                // Defer, so building a tree under a hidden scene walks each subtree once
+                ContextPropagator.enqueue(component);
+            }
         }
 
         component.onTreeUpdate();
@@ -133,10 +258,52 @@ public class VRTComponent extends ReactViewGroup {
         }
     }
 
+    /**
+     * Take the ViroContext and scene from the parent component if this component lacks them.
+     * Subtrees that already have them are left alone.
+     */
+    private void propagateFromParent() {
+        ContextPropagator.clearPending(this);
+        VRTComponent parent = getParentComponent();
+        if (parent == null || isTornDown()) {
+            return;
+        }
+        if (parent.mViroContext != null && mViroContext == null) {
+            setViroContext(parent.mViroContext);
+        }
+        if (parent.mScene != null && mScene == null) {
+            setScene(parent.mScene);
+        }
+    }
+
+    private void addLightweightChild(View child, int index) {
+        if (!(child instanceof VRTComponent)) {
+            throw new IllegalArgumentException("Attempted to add a non-Component child of type: [" +
+                    child.getClass().getSimpleName() + "].");
+        }
+        VRTComponent component = (VRTComponent) child;
+        if (component.hasParent()) {
+            throw new IllegalStateException("The specified child already has a parent.");
+        }
+        if (index < 0 || index > mLightweightChildren.size()) {
+            index = mLightweightChildren.size();
+        }
+        mLightweightChildren.add(index, component);
+        component.mLightweightParent = this;
+    }
+
     @Override
     public void removeViewAt(int index) {
         View child = getChildAt(index);
-        super.removeViewAt(index);
+        if (mLightweightChildren != null) {
+            if (child == null) {
+                return;
+            }
+            mLightweightChildren.remove(index);
+            ((VRTComponent) child).mLightweightParent = null;
+        } else {
+            super.removeViewAt(index);
+        }
 
         /*
          We tear down views whenever they're removed from the tree
@@ -150,13 +317,37 @@ public class VRTComponent extends ReactViewGroup {
         onTreeUpdate();
     }
 
+    @Override
+    public void removeView(View child) {
+        if (mLightweightChildren != null) {
+            // ViewGroup.removeView bypasses removeViewAt, route it through so subclasses see it
+            int index = indexOfChild(child);
+            if (index >= 0) {
+                removeViewAt(index);
+            }
+            return;
+        }
+        super.removeView(child);
+    }
+
+    @Override
+    public void removeAllViews() {
+        if (mLightweightChildren != null) {
+            for (int i = mLightweightChildren.size() - 1; i >= 0; i--) {
+                removeViewAt(i);
+            }
+            return;
+        }
+        super.removeAllViews();
+    }
+
     /**
      * Invoked when a view is attached or detached from the React
      * view tree. We check if its fully detached (no parents or children),
      * to mark its detached status.
      */
     public void onTreeUpdate() {
-        mDetached = (getChildCount() == 0 && getParent() == null);
+        mDetached = (getChildCount() == 0 && !hasParent());
         if (mDetached && mDropped && !mTornDown) {
             onTearDown();
         }
@@ -314,6 +505,22 @@ public class VRTComponent extends ReactViewGroup {
         return mParentHasAppeared;
     }
 
+    /**
+     * Whether this component belongs to the scene currently being shown. Components that are
+     * not attached to a scene fall back to whether their parent has appeared.
+     */
+    public boolean isInActiveScene() {
+        return mScene == null ? mParentHasAppeared : mScene.shouldAppear();
+    }
+
+    /**
+     * Whether this component has assets to fetch and, if so, whether they are still loading or
+     * have settled (loaded or failed). Components without external assets return ASSETS_NONE.
+     */
+    public int getAssetLoadState() {
+        return ASSETS_NONE;
+    }
+
     /*
      This function is called when the appearance state of this Component has changed.
      */
@@ -333,6 +540,9 @@ public class VRTComponent extends ReactViewGroup {
      Called by the parent Component to let child know that the Parent view has appeared.
      */
     protected void parentDidAppear() {
+        if (ContextPropagator.isPending(this)) {
+            propagateFromParent();
+        }
         mParentHasAppeared = true;
         handleAppearanceChange();
     }
@@ -360,4 +570,96 @@ public class VRTComponent extends ReactViewGroup {
                 ViroEvents.ON_ERROR,
                 event);
     }
+
+    /**
+     * Hands parents' ViroContext and scene to newly attached components on the next frame, or
+     * earlier if the component appears first. A component attached and re-attached several times
+     * before the flush is only walked once, under its final parent.
+     */
+    private static final class ContextPropagator implements Choreographer.FrameCallback {
+        private static final Object sLock = new Object();
+        private static final ContextPropagator sInstance = new ContextPropagator();
+
+        private ArrayList<VRTComponent> mPending = new ArrayList<>();
+        private ArrayList<VRTComponent> mFlushing = new ArrayList<>();
+        private boolean mFrameScheduled = false;
+
+        private final Runnable mScheduleFrameRunnable = new Runnable() {
+            @Override
+            public void run() {
+                Choreographer.getInstance().postFrameCallback(sInstance);
+            }
+        };
+
+        static void enqueue(VRTComponent component) {
+            synchronized (sLock) {
+                if (component.mPropagationPending) {
+                    return;
+                }
+                component.mPropagationPending = true;
+                sInstance.mPending.add(component);
+                if (!sInstance.mFrameScheduled) {
+                    sInstance.mFrameScheduled = true;
+                    if (UiThreadUtil.isOnUiThread()) {
+                        Choreographer.getInstance().postFrameCallback(sInstance);
+                    } else {
+                        UiThreadUtil.runOnUiThread(sInstance.mScheduleFrameRunnable);
+                    }
+                }
+            }
+        }
+
+        static boolean isPending(VRTComponent component) {
+            synchronized (sLock) {
+                return component.mPropagationPending;
+            }
+        }
+
+        static void clearPending(VRTComponent component) {
+            synchronized (sLock) {
+                component.mPropagationPending = false;
+            }
+        }
+
+        /**
+         * Propagate everything queued so far, e.g. before measuring the resulting tree.
+         */
+        static void flush() {
+            sInstance.doFrame(0);
+        }
+
+        // Synchronized so an explicit flush() and the frame callback never share mFlushing
+        @Override
+        public synchronized void doFrame(long frameTimeNanos) {
+            ArrayList<VRTComponent> components;
+            synchronized (sLock) {
+                components = mPending;
+                mPending = mFlushing;
+                mFlushing = components;
+                mFrameScheduled = false;
+            }
+
+            // Components queued earlier are higher in the tree when built top-down, so their
+            // propagation usually covers the ones queued after them.
+            for (int i = 0; i < components.size(); i++) {
+                VRTComponent component = components.get(i);
+                if (isPending(component)) {
+                    try {
+                        component.propagateFromParent();
+                    } catch (RuntimeException e) {
+                        android.util.Log.e(TAG, "Failed to propagate context: " + e.getMessage());
+                    }
+                }
+            }
+            components.clear();
+        }
+    }
+
+    /**
+     * Propagate ViroContext and scene to every component attached since the last frame now,
+     * instead of waiting for the next frame.
+     */
+    public static void flushPendingPropagation() {
+        ContextPropagator.flush();
+    }
 }
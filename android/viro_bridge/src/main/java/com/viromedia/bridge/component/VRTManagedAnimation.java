@@ -57,6 +57,13 @@ public abstract class VRTManagedAnimation {
     private boolean mInterruptible = false;
     private AnimationState mState = AnimationState.TERMINATED;
 
+    /**
+     * Set while the node is culled off-screen. Playback requested or interrupted meanwhile is
+     * resumed once the suspension lifts.
+     */
+    private boolean mSuspended = false;
+    private boolean mResumeOnUnsuspend = false;
+
     /**
      * The node on which the animation is run.
      */
@@ -179,6 +186,13 @@ public abstract class VRTManagedAnimation {
     }
 
     public void updateAnimation() {
+        if (mSuspended) {
+            mResumeOnUnsuspend = mRun;
+            if (!mRun) {
+                pauseAnimation();
+            }
+            return;
+        }
         if (mRun) {
             playAnimation();
         }
@@ -187,6 +201,34 @@ public abstract class VRTManagedAnimation {
         }
     }
 
+    /**
+     * Suspend or resume the animation, e.g. while its node is off-screen. A running or scheduled
+     * animation is paused and picked up again on resume; one that had already finished is not
+     * replayed.
+     */
+    public void setSuspended(boolean suspended) {
+        if (mSuspended == suspended) {
+            return;
+        }
+        mSuspended = suspended;
+        if (suspended) {
+            mResumeOnUnsuspend = mRun
+                    && (mState == AnimationState.RUNNING || mState == AnimationState.SCHEDULED);
+            if (mState == AnimationState.SCHEDULED) {
+                // Cancel the delayed start; it is rescheduled on resume
+                mMainLoopHandler.removeCallbacks(mDelayedRunner);
+                mState = AnimationState.TERMINATED;
+            } else {
+                pauseAnimation();
+            }
+        } else if (mResumeOnUnsuspend) {
+            mResumeOnUnsuspend = false;
+            if (mRun) {
+                playAnimation();
+            }
+        }
+    }
+
     /**
      * This method sets us up to play the animation by scheduling a new animation or starting
      * a paused animation.
@@ -29,6 +29,7 @@ import com.facebook.react.common.MapBuilder;
 import com.facebook.react.uimanager.LayoutShadowNode;
 import com.facebook.react.uimanager.ViewGroupManager;
 import com.facebook.react.uimanager.annotations.ReactProp;
+import com.viromedia.bridge.utility.ViroFrameMetrics;
 
 import java.util.Map;
 
@@ -90,7 +91,9 @@ public abstract class VRTViroViewGroupManager<T extends ViewGroup>
     protected void onAfterUpdateTransaction(T view) {
         super.onAfterUpdateTransaction(view);
         if (view instanceof VRTComponent) {
+            long start = ViroFrameMetrics.now();
             ((VRTComponent) view).onPropsSet();
+            ViroFrameMetrics.addPropTime(start);
         }
     }
 
@@ -0,0 +1,199 @@
+//  Copyright © 2025 ReactVision. All rights reserved.
+//
+//  Permission is hereby granted, free of charge, to any person obtaining
+//  a copy of this software and associated documentation files (the
+//  "Software"), to deal in the Software without restriction, including
+//  without limitation the rights to use, copy, modify, merge, publish,
+//  distribute, sublicense, and/or sell copies of the Software, and to
+//  permit persons to whom the Software is furnished to do so, subject to
+//  the following conditions:
+//
+//  The above copyright notice and this permission notice shall be included
+//  in all copies or substantial portions of the Software.
+//
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+//  EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+//  MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+//  IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY
+//  CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+//  TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+//  SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+
+package com.viromedia.bridge.component.node;
+
+import android.util.Log;
+
+import com.viro.core.ARNode;
+import com.viro.core.ARScene;
+import com.viro.core.Node;
+import com.viro.core.Vector;
+import com.viromedia.bridge.utility.ViroLog;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Shares ARCore anchors between the root nodes of a VRTARScene.
+ *
+ * A root node joins the nearest anchor within the re-anchor distance and is positioned relative
+ * to it; a new anchor is only created when none is close enough, and never beyond the scene's
+ * anchor budget, in which case the node joins the nearest anchor whatever the distance, with a
+ * warning since it may then drift with an anchor tracked far away. A node
+ * that moves out of range of its anchor is re-clustered, and an anchor is detached once its last
+ * node leaves. All methods are called on the UI thread.
+ */
+public class VRTARAnchorManager {
+    private static final String TAG = ViroLog.getTag(VRTARAnchorManager.class);
+
+    public static final int DEFAULT_MAX_ANCHORS = 32;
+
+    /**
+     * An anchor and the root nodes attached to it.
+     */
+    static final class Cluster {
+        final VRTARAnchorManager manager;
+        final ARNode anchor;
+        final Vector center;
+        final List<VRTNode> nodes = new ArrayList<>();
+
+        Cluster(VRTARAnchorManager manager, ARNode anchor, Vector center) {
+            this.manager = manager;
+            this.anchor = anchor;
+            this.center = center;
+        }
+    }
+
+    private final ARScene mScene;
+    private final float mClusterDistance;
+    private final List<Cluster> mClusters = new ArrayList<>();
+    private int mMaxAnchors = DEFAULT_MAX_ANCHORS;
+    // Whether a far join was reported since the budget was last reached, so moves don't spam
+    private boolean mWarnedOverBudget = false;
+
+    public VRTARAnchorManager(ARScene scene, float clusterDistance) {
+        mScene = scene;
+        mClusterDistance = clusterDistance;
+    }
+
+    public void setMaxAnchors(int maxAnchors) {
+        mMaxAnchors = Math.max(1, maxAnchors);
+    }
+
+    public int getAnchorCount() {
+        return mClusters.size();
+    }
+
+    /**
+     * Attach a root node at the given scene position to a shared anchor, creating one if needed.
+     *
+     * @return false if no anchor could be created yet (e.g. tracking is not ready); the node is
+     * then left unanchored at the position.
+     */
+    boolean attach(VRTNode node, Vector position) {
+        detach(node, true);
+
+        boolean overBudget = mClusters.size() >= mMaxAnchors;
+        Cluster cluster = findNearest(position, overBudget ? Float.MAX_VALUE : mClusterDistance);
+        if (!overBudget) {
+            mWarnedOverBudget = false;
+        } else if (cluster != null && !mWarnedOverBudget
+                && position.distance(cluster.center) > mClusterDistance) {
+            mWarnedOverBudget = true;
+            ViroLog.warn(TAG, "All " + mMaxAnchors + " anchors are in use, so a node "
+                    + position.distance(cluster.center) + "m away joins the nearest one; raise"
+                    + " maxAnchors if nodes drift");
+        }
+        if (cluster == null) {
+            ARNode anchor = mScene.createAnchoredNode(position);
+            if (anchor == null) {
+                node.getNodeJni().setPosition(position);
+                return false;
+            }
+            mScene.getRootNode().addChildNode(anchor);
+            cluster = new Cluster(this, anchor, new Vector(position));
+            mClusters.add(cluster);
+        }
+
+        Node nodeJni = node.getNodeJni();
+        nodeJni.removeFromParentNode();
+        cluster.anchor.addChildNode(nodeJni);
+        nodeJni.setPosition(position.subtract(cluster.anchor.getPositionRealtime()));
+        cluster.nodes.add(node);
+        node.mAnchorCluster = cluster;
+        return true;
+    }
+
+    /**
+     * Move an attached root node. It stays on its anchor while within the cluster distance of it,
+     * otherwise it is re-clustered.
+     *
+     * @return false if the node had to be re-clustered and no anchor was available.
+     */
+    boolean move(VRTNode node, Vector position) {
+        Cluster cluster = node.mAnchorCluster;
+        if (cluster == null) {
+            return attach(node, position);
+        }
+        Vector anchorPosition = cluster.anchor.getPositionRealtime();
+        if (position.distance(anchorPosition) <= mClusterDistance) {
+            node.getNodeJni().setPosition(position.subtract(anchorPosition));
+            return true;
+        }
+        return attach(node, position);
+    }
+
+    /**
+     * Take a node off its anchor, detaching the anchor if no other node uses it. The node's
+     * native node is put back under the scene root if returnToRoot is set; otherwise it is left
+     * without a parent for the caller to re-parent or dispose.
+     */
+    void detach(VRTNode node, boolean returnToRoot) {
+        Cluster cluster = node.mAnchorCluster;
+        if (cluster == null) {
+            return;
+        }
+        node.mAnchorCluster = null;
+        cluster.nodes.remove(node);
+        Node nodeJni = node.getNodeJni();
+        if (nodeJni != null) {
+            nodeJni.removeFromParentNode();
+            if (returnToRoot) {
+                mScene.getRootNode().addChildNode(nodeJni);
+            }
+        }
+        if (cluster.nodes.isEmpty()) {
+            cluster.anchor.detach();
+            mClusters.remove(cluster);
+        }
+    }
+
+    /**
+     * Detach every anchor, e.g. when the scene is torn down.
+     */
+    public void clear() {
+        for (Cluster cluster : mClusters) {
+            for (VRTNode node : cluster.nodes) {
+                node.mAnchorCluster = null;
+            }
+            try {
+                cluster.anchor.detach();
+            } catch (Exception e) {
+                Log.e(TAG, "Error detaching shared anchor: " + e.getMessage());
+            }
+        }
+        mClusters.clear();
+    }
+
+    private Cluster findNearest(Vector position, float maxDistance) {
+        Cluster nearest = null;
+        double nearestDistance = maxDistance;
+        for (Cluster cluster : mClusters) {
+            double distance = position.distance(cluster.center);
+            if (distance <= nearestDistance) {
+                nearest = cluster;
+                nearestDistance = distance;
+            }
+        }
+        return nearest;
+    }
+}
@@ -47,6 +47,7 @@ import com.viro.core.ViroViewARCore;
 import com.viromedia.bridge.utility.ARUtils;
 import com.viromedia.bridge.utility.ImageDownloadListener;
 import com.viromedia.bridge.utility.ImageDownloader;
+import com.viromedia.bridge.utility.ViroEventQueue;
 import com.viromedia.bridge.utility.ViroEvents;
 
 import java.util.EnumSet;
@@ -66,12 +67,24 @@ public class VRTARScene extends VRTScene implements ARScene.Listener {
     private Quad mPointCloudQuad;
     private PointCloudImageDownloadListener mImageDownloadListener;
     private Handler mMainHandler;
+    private VRTARAnchorManager mAnchorManager;
+    private int mMaxAnchors = VRTARAnchorManager.DEFAULT_MAX_ANCHORS;
 
     public VRTARScene(ReactContext reactContext) {
         super(reactContext);
         mMainHandler = new Handler(Looper.getMainLooper());
     }
 
+    @Override
+    public void onTearDown() {
+        // Detach the shared anchors while the native scene is still alive
+        if (mAnchorManager != null) {
+            mAnchorManager.clear();
+            mAnchorManager = null;
+        }
+        super.onTearDown();
+    }
+
     @Override
     protected Scene createSceneJni() {
         ARScene sceneControllerJni = new ARScene(true);
@@ -115,6 +128,25 @@ public class VRTARScene extends VRTScene implements ARScene.Listener {
         ((ARScene) mNativeScene).setPointCloudMaxPoints(maxPoints);
     }
 
+    public void setMaxAnchors(int maxAnchors) {
+        mMaxAnchors = maxAnchors;
+        if (mAnchorManager != null) {
+            mAnchorManager.setMaxAnchors(maxAnchors);
+        }
+    }
+
+    /**
+     * The manager that shares anchors between the root nodes of this scene, or null once the
+     * scene is torn down.
+     */
+    public VRTARAnchorManager getAnchorManager() {
+        if (mAnchorManager == null && !isTornDown()) {
+            mAnchorManager = new VRTARAnchorManager((ARScene) mNativeScene, VRTNode.REANCHOR_DISTANCE);
+            mAnchorManager.setMaxAnchors(mMaxAnchors);
+        }
+        return mAnchorManager;
+    }
+
     public void addARNode(ARDeclarativeNode node) {
         ((ARScene) mNativeScene).addARDeclarativeNode(node);
     }
@@ -148,10 +180,23 @@ public class VRTARScene extends VRTScene implements ARScene.Listener {
         mEventDelegateJni.setEventEnabled(EventDelegate.EventAction.ON_AR_POINT_CLOUD_UPDATE, canARPointCloudUpdate);
     }
 
+    @Override
+    public boolean setEventEnabled(String eventName, boolean enabled) {
+        if (ViroEvents.ON_AR_POINT_CLOUD_UPDATE.equals(eventName) && !isTornDown()) {
+            setCanARPointCloudUpdate(enabled);
+            return true;
+        }
+        return super.setEventEnabled(eventName, enabled);
+    }
+
     // -- ARSceneDelegate Implementation --
 
     @Override
     public void onTrackingUpdated(ARScene.TrackingState state, ARScene.TrackingStateReason reason) {
+        if (!hasEventListener(ViroEvents.ON_TRACKING_UPDATED)) {
+            return;
+        }
+
         WritableMap returnMap = Arguments.createMap();
         returnMap.putInt("state", state.getId());
         returnMap.putInt("reason", reason.getId());
@@ -169,6 +214,10 @@ public class VRTARScene extends VRTScene implements ARScene.Listener {
 
     @Override
     public void onAmbientLightUpdate(float intensity, Vector color) {
+        if (!hasEventListener(ViroEvents.ON_AMBIENT_LIGHT_UPDATE)) {
+            return;
+        }
+
         // Multiply by the inverse of the rebalancing factor to compensate for the
         // brightness reduction caused by rebalancing color correction.
         float lightIntensity = intensity * 1.0f / kLightEstimateIntensityRebalance;
@@ -197,10 +246,14 @@ public class VRTARScene extends VRTScene implements ARScene.Listener {
 
     @Override
     public void onAnchorFound(ARAnchor arAnchor, ARNode node) {
+        if (!hasEventListener(ViroEvents.ON_ANCHOR_FOUND)) {
+            return;
+        }
+
         WritableMap returnMap = Arguments.createMap();
         returnMap.putMap("anchor", ARUtils.mapFromARAnchor(arAnchor));
 
-        mReactContext.getJSModule(RCTEventEmitter.class).receiveEvent(
+        ViroEventQueue.getInstance().enqueue(mReactContext,
             getId(),
             ViroEvents.ON_ANCHOR_FOUND,
             returnMap);
@@ -208,21 +261,39 @@ public class VRTARScene extends VRTScene implements ARScene.Listener {
 
     @Override
     public void onAnchorUpdated(ARAnchor arAnchor, ARNode node) {
-        WritableMap returnMap = Arguments.createMap();
-        returnMap.putMap("anchor", ARUtils.mapFromARAnchor(arAnchor));
+        if (!hasEventListener(ViroEvents.ON_ANCHOR_UPDATED)) {
+            return;
+        }
 
-        mReactContext.getJSModule(RCTEventEmitter.class).receiveEvent(
+        // Anchors update every frame; only the latest state of each anchor is built and sent
+        // per frame.
+        ViroEventQueue.getInstance().enqueueCoalesced(mReactContext,
             getId(),
             ViroEvents.ON_ANCHOR_UPDATED,
-            returnMap);
+            arAnchor.getAnchorId(),
+            ANCHOR_PAYLOAD_BUILDER,
+            arAnchor);
     }
 
+    private static final ViroEventQueue.PayloadBuilder ANCHOR_PAYLOAD_BUILDER = new ViroEventQueue.PayloadBuilder() {
+        @Override
+        public WritableMap build(ViroEventQueue.QueuedEvent event) {
+            WritableMap returnMap = Arguments.createMap();
+            returnMap.putMap("anchor", ARUtils.mapFromARAnchor((ARAnchor) event.source));
+            return returnMap;
+        }
+    };
+
     @Override
     public void onAnchorRemoved(ARAnchor arAnchor, ARNode node) {
+        if (!hasEventListener(ViroEvents.ON_ANCHOR_REMOVED)) {
+            return;
+        }
+
         WritableMap returnMap = Arguments.createMap();
         returnMap.putMap("anchor", ARUtils.mapFromARAnchor(arAnchor));
 
-        mReactContext.getJSModule(RCTEventEmitter.class).receiveEvent(
+        ViroEventQueue.getInstance().enqueue(mReactContext,
             getId(),
             ViroEvents.ON_ANCHOR_REMOVED,
             returnMap);
@@ -80,6 +80,11 @@ public class VRTARSceneManager extends VRTSceneManager<VRTARScene> {
         scene.setPointCloudMaxPoints(maxPoints);
     }
 
+    @ReactProp(name="maxAnchors", defaultInt = VRTARAnchorManager.DEFAULT_MAX_ANCHORS)
+    public void setMaxAnchors(VRTARScene scene, int maxAnchors) {
+        scene.setMaxAnchors(maxAnchors);
+    }
+
     @ReactProp(name="anchorDetectionTypes")
     public void setAnchorDetectionTypes(VRTARScene scene, @Nullable ReadableArray array) {
         scene.setAnchorDetectionTypes(array);
@@ -0,0 +1,166 @@
+//  Copyright © 2025 ReactVision. All rights reserved.
+//
+//  Permission is hereby granted, free of charge, to any person obtaining
+//  a copy of this software and associated documentation files (the
+//  "Software"), to deal in the Software without restriction, including
+//  without limitation the rights to use, copy, modify, merge, publish,
+//  distribute, sublicense, and/or sell copies of the Software, and to
+//  permit persons to whom the Software is furnished to do so, subject to
+//  the following conditions:
+//
+//  The above copyright notice and this permission notice shall be included
+//  in all copies or substantial portions of the Software.
+//
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+//  EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+//  MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+//  IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY
+//  CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+//  TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+//  SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+
+
+package com.viromedia.bridge.component.node;
+
+import android.util.Log;
+import android.view.Choreographer;
+
+import com.facebook.react.bridge.UiThreadUtil;
+import com.viro.core.internal.CameraCallback;
+import com.viromedia.bridge.utility.ViroLog;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Delivers the camera pose every frame to the nodes that need it (level of detail, culling),
+ * requesting it natively once per scene. Nodes register through VRTNode#trackCameraPose and
+ * receive VRTNode#onCameraPose; only nodes in a scene being shown are updated. All methods are
+ * called on the UI thread.
+ */
+final class VRTCameraPoseTracker implements Choreographer.FrameCallback {
+    private static final String TAG = ViroLog.getTag(VRTCameraPoseTracker.class);
+
+    private static final VRTCameraPoseTracker sInstance = new VRTCameraPoseTracker();
+
+    private final ArrayList<VRTNode> mNodes = new ArrayList<>();
+    private final HashMap<VRTScene, SceneRequest> mRequests = new HashMap<>();
+    private boolean mFrameScheduled = false;
+
+    private VRTCameraPoseTracker() {
+    }
+
+    static void register(VRTNode node) {
+        sInstance.mNodes.add(node);
+        sInstance.scheduleFrame();
+    }
+
+    static void unregister(VRTNode node) {
+        sInstance.mNodes.remove(node);
+    }
+
+    private void scheduleFrame() {
+        if (mFrameScheduled) {
+            return;
+        }
+        mFrameScheduled = true;
+        if (UiThreadUtil.isOnUiThread()) {
+            Choreographer.getInstance().postFrameCallback(this);
+        } else {
+            UiThreadUtil.runOnUiThread(new Runnable() {
+                @Override
+                public void run() {
+                    Choreographer.getInstance().postFrameCallback(sInstance);
+                }
+            });
+        }
+    }
+
+    @Override
+    public void doFrame(long frameTimeNanos) {
+        mFrameScheduled = false;
+        for (SceneRequest request : mRequests.values()) {
+            request.nodes.clear();
+        }
+
+        for (int i = 0; i < mNodes.size(); i++) {
+            VRTNode node = mNodes.get(i);
+            VRTScene scene = node.mScene;
+            if (scene == null || !node.isInActiveScene()) {
+                continue;
+            }
+            SceneRequest request = mRequests.get(scene);
+            if (request == null) {
+                request = new SceneRequest(scene);
+                mRequests.put(scene, request);
+            }
+            request.nodes.add(node);
+        }
+
+        Iterator<Map.Entry<VRTScene, SceneRequest>> iterator = mRequests.entrySet().iterator();
+        while (iterator.hasNext()) {
+            SceneRequest request = iterator.next().getValue();
+            if (request.nodes.isEmpty()) {
+                if (!request.pending) {
+                    iterator.remove();
+                }
+            } else if (!request.pending) {
+                request.pending = true;
+                request.scene.getCameraPositionAsync(request);
+            }
+        }
+
+        if (!mNodes.isEmpty()) {
+            scheduleFrame();
+        }
+    }
+
+    /**
+     * A camera pose request for one scene, updating that scene's nodes when it returns. At most
+     * one request per scene is in flight.
+     */
+    private static final class SceneRequest implements CameraCallback, Runnable {
+        final VRTScene scene;
+        final ArrayList<VRTNode> nodes = new ArrayList<>();
+        boolean pending = false;
+        private volatile float mCameraX, mCameraY, mCameraZ;
+        private volatile float mForwardX, mForwardY, mForwardZ;
+
+        SceneRequest(VRTScene scene) {
+            this.scene = scene;
+        }
+
+        @Override
+        public void onGetCameraOrientation(float posX, float posY, float posZ,
+                                           float rotEulerX, float rotEulerY, float rotEulerZ,
+                                           float forwardX, float forwardY, float forwardZ,
+                                           float upX, float upY, float upZ) {
+            mCameraX = posX;
+            mCameraY = posY;
+            mCameraZ = posZ;
+            mForwardX = forwardX;
+            mForwardY = forwardY;
+            mForwardZ = forwardZ;
+            if (UiThreadUtil.isOnUiThread()) {
+                run();
+            } else {
+                UiThreadUtil.runOnUiThread(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            pending = false;
+            for (int i = 0; i < nodes.size(); i++) {
+                try {
+                    nodes.get(i).onCameraPose(mCameraX, mCameraY, mCameraZ,
+                            mForwardX, mForwardY, mForwardZ);
+                } catch (RuntimeException e) {
+                    Log.e(TAG, "Failed to update node from camera pose: " + e.getMessage());
+                }
+            }
+        }
+    }
+}
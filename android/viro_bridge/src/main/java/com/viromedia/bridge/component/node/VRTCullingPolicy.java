@@ -0,0 +1,149 @@
+//  Copyright © 2025 ReactVision. All rights reserved.
+//
+//  Permission is hereby granted, free of charge, to any person obtaining
+//  a copy of this software and associated documentation files (the
+//  "Software"), to deal in the Software without restriction, including
+//  without limitation the rights to use, copy, modify, merge, publish,
+//  distribute, sublicense, and/or sell copies of the Software, and to
+//  permit persons to whom the Software is furnished to do so, subject to
+//  the following conditions:
+//
+//  The above copyright notice and this permission notice shall be included
+//  in all copies or substantial portions of the Software.
+//
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+//  EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+//  MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+//  IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY
+//  CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+//  TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+//  SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+
+
+package com.viromedia.bridge.component.node;
+
+import com.facebook.react.bridge.ReadableMap;
+import com.viro.core.BoundingBox;
+import com.viro.core.Node;
+import com.viro.core.Vector;
+
+/**
+ * The cullingPolicy prop of a node: what to suspend in its subtree while it is off-screen, and
+ * how off-screen is decided.
+ *
+ * A node is on-screen while its bounding sphere intersects a cone around the camera's forward
+ * direction, with a half angle of half the field of view plus the margin. The sphere encloses the
+ * node's bounding box; nodes without geometry use their world position and the fallback radius.
+ */
+public final class VRTCullingPolicy {
+
+    public static final int SUSPEND_EVENTS = 1;
+    public static final int SUSPEND_ANIMATIONS = 1 << 1;
+    public static final int SUSPEND_VIDEO = 1 << 2;
+
+    public static final float DEFAULT_FIELD_OF_VIEW = 90f;
+    public static final float DEFAULT_MARGIN = 10f;
+    public static final float DEFAULT_RADIUS = 0.5f;
+
+    // Camera poses between evaluations, about 10 per second at 60fps
+    static final int EVALUATION_INTERVAL = 6;
+
+    private final int mSuspendFlags;
+    private final double mHalfAngle;
+    private final float mRadius;
+
+    private VRTCullingPolicy(int suspendFlags, float fieldOfView, float margin, float radius) {
+        mSuspendFlags = suspendFlags;
+        mHalfAngle = Math.toRadians(Math.max(0, Math.min(180, fieldOfView / 2 + margin)));
+        mRadius = Math.max(0, radius);
+    }
+
+    /**
+     * Parse the prop. Every suspension defaults to on; a null map, mode "none" or a policy that
+     * suspends nothing returns null.
+     */
+    public static VRTCullingPolicy fromMap(ReadableMap map) {
+        if (map == null || (map.hasKey("mode") && "none".equals(map.getString("mode")))) {
+            return null;
+        }
+        int flags = 0;
+        if (getBoolean(map, "suspendEvents", true)) {
+            flags |= SUSPEND_EVENTS;
+        }
+        if (getBoolean(map, "suspendAnimations", true)) {
+            flags |= SUSPEND_ANIMATIONS;
+        }
+        if (getBoolean(map, "pauseVideo", true)) {
+            flags |= SUSPEND_VIDEO;
+        }
+        if (flags == 0) {
+            return null;
+        }
+        return new VRTCullingPolicy(flags,
+                getFloat(map, "fieldOfView", DEFAULT_FIELD_OF_VIEW),
+                getFloat(map, "margin", DEFAULT_MARGIN),
+                getFloat(map, "radius", DEFAULT_RADIUS));
+    }
+
+    public int getSuspendFlags() {
+        return mSuspendFlags;
+    }
+
+    /**
+     * Whether the node's bounding sphere is within the view cone of a camera at the given position
+     * looking along the given forward vector.
+     */
+    boolean isOnScreen(Node node, float cameraX, float cameraY, float cameraZ,
+                       float forwardX, float forwardY, float forwardZ) {
+        float centerX, centerY, centerZ, radius;
+        BoundingBox box = node.getBoundingBox();
+        float extentX = box != null ? box.maxX - box.minX : 0;
+        float extentY = box != null ? box.maxY - box.minY : 0;
+        float extentZ = box != null ? box.maxZ - box.minZ : 0;
+        if (extentX > 0 || extentY > 0 || extentZ > 0) {
+            centerX = (box.minX + box.maxX) / 2;
+            centerY = (box.minY + box.maxY) / 2;
+            centerZ = (box.minZ + box.maxZ) / 2;
+            radius = (float) Math.sqrt(extentX * extentX + extentY * extentY + extentZ * extentZ) / 2;
+        } else {
+            Vector position = node.getWorldTransformRealTime().extractTranslation();
+            centerX = position.x;
+            centerY = position.y;
+            centerZ = position.z;
+            radius = mRadius;
+        }
+        return isSphereInCone(mHalfAngle, centerX, centerY, centerZ, radius,
+                cameraX, cameraY, cameraZ, forwardX, forwardY, forwardZ);
+    }
+
+    /**
+     * Whether a sphere intersects the cone with the given half angle, in radians, around the
+     * forward vector from the camera position. A sphere around the camera is always inside.
+     */
+    static boolean isSphereInCone(double halfAngle,
+                                  float centerX, float centerY, float centerZ, float radius,
+                                  float cameraX, float cameraY, float cameraZ,
+                                  float forwardX, float forwardY, float forwardZ) {
+        double dx = centerX - cameraX;
+        double dy = centerY - cameraY;
+        double dz = centerZ - cameraZ;
+        double distance = Math.sqrt(dx * dx + dy * dy + dz * dz);
+        double forwardLength = Math.sqrt(forwardX * forwardX + forwardY * forwardY + forwardZ * forwardZ);
+        if (distance <= radius || forwardLength == 0) {
+            return true;
+        }
+
+        double cos = (dx * forwardX + dy * forwardY + dz * forwardZ) / (distance * forwardLength);
+        double angle = Math.acos(Math.max(-1, Math.min(1, cos)));
+        // The sphere covers asin(radius / distance) either side of its center
+        return angle - Math.asin(radius / distance) <= halfAngle;
+    }
+
+    private static boolean getBoolean(ReadableMap map, String key, boolean defaultValue) {
+        return map.hasKey(key) && !map.isNull(key) ? map.getBoolean(key) : defaultValue;
+    }
+
+    private static float getFloat(ReadableMap map, String key, float defaultValue) {
+        return map.hasKey(key) && !map.isNull(key) ? (float) map.getDouble(key) : defaultValue;
+    }
+}
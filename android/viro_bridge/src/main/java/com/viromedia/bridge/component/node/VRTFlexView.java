@@ -30,6 +30,7 @@ import java.util.List;
 import android.graphics.Color;
 
 import com.facebook.react.bridge.ReactContext;
+import com.viromedia.bridge.component.VRTComponent;
 
 public class VRTFlexView extends VRTNode {
     private static final String DIFFUSE_COLOR_NAME  = "diffuseColor";
@@ -132,7 +133,8 @@ public class VRTFlexView extends VRTNode {
     private boolean isRootFlexView() {
         // Since Node is the "parent" class of most components, we want to check if the parent
         // is exactly a Node (not a child of Node).
-        return getParent() instanceof VRTScene || VRTNode.class.equals(getParent().getClass());
+        VRTComponent parent = getParentComponent();
+        return parent instanceof VRTScene || (parent != null && VRTNode.class.equals(parent.getClass()));
     }
 
     private void createSurface() {
@@ -0,0 +1,190 @@
+//  Copyright © 2025 ReactVision. All rights reserved.
+//
+//  Permission is hereby granted, free of charge, to any person obtaining
+//  a copy of this software and associated documentation files (the
+//  "Software"), to deal in the Software without restriction, including
+//  without limitation the rights to use, copy, modify, merge, publish,
+//  distribute, sublicense, and/or sell copies of the Software, and to
+//  permit persons to whom the Software is furnished to do so, subject to
+//  the following conditions:
+//
+//  The above copyright notice and this permission notice shall be included
+//  in all copies or substantial portions of the Software.
+//
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+//  EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+//  MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+//  IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY
+//  CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+//  TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+//  SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+
+package com.viromedia.bridge.component.node;
+
+import android.view.View;
+
+import com.facebook.react.bridge.ReactContext;
+import com.viro.core.ViroContext;
+import com.viro.core.Vector;
+import com.viromedia.bridge.component.VRTComponent;
+import com.viromedia.bridge.component.node.control.VRT3DObject;
+
+/**
+ * A node that shows one of its children depending on the distance to the camera.
+ *
+ * Child i is the level of detail shown from distances[i - 1] up to distances[i], so the first
+ * child is the most detailed; past the last threshold, the child after it is shown, or nothing if
+ * there is none. A level only changes once the distance is past its threshold by the hysteresis
+ * fraction, and a level whose model is still loading is only swapped in once it has loaded.
+ *
+ * Distances are evaluated natively every frame from the camera pose. Viro3DObject levels other
+ * than the least detailed one are not loaded until they are first selected.
+ */
+public class VRTLOD extends VRTNode {
+    public static final float DEFAULT_HYSTERESIS = 0.1f;
+
+    private float[] mDistances = new float[0];
+    private float mHysteresis = DEFAULT_HYSTERESIS;
+
+    // The level selected by distance, and the level being shown; -1 until first evaluated, while
+    // the least detailed level selectLevel() can return is shown
+    private int mTargetLevel = -1;
+    private int mShownLevel = -1;
+    private boolean mRegistered = false;
+
+    public VRTLOD(ReactContext reactContext) {
+        super(reactContext);
+    }
+
+    public void setDistances(float[] distances) {
+        mDistances = distances != null ? distances : new float[0];
+    }
+
+    public void setHysteresis(float hysteresis) {
+        mHysteresis = Math.max(0, hysteresis);
+    }
+
+    public int getShownLevel() {
+        return mShownLevel >= 0 ? mShownLevel : Math.min(getChildCount() - 1, mDistances.length);
+    }
+
+    @Override
+    public void addView(View child, int index) {
+        // Hold off loading until the level is selected; applyLevels() releases the levels in use
+        if (child instanceof VRT3DObject) {
+            ((VRT3DObject) child).setLoadDeferred(true);
+        }
+        super.addView(child, index);
+        resetLevelsFrom(index < 0 ? getChildCount() - 1 : index);
+        applyLevels();
+    }
+
+    @Override
+    public void removeViewAt(int index) {
+        // A removed level may be re-parented elsewhere, so stop hiding it
+        View child = getChildAt(index);
+        if (child instanceof VRTNode) {
+            ((VRTNode) child).setLODVisible(true);
+        }
+        super.removeViewAt(index);
+        resetLevelsFrom(index);
+        applyLevels();
+    }
+
+    /*
+     Levels at and after index now hold different children. If the selected or shown level is
+     one of them, select again from scratch on the next camera pose, so the new child is loaded
+     before it is shown.
+     */
+    private void resetLevelsFrom(int index) {
+        if (index <= mTargetLevel || index <= mShownLevel) {
+            mTargetLevel = -1;
+            mShownLevel = -1;
+        }
+    }
+
+    @Override
+    public void setViroContext(ViroContext context) {
+        super.setViroContext(context);
+        if (context != null && !mRegistered) {
+            mRegistered = true;
+            trackCameraPose(true);
+        }
+    }
+
+    @Override
+    void onCameraPose(float cameraX, float cameraY, float cameraZ,
+                      float forwardX, float forwardY, float forwardZ) {
+        super.onCameraPose(cameraX, cameraY, cameraZ, forwardX, forwardY, forwardZ);
+        if (!isTornDown() && getNodeJni() != null) {
+            evaluate(cameraX, cameraY, cameraZ);
+        }
+    }
+
+    /**
+     * Select a level for the given camera position and show it once it is ready.
+     */
+    private void evaluate(float cameraX, float cameraY, float cameraZ) {
+        Vector position = getNodeJni().getWorldTransformRealTime().extractTranslation();
+        float dx = position.x - cameraX;
+        float dy = position.y - cameraY;
+        float dz = position.z - cameraZ;
+        float distance = (float) Math.sqrt(dx * dx + dy * dy + dz * dz);
+
+        int from = mTargetLevel >= 0 ? mTargetLevel : Math.max(getShownLevel(), 0);
+        int level = selectLevel(mDistances, mHysteresis, distance, from);
+        if (level != mTargetLevel) {
+            mTargetLevel = level;
+            requestLoad(level);
+        }
+        if (mTargetLevel != mShownLevel && isLevelReady(mTargetLevel)) {
+            mShownLevel = mTargetLevel;
+            applyLevels();
+        }
+    }
+
+    /**
+     * Walk from the current level, only crossing a threshold once past it by the hysteresis.
+     *
+     * @return a level from 0 to distances.length.
+     */
+    static int selectLevel(float[] distances, float hysteresis, float distance, int level) {
+        level = Math.max(0, Math.min(level, distances.length));
+        while (level < distances.length && distance > distances[level] * (1 + hysteresis)) {
+            level++;
+        }
+        while (level > 0 && distance < distances[level - 1] * (1 - hysteresis)) {
+            level--;
+        }
+        return level;
+    }
+
+    private void requestLoad(int level) {
+        if (level < getChildCount() && getChildAt(level) instanceof VRT3DObject) {
+            ((VRT3DObject) getChildAt(level)).setLoadDeferred(false);
+        }
+    }
+
+    private boolean isLevelReady(int level) {
+        if (level >= getChildCount()) {
+            return true;
+        }
+        View child = getChildAt(level);
+        return !(child instanceof VRTComponent)
+                || ((VRTComponent) child).getAssetLoadState() != ASSETS_LOADING;
+    }
+
+    private void applyLevels() {
+        if (isTornDown()) {
+            return;
+        }
+        int shown = getShownLevel();
+        requestLoad(shown);
+        for (int i = 0; i < getChildCount(); i++) {
+            View child = getChildAt(i);
+            if (child instanceof VRTNode) {
+                ((VRTNode) child).setLODVisible(i == shown);
+            }
+        }
+    }
+}
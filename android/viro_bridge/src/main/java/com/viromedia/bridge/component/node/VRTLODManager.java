@@ -0,0 +1,63 @@
+//  Copyright © 2025 ReactVision. All rights reserved.
+//
+//  Permission is hereby granted, free of charge, to any person obtaining
+//  a copy of this software and associated documentation files (the
+//  "Software"), to deal in the Software without restriction, including
+//  without limitation the rights to use, copy, modify, merge, publish,
+//  distribute, sublicense, and/or sell copies of the Software, and to
+//  permit persons to whom the Software is furnished to do so, subject to
+//  the following conditions:
+//
+//  The above copyright notice and this permission notice shall be included
+//  in all copies or substantial portions of the Software.
+//
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+//  EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+//  MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+//  IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY
+//  CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+//  TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+//  SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+
+package com.viromedia.bridge.component.node;
+
+import com.facebook.react.bridge.ReactApplicationContext;
+import com.facebook.react.bridge.ReadableArray;
+import com.facebook.react.uimanager.ThemedReactContext;
+import com.facebook.react.uimanager.annotations.ReactProp;
+
+/*
+ The ViewManager for the ViroLOD JS Component
+ */
+public class VRTLODManager extends VRTNodeManager<VRTLOD> {
+    public VRTLODManager(ReactApplicationContext context) {
+        super(context);
+    }
+
+    @Override
+    public String getName() {
+        return "VRTLOD";
+    }
+
+    @Override
+    protected VRTLOD createViewInstance(ThemedReactContext reactContext) {
+        return new VRTLOD(reactContext);
+    }
+
+    @ReactProp(name = "distances")
+    public void setDistances(VRTLOD lod, ReadableArray distances) {
+        float[] distanceArray = null;
+        if (distances != null) {
+            distanceArray = new float[distances.size()];
+            for (int i = 0; i < distanceArray.length; i++) {
+                distanceArray[i] = (float) distances.getDouble(i);
+            }
+        }
+        lod.setDistances(distanceArray);
+    }
+
+    @ReactProp(name = "hysteresis", defaultFloat = VRTLOD.DEFAULT_HYSTERESIS)
+    public void setHysteresis(VRTLOD lod, float hysteresis) {
+        lod.setHysteresis(hysteresis);
+    }
+}
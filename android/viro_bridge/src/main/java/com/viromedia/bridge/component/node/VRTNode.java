@@ -24,10 +24,11 @@ package com.viromedia.bridge.component.node;
 import android.content.Context;
 import android.os.Handler;
 import android.os.Looper;
+import android.os.SystemClock;
 import android.util.AttributeSet;
 import android.util.Log;
+import android.view.Choreographer;
 import android.view.View;
-import android.view.ViewParent;
 
 import com.facebook.react.bridge.Arguments;
 import com.facebook.react.bridge.JSApplicationCausedNativeException;
@@ -36,25 +37,24 @@ import com.facebook.react.bridge.ReadableArray;
 import com.facebook.react.bridge.ReadableMap;
 import com.facebook.react.bridge.ReadableType;
 import com.facebook.react.bridge.WritableArray;
+import com.facebook.react.bridge.UiThreadUtil;
 import com.facebook.react.bridge.WritableMap;
 import com.facebook.react.uimanager.IllegalViewOperationException;
 import com.facebook.react.uimanager.PixelUtil;
 
 import com.facebook.react.uimanager.events.RCTEventEmitter;
 import com.viro.core.ARNode;
-import com.viro.core.ARScene;
+import com.viro.core.BoundingBox;
 import com.viro.core.Geometry;
 import com.viro.core.EventDelegate;
 import com.viro.core.Material;
+import com.viro.core.Matrix;
 import com.viro.core.Node;
 import com.viro.core.VideoTexture;
 import com.viro.core.ViroContext;
 import com.viro.core.internal.ExecutableAnimation;
 import com.viro.core.PhysicsBody;
 import com.viro.core.PhysicsShape;
-import com.viro.core.PhysicsShapeAutoCompound;
-import com.viro.core.PhysicsShapeBox;
-import com.viro.core.PhysicsShapeSphere;
 import com.viro.core.Vector;
 import com.viromedia.bridge.component.VRTAnimatedComponent;
 import com.viromedia.bridge.component.VRTComponent;
@@ -69,13 +69,18 @@ import com.viromedia.bridge.module.AnimationManager;
 import com.viromedia.bridge.module.MaterialManager;
 import com.viromedia.bridge.utility.ComponentEventDelegate;
 import com.viromedia.bridge.utility.Helper;
+import com.viromedia.bridge.utility.ViroEventQueue;
+import com.viromedia.bridge.utility.ViroPackedEventBuffer;
 import com.viromedia.bridge.utility.ViroEvents;
 import com.viromedia.bridge.utility.ViroLog;
 
 import java.lang.ref.WeakReference;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.EnumSet;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 
 import static com.viromedia.bridge.component.node.VRTNodeManager.s2DUnitPer3DUnit;
@@ -93,7 +98,7 @@ public class VRTNode extends VRTComponent {
      * further than this value, then we'll detach the existing anchor and attempt to
      * re-anchor the node.
      */
-    private static final float REANCHOR_DISTANCE = 3.5f;
+    static final float REANCHOR_DISTANCE = 3.5f;
 
     /*
      * The amount of time to wait before attempting to anchor a Node again after an anchor
@@ -156,10 +161,10 @@ public class VRTNode extends VRTComponent {
         }
 
         /**
-         * Anchor this node by creating an anchored node at the given position, then parenting this
-         * node with the anchor and setting this node to the origin. Note that this node's current
-         * position is ignored. If anchoring fails, then the node is simply set to the position, and
-         * we try again later.
+         * Anchor this node by attaching it to the scene's nearest shared anchor, creating one at the
+         * given position if none is close enough, and positioning this node relative to it. Note
+         * that this node's current position is ignored. If anchoring fails, then the node is simply
+         * set to the position, and we try again later.
          *
          * @param position The position at which to anchor the node.
          * @return True if anchoring succeeded.
@@ -169,40 +174,25 @@ public class VRTNode extends VRTComponent {
                 Log.i(TAG, "Anchoring node " + node + " [attempt " + mAttempt + "]");
             }
 
-            if (node == null || node.isTornDown() || node.getParent() == null) {
+            if (node == null || node.isTornDown() || !(node.getParentComponent() instanceof VRTARScene)) {
                 return false;
             }
 
-            final ARScene scene = (ARScene) ((VRTARScene) node.getParent()).getNativeScene();
-            if (node.mViroContext == null) {
+            final VRTARAnchorManager anchorManager = ((VRTARScene) node.getParentComponent()).getAnchorManager();
+            if (node.mViroContext == null || anchorManager == null) {
                 if (DEBUG_ANCHORING) {
-                    Log.i(TAG, "   Delaying anchoring: ViroContext is null");
+                    Log.i(TAG, "   Delaying anchoring: ViroContext or scene is not ready");
                 }
                 return false;
             }
 
-            node.mAnchor = scene.createAnchoredNode(position);
-
-            if (node.mAnchor != null) {
-                if (DEBUG_ANCHORING) {
-                    Log.i(TAG, "Anchor created successfully at position " + position + ", repositioning Node to origin");
-                }
-
-                node.mNodeJni.removeFromParentNode();
-                scene.getRootNode().addChildNode(node.mAnchor);
-                node.mAnchor.addChildNode(node.mNodeJni);
-                node.mNodeJni.setPosition(new Vector(0, 0, 0));
-
-                return true;
-            } else {
-                // Anchor failed: simply set the node to the position and try again later
-                if (DEBUG_ANCHORING) {
-                    Log.i(TAG, "Failed to anchor node at " + position + " -- trying again later");
-                }
-                node.mNodeJni.setPosition(position);
-
-                return false;
+            // On failure the manager leaves the node at the position and we try again later
+            boolean anchored = anchorManager.attach(node, position);
+            if (DEBUG_ANCHORING) {
+                Log.i(TAG, anchored ? "Node anchored at " + position + " (" + anchorManager.getAnchorCount() + " anchors)"
+                        : "Failed to anchor node at " + position + " -- trying again later");
             }
+            return anchored;
         }
 
         public void setPosition(Vector position) {
@@ -267,16 +257,66 @@ public class VRTNode extends VRTComponent {
     protected final static double TRANSFORM_DELEGATE_DISTANCE_FILTER = 0.01;
     protected final static boolean DEFAULT_IGNORE_EVENT_HANDLING = false;
 
+    /*
+     Operations of a batched physics command; see applyPhysicsCommand().
+     */
+    public static final int PHYSICS_OP_IMPULSE = 0;
+    public static final int PHYSICS_OP_TORQUE_IMPULSE = 1;
+    public static final int PHYSICS_OP_VELOCITY = 2;
+    public static final int PHYSICS_OP_CONSTANT_VELOCITY = 3;
+    public static final int PHYSICS_COMMAND_FLOATS = 6;
+
     private Node mNodeJni;
-    private ARNode mAnchor;
+    VRTARAnchorManager.Cluster mAnchorCluster;
     private AnchorAttempt mAnchorAttempt;
     protected float[] mPosition;
     protected float[] mRotation;
     protected float[] mScale;
     protected float[] mRotationPivot;
     protected float[] mScalePivot;
+
+    /*
+     Transform parts written by setTransform() and not yet sent to the renderer. Guarded by
+     TransformFlusher's lock, flushed on the next frame.
+     */
+    private static final int DIRTY_POSITION = 1;
+    private static final int DIRTY_ROTATION = 1 << 1;
+    private static final int DIRTY_SCALE = 1 << 2;
+    private int mTransformDirty = 0;
+    private boolean mTransformQueued = false;
+
+    // The parts taken from the above under the lock, sent to the renderer after releasing it.
+    // Only touched on the UI thread.
+    private int mFlushDirty = 0;
+    private final float[] mFlushPosition = new float[3];
+    private final float[] mFlushRotation = new float[3];
+    private final float[] mFlushScale = new float[3];
+
+    /*
+     The Vectors last handed to the renderer for each part, created on first use. Node keeps a
+     reference to the Vector it is given as its own position, rotation or scale, so a Vector is
+     never shared between parts or nodes, and is only overwritten on the UI thread right before
+     it is handed over again.
+     */
+    private Vector mPositionVector;
+    private Vector mRotationVector;
+    private Vector mScaleVector;
+
     protected float mOpacity = 1.0f;
     protected boolean mVisible = true; // default visible value should be true
+    // Cleared by a parent VRTLOD while this node is not the level being shown
+    private boolean mLODVisible = true;
+
+    // Culling: the policy, whether this node was last found off-screen, and the VRTCullingPolicy
+    // SUSPEND_* flags in effect here, from this node's policy or an ancestor's
+    private VRTCullingPolicy mCullingPolicy;
+    private boolean mCulled = false;
+    private int mCullingCountdown = 0;
+    private int mSuspendFlags = 0;
+    private int mCameraPoseUsers = 0;
+    // Event actions enabled by props; suspension disables them natively without forgetting them
+    private final EnumSet<EventDelegate.EventAction> mEnabledEventActions =
+            EnumSet.noneOf(EventDelegate.EventAction.class);
     protected int mRenderingOrder = 0;
     protected boolean mHighAccuracyEventsEnabled = false;
     protected boolean mIgnoreEventHandling = false;
@@ -298,19 +338,56 @@ public class VRTNode extends VRTComponent {
     protected int mOldBottom;
 
     /**
-     * This field is set to true when during a property setting iteration, this Node is one of the
-     * highest elements in the scene tree that had its properties set/changed.
+     * Order in which this Node last had its properties set. During a property setting iteration a
+     * Node is one of the highest elements in the scene tree that had its properties changed if no
+     * Node above it had its properties set later, see isTopMostChangedElement().
      */
-    protected boolean mIsTopMostChangedElement = false;
+    private long mPropsSetStamp = 0;
+    private static final AtomicLong sPropsSetCounter = new AtomicLong();
+
+    /*
+     Inputs of the last flex layout of this Node (its 2D position and size, then its FlexView's)
+     and the 3D size that was applied. A layout pass with the same inputs is skipped, and the size
+     (which may rebuild geometry) is only applied when it changes. Invalidated by markPropsChanged.
+     */
+    private final float[] mLayoutInputs = new float[8];
+    private boolean mLayoutValid = false;
+    private float mLayoutWidth3d = Float.NaN;
+    private float mLayoutHeight3d = Float.NaN;
 
     // True if this node initialized and contains a physics body.
     private boolean hasPhysicsBody = false;
     private boolean mPhysicsEnabled = true;
+    // Type and shape key of the current body; changing the type needs a new body
+    private PhysicsBody.RigidBodyType mPhysicsBodyType;
+    private String mPhysicsShapeKey;
 
     // Last known set physics properties for this node.
     private ReadableMap mPhysicsMap = null;
     private PhysicsBodyDelegate mPhysicsDelegate;
 
+    // Collision pair events, see setCollisionEventMask(); canCollide keeps the per-contact event
+    public static final int COLLISION_EVENT_ENTER = 1;
+    public static final int COLLISION_EVENT_STAY = 2;
+    public static final int COLLISION_EVENT_EXIT = 4;
+    public static final float DEFAULT_COLLISION_STAY_INTERVAL = 250;
+    // The renderer only reports contacts, so a pair is considered separated once this long
+    // passes without one
+    private static final long COLLISION_EXIT_MILLIS = 100;
+    // Read on the physics thread
+    private volatile boolean mCanCollide = false;
+    private volatile int mCollisionEventMask = 0;
+    /*
+     The renderer only reports the tag of the other body in a contact, so the tag set on the
+     native node is BODY_TAG_PREFIX, an id unique to this node and, after a ':', the viroTag.
+     Pairs are keyed by that id, and the viroTag is taken back out for events.
+     */
+    private static final String BODY_TAG_PREFIX = "__viroBody";
+    private static final AtomicInteger sBodyIds = new AtomicInteger();
+    private final int mBodyId = sBodyIds.incrementAndGet();
+    private String mViroTag;
+    private float mCollisionStayInterval = DEFAULT_COLLISION_STAY_INTERVAL;
+
     public VRTNode(ReactContext reactContext) {
         this(reactContext.getBaseContext(), null, -1, -1, reactContext);
     }
@@ -348,9 +425,18 @@ public class VRTNode extends VRTComponent {
         return mNodeJni;
     }
 
+    public ComponentEventDelegate getComponentEventDelegate() {
+        return mComponentEventDelegate;
+    }
+
     @Override
     public void onTearDown() {
         try {
+            if (mCameraPoseUsers > 0) {
+                mCameraPoseUsers = 0;
+                VRTCameraPoseTracker.unregister(this);
+            }
+
             // Cancel any ongoing anchor attempts
             if (mAnchorAttempt != null) {
                 mAnchorAttempt.cancel();
@@ -393,17 +479,16 @@ public class VRTNode extends VRTComponent {
                 mMaterials = null;
             }
             
+            // Leave the shared anchor, detaching it if this was its last node
+            if (mAnchorCluster != null) {
+                mAnchorCluster.manager.detach(this, false);
+            }
+
             // Clean up node
             if (mNodeJni != null) {
                 mNodeJni.dispose();
                 mNodeJni = null;
             }
-            
-            // Clean up anchor
-            if (mAnchor != null) {
-                mAnchor.detach();
-                mAnchor = null;
-            }
         } catch (Exception e) {
             ViroLog.error(TAG, "Error during component teardown: " + e.getMessage());
         } finally {
@@ -448,12 +533,16 @@ public class VRTNode extends VRTComponent {
         }
 
         super.addView(child, index);
+        if (child instanceof VRTNode) {
+            ((VRTNode) child).updateSuspension();
+        }
     }
 
     @Override
     public void removeViewAt(int index) {
+        View removed = getChildAt(index);
         if (!isTornDown()) {
-            View child = getChildAt(index);
+            View child = removed;
             if (child instanceof VRTLight) {
                 ((VRTLight) child).removeFromNode(mNodeJni);
             } else if (child instanceof VRTCamera) {
@@ -480,6 +569,10 @@ public class VRTNode extends VRTComponent {
         }
 
         super.removeViewAt(index);
+        // No longer under this node's culling; a no-op if the child was torn down
+        if (removed instanceof VRTNode) {
+            ((VRTNode) removed).updateSuspension();
+        }
     }
 
     /*
@@ -532,24 +625,24 @@ public class VRTNode extends VRTComponent {
          If this node is at the root of an ARScene, then we will try to create an anchor for the
          VRONode and make the VRONode a child of the anchor. This ensures ARCore stability.
          */
-        ViewParent parent = getParent();
+        VRTComponent parent = getParentComponent();
         if (parent instanceof VRTARScene) {
-            if (mAnchor == null) {
+            if (mAnchorCluster == null) {
                 mAnchorAttempt = new AnchorAttempt(this, new Vector(mPosition));
                 mAnchorAttempt.makeAttempt();
             }
         }
 
         /*
-         If this node *was* an anchor but now has a different parent, remove the intermediate
-         anchor.
+         If this node *was* anchored but now has a different parent, leave the shared anchor; the
+         anchor is detached if no other node uses it.
          */
-        else if (mAnchor != null) {
+        else if (mAnchorCluster != null) {
             if (parent == null || !(parent instanceof VRTARScene)) {
                 if (DEBUG_ANCHORING) {
-                    Log.i(TAG, "Anchored node " + this + " is being removed or repurposed, detaching anchor");
+                    Log.i(TAG, "Anchored node " + this + " is being removed or repurposed, leaving anchor");
                 }
-                mAnchor.detach();
+                mAnchorCluster.manager.detach(this, false);
 
                 // The Node may already be torn down
                 if (mNodeJni != null) {
@@ -561,7 +654,137 @@ public class VRTNode extends VRTComponent {
 
     @Override
     public boolean shouldAppear() {
-        return super.shouldAppear() && mVisible;
+        return super.shouldAppear() && mVisible && mLODVisible;
+    }
+
+    void setLODVisible(boolean visible) {
+        if (isTornDown() || mLODVisible == visible) {
+            return;
+        }
+        mLODVisible = visible;
+        handleAppearanceChange();
+    }
+
+    /**
+     * Start or stop receiving onCameraPose() every frame. Calls are counted, so each user of the
+     * camera pose (level of detail, culling) starts and stops independently.
+     */
+    void trackCameraPose(boolean track) {
+        if (track) {
+            if (mCameraPoseUsers++ == 0) {
+                VRTCameraPoseTracker.register(this);
+            }
+        } else if (mCameraPoseUsers > 0 && --mCameraPoseUsers == 0) {
+            VRTCameraPoseTracker.unregister(this);
+        }
+    }
+
+    /**
+     * Called on the UI thread with the camera position and forward vector while this node tracks
+     * the camera pose and is in the scene being shown.
+     */
+    void onCameraPose(float cameraX, float cameraY, float cameraZ,
+                      float forwardX, float forwardY, float forwardZ) {
+        if (mCullingPolicy == null || isTornDown() || mNodeJni == null || --mCullingCountdown > 0) {
+            return;
+        }
+        mCullingCountdown = VRTCullingPolicy.EVALUATION_INTERVAL;
+        boolean culled = !mCullingPolicy.isOnScreen(mNodeJni, cameraX, cameraY, cameraZ,
+                forwardX, forwardY, forwardZ);
+        if (culled != mCulled) {
+            mCulled = culled;
+            updateSuspension();
+        }
+    }
+
+    /**
+     * Set the culling policy of this subtree: while this node is off-screen, event delivery,
+     * animations and video in the subtree are suspended as the policy says, and resumed once it
+     * is back on screen. Null turns culling off.
+     */
+    public void setCullingPolicy(ReadableMap policy) {
+        VRTCullingPolicy cullingPolicy = VRTCullingPolicy.fromMap(policy);
+        if ((cullingPolicy != null) != (mCullingPolicy != null)) {
+            trackCameraPose(cullingPolicy != null);
+        }
+        mCullingPolicy = cullingPolicy;
+        mCullingCountdown = 0;
+        if (cullingPolicy == null) {
+            mCulled = false;
+        }
+        updateSuspension();
+    }
+
+    protected boolean isSuspended(int suspendFlag) {
+        return (mSuspendFlags & suspendFlag) != 0;
+    }
+
+    /**
+     * Recompute the suspension in effect here from this node's policy and its parent's
+     * suspension, applying and propagating any change down the subtree.
+     */
+    void updateSuspension() {
+        if (isTornDown()) {
+            return;
+        }
+        int flags = mCulled ? mCullingPolicy.getSuspendFlags() : 0;
+        VRTComponent parent = getParentComponent();
+        if (parent instanceof VRTNode) {
+            flags |= ((VRTNode) parent).mSuspendFlags;
+        }
+        int changed = flags ^ mSuspendFlags;
+        if (changed == 0) {
+            return;
+        }
+        mSuspendFlags = flags;
+
+        if ((changed & VRTCullingPolicy.SUSPEND_EVENTS) != 0) {
+            applyEventSuspension();
+        }
+        if ((changed & VRTCullingPolicy.SUSPEND_ANIMATIONS) != 0 && mNodeAnimation != null) {
+            mNodeAnimation.setSuspended(isSuspended(VRTCullingPolicy.SUSPEND_ANIMATIONS));
+        }
+        onSuspensionChanged(changed);
+
+        for (int i = 0; i < getChildCount(); i++) {
+            View child = getChildAt(i);
+            if (child instanceof VRTNode) {
+                ((VRTNode) child).updateSuspension();
+            }
+        }
+    }
+
+    /**
+     * Called when the VRTCullingPolicy SUSPEND_* flags in effect change, for subclasses with
+     * their own work to suspend.
+     */
+    protected void onSuspensionChanged(int changedFlags) {
+    }
+
+    private void applyEventSuspension() {
+        if (mEventDelegateJni == null || mNodeJni == null) {
+            return;
+        }
+        boolean suspended = isSuspended(VRTCullingPolicy.SUSPEND_EVENTS);
+        for (EventDelegate.EventAction action : mEnabledEventActions) {
+            mEventDelegateJni.setEventEnabled(action, !suspended);
+        }
+        if (mTransformDelegate != null) {
+            if (suspended) {
+                mNodeJni.removeTransformListener();
+            } else {
+                mNodeJni.setTransformListener(mTransformDelegate, TRANSFORM_DELEGATE_DISTANCE_FILTER);
+            }
+        }
+    }
+
+    private void setEventActionEnabled(EventDelegate.EventAction action, boolean enabled) {
+        if (enabled) {
+            mEnabledEventActions.add(action);
+        } else {
+            mEnabledEventActions.remove(action);
+        }
+        mEventDelegateJni.setEventEnabled(action, enabled && !isSuspended(VRTCullingPolicy.SUSPEND_EVENTS));
     }
 
     @Override
@@ -578,23 +801,66 @@ public class VRTNode extends VRTComponent {
     @Override
     protected void onPropsSet() {
         super.onPropsSet();
-        // Because props are set from the bottom of the scene tree up, if props are set on this
-        // Node, then we know its the top-most changed element.
-        mIsTopMostChangedElement = true;
-        setChildrenNotTopMostChangedElement();
+        markPropsChanged();
     }
 
     /**
-     * This function ensures that the children of this element aren't the top-most changed element.
+     * Record that this Node's properties were just set. Because props are set from the bottom of
+     * the scene tree up, this makes it the top-most changed element, and its descendants no
+     * longer are. Only the stamp is written; descendants are not visited.
      */
-    protected void setChildrenNotTopMostChangedElement() {
-        for (int i = 0; i < getChildCount(); i++) {
-            View child = getChildAt(i);
-            if (child instanceof VRTNode) {
-                ((VRTNode) child).mIsTopMostChangedElement = false;
-                ((VRTNode) child).setChildrenNotTopMostChangedElement();
+    public void markPropsChanged() {
+        mPropsSetStamp = sPropsSetCounter.incrementAndGet();
+        invalidateLayout();
+    }
+
+    /**
+     * Force the next layout pass to recompute and reapply this Node's 3D position and size.
+     */
+    public void invalidateLayout() {
+        mLayoutValid = false;
+        mLayoutWidth3d = Float.NaN;
+        mLayoutHeight3d = Float.NaN;
+    }
+
+    // Record the layout inputs, returning whether they differ from the previous pass
+    private boolean updateLayoutInputs(float[] position, float[] size, float[] parentPosition,
+                                       float[] parentSize) {
+        boolean changed = !mLayoutValid
+                || mLayoutInputs[0] != position[0] || mLayoutInputs[1] != position[1]
+                || mLayoutInputs[2] != size[0] || mLayoutInputs[3] != size[1]
+                || mLayoutInputs[4] != parentPosition[0] || mLayoutInputs[5] != parentPosition[1]
+                || mLayoutInputs[6] != parentSize[0] || mLayoutInputs[7] != parentSize[1];
+        if (changed) {
+            mLayoutInputs[0] = position[0];
+            mLayoutInputs[1] = position[1];
+            mLayoutInputs[2] = size[0];
+            mLayoutInputs[3] = size[1];
+            mLayoutInputs[4] = parentPosition[0];
+            mLayoutInputs[5] = parentPosition[1];
+            mLayoutInputs[6] = parentSize[0];
+            mLayoutInputs[7] = parentSize[1];
+            mLayoutValid = true;
+        }
+        return changed;
+    }
+
+    /**
+     * Whether this Node had its properties set and no Node above it (through a chain of Nodes)
+     * had its properties set since. Walks up to the nearest non-Node ancestor.
+     */
+    public boolean isTopMostChangedElement() {
+        if (mPropsSetStamp == 0) {
+            return false;
+        }
+        VRTComponent parent = getParentComponent();
+        while (parent instanceof VRTNode) {
+            if (((VRTNode) parent).mPropsSetStamp > mPropsSetStamp) {
+                return false;
             }
+            parent = parent.getParentComponent();
         }
+        return true;
     }
 
     @Override
@@ -602,7 +868,7 @@ public class VRTNode extends VRTComponent {
         super.onLayout(changed, left, top, right, bottom);
         // Only call recalcLayout if we're the top-most changed element because we don't want to
         // recalc the 3D position/size N times (N = number of changed elements).
-        if (mIsTopMostChangedElement) {
+        if (isTopMostChangedElement()) {
             recalcLayout();
         }
     }
@@ -623,11 +889,12 @@ public class VRTNode extends VRTComponent {
     protected void attemptRecalcLayout() {
         // Attempt to find a FlexView parent OR FlexView grandparent if the parent is an AnimatedComponent
         VRTNode superView = null;
-        if (getParent() != null && getParent() instanceof VRTFlexView) {
-            superView = (VRTNode) getParent();
-        } else if(getParent() != null && getParent() instanceof VRTAnimatedComponent) {
-            if (getParent().getParent() != null && getParent().getParent() instanceof VRTFlexView) {
-                superView = (VRTNode) getParent().getParent();
+        VRTComponent parent = getParentComponent();
+        if (parent instanceof VRTFlexView) {
+            superView = (VRTNode) parent;
+        } else if (parent instanceof VRTAnimatedComponent) {
+            if (parent.getParentComponent() instanceof VRTFlexView) {
+                superView = (VRTNode) parent.getParentComponent();
             }
         }
 
@@ -642,6 +909,22 @@ public class VRTNode extends VRTComponent {
         float[] parentPosition = superView.get2DPosition();
         float[] parentSize = superView.get2DSize();
 
+        if (updateLayoutInputs(position, size, parentPosition, parentSize)) {
+            applyFlexLayout(position, size, parentPosition, parentSize);
+        }
+
+        // normalize bounds so that they assume left & top == 0, we shouldn't set the pivots because
+        // 1) they're already correct
+        // 2) if you set pivots, the view will cease to use its default (center) and use the value you
+        //    give it (see View's setPivotX/setPivotY javadocs)
+        setLeft(0);
+        setTop(0);
+        setRight((int) size[0]);
+        setBottom((int) size[1]);
+    }
+
+    private void applyFlexLayout(float[] position, float[] size, float[] parentPosition,
+                                 float[] parentSize) {
         // flip y because in our 3D coordinates, y increases as you go up, rather than downwards on mobile/web.
         float transformedY = parentSize[1] - position[1];
 
@@ -661,6 +944,11 @@ public class VRTNode extends VRTComponent {
         // set position.
         setPosition(new float[]{transformedX, transformedY, sZIncrementToAvoidZFighting});
 
+        // Only apply the size when it changed, since applying it may recreate the geometry
+        if (width3d == mLayoutWidth3d && height3d == mLayoutHeight3d) {
+            return;
+        }
+
         // TODO: create Flexible interface
         // set the size (either through scale or width/height if the node supports it).
         if (this instanceof VRTImage) {
@@ -696,14 +984,10 @@ public class VRTNode extends VRTComponent {
             this.setScale(new float[]{width3d, height3d, 1});
         }
 
-        // normalize bounds so that they assume left & top == 0, we shouldn't set the pivots because
-        // 1) they're already correct
-        // 2) if you set pivots, the view will cease to use its default (center) and use the value you
-        //    give it (see View's setPivotX/setPivotY javadocs)
-        setLeft(0);
-        setTop(0);
-        setRight((int) size[0]);
-        setBottom((int) size[1]);
+        // Recorded last, since the onPropsSet() calls above invalidate the layout
+        mLayoutValid = true;
+        mLayoutWidth3d = width3d;
+        mLayoutHeight3d = height3d;
     }
 
     protected void setPosition(float[] position) {
@@ -716,36 +1000,31 @@ public class VRTNode extends VRTComponent {
         }
 
         mPosition = position;
-        Vector vPosition = new Vector(position);
+        TransformFlusher.clearDirty(this, DIRTY_POSITION);
+        applyPosition(position);
+    }
 
+    private void applyPosition(float[] position) {
         /*
-         If this is an anchored node and it's moved, determine if we need to re-anchor the
-         node or if we can just move the node. If we just move the node, we have to take into
-         the account the anchor's position (e.g. set the Node position to the new position
-         minus the anchor's position in order to get the correct aggregate position).
+         If this is an anchored node and it's moved, the anchor manager either moves the node
+         relative to its shared anchor (if still within REANCHOR_DISTANCE of it) or re-clusters
+         it onto another anchor. If no anchor is available, keep retrying as on first anchoring.
          */
-        if (mAnchor != null) {
+        if (mAnchorCluster != null) {
+            Vector vPosition = new Vector(position);
             if (DEBUG_ANCHORING) {
-                Log.i(TAG, "Repositioning anchor " + this + " to " + vPosition + " from " + mAnchor.getPositionRealtime());
+                Log.i(TAG, "Repositioning anchored node " + this + " to " + vPosition);
             }
-            if (vPosition.distance(mAnchor.getPositionRealtime()) > REANCHOR_DISTANCE) {
-                if (DEBUG_ANCHORING) {
-                    Log.i(TAG, "   Reposition distance greater than REANCHOR_DISTANCE: re-anchoring Node");
-                }
+            if (!mAnchorCluster.manager.move(this, vPosition)) {
                 if (mAnchorAttempt != null) {
                     mAnchorAttempt.cancel();
                 }
                 mAnchorAttempt = new AnchorAttempt(this, vPosition);
                 mAnchorAttempt.makeAttempt();
-            } else {
-                if (DEBUG_ANCHORING) {
-                    Log.i(TAG, "   Reposition distance less than REANCHOR_DISTANCE: moving node relative to anchor");
-                }
-                Vector nodePosition = vPosition.subtract(mAnchor.getPositionRealtime());
-                mNodeJni.setPosition(nodePosition);
             }
         } else {
-            mNodeJni.setPosition(vPosition);
+            mPositionVector = setVector(mPositionVector, position[0], position[1], position[2]);
+            mNodeJni.setPosition(mPositionVector);
         }
     }
 
@@ -758,7 +1037,30 @@ public class VRTNode extends VRTComponent {
                     "[x,y,z] axis values are needed.");
         }
         mRotation = rotation;
-        mNodeJni.setRotation(Helper.toRadiansVector(rotation));
+        TransformFlusher.clearDirty(this, DIRTY_ROTATION);
+        applyRotation(rotation);
+    }
+
+    private void applyRotation(float[] rotation) {
+        mRotationVector = setVector(mRotationVector, (float) Math.toRadians(rotation[0]),
+                (float) Math.toRadians(rotation[1]), (float) Math.toRadians(rotation[2]));
+        mNodeJni.setRotation(mRotationVector);
+    }
+
+    private void applyScale(float[] scale) {
+        mScaleVector = setVector(mScaleVector, scale[0], scale[1], scale[2]);
+        mNodeJni.setScale(mScaleVector);
+    }
+
+    // Overwrite the node's own Vector in place, creating it on first use
+    protected static Vector setVector(Vector vector, float x, float y, float z) {
+        if (vector == null) {
+            return new Vector(x, y, z);
+        }
+        vector.x = x;
+        vector.y = y;
+        vector.z = z;
+        return vector;
     }
 
     protected void setScale(float[] scale) {
@@ -770,7 +1072,8 @@ public class VRTNode extends VRTComponent {
                     "[x,y,z] axis values are needed.");
         }
         mScale = scale;
-        mNodeJni.setScale(new Vector(scale));
+        TransformFlusher.clearDirty(this, DIRTY_SCALE);
+        applyScale(scale);
     }
 
     protected void setRotationPivot(float[] pivot) {
@@ -782,7 +1085,7 @@ public class VRTNode extends VRTComponent {
                     "[x,y,z] axis values are needed.");
         }
         mRotationPivot = pivot;
-        mNodeJni.setRotationPivot(new Vector(pivot));
+        mNodeJni.setRotationPivot(new Vector(pivot[0], pivot[1], pivot[2]));
     }
 
     protected void setScalePivot(float[] pivot) {
@@ -794,7 +1097,135 @@ public class VRTNode extends VRTComponent {
                     "[x,y,z] axis values are needed.");
         }
         mScalePivot = pivot;
-        mNodeJni.setScalePivot(new Vector(pivot));
+        mNodeJni.setScalePivot(new Vector(pivot[0], pivot[1], pivot[2]));
+    }
+
+    /**
+     * Set any of position, rotation (degrees) and scale from a packed array, copying into the
+     * node's own arrays.
+     * Reads nine floats at offset - position xyz, rotation xyz, scale xyz - and skips a part
+     * whose first value is NaN. The values are sent to the renderer on the next frame, together
+     * with every other node's, through the node's own reused Vectors; may be called from any
+     * thread.
+     */
+    public void setTransform(float[] transform, int offset) {
+        if (isTornDown()) {
+            return;
+        }
+        synchronized (TransformFlusher.sLock) {
+            int dirty = 0;
+            if (!Float.isNaN(transform[offset])) {
+                mPosition = copyTransformPart(transform, offset, mPosition);
+                dirty |= DIRTY_POSITION;
+            }
+            if (!Float.isNaN(transform[offset + 3])) {
+                mRotation = copyTransformPart(transform, offset + 3, mRotation);
+                dirty |= DIRTY_ROTATION;
+            }
+            if (!Float.isNaN(transform[offset + 6])) {
+                mScale = copyTransformPart(transform, offset + 6, mScale);
+                dirty |= DIRTY_SCALE;
+            }
+            if (dirty != 0) {
+                TransformFlusher.markDirtyLocked(this, dirty);
+            }
+        }
+    }
+
+    private static float[] copyTransformPart(float[] src, int offset, float[] dst) {
+        if (dst == null || dst.length < 3) {
+            dst = new float[3];
+        }
+        dst[0] = src[offset];
+        dst[1] = src[offset + 1];
+        dst[2] = src[offset + 2];
+        return dst;
+    }
+
+    /**
+     * Write the world transform last computed by the renderer in the layout setTransform()
+     * reads: nine floats at offset - position xyz, rotation xyz in degrees, scale xyz.
+     *
+     * @return false, leaving the array untouched, if the node has been torn down.
+     */
+    public boolean getWorldTransform(float[] out, int offset) {
+        Node nodeJni = mNodeJni;
+        if (isTornDown() || nodeJni == null) {
+            return false;
+        }
+        Matrix matrix = nodeJni.getWorldTransformRealTime();
+        Vector scale = matrix.extractScale();
+        Vector position = matrix.extractTranslation();
+        Vector rotation = matrix.extractRotation(scale).toEuler();
+        out[offset] = position.x;
+        out[offset + 1] = position.y;
+        out[offset + 2] = position.z;
+        out[offset + 3] = (float) Math.toDegrees(rotation.x);
+        out[offset + 4] = (float) Math.toDegrees(rotation.y);
+        out[offset + 5] = (float) Math.toDegrees(rotation.z);
+        out[offset + 6] = scale.x;
+        out[offset + 7] = scale.y;
+        out[offset + 8] = scale.z;
+        return true;
+    }
+
+    /**
+     * Write the bounding box as six floats at offset: minX, maxX, minY, maxY, minZ, maxZ.
+     *
+     * @return false, leaving the array untouched, if the node has been torn down.
+     */
+    public boolean getBoundingBox(float[] out, int offset) {
+        Node nodeJni = mNodeJni;
+        if (isTornDown() || nodeJni == null) {
+            return false;
+        }
+        BoundingBox box = nodeJni.getBoundingBox();
+        out[offset] = box.minX;
+        out[offset + 1] = box.maxX;
+        out[offset + 2] = box.minY;
+        out[offset + 3] = box.maxY;
+        out[offset + 4] = box.minZ;
+        out[offset + 5] = box.maxZ;
+        return true;
+    }
+
+    // Called by TransformFlusher with its lock held; copies out the parts to send
+    private void takeTransformLocked() {
+        int dirty = mTransformDirty;
+        mTransformDirty = 0;
+        mTransformQueued = false;
+        if ((dirty & DIRTY_POSITION) != 0) {
+            System.arraycopy(mPosition, 0, mFlushPosition, 0, 3);
+        }
+        if ((dirty & DIRTY_ROTATION) != 0) {
+            System.arraycopy(mRotation, 0, mFlushRotation, 0, 3);
+        }
+        if ((dirty & DIRTY_SCALE) != 0) {
+            System.arraycopy(mScale, 0, mFlushScale, 0, 3);
+        }
+        mFlushDirty = dirty;
+    }
+
+    /*
+     Called by TransformFlusher on the UI thread after releasing its lock. Allocates nothing once
+     the node's Vectors exist. ViroCore's Node has no combined transform setter, so this is one
+     JNI call per dirty part, up to three per node.
+     */
+    private void flushTransform() {
+        int dirty = mFlushDirty;
+        mFlushDirty = 0;
+        if (dirty == 0 || isTornDown() || mNodeJni == null) {
+            return;
+        }
+        if ((dirty & DIRTY_POSITION) != 0) {
+            applyPosition(mFlushPosition);
+        }
+        if ((dirty & DIRTY_ROTATION) != 0) {
+            applyRotation(mFlushRotation);
+        }
+        if ((dirty & DIRTY_SCALE) != 0) {
+            applyScale(mFlushScale);
+        }
     }
 
     protected void setOpacity(float opacity) {
@@ -983,43 +1414,105 @@ public class VRTNode extends VRTComponent {
     }
 
     protected void setCanHover(boolean canHover){
-        mEventDelegateJni.setEventEnabled(EventDelegate.EventAction.ON_HOVER, canHover);
+        setEventActionEnabled(EventDelegate.EventAction.ON_HOVER, canHover);
     }
 
     protected void setCanClick(boolean canClick){
-        mEventDelegateJni.setEventEnabled(EventDelegate.EventAction.ON_CLICK, canClick);
+        setEventActionEnabled(EventDelegate.EventAction.ON_CLICK, canClick);
     }
 
     protected void setCanTouch(boolean canTouch){
-        mEventDelegateJni.setEventEnabled(EventDelegate.EventAction.ON_TOUCH, canTouch);
+        setEventActionEnabled(EventDelegate.EventAction.ON_TOUCH, canTouch);
     }
 
     protected void setCanScroll(boolean canScroll){
-        mEventDelegateJni.setEventEnabled(EventDelegate.EventAction.ON_SCROLL, canScroll);
+        setEventActionEnabled(EventDelegate.EventAction.ON_SCROLL, canScroll);
     }
 
     protected void setCanSwipe(boolean canSwipe){
-        mEventDelegateJni.setEventEnabled(EventDelegate.EventAction.ON_SWIPE, canSwipe);
+        setEventActionEnabled(EventDelegate.EventAction.ON_SWIPE, canSwipe);
     }
 
     protected void setCanDrag(boolean canDrag){
-        mEventDelegateJni.setEventEnabled(EventDelegate.EventAction.ON_DRAG, canDrag);
+        setEventActionEnabled(EventDelegate.EventAction.ON_DRAG, canDrag);
     }
 
     protected void setCanFuse(boolean canFuse){
-        mEventDelegateJni.setEventEnabled(EventDelegate.EventAction.ON_FUSE, canFuse);
+        setEventActionEnabled(EventDelegate.EventAction.ON_FUSE, canFuse);
     }
 
     protected void setCanPinch(boolean canPinch){
-        mEventDelegateJni.setEventEnabled(EventDelegate.EventAction.ON_PINCH, canPinch);
+        setEventActionEnabled(EventDelegate.EventAction.ON_PINCH, canPinch);
     }
 
     protected void setCanRotate(boolean canRotate){
-        mEventDelegateJni.setEventEnabled(EventDelegate.EventAction.ON_ROTATE, canRotate);
+        setEventActionEnabled(EventDelegate.EventAction.ON_ROTATE, canRotate);
     }
 
     protected void setCanCameraHitTest(boolean canCameraHitTest){
-        mEventDelegateJni.setEventEnabled(EventDelegate.EventAction.ON_CAMERA_AR_HIT_TEST, canCameraHitTest);
+        setEventActionEnabled(EventDelegate.EventAction.ON_CAMERA_AR_HIT_TEST, canCameraHitTest);
+    }
+
+    /**
+     * Enable or disable native dispatch of the given ViroEvents event, so the renderer stops
+     * calling back for events JS is not listening to.
+     *
+     * @return false if the event cannot be toggled on this node.
+     */
+    public boolean setEventEnabled(String eventName, boolean enabled) {
+        if (isTornDown() || mEventDelegateJni == null) {
+            return false;
+        }
+
+        switch (eventName) {
+            case ViroEvents.ON_HOVER:
+                setCanHover(enabled);
+                return true;
+            case ViroEvents.ON_CLICK:
+                setCanClick(enabled);
+                return true;
+            case ViroEvents.ON_TOUCH:
+                setCanTouch(enabled);
+                return true;
+            case ViroEvents.ON_SCROLL:
+                setCanScroll(enabled);
+                return true;
+            case ViroEvents.ON_SWIPE:
+                setCanSwipe(enabled);
+                return true;
+            case ViroEvents.ON_DRAG:
+                setCanDrag(enabled);
+                return true;
+            case ViroEvents.ON_FUSE:
+                setCanFuse(enabled);
+                return true;
+            case ViroEvents.ON_PINCH:
+                setCanPinch(enabled);
+                return true;
+            case ViroEvents.ON_ROTATE:
+                setCanRotate(enabled);
+                return true;
+            case ViroEvents.ON_CAMERA_AR_HIT_TEST_VIRO:
+                setCanCameraHitTest(enabled);
+                return true;
+            case ViroEvents.ON_COLLIDED:
+                setCanCollide(enabled);
+                return true;
+            case ViroEvents.ON_COLLISION_ENTER:
+                setCollisionEventEnabled(COLLISION_EVENT_ENTER, enabled);
+                return true;
+            case ViroEvents.ON_COLLISION_STAY:
+                setCollisionEventEnabled(COLLISION_EVENT_STAY, enabled);
+                return true;
+            case ViroEvents.ON_COLLISION_EXIT:
+                setCollisionEventEnabled(COLLISION_EVENT_EXIT, enabled);
+                return true;
+            case ViroEvents.ON_TRANSFORM_DELEGATE:
+                setOnNativeTransformDelegate(enabled);
+                return true;
+            default:
+                return false;
+        }
     }
 
     protected void setTimeToFuse(float durationInMillis){
@@ -1063,19 +1556,62 @@ public class VRTNode extends VRTComponent {
         }
 
         // Else update the current physicsBody with the new properties, recreating
-        // the body if needed.
-        recreatePhysicsBodyIfNeeded(map);
-        updatePhysicsBodyProperties(map);
-        applyForcesOnBody(map);
+        // the body only if its type changed. A new body gets every property; an existing
+        // one only those that changed, so it is not woken or reset needlessly.
+        boolean created = recreatePhysicsBodyIfNeeded(map);
+        updatePhysicsBodyProperties(map, created);
+        applyForcesOnBody(map, created);
 
         // Finally save a copy of the last known set physics properties.
         mPhysicsMap = map;
     }
 
     public void setCanCollide(boolean canCollide) {
-        if (canCollide && mPhysicsDelegate == null) {
+        mCanCollide = canCollide;
+        updateCollisionListener();
+    }
+
+    /**
+     * Set which of the collision enter, stay and exit events (COLLISION_EVENT_* bits) are sent.
+     * Unlike onCollision, which is sent for every contact, these track each pair of bodies in
+     * contact and are only sent when a pair starts or stops touching, and for stay at most once
+     * per collision stay interval while it keeps touching.
+     */
+    public void setCollisionEventMask(int mask) {
+        mCollisionEventMask = mask;
+        updateCollisionListener();
+    }
+
+    public void setCollisionEventEnabled(int event, boolean enabled) {
+        setCollisionEventMask(enabled ? mCollisionEventMask | event : mCollisionEventMask & ~event);
+    }
+
+    /**
+     * Minimum time in milliseconds between two stay events of the same pair; 0 sends one per frame.
+     */
+    public void setCollisionStayInterval(float intervalMs) {
+        mCollisionStayInterval = Math.max(0, intervalMs);
+    }
+
+    /**
+     * Add a collision listener to the body if the scene now wants ray hits, see VRTRayBatch.
+     */
+    void updateRayHitReports() {
+        if (!isTornDown() && hasPhysicsBody && mPhysicsDelegate == null && reportsRayHits()) {
+            updateCollisionListener();
+        }
+    }
+
+    private boolean reportsRayHits() {
+        return mScene != null && mScene.reportsRayHits();
+    }
+
+    private void updateCollisionListener() {
+        boolean listening = mCanCollide || mCollisionEventMask != 0 || reportsRayHits();
+        if (listening && mPhysicsDelegate == null) {
             mPhysicsDelegate = new PhysicsBodyDelegate(this);
-        } else if (!canCollide) {
+        } else if (!listening && mPhysicsDelegate != null) {
+            mPhysicsDelegate.endAllPairs(false);
             mPhysicsDelegate = null;
         }
 
@@ -1091,24 +1627,67 @@ public class VRTNode extends VRTComponent {
     }
 
     public void setViroTag(String tag){
-        mNodeJni.setTag(tag);
+        mViroTag = tag;
+        mNodeJni.setTag(getBodyTag());
+    }
+
+    private String getBodyTag() {
+        return mViroTag != null ? BODY_TAG_PREFIX + mBodyId + ":" + mViroTag : BODY_TAG_PREFIX + mBodyId;
+    }
+
+    /**
+     * The body id in a tag reported for a contact, or 0 if it is not a body tag set by a node.
+     */
+    static int getBodyId(String bodyTag) {
+        if (bodyTag == null || !bodyTag.startsWith(BODY_TAG_PREFIX)) {
+            return 0;
+        }
+        int id = 0;
+        for (int i = BODY_TAG_PREFIX.length(); i < bodyTag.length(); i++) {
+            char c = bodyTag.charAt(i);
+            if (c == ':') {
+                break;
+            }
+            if (c < '0' || c > '9') {
+                return 0;
+            }
+            id = id * 10 + (c - '0');
+        }
+        return id;
     }
 
-    private void recreatePhysicsBodyIfNeeded(ReadableMap map){
+    /**
+     * The viroTag in a tag reported for a contact; tags not set by a node are returned as is.
+     */
+    static String getViroTagOfBody(String bodyTag) {
+        if (getBodyId(bodyTag) == 0) {
+            return bodyTag;
+        }
+        int separator = bodyTag.indexOf(':', BODY_TAG_PREFIX.length());
+        return separator >= 0 ? bodyTag.substring(separator + 1) : null;
+    }
+
+    public String getViroTag() {
+        return mViroTag;
+    }
+
+    public boolean hasPhysicsBody() {
+        return hasPhysicsBody;
+    }
+
+    /**
+     * Create the physics body, or update the existing one in place: only a change of body type
+     * needs a new body, and a changed shape is set on the existing body.
+     *
+     * @return true if a new body was created, so every property needs to be applied to it.
+     */
+    private boolean recreatePhysicsBodyIfNeeded(ReadableMap map){
         float mass = 0;
         if (map.hasKey("mass")){
             mass = (float) map.getDouble("mass");
         }
 
-        // Determine if the physics body type has changed
         String bodyTypeProp = map.getString("type");
-        String bodyTypeCurrent = (mPhysicsMap != null && mPhysicsMap.hasKey("type")) ?
-                mPhysicsMap.getString("type") : null;
-        boolean hasBodyTypeChanged = bodyTypeProp != bodyTypeCurrent;
-        if (bodyTypeProp != null){
-            hasBodyTypeChanged = !bodyTypeProp.equals(bodyTypeCurrent);
-        }
-
         String bodyTypeError = PhysicsBody.checkIsValidBodyType(bodyTypeProp, mass);
         if (bodyTypeError != null){
             throw new JSApplicationCausedNativeException(bodyTypeError);
@@ -1128,63 +1707,55 @@ public class VRTNode extends VRTComponent {
             throw new JSApplicationCausedNativeException("Invalid physics body type [" + bodyTypeProp + "]");
         }
 
-        // Determine if the physics shape has changed
+        // Reduce the shape to a key (the shapeType is required in JS if providing a shape)
         ReadableMap shapeTypeProp = map.hasKey("shape") ? map.getMap("shape") : null;
-        ReadableMap shapeTypeCurrent = (mPhysicsMap != null && mPhysicsMap.hasKey("shape")) ?
-                mPhysicsMap.getMap("shape") : null;
-        boolean hasShapeChanged = shapeTypeProp != shapeTypeCurrent;
-        if (shapeTypeProp != null){
-            hasShapeChanged = !shapeTypeProp.equals(shapeTypeCurrent);
-        }
-
-        // Create or update the VROPhysicsBody only if needed
-        if (!hasPhysicsBody || hasBodyTypeChanged || hasShapeChanged){
-            String propShapeType = null;
-            float params[] = {};
-            PhysicsShape shape = null;
-
-            // Recreate a physics shape with the latest properties by grabbing
-            // the current shapeType (required in JS if providing a physics shape)
-            if (shapeTypeProp != null) {
-                propShapeType = shapeTypeProp.getString("type");
-                if (shapeTypeProp.hasKey("params")) {
-                    ReadableArray readableParams = shapeTypeProp.getArray("params");
-                    params = new float[readableParams.size()];
-                    for (int i = 0; i < readableParams.size(); i++) {
-                        params[i] = (float) readableParams.getDouble(i);
-                    }
-                }
-
-                String error = PhysicsBody.checkIsValidShapeType(propShapeType, params);
-                if (error != null){
-                    throw new JSApplicationCausedNativeException(error);
-                }
-
-                if (propShapeType.equalsIgnoreCase("sphere")) {
-                    shape = new PhysicsShapeSphere(params[0]);
-                }
-                else if (propShapeType.equalsIgnoreCase("box")) {
-                    shape = new PhysicsShapeBox(params[0], params[1], params[2]);
-                }
-                else if (propShapeType.equalsIgnoreCase("compound")) {
-                    shape = new PhysicsShapeAutoCompound();
-                }
-                else {
-                    throw new JSApplicationCausedNativeException("Invalid shape type [" + propShapeType + "]");
+        String propShapeType = null;
+        float params[] = {};
+        String shapeKey = null;
+        if (shapeTypeProp != null) {
+            propShapeType = shapeTypeProp.getString("type");
+            if (shapeTypeProp.hasKey("params")) {
+                ReadableArray readableParams = shapeTypeProp.getArray("params");
+                params = new float[readableParams.size()];
+                for (int i = 0; i < readableParams.size(); i++) {
+                    params[i] = (float) readableParams.getDouble(i);
                 }
             }
 
-            if (!hasPhysicsBody || hasBodyTypeChanged){
-                clearPhysicsBody();
-                createPhysicsBody(rigidBodyType, mass, shape);
-            } else {
-                mNodeJni.getPhysicsBody().setShape(shape);
+            String error = PhysicsBody.checkIsValidShapeType(propShapeType, params);
+            if (error != null){
+                throw new JSApplicationCausedNativeException(error);
             }
+            shapeKey = VRTPhysicsShapeCache.keyOf(propShapeType, params);
         }
+
+        boolean hasBodyTypeChanged = rigidBodyType != mPhysicsBodyType;
+        boolean hasShapeChanged = shapeKey == null ? mPhysicsShapeKey != null : !shapeKey.equals(mPhysicsShapeKey);
+        if (hasPhysicsBody && !hasBodyTypeChanged && !hasShapeChanged) {
+            return false;
+        }
+
+        PhysicsShape shape = shapeKey != null ? VRTPhysicsShapeCache.obtain(propShapeType, params) : null;
+        if (!hasPhysicsBody || hasBodyTypeChanged){
+            clearPhysicsBody();
+            createPhysicsBody(rigidBodyType, mass, shape);
+            mPhysicsBodyType = rigidBodyType;
+            mPhysicsShapeKey = shapeKey;
+            return true;
+        }
+        mNodeJni.getPhysicsBody().setShape(shape);
+        mPhysicsShapeKey = shapeKey;
+        return false;
     }
 
-    private void updatePhysicsBodyProperties(ReadableMap map){
-        if (map.hasKey("mass")) {
+    // Whether a physics prop needs to be applied: always to a new body, else only if it changed
+    private boolean isPhysicsPropChanged(ReadableMap map, String key, boolean created) {
+        return created || !Helper.isSameValue(map, mPhysicsMap, key);
+    }
+
+    private void updatePhysicsBodyProperties(ReadableMap map, boolean created){
+        // A new body was created with the mass already
+        if (map.hasKey("mass") && !created && !Helper.isSameValue(map, mPhysicsMap, "mass")) {
             float mass = (float)map.getDouble("mass");
             String bodyType = map.getString("type");
             String bodyTypeError = PhysicsBody.checkIsValidBodyType(bodyType, mass);
@@ -1194,7 +1765,7 @@ public class VRTNode extends VRTComponent {
             mNodeJni.getPhysicsBody().setMass(mass);
         }
 
-        if (map.hasKey("inertia")){
+        if (map.hasKey("inertia") && isPhysicsPropChanged(map, "inertia", created)){
             ReadableArray paramsArray = map.getArray("inertia");
             float inertiaArray[] = new float[paramsArray.size()];
             for (int i = 0; i < paramsArray.size(); i ++){
@@ -1209,22 +1780,21 @@ public class VRTNode extends VRTComponent {
             mNodeJni.getPhysicsBody().setMomentOfInertia(new Vector(inertiaArray));
         }
 
-        if (map.hasKey("friction")) {
+        if (map.hasKey("friction") && isPhysicsPropChanged(map, "friction", created)) {
             mNodeJni.getPhysicsBody().setFriction((float)map.getDouble("friction"));
         }
 
-        if (map.hasKey("restitution")) {
+        if (map.hasKey("restitution") && isPhysicsPropChanged(map, "restitution", created)) {
             mNodeJni.getPhysicsBody().setRestitution((float)map.getDouble("restitution"));
         }
 
-        if (map.hasKey("enabled")) {
-            mPhysicsEnabled = map.getBoolean("enabled");
-        } else {
-            mPhysicsEnabled = true;
+        boolean physicsEnabled = !map.hasKey("enabled") || map.getBoolean("enabled");
+        if (created || physicsEnabled != mPhysicsEnabled) {
+            mPhysicsEnabled = physicsEnabled;
+            mNodeJni.getPhysicsBody().setEnabled(shouldAppear() && mPhysicsEnabled);
         }
-        mNodeJni.getPhysicsBody().setEnabled(shouldAppear() && mPhysicsEnabled);
 
-        if (map.hasKey("useGravity")) {
+        if (map.hasKey("useGravity") && isPhysicsPropChanged(map, "useGravity", created)) {
             String bodyType = map.getString("type");
             if (!bodyType.equalsIgnoreCase("dynamic")){
                 ViroLog.warn(TAG,"Attempted to set useGravity for non-dynamic phsyics bodies.");
@@ -1233,6 +1803,10 @@ public class VRTNode extends VRTComponent {
             }
         }
 
+        // A new body has no constant velocity, so only a set one needs applying to it
+        if (!isPhysicsPropChanged(map, "velocity", created) || (created && !map.hasKey("velocity"))) {
+            return;
+        }
         if (map.hasKey("velocity")) {
             ReadableArray paramsArray = map.getArray("velocity");
             float velocityArray[] = new float[paramsArray.size()];
@@ -1251,23 +1825,16 @@ public class VRTNode extends VRTComponent {
         }
     }
 
-    private void applyForcesOnBody(ReadableMap map){
-        // Determine if the applied torque has changed
-        ReadableArray torqueProp = map.hasKey("torque") ? map.getArray("torque") : null;
-        boolean currentMapHasTorque = mPhysicsMap != null && mPhysicsMap.hasKey("torque");
-        ReadableArray currentTorque = currentMapHasTorque ? mPhysicsMap.getArray("torque") : null;
-        boolean hasTorqueChanged = torqueProp != currentTorque;
-        if (torqueProp != null){
-            hasTorqueChanged = !torqueProp.equals(currentTorque);
-        }
-
-        // Determine if the applied force has changed
+    private void applyForcesOnBody(ReadableMap map, boolean created){
         ArrayList<ReadableMap> forcesListProp = getForcesFromReactMap(map);
-        ArrayList<ReadableMap> forcesListCurrent = getForcesFromReactMap(mPhysicsMap);
-        boolean hasForceChanged = !forcesListProp.equals(forcesListCurrent);
 
-        // If nothing has changed, return
-        if (!hasForceChanged && !hasTorqueChanged){
+        // A new body needs the forces set on it, if any; an existing one only if they changed
+        if (created) {
+            if (!map.hasKey("torque") && forcesListProp.isEmpty()) {
+                return;
+            }
+        } else if (Helper.isSameValue(map, mPhysicsMap, "torque")
+                && Helper.isSameValue(map, mPhysicsMap, "force")) {
             return;
         }
 
@@ -1349,7 +1916,12 @@ public class VRTNode extends VRTComponent {
     }
 
     private void createPhysicsBody(PhysicsBody.RigidBodyType bodyType, float mass, PhysicsShape shape){
+        // Untagged bodies still need their own id in contacts
+        mNodeJni.setTag(getBodyTag());
         mNodeJni.initPhysicsBody(bodyType, mass, shape);
+        if (mPhysicsDelegate == null && reportsRayHits()) {
+            mPhysicsDelegate = new PhysicsBodyDelegate(this);
+        }
         if (mViroContext != null) {
             if (mPhysicsDelegate != null) {
                 mNodeJni.getPhysicsBody().setCollisionListener(mPhysicsDelegate);
@@ -1364,14 +1936,21 @@ public class VRTNode extends VRTComponent {
         if (mNodeJni.getPhysicsBody() != null && mPhysicsDelegate != null) {
             mNodeJni.getPhysicsBody().setCollisionListener(null);
         }
+        // Without a body nothing is touching anymore
+        if (mPhysicsDelegate != null) {
+            mPhysicsDelegate.endAllPairs(true);
+        }
 
         mNodeJni.clearPhysicsBody();
         hasPhysicsBody = false;
+        mPhysicsBodyType = null;
+        mPhysicsShapeKey = null;
     }
 
     @Override
     public void setScene(VRTScene scene) {
         super.setScene(scene);
+        updateRayHitReports();
     }
 
     public void applyImpulse(float[] force, float[] position){
@@ -1399,8 +1978,63 @@ public class VRTNode extends VRTComponent {
         mNodeJni.getPhysicsBody().setVelocity(new Vector(velocity), isConstant);
     }
 
-    protected class PhysicsBodyDelegate implements PhysicsBody.CollisionListener {
+    /**
+     * Apply one command of a physics batch. Reads PHYSICS_COMMAND_FLOATS floats at offset: the
+     * vector (impulse, torque impulse or velocity) and, for an impulse, the point it is applied
+     * at relative to the body's center.
+     *
+     * @return false if the node has no physics body or the op is unknown.
+     */
+    public boolean applyPhysicsCommand(int op, float[] values, int offset) {
+        if (isTornDown() || !hasPhysicsBody || mNodeJni == null || mNodeJni.getPhysicsBody() == null) {
+            return false;
+        }
+        PhysicsBody body = mNodeJni.getPhysicsBody();
+        Vector vector = new Vector(values[offset], values[offset + 1], values[offset + 2]);
+        switch (op) {
+            case PHYSICS_OP_IMPULSE:
+                body.applyImpulse(vector, new Vector(values[offset + 3], values[offset + 4], values[offset + 5]));
+                return true;
+            case PHYSICS_OP_TORQUE_IMPULSE:
+                body.applyTorqueImpulse(vector);
+                return true;
+            case PHYSICS_OP_VELOCITY:
+                body.setVelocity(vector, false);
+                return true;
+            case PHYSICS_OP_CONSTANT_VELOCITY:
+                body.setVelocity(vector, true);
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    protected class PhysicsBodyDelegate implements PhysicsBody.CollisionListener, Choreographer.FrameCallback {
+        private static final int CONTACT_FLOATS = 6;
+
         private WeakReference<VRTComponent> weakComponent;
+
+        // Pairs in contact, in parallel arrays keyed by the other body's id (see BODY_TAG_PREFIX),
+        // so a contact with a body already touching neither allocates nor boxes. Contacts whose
+        // tag was not set by a node are keyed by the tag instead, with a body id of 0. Guarded
+        // by this.
+        private int[] mPairBodies = new int[4];
+        private String[] mPairTags = new String[4];
+        private String[] mPairViroTags = new String[4];
+        private long[] mPairLastContact = new long[4];
+        private long[] mPairLastStay = new long[4];
+        // Latest contact point and normal of each pair
+        private float[] mPairContacts = new float[4 * CONTACT_FLOATS];
+        private int mPairCount = 0;
+        private boolean mFrameScheduled = false;
+
+        private final Runnable mScheduleFrameRunnable = new Runnable() {
+            @Override
+            public void run() {
+                Choreographer.getInstance().postFrameCallback(PhysicsBodyDelegate.this);
+            }
+        };
+
         public PhysicsBodyDelegate(VRTComponent component){
             weakComponent = new WeakReference<VRTComponent>(component);
         }
@@ -1408,44 +2042,218 @@ public class VRTNode extends VRTComponent {
         @Override
         public void onCollided(String collidedTag, Vector collidedPoint, Vector collidedNormal) {
             VRTComponent node = weakComponent.get();
-            if (node == null){
+            if (node == null) {
                 return;
             }
+            if (VRTRayBatch.isRayTag(collidedTag)) {
+                VRTRayBatch.onRayHit(VRTNode.this, collidedTag, collidedPoint, collidedNormal);
+                return;
+            }
+            if (mCanCollide && node.hasEventListener(ViroEvents.ON_COLLIDED)) {
+                emitCollision(node, ViroEvents.ON_COLLIDED, getViroTagOfBody(collidedTag),
+                        collidedPoint.x, collidedPoint.y, collidedPoint.z,
+                        collidedNormal.x, collidedNormal.y, collidedNormal.z, true);
+            }
+            if (mCollisionEventMask == 0) {
+                return;
+            }
+
+            int bodyId = getBodyId(collidedTag);
+            boolean entered;
+            String viroTag = null;
+            synchronized (this) {
+                int index = indexOfPair(bodyId, collidedTag);
+                entered = index < 0;
+                if (entered) {
+                    viroTag = getViroTagOfBody(collidedTag);
+                    index = addPair(bodyId, collidedTag, viroTag);
+                }
+                mPairLastContact[index] = SystemClock.uptimeMillis();
+                int offset = index * CONTACT_FLOATS;
+                mPairContacts[offset] = collidedPoint.x;
+                mPairContacts[offset + 1] = collidedPoint.y;
+                mPairContacts[offset + 2] = collidedPoint.z;
+                mPairContacts[offset + 3] = collidedNormal.x;
+                mPairContacts[offset + 4] = collidedNormal.y;
+                mPairContacts[offset + 5] = collidedNormal.z;
+                if (!mFrameScheduled) {
+                    mFrameScheduled = true;
+                    UiThreadUtil.runOnUiThread(mScheduleFrameRunnable);
+                }
+            }
 
-            WritableArray points = Arguments.createArray();
-            points.pushDouble(collidedPoint.x);
-            points.pushDouble(collidedPoint.y);
-            points.pushDouble(collidedPoint.z);
+            if (entered && (mCollisionEventMask & COLLISION_EVENT_ENTER) != 0
+                    && node.hasEventListener(ViroEvents.ON_COLLISION_ENTER)) {
+                emitCollision(node, ViroEvents.ON_COLLISION_ENTER, viroTag,
+                        collidedPoint.x, collidedPoint.y, collidedPoint.z,
+                        collidedNormal.x, collidedNormal.y, collidedNormal.z, true);
+            }
+        }
 
-            WritableArray normals = Arguments.createArray();
-            normals.pushDouble(collidedNormal.x);
-            normals.pushDouble(collidedNormal.y);
-            normals.pushDouble(collidedNormal.z);
+        /**
+         * Once per frame while any pair is in contact: end the pairs without a contact for
+         * COLLISION_EXIT_MILLIS and send the throttled stay events of the others.
+         */
+        @Override
+        public void doFrame(long frameTimeNanos) {
+            VRTComponent node = weakComponent.get();
+            long now = SystemClock.uptimeMillis();
+            boolean stay = node != null && (mCollisionEventMask & COLLISION_EVENT_STAY) != 0
+                    && node.hasEventListener(ViroEvents.ON_COLLISION_STAY);
+            boolean exit = node != null && (mCollisionEventMask & COLLISION_EVENT_EXIT) != 0
+                    && node.hasEventListener(ViroEvents.ON_COLLISION_EXIT);
+
+            synchronized (this) {
+                mFrameScheduled = false;
+                for (int i = mPairCount - 1; i >= 0; i--) {
+                    if (now - mPairLastContact[i] > COLLISION_EXIT_MILLIS) {
+                        if (exit) {
+                            emitPair(node, ViroEvents.ON_COLLISION_EXIT, i);
+                        }
+                        removePair(i);
+                    } else if (stay && now - mPairLastStay[i] >= mCollisionStayInterval) {
+                        mPairLastStay[i] = now;
+                        emitPair(node, ViroEvents.ON_COLLISION_STAY, i);
+                    }
+                }
+                if (mPairCount > 0) {
+                    mFrameScheduled = true;
+                    Choreographer.getInstance().postFrameCallback(this);
+                }
+            }
+        }
 
+        /**
+         * Forget every pair, e.g. when the body is removed, sending their exit events if notify
+         * is set.
+         */
+        synchronized void endAllPairs(boolean notify) {
+            VRTComponent node = weakComponent.get();
+            boolean exit = notify && node != null && (mCollisionEventMask & COLLISION_EVENT_EXIT) != 0
+                    && node.hasEventListener(ViroEvents.ON_COLLISION_EXIT);
+            for (int i = mPairCount - 1; i >= 0; i--) {
+                if (exit) {
+                    emitPair(node, ViroEvents.ON_COLLISION_EXIT, i);
+                }
+                removePair(i);
+            }
+        }
+
+        private int indexOfPair(int bodyId, String tag) {
+            for (int i = 0; i < mPairCount; i++) {
+                if (mPairBodies[i] != bodyId) {
+                    continue;
+                }
+                if (bodyId != 0 || (tag == null ? mPairTags[i] == null : tag.equals(mPairTags[i]))) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private int addPair(int bodyId, String tag, String viroTag) {
+            if (mPairCount == mPairBodies.length) {
+                int capacity = mPairCount * 2;
+                mPairBodies = Arrays.copyOf(mPairBodies, capacity);
+                mPairTags = Arrays.copyOf(mPairTags, capacity);
+                mPairViroTags = Arrays.copyOf(mPairViroTags, capacity);
+                mPairLastContact = Arrays.copyOf(mPairLastContact, capacity);
+                mPairLastStay = Arrays.copyOf(mPairLastStay, capacity);
+                mPairContacts = Arrays.copyOf(mPairContacts, capacity * CONTACT_FLOATS);
+            }
+            int index = mPairCount++;
+            mPairBodies[index] = bodyId;
+            mPairTags[index] = tag;
+            mPairViroTags[index] = viroTag;
+            // The enter event stands in for the first stay event
+            mPairLastStay[index] = SystemClock.uptimeMillis();
+            return index;
+        }
+
+        // Move the last pair into the removed slot
+        private void removePair(int index) {
+            int last = --mPairCount;
+            mPairBodies[index] = mPairBodies[last];
+            mPairTags[index] = mPairTags[last];
+            mPairViroTags[index] = mPairViroTags[last];
+            mPairLastContact[index] = mPairLastContact[last];
+            mPairLastStay[index] = mPairLastStay[last];
+            System.arraycopy(mPairContacts, last * CONTACT_FLOATS, mPairContacts,
+                    index * CONTACT_FLOATS, CONTACT_FLOATS);
+            mPairTags[last] = null;
+            mPairViroTags[last] = null;
+        }
+
+        private void emitPair(VRTComponent node, String eventName, int index) {
+            int offset = index * CONTACT_FLOATS;
+            float[] contact = mPairContacts;
+            emitCollision(node, eventName, mPairViroTags[index],
+                    contact[offset], contact[offset + 1], contact[offset + 2],
+                    contact[offset + 3], contact[offset + 4], contact[offset + 5],
+                    !ViroEvents.ON_COLLISION_EXIT.equals(eventName));
+        }
+
+        private void emitCollision(VRTComponent node, String eventName, String collidedTag,
+                                   float pointX, float pointY, float pointZ,
+                                   float normalX, float normalY, float normalZ, boolean withContact) {
             WritableMap event = Arguments.createMap();
             event.putString("viroTag", collidedTag);
-            event.putArray("collidedPoint", points);
-            event.putArray("collidedNormal", normals);
+            if (withContact) {
+                WritableArray points = Arguments.createArray();
+                points.pushDouble(pointX);
+                points.pushDouble(pointY);
+                points.pushDouble(pointZ);
+
+                WritableArray normals = Arguments.createArray();
+                normals.pushDouble(normalX);
+                normals.pushDouble(normalY);
+                normals.pushDouble(normalZ);
+
+                event.putArray("collidedPoint", points);
+                event.putArray("collidedNormal", normals);
+            }
 
-            node.getReactContext().getJSModule(RCTEventEmitter.class).receiveEvent(
-                    node.getId(),
-                    ViroEvents.ON_COLLIDED,
-                    event);
+            if (ViroEvents.ON_COLLIDED.equals(eventName)) {
+                node.getReactContext().getJSModule(RCTEventEmitter.class).receiveEvent(
+                        node.getId(),
+                        eventName,
+                        event);
+            } else {
+                // Queued so that enter, stay and exit reach JS in order
+                ViroEventQueue.getInstance().enqueue(node.getReactContext(), node.getId(), eventName, event);
+            }
         }
     }
 
     public void setOnNativeTransformDelegate(boolean hasDelegate){
         if (hasDelegate){
             mTransformDelegate = new NodeTransformDelegate(this);
-            mNodeJni.setTransformListener(mTransformDelegate, TRANSFORM_DELEGATE_DISTANCE_FILTER);
+            if (!isSuspended(VRTCullingPolicy.SUSPEND_EVENTS)) {
+                mNodeJni.setTransformListener(mTransformDelegate, TRANSFORM_DELEGATE_DISTANCE_FILTER);
+            }
         } else {
             mTransformDelegate = null;
             mNodeJni.removeTransformListener();
         }
     }
 
+    private static final ViroEventQueue.PayloadBuilder TRANSFORM_DELEGATE_BUILDER = new ViroEventQueue.PayloadBuilder() {
+        @Override
+        public WritableMap build(ViroEventQueue.QueuedEvent queued) {
+            WritableArray position = Arguments.createArray();
+            position.pushDouble(queued.values[0]);
+            position.pushDouble(queued.values[1]);
+            position.pushDouble(queued.values[2]);
+
+            WritableMap event = Arguments.createMap();
+            event.putArray("position", position);
+            return event;
+        }
+    };
+
     protected class NodeTransformDelegate implements Node.TransformListener {
         private WeakReference<VRTComponent> weakComponent;
+        private final float[] mPosition = new float[3];
         public NodeTransformDelegate(VRTComponent component){
             weakComponent = new WeakReference<VRTComponent>(component);
         }
@@ -1457,18 +2265,93 @@ public class VRTNode extends VRTComponent {
                 return;
             }
 
-            WritableArray position = Arguments.createArray();
-            position.pushDouble(pos.x);
-            position.pushDouble(pos.y);
-            position.pushDouble(pos.z);
-
-            WritableMap event = Arguments.createMap();
-            event.putArray("position", position);
-
-            node.getReactContext().getJSModule(RCTEventEmitter.class).receiveEvent(
+            mPosition[0] = pos.x;
+            mPosition[1] = pos.y;
+            mPosition[2] = pos.z;
+            if (mComponentEventDelegate != null && mComponentEventDelegate.writePackedEvent(
+                    ViroPackedEventBuffer.TYPE_TRANSFORM_UPDATE, mPosition, 3)) {
+                return;
+            }
+            if (!node.hasEventListener(ViroEvents.ON_TRANSFORM_DELEGATE)) {
+                return;
+            }
+            ViroEventQueue.getInstance().enqueueCoalesced(node.getReactContext(),
                     node.getId(),
                     ViroEvents.ON_TRANSFORM_DELEGATE,
-                    event);
+                    TRANSFORM_DELEGATE_BUILDER, 0, mPosition, 3);
+        }
+    }
+
+    /**
+     * Collects nodes whose transform was set through setTransform() and sends all of them to the
+     * renderer once per frame, so animating many nodes from JS costs one pass per vsync however
+     * often each node is updated.
+     */
+    private static final class TransformFlusher implements Choreographer.FrameCallback {
+        static final Object sLock = new Object();
+        private static final TransformFlusher sInstance = new TransformFlusher();
+
+        private ArrayList<VRTNode> mDirty = new ArrayList<>();
+        private ArrayList<VRTNode> mFlushing = new ArrayList<>();
+        private boolean mFrameScheduled = false;
+
+        private final Runnable mScheduleFrameRunnable = new Runnable() {
+            @Override
+            public void run() {
+                Choreographer.getInstance().postFrameCallback(sInstance);
+            }
+        };
+
+        static void markDirtyLocked(VRTNode node, int bits) {
+            if (!node.mTransformQueued) {
+                node.mTransformQueued = true;
+                sInstance.mDirty.add(node);
+            }
+            node.mTransformDirty |= bits;
+            if (!sInstance.mFrameScheduled) {
+                sInstance.mFrameScheduled = true;
+                if (UiThreadUtil.isOnUiThread()) {
+                    Choreographer.getInstance().postFrameCallback(sInstance);
+                } else {
+                    UiThreadUtil.runOnUiThread(sInstance.mScheduleFrameRunnable);
+                }
+            }
+        }
+
+        /**
+         * Drop pending setTransform() values that an immediate setter has just overridden.
+         */
+        static void clearDirty(VRTNode node, int bits) {
+            synchronized (sLock) {
+                // The node stays queued; flushing it with no bits set is a no-op
+                node.mTransformDirty &= ~bits;
+            }
+        }
+
+        @Override
+        public void doFrame(long frameTimeNanos) {
+            // Copy the values out under the lock, then call into the renderer without it so
+            // setTransform() callers on other threads never wait on JNI.
+            ArrayList<VRTNode> nodes;
+            synchronized (sLock) {
+                nodes = mDirty;
+                mDirty = mFlushing;
+                mFlushing = nodes;
+                mFrameScheduled = false;
+
+                for (int i = 0; i < nodes.size(); i++) {
+                    nodes.get(i).takeTransformLocked();
+                }
+            }
+
+            for (int i = 0; i < nodes.size(); i++) {
+                try {
+                    nodes.get(i).flushTransform();
+                } catch (RuntimeException e) {
+                    Log.e(TAG, "Failed to flush node transform: " + e.getMessage());
+                }
+            }
+            nodes.clear();
         }
     }
 }
@@ -322,6 +322,18 @@ public abstract class VRTNodeManager<T extends VRTNode> extends VRTViroViewGroup
         }
     }
 
+    @ReactProp(name = "cullingPolicy")
+    public void setCullingPolicy(VRTNode view, @Nullable ReadableMap policy) {
+        if (view == null || view.isTornDown()) {
+            return;
+        }
+        try {
+            view.setCullingPolicy(policy);
+        } catch (Exception e) {
+            ViroLog.error(TAG, "Error updating cullingPolicy property: " + e.getMessage());
+        }
+    }
+
     @ReactProp(name = "ignoreEventHandling", defaultBoolean = VRTNode.DEFAULT_IGNORE_EVENT_HANDLING)
     public void setIgnoreEventHandling(VRTNode view, boolean ignore) {
         if (view == null || view.isTornDown() || !view.isAttachedToWindow()) {
@@ -486,6 +498,9 @@ public abstract class VRTNodeManager<T extends VRTNode> extends VRTViroViewGroup
         events.put(ViroEvents.ON_ROTATE, MapBuilder.of("registrationName", ViroEvents.ON_ROTATE));
         events.put(ViroEvents.ON_DRAG, MapBuilder.of("registrationName", ViroEvents.ON_DRAG));
         events.put(ViroEvents.ON_COLLIDED, MapBuilder.of("registrationName", ViroEvents.ON_COLLIDED));
+        events.put(ViroEvents.ON_COLLISION_ENTER, MapBuilder.of("registrationName", ViroEvents.ON_COLLISION_ENTER));
+        events.put(ViroEvents.ON_COLLISION_STAY, MapBuilder.of("registrationName", ViroEvents.ON_COLLISION_STAY));
+        events.put(ViroEvents.ON_COLLISION_EXIT, MapBuilder.of("registrationName", ViroEvents.ON_COLLISION_EXIT));
         events.put(ViroEvents.ON_TRANSFORM_DELEGATE, MapBuilder.of("registrationName", ViroEvents.ON_TRANSFORM_DELEGATE));
         events.put(ViroEvents.ON_ANIMATION_START, MapBuilder.of("registrationName", ViroEvents.ON_ANIMATION_START));
         events.put(ViroEvents.ON_ANIMATION_FINISH, MapBuilder.of("registrationName", ViroEvents.ON_ANIMATION_FINISH));
@@ -517,6 +532,22 @@ public abstract class VRTNodeManager<T extends VRTNode> extends VRTViroViewGroup
         }
     }
 
+    @ReactProp(name = "collisionEventMask", defaultInt = 0)
+    public void setCollisionEventMask(VRTNode view, int mask) {
+        if (view == null || view.isTornDown()) {
+            return;
+        }
+        view.setCollisionEventMask(mask);
+    }
+
+    @ReactProp(name = "collisionStayInterval", defaultFloat = VRTNode.DEFAULT_COLLISION_STAY_INTERVAL)
+    public void setCollisionStayInterval(VRTNode view, float intervalMs) {
+        if (view == null || view.isTornDown()) {
+            return;
+        }
+        view.setCollisionStayInterval(intervalMs);
+    }
+
     @ReactProp(name = "viroTag")
     public void setViroTag(VRTNode view, String tag) {
         if (view == null || view.isTornDown() || !view.isAttachedToWindow()) {
@@ -0,0 +1,92 @@
+//  Copyright © 2025 ReactVision. All rights reserved.
+//
+//  Permission is hereby granted, free of charge, to any person obtaining
+//  a copy of this software and associated documentation files (the
+//  "Software"), to deal in the Software without restriction, including
+//  without limitation the rights to use, copy, modify, merge, publish,
+//  distribute, sublicense, and/or sell copies of the Software, and to
+//  permit persons to whom the Software is furnished to do so, subject to
+//  the following conditions:
+//
+//  The above copyright notice and this permission notice shall be included
+//  in all copies or substantial portions of the Software.
+//
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+//  EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+//  MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+//  IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY
+//  CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+//  TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+//  SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+
+
+package com.viromedia.bridge.component.node;
+
+import com.facebook.react.bridge.JSApplicationCausedNativeException;
+import com.viro.core.PhysicsShape;
+import com.viro.core.PhysicsShapeAutoCompound;
+import com.viro.core.PhysicsShapeBox;
+import com.viro.core.PhysicsShapeSphere;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Physics shapes shared between bodies with the same shape type and params, keyed by a
+ * normalized description of the shape. The key also lets a node tell whether its shape changed
+ * without comparing prop maps. Called on the UI thread.
+ */
+final class VRTPhysicsShapeCache {
+
+    private static final int MAX_SHAPES = 64;
+
+    private static final LinkedHashMap<String, PhysicsShape> sShapes =
+            new LinkedHashMap<String, PhysicsShape>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, PhysicsShape> eldest) {
+                    return size() > MAX_SHAPES;
+                }
+            };
+
+    private VRTPhysicsShapeCache() {
+    }
+
+    /**
+     * The key of a shape, e.g. "box:0.4,0.4,0.2". The type and params must already be valid.
+     */
+    static String keyOf(String type, float[] params) {
+        StringBuilder key = new StringBuilder(type.toLowerCase());
+        key.append(':');
+        for (int i = 0; i < params.length; i++) {
+            if (i > 0) {
+                key.append(',');
+            }
+            key.append(params[i]);
+        }
+        return key.toString();
+    }
+
+    /**
+     * The shared shape for the given type and params, created on first use.
+     */
+    static PhysicsShape obtain(String type, float[] params) {
+        String key = keyOf(type, params);
+        PhysicsShape shape = sShapes.get(key);
+        if (shape == null) {
+            shape = create(type, params);
+            sShapes.put(key, shape);
+        }
+        return shape;
+    }
+
+    private static PhysicsShape create(String type, float[] params) {
+        if (type.equalsIgnoreCase("sphere")) {
+            return new PhysicsShapeSphere(params[0]);
+        } else if (type.equalsIgnoreCase("box")) {
+            return new PhysicsShapeBox(params[0], params[1], params[2]);
+        } else if (type.equalsIgnoreCase("compound")) {
+            return new PhysicsShapeAutoCompound();
+        }
+        throw new JSApplicationCausedNativeException("Invalid shape type [" + type + "]");
+    }
+}
@@ -0,0 +1,310 @@
+//  Copyright © 2025 ReactVision. All rights reserved.
+//
+//  Permission is hereby granted, free of charge, to any person obtaining
+//  a copy of this software and associated documentation files (the
+//  "Software"), to deal in the Software without restriction, including
+//  without limitation the rights to use, copy, modify, merge, publish,
+//  distribute, sublicense, and/or sell copies of the Software, and to
+//  permit persons to whom the Software is furnished to do so, subject to
+//  the following conditions:
+//
+//  The above copyright notice and this permission notice shall be included
+//  in all copies or substantial portions of the Software.
+//
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+//  EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+//  MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+//  IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY
+//  CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+//  TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+//  SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+
+
+package com.viromedia.bridge.component.node;
+
+import com.facebook.react.bridge.UiThreadUtil;
+import com.viro.core.PhysicsShape;
+import com.viro.core.PhysicsWorld;
+import com.viro.core.Vector;
+
+import java.util.HashMap;
+
+/**
+ * A batch of ray (or shape sweep) casts against the physics world of a scene, resolved together.
+ *
+ * The renderer has no batched cast, so each ray is still its own asynchronous cast; the batch
+ * only saves the caller a round trip per ray and gathers the results into one packed array.
+ *
+ * The physics world only reports whether a cast hit; the bodies it hit are told through their
+ * collision listener, with the cast's tag as the collided tag. Each ray is therefore cast with a
+ * tag of its own (see isRayTag()), and the closest hit of each ray - the one on a node with the
+ * filter tag, if any - is kept. The scene keeps a listener on every body once it has run a batch
+ * (see VRTScene.reportsRayHits()), so batches add no per-body work.
+ *
+ * Each ray is done on its own. An unfiltered ray cast reports only its closest hit, so it is done
+ * as soon as that hit arrives. Other rays are done once their cast has completed and, if it hit,
+ * a hit has been received; with a tag filter or a shape every hit is reported, in no set order,
+ * and hits arriving after the ray is done still count until the whole batch finishes. A ray whose
+ * hit never arrives is given up on HIT_TIMEOUT_MILLIS after its cast completed, and the batch
+ * finishes with the last ray. CAST_TIMEOUT_MILLIS only guards against casts that never complete.
+ *
+ * The result holds HIT_FLOATS floats per ray: hit (1 or 0), hit point xyz and hit normal xyz,
+ * plus the viroTag of the node hit. Created and started on the UI thread.
+ */
+public final class VRTRayBatch {
+    public static final int HIT_FLOATS = 7;
+
+    private static final String TAG_PREFIX = "__viroRayBatch";
+    private static final long HIT_TIMEOUT_MILLIS = 500;
+    private static final long CAST_TIMEOUT_MILLIS = 5000;
+
+    // Per ray state bits
+    private static final int RAY_COMPLETE = 1;
+    private static final int RAY_HAS_HIT = 2;
+    private static final int RAY_HIT_RECEIVED = 4;
+    private static final int RAY_DONE = 8;
+
+    /**
+     * Receives the packed hits and the tags of the nodes hit, null for rays without a hit.
+     */
+    public interface Callback {
+        void onComplete(float[] hits, String[] tags);
+    }
+
+    // A ray in flight, keyed by its tag
+    private static final class Ray {
+        final VRTRayBatch batch;
+        final int index;
+
+        Ray(VRTRayBatch batch, int index) {
+            this.batch = batch;
+            this.index = index;
+        }
+    }
+
+    private static final Object sLock = new Object();
+    private static final HashMap<String, Ray> sRays = new HashMap<>();
+    private static int sNextBatchId = 0;
+
+    private final float[] mOrigins;
+    private final String mTagFilter;
+    private final Callback mCallback;
+    private final String[] mRayTags;
+    private final float[] mHits;
+    private final String[] mHitTags;
+    private final float[] mHitDistances;
+    // Whether each ray reports only its closest hit
+    private final boolean mClosestOnly;
+    // Guarded by sLock
+    private final int[] mRayStates;
+    private int mRemaining;
+    private boolean mFinished = false;
+
+    private VRTRayBatch(int count, float[] origins, boolean sweep, String tagFilter, Callback callback) {
+        mOrigins = origins;
+        mTagFilter = tagFilter != null && !tagFilter.isEmpty() ? tagFilter : null;
+        mClosestOnly = !sweep && mTagFilter == null;
+        mCallback = callback;
+        mRayTags = new String[count];
+        mHits = new float[count * HIT_FLOATS];
+        mHitTags = new String[count];
+        mHitDistances = new float[count];
+        mRayStates = new int[count];
+        mRemaining = count;
+    }
+
+    /**
+     * Cast a ray from each origin along its direction, up to maxDistance. If shapeType is set,
+     * that shape is swept along the rays instead.
+     *
+     * @param origins     x,y,z per ray
+     * @param directions  x,y,z per ray; need not be normalized
+     * @param tagFilter   if set, only hits on nodes with this viroTag count
+     */
+    static void start(PhysicsWorld world, float[] origins, float[] directions,
+                      float maxDistance, String shapeType, float[] shapeParams, String tagFilter,
+                      Callback callback) {
+        int count = Math.min(origins.length, directions.length) / 3;
+        final VRTRayBatch batch = new VRTRayBatch(count, origins, shapeType != null, tagFilter, callback);
+        if (count == 0) {
+            batch.finish();
+            return;
+        }
+        PhysicsShape shape = shapeType != null ? VRTPhysicsShapeCache.obtain(shapeType, shapeParams) : null;
+
+        synchronized (sLock) {
+            int batchId = sNextBatchId++;
+            for (int i = 0; i < count; i++) {
+                batch.mRayTags[i] = TAG_PREFIX + batchId + ":" + i;
+                sRays.put(batch.mRayTags[i], new Ray(batch, i));
+            }
+        }
+
+        for (int i = 0; i < count; i++) {
+            final int index = i;
+            PhysicsWorld.HitTestListener listener = new PhysicsWorld.HitTestListener() {
+                @Override
+                public void onComplete(boolean hasHit) {
+                    batch.onRayComplete(index, hasHit);
+                }
+            };
+            int o = i * 3;
+            float dx = directions[o];
+            float dy = directions[o + 1];
+            float dz = directions[o + 2];
+            float length = (float) Math.sqrt(dx * dx + dy * dy + dz * dz);
+            float scale = length > 0 ? maxDistance / length : 0;
+            Vector from = new Vector(origins[o], origins[o + 1], origins[o + 2]);
+            Vector to = new Vector(origins[o] + dx * scale, origins[o + 1] + dy * scale,
+                    origins[o + 2] + dz * scale);
+            if (shape != null) {
+                world.findCollisionsWithShapeAsync(from, to, shape, batch.mRayTags[i], listener);
+            } else {
+                // Only the closest hit is reported when unfiltered; filtering needs all of them
+                world.findCollisionsWithRayAsync(from, to, batch.mTagFilter == null, batch.mRayTags[i], listener);
+            }
+        }
+
+        UiThreadUtil.runOnUiThread(new Runnable() {
+            @Override
+            public void run() {
+                batch.finish();
+            }
+        }, CAST_TIMEOUT_MILLIS);
+    }
+
+    /**
+     * Whether a collided tag received by a body's collision listener is the tag of a batch ray
+     * rather than of another body. Such tags must be passed to onRayHit() and nowhere else, even
+     * once their batch has finished.
+     */
+    static boolean isRayTag(String collidedTag) {
+        return collidedTag != null && collidedTag.startsWith(TAG_PREFIX);
+    }
+
+    /**
+     * Called by the collision listener of a node's body when it receives a ray tag.
+     */
+    static void onRayHit(VRTNode node, String rayTag, Vector point, Vector normal) {
+        VRTRayBatch done = null;
+        synchronized (sLock) {
+            Ray ray = sRays.get(rayTag);
+            if (ray != null && ray.batch.recordHitLocked(ray.index, node.getViroTag(), point, normal)) {
+                done = ray.batch;
+            }
+        }
+        if (done != null) {
+            done.postFinish();
+        }
+    }
+
+    // Returns true if this completed the batch
+    private boolean recordHitLocked(int index, String nodeTag, Vector point, Vector normal) {
+        mRayStates[index] |= RAY_HIT_RECEIVED;
+        if (mTagFilter == null || mTagFilter.equals(nodeTag)) {
+            keepClosestHit(index, nodeTag, point, normal);
+        }
+        return updateRayLocked(index);
+    }
+
+    private void keepClosestHit(int index, String nodeTag, Vector point, Vector normal) {
+        int o = index * 3;
+        float dx = point.x - mOrigins[o];
+        float dy = point.y - mOrigins[o + 1];
+        float dz = point.z - mOrigins[o + 2];
+        float distance = dx * dx + dy * dy + dz * dz;
+        int h = index * HIT_FLOATS;
+        if (mHits[h] != 0 && distance >= mHitDistances[index]) {
+            return;
+        }
+        mHitDistances[index] = distance;
+        mHits[h] = 1;
+        mHits[h + 1] = point.x;
+        mHits[h + 2] = point.y;
+        mHits[h + 3] = point.z;
+        mHits[h + 4] = normal.x;
+        mHits[h + 5] = normal.y;
+        mHits[h + 6] = normal.z;
+        mHitTags[index] = nodeTag;
+    }
+
+    private void onRayComplete(final int index, boolean hasHit) {
+        boolean done;
+        boolean waiting;
+        synchronized (sLock) {
+            mRayStates[index] |= RAY_COMPLETE | (hasHit ? RAY_HAS_HIT : 0);
+            done = updateRayLocked(index);
+            waiting = (mRayStates[index] & RAY_DONE) == 0;
+        }
+        if (done) {
+            postFinish();
+        } else if (waiting) {
+            // The hit is on its way to the body's listener; give up on it if it never arrives
+            UiThreadUtil.runOnUiThread(new Runnable() {
+                @Override
+                public void run() {
+                    giveUpRay(index);
+                }
+            }, HIT_TIMEOUT_MILLIS);
+        }
+    }
+
+    private void giveUpRay(int index) {
+        boolean done;
+        synchronized (sLock) {
+            if ((mRayStates[index] & RAY_DONE) != 0) {
+                return;
+            }
+            mRayStates[index] |= RAY_DONE;
+            done = --mRemaining == 0;
+        }
+        if (done) {
+            finish();
+        }
+    }
+
+    /*
+     Mark the ray done once it has all its hits: the first one for a closest hit cast, else once
+     its cast completed and, if it hit, a hit arrived. Returns true if that was the last ray of
+     the batch.
+     */
+    private boolean updateRayLocked(int index) {
+        int state = mRayStates[index];
+        if ((state & RAY_DONE) != 0) {
+            return false;
+        }
+        boolean hitReceived = (state & RAY_HIT_RECEIVED) != 0;
+        boolean settled = (mClosestOnly && hitReceived) || ((state & RAY_COMPLETE) != 0
+                && ((state & RAY_HAS_HIT) == 0 || hitReceived));
+        if (!settled) {
+            return false;
+        }
+        mRayStates[index] = state | RAY_DONE;
+        return --mRemaining == 0;
+    }
+
+    private void postFinish() {
+        UiThreadUtil.runOnUiThread(new Runnable() {
+            @Override
+            public void run() {
+                finish();
+            }
+        });
+    }
+
+    // On the UI thread, once every ray is done or the cast timeout passed, whichever is first
+    private void finish() {
+        synchronized (sLock) {
+            if (mFinished) {
+                return;
+            }
+            mFinished = true;
+            for (String rayTag : mRayTags) {
+                if (rayTag != null) {
+                    sRays.remove(rayTag);
+                }
+            }
+        }
+        mCallback.onComplete(mHits, mHitTags);
+    }
+}
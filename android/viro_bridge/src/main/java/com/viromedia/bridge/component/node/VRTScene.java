@@ -40,6 +40,7 @@ import com.viro.core.Texture;
 import com.viro.core.Vector;
 import com.viro.core.VideoTexture;
 import com.viro.core.Renderer;
+import com.viromedia.bridge.component.VRTComponent;
 import com.viromedia.bridge.utility.Helper;
 import com.viromedia.bridge.utility.ViroEvents;
 
@@ -59,6 +60,8 @@ public class VRTScene extends VRTNode implements Scene.VisibilityListener {
     private String mWallMaterial;
     private String mCeilingMaterial;
     private String mFloorMaterial;
+    // Set by the first ray batch; from then on every body of the scene reports ray hits
+    private boolean mReportsRayHits = false;
 
     // Platform Information (set by SceneNavigator.java)
     private String mPlatform;
@@ -157,6 +160,15 @@ public class VRTScene extends VRTNode implements Scene.VisibilityListener {
         mEventDelegateJni.setEventEnabled(EventDelegate.EventAction.ON_CAMERA_TRANSFORM_UPDATE, canCameraTransformUpdate);
     }
 
+    @Override
+    public boolean setEventEnabled(String eventName, boolean enabled) {
+        if (ViroEvents.ON_CAMERA_TRANSFORM_UPDATE.equals(eventName) && !isTornDown()) {
+            setCanCameraTransformUpdate(enabled);
+            return true;
+        }
+        return super.setEventEnabled(eventName, enabled);
+    }
+
     @Override
     public void addView(View child, int index) {
         super.addView(child, index);
@@ -221,6 +233,9 @@ public class VRTScene extends VRTNode implements Scene.VisibilityListener {
     }
 
     private void notifyPlatformInformation() {
+        if (!hasEventListener(ViroEvents.ON_PLATFORM_UPDATE)) {
+            return;
+        }
         WritableMap event = Arguments.createMap();
         event.putString("platform", mPlatform);
         event.putString("headset", mHeadset);
@@ -272,6 +287,42 @@ public class VRTScene extends VRTNode implements Scene.VisibilityListener {
                 shape, tag, callback);
     }
 
+    /**
+     * Cast a batch of rays, or sweep a shape along them if shapeType is set, and report the
+     * closest hit of each. See VRTRayBatch.
+     */
+    public void findCollisionsWithRaysAsync(float[] origins, float[] directions, float maxDistance,
+                                            String shapeType, float[] shapeParams, String tagFilter,
+                                            VRTRayBatch.Callback callback) {
+        if (!mReportsRayHits) {
+            mReportsRayHits = true;
+            listenForRayHits(this);
+        }
+        VRTRayBatch.start(mNativeScene.getPhysicsWorld(), origins, directions, maxDistance,
+                shapeType, shapeParams, tagFilter, callback);
+    }
+
+    /**
+     * Whether the bodies of this scene keep a collision listener for ray batches. Bodies only
+     * report the rays they are hit by while they have one, so once a batch has run every body
+     * keeps it for the life of the scene rather than toggling it around each batch.
+     */
+    boolean reportsRayHits() {
+        return mReportsRayHits;
+    }
+
+    private static void listenForRayHits(VRTComponent component) {
+        if (component instanceof VRTNode) {
+            ((VRTNode) component).updateRayHitReports();
+        }
+        for (int i = 0; i < component.getChildCount(); i++) {
+            View child = component.getChildAt(i);
+            if (child instanceof VRTComponent) {
+                listenForRayHits((VRTComponent) child);
+            }
+        }
+    }
+
     /**
      * Attach Renderer Delegate callbacks to the Scene to be propagated
      * across all of it's child views.
@@ -35,17 +35,23 @@ import com.viro.core.Object3D;
 import com.viromedia.bridge.utility.ViroEvents;
 import com.viromedia.bridge.utility.Helper;
 import com.viromedia.bridge.utility.ViroLog;
+import com.viromedia.bridge.utility.ViroResourceGovernor;
+import com.viromedia.bridge.utility.ViroTrace;
 
 import java.lang.ref.WeakReference;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import android.util.Log;
 import android.util.Pair;
 
-public class VRT3DObject extends VRTControl {
+public class VRT3DObject extends VRTControl implements ViroResourceGovernor.Resource {
     private static final String TAG = ViroLog.getTag(VRT3DObject.class);
+    private static final AtomicInteger sModelsLoading = new AtomicInteger(0);
+    // Async trace cookies; one per load, so overlapping loads of one object stay distinct
+    private static final AtomicInteger sLoadTraceCookies = new AtomicInteger(0);
 
     private static class Object3dAnimation extends NodeAnimation {
         private WeakReference<Node> mNodeWeak;
@@ -84,7 +90,10 @@ public class VRT3DObject extends VRTControl {
     private List<Pair<String, Float>> mMorphTargets;
     private List<String> mResources = null;
     protected boolean mObjLoaded = false;
+    private boolean mModelLoading = false;
     private boolean mSourceChanged = false;
+    private boolean mModelEvicted = false;
+    private boolean mLoadDeferred = false;
     private Object3D.Type mType;
 
     public VRT3DObject(ReactContext reactContext) {
@@ -103,6 +112,7 @@ public class VRT3DObject extends VRTControl {
         if (isTornDown()) {
             return;
         }
+        ViroResourceGovernor.getInstance().untrack(this);
         super.onTearDown();
     }
 
@@ -124,6 +134,7 @@ public class VRT3DObject extends VRTControl {
         }
         mSource = Helper.parseUri(source, mReactContext);
         mSourceChanged = true;
+        mModelEvicted = false;
     }
 
     public void setAnimation(ReadableMap animation) {
@@ -167,9 +178,27 @@ public class VRT3DObject extends VRTControl {
         onPropsSet();
     }
 
+    /**
+     * Hold off loading the model until this is cleared again, e.g. for a level of a VRTLOD that
+     * has not been needed yet. Source changes made meanwhile are loaded when it is cleared.
+     */
+    public void setLoadDeferred(boolean deferred) {
+        if (mLoadDeferred == deferred) {
+            return;
+        }
+        mLoadDeferred = deferred;
+        if (!deferred) {
+            onPropsSet();
+        }
+    }
+
+    public boolean isLoadDeferred() {
+        return mLoadDeferred;
+    }
+
     @Override
     protected void onPropsSet() {
-        if (mViroContext == null || mSource == null || !mSourceChanged) {
+        if (mViroContext == null || mSource == null || !mSourceChanged || mLoadDeferred) {
             return;
         }
 
@@ -184,12 +213,19 @@ public class VRT3DObject extends VRTControl {
             nodeJni.removeAllChildNodes();
         }
 
+        mModelLoading = true;
         loadDidStart();
 
+        final int traceCookie = sLoadTraceCookies.incrementAndGet();
+        ViroTrace.beginAsyncSection(ViroTrace.LOAD_MODEL, traceCookie);
+        ViroTrace.setCounter(ViroTrace.COUNTER_MODELS_LOADING, sModelsLoading.incrementAndGet());
+
         final WeakReference<VRT3DObject> weakVRTRef = new WeakReference<VRT3DObject>(this);
         AsyncObject3DListener listener = new AsyncObject3DListener() {
             @Override
             public void onObject3DLoaded(Object3D object, Object3D.Type type) {
+                endLoadTrace(traceCookie);
+                mModelLoading = false;
                 if (isTornDown()) {
                     return;
                 }
@@ -213,10 +249,15 @@ public class VRT3DObject extends VRTControl {
                 vrt3DObject.setMorphTargets(mMorphTargets);
                 vrt3DObject.updateAnimation();
                 vrt3DObject.loadDidEnd();
+
+                ViroResourceGovernor.getInstance().track(vrt3DObject,
+                        ViroResourceGovernor.Kind.MODEL, ViroResourceGovernor.ESTIMATED_MODEL_BYTES);
             }
 
             @Override
             public void onObject3DFailed(String error) {
+                endLoadTrace(traceCookie);
+                mModelLoading = false;
                 if (isTornDown()) {
                     return;
                 }
@@ -250,6 +291,63 @@ public class VRT3DObject extends VRTControl {
         mSourceChanged = false;
     }
 
+    @Override
+    protected void handleAppearanceChange() {
+        super.handleAppearanceChange();
+        if (isTornDown() || !shouldAppear()) {
+            return;
+        }
+
+        // Reload the model if the resource governor evicted it while its scene was hidden.
+        if (mModelEvicted) {
+            mModelEvicted = false;
+            mSourceChanged = true;
+            onPropsSet();
+        } else {
+            ViroResourceGovernor.getInstance().touch(this);
+        }
+    }
+
+    @Override
+    public boolean isResourceVisible() {
+        return shouldAppear();
+    }
+
+    @Override
+    public long evictResource() {
+        Node nodeJni = getNodeJni();
+        if (isTornDown() || !mObjLoaded || nodeJni == null) {
+            return 0;
+        }
+        nodeJni.removeAllChildNodes();
+        mObjLoaded = false;
+        mModelEvicted = true;
+        return ViroResourceGovernor.ESTIMATED_MODEL_BYTES;
+    }
+
+    @Override
+    public boolean downscaleResource() {
+        return false;
+    }
+
+    @Override
+    public int getAssetLoadState() {
+        if (mSource == null || mLoadDeferred) {
+            return ASSETS_NONE;
+        }
+        return mModelLoading || mSourceChanged ? ASSETS_LOADING : ASSETS_SETTLED;
+    }
+
+    @Override
+    public String getResourceSource() {
+        return mSource != null ? mSource.toString() : null;
+    }
+
+    private static void endLoadTrace(int traceCookie) {
+        ViroTrace.endAsyncSection(ViroTrace.LOAD_MODEL, traceCookie);
+        ViroTrace.setCounter(ViroTrace.COUNTER_MODELS_LOADING, sModelsLoading.decrementAndGet());
+    }
+
     private void loadDidStart() {
         mReactContext.getJSModule(RCTEventEmitter.class).receiveEvent(
                 getId(),
@@ -83,8 +83,7 @@ public class VRTAnimatedImage extends VRTImage {
     public void onPropsSet() {
         // Because props are set from the bottom of the scene tree up, if props are set on this
         // node, then we know its the top-most changed element.
-        mIsTopMostChangedElement = true;
-        setChildrenNotTopMostChangedElement();
+        markPropsChanged();
 
         if (isTornDown()) {
             return;
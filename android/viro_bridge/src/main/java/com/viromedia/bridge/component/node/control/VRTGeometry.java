@@ -22,70 +22,336 @@
 package com.viromedia.bridge.component.node.control;
 
 import android.util.Log;
+import android.view.Choreographer;
 
 import com.facebook.react.bridge.ReactContext;
+import com.facebook.react.bridge.UiThreadUtil;
 import com.viro.core.Geometry;
 import com.viro.core.Submesh;
 import com.viro.core.Vector;
+import com.viromedia.bridge.utility.ViroLog;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * A mesh described by flat vertex data: xyz per vertex and normal, uv per texture coordinate,
+ * and the triangle indices of all submeshes back to back with the index count of each.
+ *
+ * The data is kept in primitive arrays. The renderer takes vertex data as Vectors and indices as
+ * Integers, so one Vector per vertex, normal and texture coordinate stays resident and is refilled
+ * in place: replacing or updating vertices allocates nothing per vertex once the mesh has its
+ * size. Indices are boxed as the renderer reads them. Only the parts that changed are sent to the
+ * renderer.
+ *
+ * The renderer has no call to update part of a vertex buffer, so updateVertexRange() is not a
+ * partial upload: every vertex is sent again. It only saves converting the other vertices, leaves
+ * normals, texture coordinates and submeshes alone, and coalesces the ranges updated within a
+ * frame into one upload on the UI thread.
+ */
 public class VRTGeometry extends VRTControl {
+    private static final String TAG = ViroLog.getTag(VRTGeometry.class);
+
+    protected static final int PART_VERTICES = 1;
+    protected static final int PART_NORMALS = 2;
+    protected static final int PART_TEXCOORDS = 4;
+    protected static final int PART_SUBMESHES = 8;
+    protected static final int PART_ALL = PART_VERTICES | PART_NORMALS | PART_TEXCOORDS | PART_SUBMESHES;
 
     private Geometry mGeometry;
-    private List<Vector> mVertices = new ArrayList<>();
-    private List<Vector> mTexcoords = new ArrayList<>();
-    private List<Vector> mNormals = new ArrayList<>();
-    private List<List<Integer>> mTriangleIndices = new ArrayList<>();
-    private boolean mGeometryNeedsUpdate = true;
+    private float[] mVertices = new float[0];
+    private float[] mNormals = new float[0];
+    private float[] mTexcoords = new float[0];
+    private int[] mIndices = new int[0];
+    private int[] mSubmeshCounts = new int[0];
+
+    // What the renderer is given, refilled from the arrays above
+    private final List<Vector> mVertexVectors = new ArrayList<>();
+    private final List<Vector> mNormalVectors = new ArrayList<>();
+    private final List<Vector> mTexcoordVectors = new ArrayList<>();
+    private List<Submesh> mSubmeshes = new ArrayList<>();
+
+    private int mChangedParts = PART_ALL;
+
+    // Vertices updated by updateVertexRange() since the last upload, guarded by mVertexLock
+    private final Object mVertexLock = new Object();
+    private int mDirtyVertexStart = Integer.MAX_VALUE;
+    private int mDirtyVertexEnd = 0;
+    private boolean mVertexUploadScheduled = false;
+
+    private final Choreographer.FrameCallback mVertexUpload = new Choreographer.FrameCallback() {
+        @Override
+        public void doFrame(long frameTimeNanos) {
+            uploadVertexRange();
+        }
+    };
+
+    private final Runnable mScheduleVertexUpload = new Runnable() {
+        @Override
+        public void run() {
+            Choreographer.getInstance().postFrameCallback(mVertexUpload);
+        }
+    };
 
     public VRTGeometry(ReactContext reactContext) {
+        this(reactContext, true);
+    }
+
+    /**
+     * @param attachGeometry false if subclasses render the geometry on nodes of their own rather
+     *                       than on this component's node.
+     */
+    protected VRTGeometry(ReactContext reactContext, boolean attachGeometry) {
         super(reactContext);
         mGeometry = new Geometry();
-        super.setGeometry(mGeometry);
+        if (attachGeometry) {
+            super.setGeometry(mGeometry);
+        }
+    }
+
+    protected Geometry getNativeGeometry() {
+        return mGeometry;
+    }
+
+    public int getVertexCount() {
+        return mVertices.length / 3;
+    }
+
+    // The current mesh data; callers must not modify the arrays
+    protected float[] getVertexData() {
+        return mVertices;
     }
 
-    public void setVertices(List<Vector> coords) {
-        mVertices = coords;
-        mGeometryNeedsUpdate = true;
+    protected float[] getNormalData() {
+        return mNormals;
     }
 
-    public void setNormals(List<Vector> coords) {
-        mNormals = coords;
-        mGeometryNeedsUpdate = true;
+    protected float[] getTexcoordData() {
+        return mTexcoords;
+    }
+
+    protected int[] getIndexData() {
+        return mIndices;
+    }
+
+    /**
+     * The index count of each submesh, with all indices forming one submesh if no counts were set.
+     */
+    protected int[] getSubmeshCountData() {
+        return mSubmeshCounts.length > 0 || mIndices.length == 0
+                ? mSubmeshCounts : new int[]{mIndices.length};
+    }
+
+    /**
+     * Set the vertices, xyz per vertex. The array is kept and updated in place by
+     * updateVertexRange(), so callers must not hold on to it.
+     */
+    public void setVertices(float[] vertices) {
+        synchronized (mVertexLock) {
+            mVertices = vertices != null ? vertices : new float[0];
+        }
+        mChangedParts |= PART_VERTICES;
+    }
+
+    public void setNormals(float[] normals) {
+        mNormals = normals != null ? normals : new float[0];
+        mChangedParts |= PART_NORMALS;
+    }
+
+    public void setTexcoords(float[] texcoords) {
+        mTexcoords = texcoords != null ? texcoords : new float[0];
+        mChangedParts |= PART_TEXCOORDS;
+    }
+
+    /**
+     * Set the triangle indices of all submeshes back to back; see setSubmeshCounts().
+     */
+    public void setTriangleIndices(int[] indices) {
+        mIndices = indices != null ? indices : new int[0];
+        mChangedParts |= PART_SUBMESHES;
+    }
+
+    /**
+     * Set the number of triangle indices of each submesh. If null or empty, all indices form a
+     * single submesh.
+     */
+    public void setSubmeshCounts(int[] submeshCounts) {
+        mSubmeshCounts = submeshCounts != null ? submeshCounts : new int[0];
+        mChangedParts |= PART_SUBMESHES;
+    }
 
+    /**
+     * Replace the vertices from vertex offset onwards with the given xyz values. Values past the
+     * last vertex are ignored. May be called from any thread; the vertices are sent on the next
+     * frame, once for all the ranges updated until then. Only the updated ranges are converted,
+     * but the renderer is given every vertex again.
+     */
+    public void updateVertexRange(int offset, float[] vertices) {
+        if (isTornDown() || vertices == null) {
+            return;
+        }
+        synchronized (mVertexLock) {
+            int vertexCount = getVertexCount();
+            if (offset < 0 || offset >= vertexCount) {
+                Log.w(TAG, "Vertex range offset " + offset + " is outside of the " + vertexCount + " vertices");
+                return;
+            }
+            int count = Math.min(vertices.length / 3, vertexCount - offset);
+            System.arraycopy(vertices, 0, mVertices, offset * 3, count * 3);
+            mDirtyVertexStart = Math.min(mDirtyVertexStart, offset);
+            mDirtyVertexEnd = Math.max(mDirtyVertexEnd, offset + count);
+            if (mVertexUploadScheduled) {
+                return;
+            }
+            mVertexUploadScheduled = true;
+        }
+        if (UiThreadUtil.isOnUiThread()) {
+            Choreographer.getInstance().postFrameCallback(mVertexUpload);
+        } else {
+            UiThreadUtil.runOnUiThread(mScheduleVertexUpload);
+        }
     }
 
-    public void setTexcoords(List<Vector> coords) {
-        mTexcoords = coords;
-        mGeometryNeedsUpdate = true;
+    // On the UI thread, once per frame in which vertex ranges were updated
+    private void uploadVertexRange() {
+        synchronized (mVertexLock) {
+            int start = mDirtyVertexStart;
+            int end = Math.min(mDirtyVertexEnd, getVertexCount());
+            mDirtyVertexStart = Integer.MAX_VALUE;
+            mDirtyVertexEnd = 0;
+            mVertexUploadScheduled = false;
+            if (isTornDown() || start >= end || (mChangedParts & PART_VERTICES) != 0) {
+                // Nothing left to send, or a full vertex update is pending anyway
+                return;
+            }
+            fillVectors(mVertexVectors, mVertices, 3, start, end - start);
+        }
+        applyGeometry(PART_VERTICES);
+        onVertexRangeUploaded();
     }
 
-    public void setTriangleIndices(List<List<Integer>> triangleIndices) {
-        mTriangleIndices = triangleIndices;
-        mGeometryNeedsUpdate = true;
+    /**
+     * Called after updateVertexRange() changes have been sent to the renderer.
+     */
+    protected void onVertexRangeUploaded() {
     }
 
     @Override
     public void onPropsSet() {
         super.onPropsSet();
-        if (mGeometryNeedsUpdate) {
-            updateGeometry();
-            mGeometryNeedsUpdate = false;
-        }
+        updateGeometry();
     }
 
+    /**
+     * Send the parts changed since the last update to the renderer.
+     */
     public void updateGeometry() {
-        mGeometry.setVertices(mVertices);
-        mGeometry.setTextureCoordinates(mTexcoords);
-        mGeometry.setNormals(mNormals);
+        int parts = mChangedParts;
+        if (parts == 0 || isTornDown()) {
+            return;
+        }
+        mChangedParts = 0;
+        if ((parts & PART_VERTICES) != 0) {
+            synchronized (mVertexLock) {
+                fillVectors(mVertexVectors, mVertices, 3, 0, mVertices.length / 3);
+            }
+        }
+        if ((parts & PART_NORMALS) != 0) {
+            fillVectors(mNormalVectors, mNormals, 3, 0, mNormals.length / 3);
+        }
+        if ((parts & PART_TEXCOORDS) != 0) {
+            fillVectors(mTexcoordVectors, mTexcoords, 2, 0, mTexcoords.length / 2);
+        }
+        if ((parts & PART_SUBMESHES) != 0) {
+            mSubmeshes = buildSubmeshes(mIndices, getSubmeshCountData());
+        }
+        applyGeometry(parts);
+    }
+
+    /**
+     * Send the given parts to the renderer. Subclasses rendering more than one geometry apply
+     * them to each.
+     */
+    protected void applyGeometry(int parts) {
+        fillGeometry(mGeometry, parts);
+    }
 
-        List<Submesh> submeshes = new ArrayList<>();
-        for (List<Integer> triangles : mTriangleIndices) {
-            submeshes.add(Submesh.builder().triangleIndices(triangles).build());
+    /**
+     * Set the current vertex data and submeshes on the given geometry.
+     */
+    protected void fillGeometry(Geometry geometry) {
+        fillGeometry(geometry, PART_ALL);
+    }
+
+    protected void fillGeometry(Geometry geometry, int parts) {
+        if ((parts & PART_VERTICES) != 0) {
+            geometry.setVertices(mVertexVectors);
+        }
+        if ((parts & PART_TEXCOORDS) != 0) {
+            geometry.setTextureCoordinates(mTexcoordVectors);
+        }
+        if ((parts & PART_NORMALS) != 0) {
+            geometry.setNormals(mNormalVectors);
         }
-        mGeometry.setSubmeshes(submeshes);
+        if ((parts & PART_SUBMESHES) != 0) {
+            geometry.setSubmeshes(mSubmeshes);
+        }
+    }
+
+    // Resize the vectors to the data and refill those in [start, start + count)
+    protected static void fillVectors(List<Vector> vectors, float[] data, int components, int start, int count) {
+        int size = data.length / components;
+        while (vectors.size() > size) {
+            vectors.remove(vectors.size() - 1);
+        }
+        while (vectors.size() < size) {
+            vectors.add(new Vector());
+        }
+        for (int i = start; i < start + count; i++) {
+            Vector vector = vectors.get(i);
+            int offset = i * components;
+            vector.x = data[offset];
+            vector.y = data[offset + 1];
+            vector.z = components > 2 ? data[offset + 2] : 0;
+        }
+    }
+
+    // One submesh per count, each taking the next count indices; the array must not change after
+    protected static List<Submesh> buildSubmeshes(int[] indices, int[] counts) {
+        List<Submesh> submeshes = new ArrayList<>(counts.length);
+        int start = 0;
+        for (int count : counts) {
+            int end = Math.min(start + Math.max(count, 0), indices.length);
+            submeshes.add(Submesh.builder().triangleIndices(new IndexList(indices, start, end)).build());
+            start = end;
+        }
+        return submeshes;
     }
 
+    /**
+     * A read-only view of a range of an index array, so indices are not copied into a list of
+     * their own. Each read boxes the index. The array is never modified once set.
+     */
+    private static final class IndexList extends AbstractList<Integer> {
+        private final int[] mIndices;
+        private final int mStart;
+        private final int mEnd;
+
+        IndexList(int[] indices, int start, int end) {
+            mIndices = indices;
+            mStart = start;
+            mEnd = end;
+        }
+
+        @Override
+        public Integer get(int index) {
+            return mIndices[mStart + index];
+        }
+
+        @Override
+        public int size() {
+            return mEnd - mStart;
+        }
+    }
 }
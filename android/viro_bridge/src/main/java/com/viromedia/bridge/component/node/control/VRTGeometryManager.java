@@ -25,12 +25,12 @@ import android.util.Log;
 
 import com.facebook.react.bridge.ReactApplicationContext;
 import com.facebook.react.bridge.ReadableArray;
+import com.facebook.react.bridge.ReadableType;
 import com.facebook.react.uimanager.ThemedReactContext;
 import com.facebook.react.uimanager.annotations.ReactProp;
-import com.viro.core.Vector;
+import com.viromedia.bridge.utility.Helper;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 
 public class VRTGeometryManager extends VRTControlManager<VRTGeometry> {
 
@@ -48,8 +48,20 @@ public class VRTGeometryManager extends VRTControlManager<VRTGeometry> {
         return new VRTGeometry(reactContext);
     }
 
-    private List<Vector> convertVectorArray(ReadableArray array, int componentsPerVertex, String type) {
-        List<Vector> result = new ArrayList<Vector>();
+    /**
+     * Flatten vertex data given either as one array of componentsPerVertex numbers per vertex,
+     * or as a flat array of numbers.
+     */
+    public static float[] convertVertexArray(ReadableArray array, int componentsPerVertex, String type) {
+        if (array.size() > 0 && array.getType(0) == ReadableType.Number) {
+            if (array.size() % componentsPerVertex != 0) {
+                throw new IllegalArgumentException("[ViroGeometry] geometry requires " + componentsPerVertex + " coordinates per vertex for type " + type + " but " +
+                        array.size() + " numbers were provided!");
+            }
+            return Helper.toFloatArray(array);
+        }
+
+        float[] result = new float[array.size() * componentsPerVertex];
         for (int i = 0; i < array.size(); i ++) {
             ReadableArray vecArray = array.getArray(i);
             if (vecArray == null) {
@@ -65,17 +77,9 @@ public class VRTGeometryManager extends VRTControlManager<VRTGeometry> {
 
             }
 
-            Vector v = new Vector();
-            if (componentsPerVertex > 0) {
-                v.x = (float) vecArray.getDouble(0);
-            }
-            if (componentsPerVertex > 1) {
-                v.y = (float) vecArray.getDouble(1);
+            for (int j = 0; j < componentsPerVertex; j++) {
+                result[i * componentsPerVertex + j] = (float) vecArray.getDouble(j);
             }
-            if (componentsPerVertex > 2) {
-                v.z = (float) vecArray.getDouble(2);
-            }
-            result.add(v);
         }
         return result;
     }
@@ -85,35 +89,107 @@ public class VRTGeometryManager extends VRTControlManager<VRTGeometry> {
         if (vertices == null || vertices.size() == 0) {
             throw new IllegalArgumentException("[ViroGeometry] Invalid Geometry vertex boundary list provided!");
         }
-        view.setVertices(convertVectorArray(vertices, 3, "vertices"));
+        view.setVertices(convertVertexArray(vertices, 3, "vertices"));
     }
 
     @ReactProp(name = "texcoords")
     public void setTexcoords(VRTGeometry view, ReadableArray texcoords) {
-        view.setTexcoords(convertVectorArray(texcoords, 2, "texcoords"));
+        view.setTexcoords(texcoords != null ? convertVertexArray(texcoords, 2, "texcoords") : null);
     }
 
     @ReactProp(name = "normals")
     public void setNormals(VRTGeometry view, ReadableArray normals) {
-        view.setNormals(convertVectorArray(normals, 3, "normals"));
+        view.setNormals(normals != null ? convertVertexArray(normals, 3, "normals") : null);
     }
 
     @ReactProp(name = "triangleIndices")
     public void setTriangleIndices(VRTGeometry view, ReadableArray triangleIndicesArray) {
-        List<List<Integer>> triangleIndices = new ArrayList<>();
+        view.setTriangleIndices(convertTriangleIndices(triangleIndicesArray));
+        view.setSubmeshCounts(convertSubmeshCounts(triangleIndicesArray));
+    }
+
+    // Packed forms of the above: base64 of the bytes of a Float32Array or Uint32Array
+
+    @ReactProp(name = "vertexData")
+    public void setVertexData(VRTGeometry view, String vertexData) {
+        if (vertexData != null) {
+            view.setVertices(Helper.decodeFloats(vertexData));
+        }
+    }
+
+    @ReactProp(name = "normalData")
+    public void setNormalData(VRTGeometry view, String normalData) {
+        view.setNormals(normalData != null ? Helper.decodeFloats(normalData) : null);
+    }
+
+    @ReactProp(name = "texcoordData")
+    public void setTexcoordData(VRTGeometry view, String texcoordData) {
+        view.setTexcoords(texcoordData != null ? Helper.decodeFloats(texcoordData) : null);
+    }
+
+    @ReactProp(name = "indexData")
+    public void setIndexData(VRTGeometry view, String indexData) {
+        if (indexData != null) {
+            view.setTriangleIndices(Helper.decodeInts(indexData));
+        }
+    }
 
+    @ReactProp(name = "submeshIndexCounts")
+    public void setSubmeshIndexCounts(VRTGeometry view, ReadableArray counts) {
+        int[] submeshCounts = new int[counts != null ? counts.size() : 0];
+        for (int i = 0; i < submeshCounts.length; i++) {
+            submeshCounts[i] = counts.getInt(i);
+        }
+        view.setSubmeshCounts(submeshCounts);
+    }
+
+    /**
+     * The indices of all submeshes back to back. Given either as one array of indices per
+     * submesh, or as a flat array of indices for a single submesh.
+     */
+    public static int[] convertTriangleIndices(ReadableArray triangleIndicesArray) {
+        if (triangleIndicesArray.size() > 0 && triangleIndicesArray.getType(0) == ReadableType.Number) {
+            int[] indices = new int[triangleIndicesArray.size()];
+            for (int i = 0; i < indices.length; i++) {
+                indices[i] = triangleIndicesArray.getInt(i);
+            }
+            return indices;
+        }
+
+        int total = 0;
+        for (int i = 0; i < triangleIndicesArray.size(); i++) {
+            ReadableArray submeshArray = triangleIndicesArray.getArray(i);
+            total += submeshArray != null ? submeshArray.size() : 0;
+        }
+        int[] indices = new int[total];
+        int index = 0;
         for (int i = 0; i < triangleIndicesArray.size(); i++) {
             ReadableArray submeshArray = triangleIndicesArray.getArray(i);
             if (submeshArray == null) {
                 continue;
             }
-
-            List<Integer> submesh = new ArrayList<>();
             for (int j = 0; j < submeshArray.size(); j++) {
-                submesh.add(submeshArray.getInt(j));
+                indices[index++] = submeshArray.getInt(j);
+            }
+        }
+        return indices;
+    }
+
+    /**
+     * The number of indices of each submesh of convertTriangleIndices(); empty for a flat array.
+     */
+    public static int[] convertSubmeshCounts(ReadableArray triangleIndicesArray) {
+        if (triangleIndicesArray.size() > 0 && triangleIndicesArray.getType(0) == ReadableType.Number) {
+            return new int[0];
+        }
+        int[] counts = new int[triangleIndicesArray.size()];
+        int submesh = 0;
+        for (int i = 0; i < triangleIndicesArray.size(); i++) {
+            ReadableArray submeshArray = triangleIndicesArray.getArray(i);
+            if (submeshArray != null) {
+                counts[submesh++] = submeshArray.size();
             }
-            triangleIndices.add(submesh);
         }
-        view.setTriangleIndices(triangleIndices);
+        return Arrays.copyOf(counts, submesh);
     }
 }
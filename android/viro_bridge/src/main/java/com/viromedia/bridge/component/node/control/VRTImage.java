@@ -36,11 +36,13 @@ import com.viro.core.Texture;
 import com.viromedia.bridge.utility.ImageDownloadListener;
 import com.viromedia.bridge.utility.ImageDownloader;
 import com.viromedia.bridge.utility.ViroEvents;
+import com.viromedia.bridge.utility.ViroFrameMetrics;
 import com.viromedia.bridge.utility.ViroLog;
+import com.viromedia.bridge.utility.ViroResourceGovernor;
 
 import java.util.List;
 
-public class VRTImage extends VRTControl {
+public class VRTImage extends VRTControl implements ViroResourceGovernor.Resource {
     private static final String TAG = ViroLog.getTag(VRTImage.class);
     static final String DEFAULT_RESIZE_MODE = "stretchToFill";
     static final String DEFAULT_CLIP_MODE = "clipToBounds";
@@ -69,6 +71,10 @@ public class VRTImage extends VRTControl {
     private boolean mResizeModeSet = false;
     private MainImageDownloadListener mMainListener;
     private PlaceholderImageDownloadListener mPlaceholderListener;
+    private boolean mImageEvicted = false;
+    private int mDownscaleFactor = 1;
+    private long mTextureBytes = 0;
+    private boolean mImageLoading = false;
 
     boolean mImageNeedsDownload = false;
     Quad mNativeQuad;
@@ -92,6 +98,7 @@ public class VRTImage extends VRTControl {
     public void setSource(ReadableMap source) {
         mSourceMap = source;
         mImageNeedsDownload = true;
+        mDownscaleFactor = 1;
     }
 
     public void setPlaceholderSource(ReadableMap placeholderSource) {
@@ -192,6 +199,7 @@ public class VRTImage extends VRTControl {
     }
 
     public void updateImage() {
+        mImageLoading = mSourceMap != null;
         final ImageDownloader downloader = new ImageDownloader(getContext());
         downloader.setTextureFormat(mFormat);
 
@@ -232,6 +240,7 @@ public class VRTImage extends VRTControl {
         if (mMainListener != null) {
             mMainListener.invalidate();
         }
+        ViroResourceGovernor.getInstance().untrack(this);
         super.onTearDown();
 
         if (mNativeQuad != null) {
@@ -283,6 +292,98 @@ public class VRTImage extends VRTControl {
         mLatestImage = new Image(image, mFormat);
         mLatestImageTexture = new Texture(mLatestImage, true, mMipmap, mStereoMode);
         mNativeQuad.setImageTexture(mLatestImageTexture);
+
+        long bytes = image.getByteCount();
+        mTextureBytes = mMipmap ? bytes * 4 / 3 : bytes;
+        ViroResourceGovernor.getInstance().track(this, ViroResourceGovernor.Kind.TEXTURE, mTextureBytes);
+        ViroFrameMetrics.addTextureUploadBytes(mTextureBytes);
+    }
+
+    @Override
+    protected void handleAppearanceChange() {
+        super.handleAppearanceChange();
+        if (isTornDown() || !shouldAppear()) {
+            return;
+        }
+
+        // Reload at full resolution anything the resource governor reclaimed while hidden.
+        if (mImageEvicted || mDownscaleFactor > 1) {
+            mImageEvicted = false;
+            mDownscaleFactor = 1;
+            ViroResourceGovernor.getInstance().clearDownscaled(this);
+            updateImage();
+        } else {
+            ViroResourceGovernor.getInstance().touch(this);
+        }
+    }
+
+    @Override
+    public boolean isResourceVisible() {
+        return shouldAppear();
+    }
+
+    @Override
+    public long evictResource() {
+        if (isTornDown() || mLatestImageTexture == null) {
+            return 0;
+        }
+        if (mMainListener != null) {
+            mMainListener.invalidate();
+            mMainListener = null;
+        }
+
+        // Swap in a fresh quad so the renderer drops its reference to the evicted texture.
+        if (mNativeQuad != null) {
+            mNativeQuad.dispose();
+            mNativeQuad = null;
+        }
+        mLatestImageTexture.dispose();
+        mLatestImageTexture = null;
+        if (mLatestImage != null) {
+            mLatestImage.destroy();
+            mLatestImage = null;
+        }
+        updateQuad();
+        setMaterialOnQuad();
+
+        mImageEvicted = true;
+        return mTextureBytes;
+    }
+
+    /**
+     * Reload the source at half the current resolution. The source is decoded again from the
+     * image pipeline's cache (it is only downloaded again if the cache dropped it); the smaller
+     * texture replaces the current one, and is tracked with its new size, once it is decoded.
+     */
+    @Override
+    public boolean downscaleResource() {
+        if (isTornDown() || mLatestImageTexture == null || mSourceMap == null
+                || Math.min(mBitmapWidth, mBitmapHeight) / (mDownscaleFactor * 2) < 1) {
+            return false;
+        }
+        if (mMainListener != null) {
+            mMainListener.invalidate();
+            mMainListener = null;
+        }
+        mDownscaleFactor *= 2;
+        mImageLoading = true;
+        ImageDownloader downloader = new ImageDownloader(getContext());
+        downloader.setTextureFormat(mFormat);
+        downloadSourceImage(downloader);
+        return true;
+    }
+
+    @Override
+    public int getAssetLoadState() {
+        if (mSourceMap == null) {
+            return ASSETS_NONE;
+        }
+        return mImageLoading || mImageNeedsDownload ? ASSETS_LOADING : ASSETS_SETTLED;
+    }
+
+    @Override
+    public String getResourceSource() {
+        return mSourceMap != null && mSourceMap.hasKey("uri") ? mSourceMap.getString("uri") : null;
     }
 
     void imageDownloadDidStart() {
@@ -387,6 +488,7 @@ public class VRTImage extends VRTControl {
             if (!isValid()) {
                 return;
             }
+            mImageLoading = false;
             onError(error);
         }
     }
@@ -439,8 +541,21 @@ public class VRTImage extends VRTControl {
                     updateMainImageDimensions(result.getWidth(), result.getHeight());
 
                     setMaterialOnQuad();
-                    setImageOnQuad(result);
+                    if (mDownscaleFactor > 1) {
+                        Bitmap scaled = Bitmap.createScaledBitmap(result,
+                                Math.max(1, result.getWidth() / mDownscaleFactor),
+                                Math.max(1, result.getHeight() / mDownscaleFactor), true);
+                        // The downloader hands us our own copy, so free the full-size pixels
+                        // rather than holding both until GC.
+                        if (scaled != result) {
+                            result.recycle();
+                        }
+                        setImageOnQuad(scaled);
+                    } else {
+                        setImageOnQuad(result);
+                    }
 
+                    mImageLoading = false;
                     imageDownloadDidFinish();
                     mMainListener = null;
                 }
@@ -452,6 +567,7 @@ public class VRTImage extends VRTControl {
             if (!isValid()) {
                 return;
             }
+            mImageLoading = false;
             onError(error);
         }
     }
@@ -0,0 +1,563 @@
+//  Copyright © 2025 ReactVision. All rights reserved.
+//
+//  Permission is hereby granted, free of charge, to any person obtaining
+//  a copy of this software and associated documentation files (the
+//  "Software"), to deal in the Software without restriction, including
+//  without limitation the rights to use, copy, modify, merge, publish,
+//  distribute, sublicense, and/or sell copies of the Software, and to
+//  permit persons to whom the Software is furnished to do so, subject to
+//  the following conditions:
+//
+//  The above copyright notice and this permission notice shall be included
+//  in all copies or substantial portions of the Software.
+//
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+//  EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+//  MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+//  IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY
+//  CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+//  TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+//  SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+
+package com.viromedia.bridge.component.node.control;
+
+import android.util.Log;
+import android.util.SparseArray;
+import android.util.SparseIntArray;
+
+import com.facebook.react.bridge.ReactContext;
+import com.viro.core.Geometry;
+import com.viro.core.Material;
+import com.viro.core.Node;
+import com.viro.core.Vector;
+import com.viromedia.bridge.utility.ViroLog;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Renders many copies of one mesh from a single component.
+ *
+ * The mesh is described like a VRTGeometry. Instance transforms come from a packed float array
+ * of nine floats per instance: position xyz, rotation xyz in degrees and scale xyz. Optional
+ * per-instance colors tint the diffuse color of the materials. The Java renderer API has no
+ * hardware instancing, so instances are rendered one of two ways:
+ *
+ * Static instances (setStaticInstances(true)) are baked: the mesh is transformed on the CPU
+ * into one merged Geometry per distinct instance color, drawn by a single Node each. This is one
+ * draw call per color and submesh however many instances there are, and no per-instance JNI
+ * calls, at the cost of holding instances x vertices of vertex data. Any change to the
+ * transforms, colors or mesh rebakes every instance, so this suits sets that rarely change.
+ *
+ * Otherwise each instance is a bare native Node pointing at the shared geometry, so instances
+ * cost no React view, no VRTNode and no bridge calls of their own, but each is drawn separately
+ * and updating an instance costs a JNI call per transform part. Its Vectors are kept and
+ * overwritten in place, as VRTNode does. Materials belong to a Geometry, and a Geometry owns its
+ * vertex buffers, so each distinct color holds one more copy of the mesh that every instance of
+ * that color points at. Keep the number of distinct colors small in either mode.
+ *
+ * Both transforms and colors can be updated for a range of instances; with per-instance Nodes
+ * the rest are left untouched.
+ */
+public class VRTInstancedMesh extends VRTGeometry {
+    private static final String TAG = ViroLog.getTag(VRTInstancedMesh.class);
+
+    public static final int FLOATS_PER_INSTANCE = 9;
+
+    // Instance color meaning "use the materials as they are"
+    private static final int NO_COLOR = 0;
+
+    private float[] mTransforms = new float[0];
+    private int[] mColors = new int[0];
+    private List<Material> mInstanceMaterials;
+
+    private boolean mStaticInstances = false;
+    private boolean mBakeNeeded = false;
+
+    // Static instances: the merged geometry of each instance color and the node drawing it
+    private final SparseArray<Geometry> mBakedGeometries = new SparseArray<>();
+    private final SparseArray<Node> mBakedNodes = new SparseArray<>();
+
+    // Per-instance nodes, with the position, rotation and scale Vector last given to each
+    private final List<Node> mInstances = new ArrayList<>();
+    private final List<Vector> mInstanceVectors = new ArrayList<>();
+
+    // Geometry per instance color, holding its own copy of the vertex data, and the number of
+    // instances using each
+    private final SparseArray<Geometry> mColorGeometries = new SparseArray<>();
+    private final SparseIntArray mColorUseCounts = new SparseIntArray();
+
+    public VRTInstancedMesh(ReactContext reactContext) {
+        super(reactContext, false);
+    }
+
+    public int getInstanceCount() {
+        return mTransforms.length / FLOATS_PER_INSTANCE;
+    }
+
+    /**
+     * Bake the instances into merged geometry rather than giving each a node of its own; see the
+     * class comment. Set this before the instances to avoid creating nodes only to drop them.
+     */
+    public void setStaticInstances(boolean staticInstances) {
+        if (isTornDown() || mStaticInstances == staticInstances) {
+            return;
+        }
+        mStaticInstances = staticInstances;
+        int[] colors = mColors;
+        if (staticInstances) {
+            removeInstanceNodes();
+            mColors = colors;
+            mBakeNeeded = true;
+        } else {
+            disposeBaked();
+            mBakeNeeded = false;
+            int count = getInstanceCount();
+            // New nodes start with the plain materials, then take their colors
+            mColors = new int[0];
+            resizeInstances(count);
+            applyTransforms(0, count);
+            for (int i = 0; i < count; i++) {
+                applyColor(i, colors[i]);
+            }
+        }
+    }
+
+    /**
+     * Replace all instance transforms; the instance count becomes transforms.length / 9.
+     */
+    public void setInstanceTransforms(float[] transforms) {
+        if (isTornDown()) {
+            return;
+        }
+        int count = transforms == null ? 0 : transforms.length / FLOATS_PER_INSTANCE;
+        mTransforms = new float[count * FLOATS_PER_INSTANCE];
+        if (count > 0) {
+            System.arraycopy(transforms, 0, mTransforms, 0, mTransforms.length);
+        }
+        if (mStaticInstances) {
+            mColors = resizeColors(mColors, count);
+            mBakeNeeded = true;
+            return;
+        }
+        resizeInstances(count);
+        applyTransforms(0, count);
+    }
+
+    /**
+     * Update the transforms of instances start onwards. Transforms past the last instance are
+     * ignored.
+     */
+    public void updateInstanceTransforms(int start, float[] transforms) {
+        if (isTornDown() || transforms == null) {
+            return;
+        }
+        int count = clampRange(start, transforms.length / FLOATS_PER_INSTANCE);
+        if (count <= 0) {
+            return;
+        }
+        System.arraycopy(transforms, 0, mTransforms, start * FLOATS_PER_INSTANCE, count * FLOATS_PER_INSTANCE);
+        if (mStaticInstances) {
+            mBakeNeeded = true;
+            updateInstances();
+            return;
+        }
+        applyTransforms(start, count);
+    }
+
+    /**
+     * Set a color per instance (ARGB); 0 leaves an instance with the plain materials. Null clears
+     * all instance colors.
+     */
+    public void setInstanceColors(int[] colors) {
+        if (isTornDown()) {
+            return;
+        }
+        for (int i = 0; i < mColors.length; i++) {
+            setColor(i, colors != null && i < colors.length ? colors[i] : NO_COLOR);
+        }
+    }
+
+    /**
+     * Update the colors of instances start onwards.
+     */
+    public void updateInstanceColors(int start, int[] colors) {
+        if (isTornDown() || colors == null) {
+            return;
+        }
+        int count = clampRange(start, colors.length);
+        if (count <= 0) {
+            return;
+        }
+        for (int i = 0; i < count; i++) {
+            setColor(start + i, colors[i]);
+        }
+        updateInstances();
+    }
+
+    /**
+     * Rebake static instances if anything changed since they were last baked. Called once the
+     * props of a batch are set, so a batch changing transforms, colors and mesh bakes once.
+     */
+    public void updateInstances() {
+        if (mBakeNeeded && mStaticInstances && !isTornDown()) {
+            bakeInstances();
+        }
+    }
+
+    @Override
+    public void onPropsSet() {
+        super.onPropsSet();
+        updateInstances();
+    }
+
+    @Override
+    protected void applyGeometry(int parts) {
+        super.applyGeometry(parts);
+        for (int i = 0; i < mColorGeometries.size(); i++) {
+            fillGeometry(mColorGeometries.valueAt(i), parts);
+        }
+        if (mStaticInstances) {
+            mBakeNeeded = true;
+        }
+    }
+
+    @Override
+    protected void onVertexRangeUploaded() {
+        updateInstances();
+    }
+
+    @Override
+    protected void setMaterials(List<Material> materials) {
+        super.setMaterials(materials);
+        if (isTornDown()) {
+            return;
+        }
+        mInstanceMaterials = materials;
+        getNativeGeometry().copyAndSetMaterials(materials);
+        for (int i = 0; i < mColorGeometries.size(); i++) {
+            applyColorMaterials(mColorGeometries.valueAt(i), mColorGeometries.keyAt(i));
+        }
+        for (int i = 0; i < mBakedGeometries.size(); i++) {
+            applyBakedMaterials(mBakedGeometries.valueAt(i), mBakedGeometries.keyAt(i));
+        }
+    }
+
+    @Override
+    public void onTearDown() {
+        if (isTornDown()) {
+            return;
+        }
+        for (Node instance : mInstances) {
+            instance.removeFromParentNode();
+            instance.dispose();
+        }
+        mInstances.clear();
+        mInstanceVectors.clear();
+        for (int i = 0; i < mColorGeometries.size(); i++) {
+            mColorGeometries.valueAt(i).dispose();
+        }
+        mColorGeometries.clear();
+        mColorUseCounts.clear();
+        disposeBaked();
+        Geometry geometry = getNativeGeometry();
+        super.onTearDown();
+        geometry.dispose();
+    }
+
+    private int clampRange(int start, int count) {
+        int instanceCount = getInstanceCount();
+        if (start < 0 || start >= instanceCount) {
+            Log.w(TAG, "Instance range start " + start + " is outside of the " + instanceCount + " instances");
+            return 0;
+        }
+        return Math.min(count, instanceCount - start);
+    }
+
+    private void setColor(int index, int color) {
+        if (!mStaticInstances) {
+            applyColor(index, color);
+        } else if (mColors[index] != color) {
+            mColors[index] = color;
+            mBakeNeeded = true;
+        }
+    }
+
+    // Copy of colors with the given length; new instances start with the plain materials
+    private static int[] resizeColors(int[] colors, int count) {
+        int[] resized = new int[count];
+        System.arraycopy(colors, 0, resized, 0, Math.min(colors.length, count));
+        return resized;
+    }
+
+    /*
+     Per-instance nodes
+     */
+
+    private void resizeInstances(int count) {
+        while (mInstances.size() > count) {
+            Node instance = mInstances.remove(mInstances.size() - 1);
+            releaseColor(mColors[mInstances.size()]);
+            instance.removeFromParentNode();
+            instance.dispose();
+        }
+        while (mInstanceVectors.size() > count * 3) {
+            mInstanceVectors.remove(mInstanceVectors.size() - 1);
+        }
+
+        mColors = resizeColors(mColors, count);
+        Node parent = getNodeJni();
+        while (mInstances.size() < count) {
+            Node instance = new Node();
+            instance.setGeometry(getNativeGeometry());
+            parent.addChildNode(instance);
+            mInstances.add(instance);
+        }
+        while (mInstanceVectors.size() < count * 3) {
+            mInstanceVectors.add(null);
+        }
+    }
+
+    // Drop every instance node, releasing the color geometries they used
+    private void removeInstanceNodes() {
+        resizeInstances(0);
+    }
+
+    private void applyTransforms(int start, int count) {
+        for (int i = start; i < start + count; i++) {
+            Node instance = mInstances.get(i);
+            int offset = i * FLOATS_PER_INSTANCE;
+            instance.setPosition(setInstanceVector(i * 3, mTransforms[offset], mTransforms[offset + 1],
+                    mTransforms[offset + 2]));
+            instance.setRotation(setInstanceVector(i * 3 + 1, (float) Math.toRadians(mTransforms[offset + 3]),
+                    (float) Math.toRadians(mTransforms[offset + 4]),
+                    (float) Math.toRadians(mTransforms[offset + 5])));
+            instance.setScale(setInstanceVector(i * 3 + 2, mTransforms[offset + 6], mTransforms[offset + 7],
+                    mTransforms[offset + 8]));
+        }
+    }
+
+    private Vector setInstanceVector(int index, float x, float y, float z) {
+        Vector vector = setVector(mInstanceVectors.get(index), x, y, z);
+        mInstanceVectors.set(index, vector);
+        return vector;
+    }
+
+    private void applyColor(int index, int color) {
+        int previous = mColors[index];
+        if (previous == color) {
+            return;
+        }
+        mColors[index] = color;
+        mInstances.get(index).setGeometry(acquireColor(color));
+        releaseColor(previous);
+    }
+    private Geometry acquireColor(int color) {
+        if (color == NO_COLOR) {
+            return getNativeGeometry();
+        }
+        Geometry geometry = mColorGeometries.get(color);
+        if (geometry == null) {
+            geometry = new Geometry();
+            fillGeometry(geometry);
+            applyColorMaterials(geometry, color);
+            mColorGeometries.put(color, geometry);
+        }
+        mColorUseCounts.put(color, mColorUseCounts.get(color) + 1);
+        return geometry;
+    }
+
+    private void releaseColor(int color) {
+        if (color == NO_COLOR) {
+            return;
+        }
+        int uses = mColorUseCounts.get(color) - 1;
+        if (uses > 0) {
+            mColorUseCounts.put(color, uses);
+            return;
+        }
+        mColorUseCounts.delete(color);
+        Geometry geometry = mColorGeometries.get(color);
+        if (geometry != null) {
+            mColorGeometries.remove(color);
+            geometry.dispose();
+        }
+    }
+
+    private void applyColorMaterials(Geometry geometry, int color) {
+        if (mInstanceMaterials == null) {
+            Material material = new Material();
+            material.setDiffuseColor(color);
+            List<Material> materials = new ArrayList<>();
+            materials.add(material);
+            geometry.setMaterials(materials);
+            return;
+        }
+        geometry.copyAndSetMaterials(mInstanceMaterials);
+        for (Material material : geometry.getMaterials()) {
+            material.setDiffuseColor(color);
+        }
+    }
+
+    /*
+     Static instances
+     */
+
+    private void bakeInstances() {
+        mBakeNeeded = false;
+        disposeBaked();
+        int count = getInstanceCount();
+        if (count == 0 || getVertexCount() == 0) {
+            return;
+        }
+
+        // Instances of one color share a merged geometry, since each color needs its own materials
+        SparseIntArray colorCounts = new SparseIntArray();
+        for (int color : mColors) {
+            colorCounts.put(color, colorCounts.get(color) + 1);
+        }
+        Node parent = getNodeJni();
+        for (int c = 0; c < colorCounts.size(); c++) {
+            int color = colorCounts.keyAt(c);
+            int[] members = new int[colorCounts.valueAt(c)];
+            int found = 0;
+            for (int i = 0; i < count; i++) {
+                if (mColors[i] == color) {
+                    members[found++] = i;
+                }
+            }
+
+            Geometry geometry = bakeGeometry(members);
+            applyBakedMaterials(geometry, color);
+            Node node = new Node();
+            node.setGeometry(geometry);
+            parent.addChildNode(node);
+            mBakedGeometries.put(color, geometry);
+            mBakedNodes.put(color, node);
+        }
+    }
+
+    private Geometry bakeGeometry(int[] members) {
+        int vertexCount = getVertexCount();
+        float[] normals = getNormalData();
+        float[] texcoords = getTexcoordData();
+        int[] indices = getIndexData();
+        int[] submeshCounts = getSubmeshCountData();
+
+        // Each submesh holds that submesh of every instance, so it keeps its material
+        int[] bakedIndices = new int[indices.length * members.length];
+        int[] bakedCounts = new int[submeshCounts.length];
+        int start = 0;
+        int written = 0;
+        for (int s = 0; s < submeshCounts.length; s++) {
+            int end = Math.min(start + Math.max(submeshCounts[s], 0), indices.length);
+            for (int k = 0; k < members.length; k++) {
+                int base = k * vertexCount;
+                for (int i = start; i < end; i++) {
+                    bakedIndices[written++] = indices[i] + base;
+                }
+            }
+            bakedCounts[s] = (end - start) * members.length;
+            start = end;
+        }
+
+        float[] bakedTexcoords = new float[texcoords.length * members.length];
+        for (int k = 0; k < members.length; k++) {
+            System.arraycopy(texcoords, 0, bakedTexcoords, k * texcoords.length, texcoords.length);
+        }
+
+        List<Vector> vertexVectors = new ArrayList<>();
+        fillVectors(vertexVectors, bakeVertices(getVertexData(), mTransforms, members, false), 3, 0,
+                vertexCount * members.length);
+        List<Vector> normalVectors = new ArrayList<>();
+        fillVectors(normalVectors, bakeVertices(normals, mTransforms, members, true), 3, 0,
+                normals.length / 3 * members.length);
+        List<Vector> texcoordVectors = new ArrayList<>();
+        fillVectors(texcoordVectors, bakedTexcoords, 2, 0, texcoords.length / 2 * members.length);
+
+        Geometry geometry = new Geometry();
+        geometry.setVertices(vertexVectors);
+        geometry.setTextureCoordinates(texcoordVectors);
+        geometry.setNormals(normalVectors);
+        geometry.setSubmeshes(buildSubmeshes(bakedIndices, bakedCounts));
+        return geometry;
+    }
+
+    private void applyBakedMaterials(Geometry geometry, int color) {
+        if (color != NO_COLOR) {
+            applyColorMaterials(geometry, color);
+        } else if (mInstanceMaterials != null) {
+            geometry.copyAndSetMaterials(mInstanceMaterials);
+        }
+    }
+
+    private void disposeBaked() {
+        for (int i = 0; i < mBakedNodes.size(); i++) {
+            Node node = mBakedNodes.valueAt(i);
+            node.removeFromParentNode();
+            node.dispose();
+            mBakedGeometries.valueAt(i).dispose();
+        }
+        mBakedNodes.clear();
+        mBakedGeometries.clear();
+    }
+
+    /**
+     * Transform xyz points, or normals, by each of the given instances and return them back to
+     * back. A point becomes R * (S * p) + T, with R rotating about x, then y, then z as the
+     * renderer does. A normal becomes R * (n / S), normalized, so it stays perpendicular to the
+     * scaled surface.
+     */
+    static float[] bakeVertices(float[] data, float[] transforms, int[] members, boolean normals) {
+        int pointCount = data.length / 3;
+        float[] baked = new float[pointCount * 3 * members.length];
+        int out = 0;
+        for (int member : members) {
+            int offset = member * FLOATS_PER_INSTANCE;
+            double rx = Math.toRadians(transforms[offset + 3]);
+            double ry = Math.toRadians(transforms[offset + 4]);
+            double rz = Math.toRadians(transforms[offset + 5]);
+            double cx = Math.cos(rx), sx = Math.sin(rx);
+            double cy = Math.cos(ry), sy = Math.sin(ry);
+            double cz = Math.cos(rz), sz = Math.sin(rz);
+            // Rz * Ry * Rx
+            double r00 = cz * cy, r01 = cz * sy * sx - sz * cx, r02 = cz * sy * cx + sz * sx;
+            double r10 = sz * cy, r11 = sz * sy * sx + cz * cx, r12 = sz * sy * cx - cz * sx;
+            double r20 = -sy, r21 = cy * sx, r22 = cy * cx;
+
+            double scaleX = transforms[offset + 6];
+            double scaleY = transforms[offset + 7];
+            double scaleZ = transforms[offset + 8];
+            if (normals) {
+                scaleX = scaleX != 0 ? 1 / scaleX : 0;
+                scaleY = scaleY != 0 ? 1 / scaleY : 0;
+                scaleZ = scaleZ != 0 ? 1 / scaleZ : 0;
+            }
+
+            for (int p = 0; p < pointCount; p++) {
+                double x = data[p * 3] * scaleX;
+                double y = data[p * 3 + 1] * scaleY;
+                double z = data[p * 3 + 2] * scaleZ;
+                double bx = r00 * x + r01 * y + r02 * z;
+                double by = r10 * x + r11 * y + r12 * z;
+                double bz = r20 * x + r21 * y + r22 * z;
+                if (normals) {
+                    double length = Math.sqrt(bx * bx + by * by + bz * bz);
+                    if (length > 0) {
+                        bx /= length;
+                        by /= length;
+                        bz /= length;
+                    }
+                } else {
+                    bx += transforms[offset];
+                    by += transforms[offset + 1];
+                    bz += transforms[offset + 2];
+                }
+                baked[out++] = (float) bx;
+                baked[out++] = (float) by;
+                baked[out++] = (float) bz;
+            }
+        }
+        return baked;
+    }
+}
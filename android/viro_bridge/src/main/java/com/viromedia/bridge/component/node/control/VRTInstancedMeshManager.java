@@ -0,0 +1,85 @@
+//  Copyright © 2025 ReactVision. All rights reserved.
+//
+//  Permission is hereby granted, free of charge, to any person obtaining
+//  a copy of this software and associated documentation files (the
+//  "Software"), to deal in the Software without restriction, including
+//  without limitation the rights to use, copy, modify, merge, publish,
+//  distribute, sublicense, and/or sell copies of the Software, and to
+//  permit persons to whom the Software is furnished to do so, subject to
+//  the following conditions:
+//
+//  The above copyright notice and this permission notice shall be included
+//  in all copies or substantial portions of the Software.
+//
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+//  EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+//  MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+//  IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY
+//  CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+//  TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+//  SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+
+package com.viromedia.bridge.component.node.control;
+
+import com.facebook.react.bridge.ReactApplicationContext;
+import com.facebook.react.bridge.ReadableArray;
+import com.facebook.react.uimanager.ThemedReactContext;
+import com.facebook.react.uimanager.annotations.ReactProp;
+
+/**
+ * Manager for VRTInstancedMesh. The mesh props are those of VRTGeometry.
+ */
+public class VRTInstancedMeshManager extends VRTGeometryManager {
+
+    public VRTInstancedMeshManager(ReactApplicationContext context) {
+        super(context);
+    }
+
+    @Override
+    public String getName() {
+        return "VRTInstancedMesh";
+    }
+
+    @Override
+    protected VRTGeometry createViewInstance(ThemedReactContext reactContext) {
+        return new VRTInstancedMesh(reactContext);
+    }
+
+    @ReactProp(name = "staticInstances", defaultBoolean = false)
+    public void setStaticInstances(VRTInstancedMesh view, boolean staticInstances) {
+        view.setStaticInstances(staticInstances);
+    }
+
+    @ReactProp(name = "instanceTransforms")
+    public void setInstanceTransforms(VRTInstancedMesh view, ReadableArray transforms) {
+        view.setInstanceTransforms(toFloatArray(transforms));
+    }
+
+    @ReactProp(name = "instanceColors")
+    public void setInstanceColors(VRTInstancedMesh view, ReadableArray colors) {
+        view.setInstanceColors(toColorArray(colors));
+    }
+
+    public static float[] toFloatArray(ReadableArray array) {
+        if (array == null) {
+            return null;
+        }
+        float[] result = new float[array.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = (float) array.getDouble(i);
+        }
+        return result;
+    }
+
+    // Processed colors may arrive as unsigned 32 bit values
+    public static int[] toColorArray(ReadableArray array) {
+        if (array == null) {
+            return null;
+        }
+        int[] result = new int[array.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = (int) (long) array.getDouble(i);
+        }
+        return result;
+    }
+}
@@ -32,13 +32,15 @@ import com.viro.core.Texture;
 import com.viro.core.ViroContext;
 import com.viro.core.Quad;
 import com.viro.core.VideoTexture;
+import com.viromedia.bridge.component.node.VRTCullingPolicy;
 import com.viromedia.bridge.utility.Helper;
 import com.viromedia.bridge.utility.ViroEvents;
+import com.viromedia.bridge.utility.ViroResourceGovernor;
 
 import java.lang.ref.WeakReference;
 import java.util.List;
 
-public class VRTVideoSurface extends VRTControl {
+public class VRTVideoSurface extends VRTControl implements ViroResourceGovernor.Resource {
 
     private static class VideoSurfaceDelegate implements VideoTexture.PlaybackListener {
 
@@ -111,6 +113,7 @@ public class VRTVideoSurface extends VRTControl {
     private VideoTexture.PlaybackListener mDelegate = null;
     private String mStereoMode;
     private boolean mGeometryNeedsUpdate = false;
+    private boolean mVideoEvicted = false;
 
     public VRTVideoSurface(ReactContext reactContext) {
         super(reactContext);
@@ -118,6 +121,7 @@ public class VRTVideoSurface extends VRTControl {
 
     @Override
     public void onTearDown(){
+        ViroResourceGovernor.getInstance().untrack(this);
         if (mQuad != null) {
             mQuad.dispose();
             mQuad = null;
@@ -157,6 +161,9 @@ public class VRTVideoSurface extends VRTControl {
         loadVideo();
 
         mVideoTexture.setPlaybackListener(mDelegate);
+        mVideoEvicted = false;
+        ViroResourceGovernor.getInstance().track(this, ViroResourceGovernor.Kind.VIDEO,
+                ViroResourceGovernor.ESTIMATED_VIDEO_BYTES);
     }
 
     @Override
@@ -207,7 +214,7 @@ public class VRTVideoSurface extends VRTControl {
             return;
         }
 
-        if (mPaused || !shouldAppear()) {
+        if (mPaused || !shouldAppear() || isSuspended(VRTCullingPolicy.SUSPEND_VIDEO)) {
             mVideoTexture.pause();
         } else {
             mVideoTexture.play();
@@ -218,10 +225,7 @@ public class VRTVideoSurface extends VRTControl {
         mLoop = loop;
         if (mVideoTexture != null) {
             mVideoTexture.setLoop(loop);
-
-            if (!mPaused) {
-                mVideoTexture.play();
-            }
+            setPaused(mPaused);
         }
     }
 
@@ -242,18 +246,54 @@ public class VRTVideoSurface extends VRTControl {
     public void seekToTime(float time) {
         if (mVideoTexture != null) {
             mVideoTexture.seekToTime(time);
-            if (!mPaused) {
-                mVideoTexture.play();
-            }
+            setPaused(mPaused);
         }
     }
 
     @Override
     protected void handleAppearanceChange() {
+        // Recreate the video if the resource governor evicted it while hidden.
+        if (mVideoEvicted && shouldAppear()) {
+            resetVideo();
+        }
         setPaused(mPaused);
         super.handleAppearanceChange();
     }
 
+    @Override
+    protected void onSuspensionChanged(int changedFlags) {
+        if ((changedFlags & VRTCullingPolicy.SUSPEND_VIDEO) != 0) {
+            setPaused(mPaused);
+        }
+    }
+
+    @Override
+    public boolean isResourceVisible() {
+        return shouldAppear();
+    }
+
+    @Override
+    public long evictResource() {
+        if (isTornDown() || mVideoTexture == null) {
+            return 0;
+        }
+        mVideoTexture.pause();
+        mVideoTexture.dispose();
+        mVideoTexture = null;
+        mVideoEvicted = true;
+        return ViroResourceGovernor.ESTIMATED_VIDEO_BYTES;
+    }
+
+    @Override
+    public boolean downscaleResource() {
+        return false;
+    }
+
+    @Override
+    public String getResourceSource() {
+        return mSource;
+    }
+
     private void playerBufferStart() {
         mReactContext.getJSModule(RCTEventEmitter.class).receiveEvent(
                 getId(),
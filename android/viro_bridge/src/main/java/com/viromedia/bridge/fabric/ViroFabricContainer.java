@@ -2,12 +2,12 @@ package com.viromedia.bridge.fabric;
 
 import android.content.Context;
 import android.util.Log;
+import android.util.SparseArray;
 import android.view.View;
 import android.view.ViewGroup;
 import android.widget.FrameLayout;
 import android.content.ComponentCallbacks2;
 import android.content.res.Configuration;
-import android.app.ActivityManager;
 import android.os.Handler;
 import android.os.Looper;
 
@@ -27,7 +27,9 @@ import com.viromedia.bridge.component.VRT3DSceneNavigator;
 import com.viromedia.bridge.component.VRTARSceneNavigator;
 import com.viromedia.bridge.component.VRTVRSceneNavigator;
 import com.viromedia.bridge.component.VRTComponent;
+import com.viromedia.bridge.component.node.VRTLOD;
 import com.viromedia.bridge.component.node.VRTNode;
+import com.viromedia.bridge.component.node.VRTRayBatch;
 import com.viromedia.bridge.component.node.VRTScene;
 import com.viromedia.bridge.component.node.VRTARScene;
 import com.viromedia.bridge.component.node.control.VRTBox;
@@ -40,6 +42,9 @@ import com.viromedia.bridge.component.node.control.VRT3DObject;
 import com.viromedia.bridge.component.node.control.VRTPolygon;
 import com.viromedia.bridge.component.node.control.VRTPolyline;
 import com.viromedia.bridge.component.node.control.VRTGeometry;
+import com.viromedia.bridge.component.node.control.VRTGeometryManager;
+import com.viromedia.bridge.component.node.control.VRTInstancedMesh;
+import com.viromedia.bridge.component.node.control.VRTInstancedMeshManager;
 import com.viromedia.bridge.component.node.control.VRTAnimatedImage;
 import com.viromedia.bridge.component.node.control.VRTParticleEmitter;
 import com.viromedia.bridge.component.node.VRTFlexView;
@@ -62,16 +67,26 @@ import com.viromedia.bridge.component.VRTSoundField;
 import com.viromedia.bridge.component.VRTSpatialSoundWrapper;
 import com.viromedia.bridge.utility.Helper;
 import com.viromedia.bridge.utility.ComponentEventDelegate;
+import com.viromedia.bridge.utility.ViroEventQueue;
+import com.viromedia.bridge.utility.ViroFrameMetrics;
+import com.viromedia.bridge.utility.ViroLog;
+import com.viromedia.bridge.utility.ViroPackedEventBuffer;
+import com.viromedia.bridge.utility.ViroResourceGovernor;
+import com.viromedia.bridge.utility.ViroTrace;
 import com.viromedia.bridge.module.MaterialManager;
 import com.viromedia.bridge.module.AnimationManager;
 import com.facebook.react.bridge.ReadableArray;
 import com.facebook.react.bridge.ReadableType;
 import com.viromedia.bridge.ReactViroPackage;
+import com.viro.core.PhysicsBody;
 import com.viro.core.ViroContext;
 import com.viro.core.ViroView;
 import com.viro.core.RendererConfiguration;
 
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Map;
 import java.util.List;
 import java.util.ArrayList;
@@ -100,6 +115,20 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
     // Event delegate for handling Viro events
     private ViroFabricEventDelegate mEventDelegate;
 
+    // Type of each component, and the accumulated props of the components created with
+    // RECORD_SNAPSHOT_PROP, used to snapshot subtrees
+    private final Map<String, String> mComponentTypes = new HashMap<>();
+    private final Map<String, HashMap<String, Object>> mComponentProps = new HashMap<>();
+    static final String RECORD_SNAPSHOT_PROP = "recordSnapshot";
+
+    // Numeric handles for components, used as the node id in packed event records
+    private final Map<String, Integer> mNodeHandles = new HashMap<>();
+    private final SparseArray<String> mNodeHandleIds = new SparseArray<>();
+    private int mNextNodeHandle = 1;
+
+    // Packed binary events, flushed to JS once per frame
+    private ViroPackedEventBuffer mPackedEventBuffer;
+
     // Scene manager for lifecycle and memory management
     private ViroFabricSceneManager mSceneManager;
 
@@ -117,6 +146,7 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
     
     // Advanced memory management
     private MemoryPressureHandler mMemoryPressureHandler;
+    private ViroResourceGovernor.ActionListener mResourceActionListener;
     private Handler mMemoryMonitorHandler;
     private Runnable mMemoryMonitorRunnable;
     private static final long MEMORY_MONITOR_INTERVAL_MS = 10000; // Check every 10 seconds
@@ -154,6 +184,16 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
         // Initialize event delegate
         mEventDelegate = new ViroFabricEventDelegate(this, mReactContext, getId());
 
+        // Initialize packed event buffer
+        mPackedEventBuffer = new ViroPackedEventBuffer(new ViroPackedEventBuffer.FlushListener() {
+            @Override
+            public void onFlush(ByteBuffer buffer, int length) {
+                if (mJSIBridge != null && mJSIBridge.isAvailable()) {
+                    dispatchPackedEvents(buffer, length);
+                }
+            }
+        });
+
         // Initialize scene manager
         mSceneManager = new ViroFabricSceneManager(this, mReactContext);
         mSceneManager.setLifecycleListener(this);
@@ -170,7 +210,7 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
             public void run() {
                 try {
                     initHybrid();
-                    Log.d(TAG, "JSI bridge initialized successfully");
+                    ViroLog.debug(TAG, "JSI bridge initialized successfully");
                 } catch (Exception e) {
                     Log.e(TAG, "Failed to initialize JSI bridge", e);
                 }
@@ -219,7 +259,7 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
      * Initialize ViroPlatform and 3D engine integration.
      */
     private void initializeViroPlatform() {
-        Log.d(TAG, "Initializing ViroPlatform integration");
+        ViroLog.debug(TAG, "Initializing ViroPlatform integration");
         
         try {
             // Initialize renderer configuration
@@ -228,7 +268,7 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
             // Set default platform based on detection or preference
             mViroPlatform = detectOptimalPlatform();
             
-            Log.d(TAG, "ViroPlatform initialized with platform: " + mViroPlatform);
+            ViroLog.debug(TAG, "ViroPlatform initialized with platform: " + mViroPlatform);
             mViroPlatformInitialized = true;
             
         } catch (Exception e) {
@@ -248,7 +288,7 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
             // - Check for Daydream/Cardboard support
             // - Fall back to basic 3D rendering
             
-            Log.d(TAG, "Auto-detecting optimal platform - defaulting to AR");
+            ViroLog.debug(TAG, "Auto-detecting optimal platform - defaulting to AR");
             return ReactViroPackage.ViroPlatform.AR;
             
         } catch (Exception e) {
@@ -262,7 +302,7 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
      */
     @DoNotStrip
     public void setViroPlatform(String platformName) {
-        Log.d(TAG, "Setting ViroPlatform: " + platformName);
+        ViroLog.debug(TAG, "Setting ViroPlatform: " + platformName);
         
         try {
             switch (platformName.toLowerCase()) {
@@ -287,7 +327,7 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
             // Reinitialize navigators if platform changed
             initializeNavigatorsForPlatform();
             
-            Log.d(TAG, "ViroPlatform set to: " + mViroPlatform);
+            ViroLog.debug(TAG, "ViroPlatform set to: " + mViroPlatform);
             
         } catch (Exception e) {
             Log.e(TAG, "Error setting ViroPlatform: " + e.getMessage(), e);
@@ -298,7 +338,7 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
      * Initialize the appropriate navigators based on the selected platform.
      */
     private void initializeNavigatorsForPlatform() {
-        Log.d(TAG, "Initializing navigators for platform: " + mViroPlatform);
+        ViroLog.debug(TAG, "Initializing navigators for platform: " + mViroPlatform);
         
         try {
             switch (mViroPlatform) {
@@ -307,7 +347,7 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
                         mARSceneNavigator = new VRTARSceneNavigator(mReactContext);
                         addView(mARSceneNavigator);
                         mIsAR = true;
-                        Log.d(TAG, "AR Scene Navigator initialized");
+                        ViroLog.debug(TAG, "AR Scene Navigator initialized");
                     }
                     break;
                     
@@ -316,7 +356,7 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
                         mVRSceneNavigator = new VRTVRSceneNavigator(mReactContext, ReactViroPackage.ViroPlatform.GVR);
                         addView(mVRSceneNavigator);
                         mIsVR = true;
-                        Log.d(TAG, "GVR Scene Navigator initialized");
+                        ViroLog.debug(TAG, "GVR Scene Navigator initialized");
                     }
                     break;
                     
@@ -325,7 +365,7 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
                         mVRSceneNavigator = new VRTVRSceneNavigator(mReactContext, ReactViroPackage.ViroPlatform.OVR_MOBILE);
                         addView(mVRSceneNavigator);
                         mIsVR = true;
-                        Log.d(TAG, "OVR Mobile Scene Navigator initialized");
+                        ViroLog.debug(TAG, "OVR Mobile Scene Navigator initialized");
                     }
                     break;
                     
@@ -335,7 +375,7 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
                         mSceneNavigator = new VRT3DSceneNavigator(mReactContext, mViroPlatform);
                         addView(mSceneNavigator);
                         mIs3D = true;
-                        Log.d(TAG, "3D Scene Navigator initialized as fallback");
+                        ViroLog.debug(TAG, "3D Scene Navigator initialized as fallback");
                     }
                     break;
             }
@@ -352,7 +392,7 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
      * Connect to the real ViroEngine and get the ViroContext.
      */
     private void connectToViroEngine() {
-        Log.d(TAG, "Connecting to ViroEngine");
+        ViroLog.debug(TAG, "Connecting to ViroEngine");
         
         try {
             ViewGroup activeNavigator = getActiveNavigator();
@@ -367,7 +407,7 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
                 mViroContext = viroView.getViroContext();
                 
                 if (mViroContext != null) {
-                    Log.d(TAG, "Successfully connected to ViroEngine with ViroContext");
+                    ViroLog.debug(TAG, "Successfully connected to ViroEngine with ViroContext");
                     
                     // Configure renderer for optimal performance
                     configureRenderer();
@@ -396,7 +436,7 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
                 return (ViroView) viroView;
             }
         } catch (Exception e) {
-            Log.d(TAG, "Could not get ViroView through getViroView method: " + e.getMessage());
+            ViroLog.debug(TAG, "Could not get ViroView through getViroView method: " + e.getMessage());
         }
         
         try {
@@ -408,7 +448,7 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
                 return (ViroView) viroView;
             }
         } catch (Exception e) {
-            Log.d(TAG, "Could not access mViroView field: " + e.getMessage());
+            ViroLog.debug(TAG, "Could not access mViroView field: " + e.getMessage());
         }
         
         // Last resort: search child views
@@ -456,7 +496,7 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
                     break;
             }
             
-            Log.d(TAG, "Renderer configured for platform: " + mViroPlatform);
+            ViroLog.debug(TAG, "Renderer configured for platform: " + mViroPlatform);
             
         } catch (Exception e) {
             Log.e(TAG, "Error configuring renderer: " + e.getMessage(), e);
@@ -504,7 +544,7 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
      * Initialize the Viro system with complete navigator support.
      */
     public void initialize(boolean debug, boolean arEnabled, String worldAlignment) {
-        Log.d(TAG, "Initializing Viro with ViroPlatform integration - debug: " + debug + ", AR: " + arEnabled + ", worldAlignment: " + worldAlignment);
+        ViroLog.debug(TAG, "Initializing Viro with ViroPlatform integration - debug: " + debug + ", AR: " + arEnabled + ", worldAlignment: " + worldAlignment);
         
         // Clean up any existing navigators
         cleanup();
@@ -521,7 +561,7 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
             // Set world alignment if specified (AR only)
             if (arEnabled && worldAlignment != null) {
                 setARWorldAlignment(worldAlignment);
-                Log.d(TAG, "AR world alignment set to: " + worldAlignment);
+                ViroLog.debug(TAG, "AR world alignment set to: " + worldAlignment);
             }
             
             // Wait for ViroPlatform initialization
@@ -539,7 +579,7 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
             event.putBoolean("viroPlatformInitialized", isViroPlatformInitialized());
             sendEvent("onInitialized", event);
             
-            Log.d(TAG, "Viro initialization completed successfully with platform: " + getViroPlatform());
+            ViroLog.debug(TAG, "Viro initialization completed successfully with platform: " + getViroPlatform());
         } catch (Exception e) {
             Log.e(TAG, "Error during Viro initialization", e);
             
@@ -566,7 +606,7 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
                 mAnimationManager = mReactContext.getNativeModule(AnimationManager.class);
             }
 
-            Log.d(TAG, "Managers initialized successfully");
+            ViroLog.debug(TAG, "Managers initialized successfully");
         } catch (Exception e) {
             Log.e(TAG, "Error initializing managers", e);
         }
@@ -582,7 +622,7 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
             // Try to set world alignment using reflection
             Method setWorldAlignmentMethod = mARSceneNavigator.getClass().getMethod("setWorldAlignment", String.class);
             setWorldAlignmentMethod.invoke(mARSceneNavigator, worldAlignment);
-            Log.d(TAG, "World alignment set to: " + worldAlignment);
+            ViroLog.debug(TAG, "World alignment set to: " + worldAlignment);
         } catch (Exception e) {
             Log.w(TAG, "Could not set world alignment, method may not be available: " + e.getMessage());
         }
@@ -592,7 +632,7 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
      * Clean up the Viro system.
      */
     public void cleanup() {
-        Log.d(TAG, "Cleaning up Viro system");
+        ViroLog.debug(TAG, "Cleaning up Viro system");
         
         try {
             // Remove and release any existing navigators
@@ -611,9 +651,13 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
 
             // Clear component registry
             mComponentRegistry.clear();
+            mComponentTypes.clear();
+            mComponentProps.clear();
 
             // Clear event callback registry
             mEventCallbackRegistry.clear();
+            mNodeHandles.clear();
+            mNodeHandleIds.clear();
 
             // Clean up scene manager
             if (mSceneManager != null) {
@@ -634,7 +678,7 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
             mIsVR = false;
             mIs3D = false;
 
-            Log.d(TAG, "Cleanup completed successfully");
+            ViroLog.debug(TAG, "Cleanup completed successfully");
         } catch (Exception e) {
             Log.e(TAG, "Error during cleanup", e);
         }
@@ -669,7 +713,9 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
     private void initHybrid() {
         try {
             mJSIBridge = new ViroFabricContainerJSI(mReactContext, this);
-            Log.d(TAG, "JSI bridge initialized successfully");
+            if (ViroLog.isDebugEnabled()) {
+                ViroLog.debug(TAG, "JSI bridge initialized successfully");
+            }
         } catch (Exception e) {
             Log.e(TAG, "Failed to initialize JSI bridge", e);
         }
@@ -689,11 +735,28 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
     }
 
     /**
-     * Create a component - complete implementation with full functionality.
+     * Create a component, traced as Viro:createComponent.
      */
     @DoNotStrip
     public void createComponent(String componentId, String componentType, ReadableMap props) {
-        Log.d(TAG, "Creating component: " + componentId + " of type: " + componentType);
+        ViroTrace.beginSection(ViroTrace.CREATE_COMPONENT);
+        long start = ViroFrameMetrics.now();
+        try {
+            createComponentInternal(componentId, componentType, props);
+        } finally {
+            ViroFrameMetrics.addPropTime(start);
+            ViroTrace.setCounter(ViroTrace.COUNTER_COMPONENTS, mComponentRegistry.size());
+            ViroTrace.endSection();
+        }
+    }
+
+    /**
+     * Create a component - complete implementation with full functionality.
+     */
+    private void createComponentInternal(String componentId, String componentType, ReadableMap props) {
+        if (ViroLog.isDebugEnabled()) {
+            ViroLog.debug(TAG, "Creating component: " + componentId + " of type: " + componentType);
+        }
         
         // Get the appropriate navigator
         ViewGroup navigator = getActiveNavigator();
@@ -706,7 +769,20 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
             // Create the appropriate VRT component based on type
             VRTComponent component = createVRTComponent(componentType, props);
             if (component != null) {
+                // Fabric components only deliver the events JS subscribes to
+                component.getEventSubscriptions();
+                // Nothing lays out Fabric nodes as Android views, so keep their children in the
+                // compact node tree. Flex views still need their children as views for 2D layout.
+                component.setLightweight(!(component instanceof VRTFlexView));
                 mComponentRegistry.put(componentId, component);
+                mComponentTypes.put(componentId, componentType);
+                // Converting props costs on every create and update, so only components that
+                // opt in are recorded for snapshots
+                if (props != null && props.hasKey(RECORD_SNAPSHOT_PROP)
+                        && props.getType(RECORD_SNAPSHOT_PROP) == ReadableType.Boolean
+                        && props.getBoolean(RECORD_SNAPSHOT_PROP)) {
+                    mComponentProps.put(componentId, props.toHashMap());
+                }
                 
                 // Add to navigator if it's a scene
                 if (component instanceof VRTScene && navigator instanceof VRT3DSceneNavigator) {
@@ -715,7 +791,9 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
                     ((VRTARSceneNavigator) navigator).addView(component);
                 }
                 
-                Log.d(TAG, "Successfully created component: " + componentId);
+                if (ViroLog.isDebugEnabled()) {
+                    ViroLog.debug(TAG, "Successfully created component: " + componentId);
+                }
             } else {
                 Log.w(TAG, "Failed to create component of type: " + componentType);
             }
@@ -777,6 +855,10 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
                     component = new VRTFlexView(mReactContext);
                     break;
                     
+                case "lod":
+                    component = new VRTLOD(mReactContext);
+                    break;
+                    
                 // Shape components
                 case "polygon":
                     component = new VRTPolygon(mReactContext);
@@ -790,6 +872,10 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
                     component = new VRTGeometry(mReactContext);
                     break;
                     
+                case "instancedMesh":
+                    component = new VRTInstancedMesh(mReactContext);
+                    break;
+                    
                 // Media components
                 case "animatedImage":
                     component = new VRTAnimatedImage(mReactContext);
@@ -893,11 +979,27 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
     }
 
     /**
-     * Update a component with complete property support.
+     * Update a component, traced as Viro:updateComponent.
      */
     @DoNotStrip
     public void updateComponent(String componentId, ReadableMap props) {
-        Log.d(TAG, "Updating component: " + componentId);
+        ViroTrace.beginSection(ViroTrace.UPDATE_COMPONENT);
+        long start = ViroFrameMetrics.now();
+        try {
+            updateComponentInternal(componentId, props);
+        } finally {
+            ViroFrameMetrics.addPropTime(start);
+            ViroTrace.endSection();
+        }
+    }
+
+    /**
+     * Update a component with complete property support.
+     */
+    private void updateComponentInternal(String componentId, ReadableMap props) {
+        if (ViroLog.isDebugEnabled()) {
+            ViroLog.debug(TAG, "Updating component: " + componentId);
+        }
         
         // Get the component from the registry
         VRTComponent component = mComponentRegistry.get(componentId);
@@ -908,18 +1010,39 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
         
         try {
             applyComponentProperties(component, props);
-            Log.d(TAG, "Successfully updated component: " + componentId);
+            HashMap<String, Object> recordedProps = mComponentProps.get(componentId);
+            if (recordedProps != null && props != null) {
+                recordedProps.putAll(props.toHashMap());
+            }
+            if (ViroLog.isDebugEnabled()) {
+                ViroLog.debug(TAG, "Successfully updated component: " + componentId);
+            }
         } catch (Exception e) {
             Log.e(TAG, "Error updating component " + componentId + ": " + e.getMessage(), e);
         }
     }
 
     /**
-     * Delete a component with proper cleanup.
+     * Delete a component, traced as Viro:deleteComponent.
      */
     @DoNotStrip
     public void deleteComponent(String componentId) {
-        Log.d(TAG, "Deleting component: " + componentId);
+        ViroTrace.beginSection(ViroTrace.DELETE_COMPONENT);
+        try {
+            deleteComponentInternal(componentId);
+        } finally {
+            ViroTrace.setCounter(ViroTrace.COUNTER_COMPONENTS, mComponentRegistry.size());
+            ViroTrace.endSection();
+        }
+    }
+
+    /**
+     * Delete a component with proper cleanup.
+     */
+    private void deleteComponentInternal(String componentId) {
+        if (ViroLog.isDebugEnabled()) {
+            ViroLog.debug(TAG, "Deleting component: " + componentId);
+        }
         
         // Get the component from the registry
         VRTComponent component = mComponentRegistry.get(componentId);
@@ -930,9 +1053,11 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
         
         try {
             // Remove the component from its parent
-            ViewGroup parent = (ViewGroup) component.getParent();
-            if (parent != null) {
-                parent.removeView(component);
+            VRTComponent parentComponent = component.getParentComponent();
+            if (parentComponent != null) {
+                parentComponent.removeView(component);
+            } else if (component.getParent() instanceof ViewGroup) {
+                ((ViewGroup) component.getParent()).removeView(component);
             }
             
             // Clean up the component
@@ -940,7 +1065,12 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
             
             // Remove the component from the registry
             mComponentRegistry.remove(componentId);
-            Log.d(TAG, "Successfully deleted component: " + componentId);
+            mComponentTypes.remove(componentId);
+            mComponentProps.remove(componentId);
+            removeNodeHandle(componentId);
+            if (ViroLog.isDebugEnabled()) {
+                ViroLog.debug(TAG, "Successfully deleted component: " + componentId);
+            }
         } catch (Exception e) {
             Log.e(TAG, "Error deleting component " + componentId + ": " + e.getMessage(), e);
         }
@@ -951,7 +1081,9 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
      */
     @DoNotStrip
     public void addChild(String childId, String parentId) {
-        Log.d(TAG, "Adding child " + childId + " to parent " + parentId);
+        if (ViroLog.isDebugEnabled()) {
+            ViroLog.debug(TAG, "Adding child " + childId + " to parent " + parentId);
+        }
         
         // Get the parent and child components from the registry
         VRTComponent parent = mComponentRegistry.get(parentId);
@@ -964,18 +1096,139 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
         
         try {
             parent.addView(child);
-            Log.d(TAG, "Successfully added child to parent");
+            if (ViroLog.isDebugEnabled()) {
+                ViroLog.debug(TAG, "Successfully added child to parent");
+            }
         } catch (Exception e) {
             Log.e(TAG, "Error adding child " + childId + " to parent " + parentId + ": " + e.getMessage(), e);
         }
     }
 
+    /**
+     * Snapshot the subtree rooted at the given component into a compact binary description of
+     * its node types, props (transforms, materials, geometry parameters, ...) and hierarchy.
+     * Props are only recorded for components created with the recordSnapshot prop; others are
+     * snapshot with their type alone.
+     *
+     * @return the snapshot, or null if the component is unknown.
+     */
+    @DoNotStrip
+    public byte[] snapshotSubtree(String rootId) {
+        VRTComponent root = mComponentRegistry.get(rootId);
+        if (root == null) {
+            Log.e(TAG, "Cannot snapshot subtree: component not found - " + rootId);
+            return null;
+        }
+        
+        try {
+            Map<VRTComponent, String> componentIds = new IdentityHashMap<>();
+            for (Map.Entry<String, VRTComponent> entry : mComponentRegistry.entrySet()) {
+                componentIds.put(entry.getValue(), entry.getKey());
+            }
+            
+            List<ViroSceneSnapshot.Node> nodes = new ArrayList<>();
+            collectSnapshotNodes(root, rootId, -1, componentIds, nodes);
+            byte[] snapshot = ViroSceneSnapshot.encode(nodes);
+            if (ViroLog.isDebugEnabled()) {
+                ViroLog.debug(TAG, "Snapshot " + nodes.size() + " nodes under " + rootId + " into " + snapshot.length + " bytes");
+            }
+            return snapshot;
+        } catch (Exception e) {
+            Log.e(TAG, "Error snapshotting subtree " + rootId + ": " + e.getMessage(), e);
+            return null;
+        }
+    }
+    
+    private void collectSnapshotNodes(VRTComponent component, String componentId, int parentIndex,
+                                      Map<VRTComponent, String> componentIds,
+                                      List<ViroSceneSnapshot.Node> nodes) {
+        String type = mComponentTypes.get(componentId);
+        if (type == null) {
+            return;
+        }
+        
+        int index = nodes.size();
+        nodes.add(new ViroSceneSnapshot.Node(type, parentIndex, mComponentProps.get(componentId)));
+        for (int i = 0; i < component.getChildCount(); i++) {
+            View child = component.getChildAt(i);
+            String childId = componentIds.get(child);
+            if (childId != null) {
+                collectSnapshotNodes((VRTComponent) child, childId, index, componentIds, nodes);
+            }
+        }
+    }
+    
+    /**
+     * Re-create a snapshot taken by {@link #snapshotSubtree} from one JSI call. This saves the
+     * per-node createComponent and addChild crossings, but each node is still created and
+     * attached one at a time, as those calls would. Node i gets the id idPrefix + i and the
+     * snapshot root is added to the given parent, if any.
+     *
+     * @return the node handles of the created components in snapshot order, or an empty array
+     *         if the snapshot is invalid or any of its ids is already in use.
+     */
+    @DoNotStrip
+    public int[] instantiateSnapshot(byte[] snapshot, String parentId, String idPrefix) {
+        ViroTrace.beginSection(ViroTrace.CREATE_COMPONENT);
+        long start = ViroFrameMetrics.now();
+        try {
+            return instantiateSnapshotInternal(snapshot, parentId, idPrefix);
+        } finally {
+            ViroFrameMetrics.addPropTime(start);
+            ViroTrace.setCounter(ViroTrace.COUNTER_COMPONENTS, mComponentRegistry.size());
+            ViroTrace.endSection();
+        }
+    }
+    
+    private int[] instantiateSnapshotInternal(byte[] snapshot, String parentId, String idPrefix) {
+        List<ViroSceneSnapshot.Node> nodes;
+        try {
+            nodes = ViroSceneSnapshot.decode(snapshot);
+        } catch (IllegalArgumentException e) {
+            Log.e(TAG, "Cannot instantiate snapshot: " + e.getMessage());
+            return new int[0];
+        }
+        
+        for (int i = 0; i < nodes.size(); i++) {
+            if (mComponentRegistry.containsKey(idPrefix + i)) {
+                Log.e(TAG, "Cannot instantiate snapshot: id already in use - " + idPrefix + i);
+                return new int[0];
+            }
+        }
+        
+        int[] handles = new int[nodes.size()];
+        for (int i = 0; i < nodes.size(); i++) {
+            ViroSceneSnapshot.Node node = nodes.get(i);
+            String componentId = idPrefix + i;
+            createComponentInternal(componentId, node.type, Arguments.makeNativeMap(node.props));
+            
+            // Attach directly rather than through addChild to skip its per-call logging
+            VRTComponent component = mComponentRegistry.get(componentId);
+            VRTComponent parent = mComponentRegistry.get(node.parent >= 0 ? idPrefix + node.parent : parentId);
+            if (component != null && parent != null) {
+                try {
+                    parent.addView(component);
+                } catch (Exception e) {
+                    Log.e(TAG, "Error attaching snapshot node " + componentId + ": " + e.getMessage(), e);
+                }
+            }
+            handles[i] = getNodeHandle(componentId);
+        }
+        
+        if (ViroLog.isDebugEnabled()) {
+            ViroLog.debug(TAG, "Instantiated " + nodes.size() + " nodes from snapshot under " + parentId);
+        }
+        return handles;
+    }
+    
     /**
      * Remove a child from a parent with proper cleanup.
      */
     @DoNotStrip
     public void removeChild(String childId, String parentId) {
-        Log.d(TAG, "Removing child " + childId + " from parent " + parentId);
+        if (ViroLog.isDebugEnabled()) {
+            ViroLog.debug(TAG, "Removing child " + childId + " from parent " + parentId);
+        }
         
         // Get the parent and child components from the registry
         VRTComponent parent = mComponentRegistry.get(parentId);
@@ -988,7 +1241,9 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
         
         try {
             parent.removeView(child);
-            Log.d(TAG, "Successfully removed child from parent");
+            if (ViroLog.isDebugEnabled()) {
+                ViroLog.debug(TAG, "Successfully removed child from parent");
+            }
         } catch (Exception e) {
             Log.e(TAG, "Error removing child " + childId + " from parent " + parentId + ": " + e.getMessage(), e);
         }
@@ -999,7 +1254,9 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
      */
     @DoNotStrip
     public void registerEventCallback(String callbackId, String eventName, String componentId) {
-        Log.d(TAG, "Registering event callback: " + callbackId + " for event: " + eventName + " on component: " + componentId);
+        if (ViroLog.isDebugEnabled()) {
+            ViroLog.debug(TAG, "Registering event callback: " + callbackId + " for event: " + eventName + " on component: " + componentId);
+        }
         
         // Get the component from the registry
         VRTComponent component = mComponentRegistry.get(componentId);
@@ -1018,7 +1275,9 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
                 mEventDelegate.registerEventCallback(callbackId, eventName, componentId);
             }
             
-            Log.d(TAG, "Successfully registered event callback");
+            if (ViroLog.isDebugEnabled()) {
+                ViroLog.debug(TAG, "Successfully registered event callback");
+            }
         } catch (Exception e) {
             Log.e(TAG, "Error registering event callback for component " + componentId + ": " + e.getMessage(), e);
         }
@@ -1029,7 +1288,9 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
      */
     @DoNotStrip
     public void unregisterEventCallback(String callbackId, String eventName, String componentId) {
-        Log.d(TAG, "Unregistering event callback: " + callbackId + " for event: " + eventName + " on component: " + componentId);
+        if (ViroLog.isDebugEnabled()) {
+            ViroLog.debug(TAG, "Unregistering event callback: " + callbackId + " for event: " + eventName + " on component: " + componentId);
+        }
         
         try {
             // Remove the callback ID from the registry
@@ -1041,7 +1302,9 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
                 mEventDelegate.unregisterEventCallback(callbackId, eventName, componentId);
             }
             
-            Log.d(TAG, "Successfully unregistered event callback");
+            if (ViroLog.isDebugEnabled()) {
+                ViroLog.debug(TAG, "Successfully unregistered event callback");
+            }
         } catch (Exception e) {
             Log.e(TAG, "Error unregistering event callback for component " + componentId + ": " + e.getMessage(), e);
         }
@@ -1095,12 +1358,22 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
      */
     @DoNotStrip
     private void dispatchEventToJSImpl(String callbackId, ReadableMap data) {
+        ViroTrace.beginSection(ViroTrace.DISPATCH_EVENTS);
+        long start = ViroFrameMetrics.now();
+        try {
+            dispatchEventToJSInternal(callbackId, data);
+        } finally {
+            ViroFrameMetrics.addEventTime(start);
+            ViroTrace.endSection();
+        }
+    }
+
+    private void dispatchEventToJSInternal(String callbackId, ReadableMap data) {
         try {
             // Try to use the JSI bridge first for optimal performance
             if (mJSIBridge != null && mJSIBridge.isAvailable()) {
                 // Call the native JSI method to dispatch directly to JavaScript
                 if (dispatchEventViaJSI(callbackId, data)) {
-                    Log.d(TAG, "Event dispatched successfully via JSI bridge");
                     return;
                 }
                 Log.w(TAG, "JSI event dispatch failed, falling back to RCTEventEmitter");
@@ -1121,13 +1394,343 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
      */
     @DoNotStrip
     private native boolean dispatchEventViaJSI(String callbackId, ReadableMap data);
+    
+    /**
+     * Hand a frame of packed events to the JSI bridge, which copies the first length bytes
+     * into an ArrayBuffer for JS (implemented in C++).
+     */
+    @DoNotStrip
+    private native void dispatchPackedEvents(ByteBuffer buffer, int length);
+    
+    /**
+     * Get the numeric handle of a component, assigning one on first use.
+     */
+    @DoNotStrip
+    public int getNodeHandle(String componentId) {
+        Integer handle = mNodeHandles.get(componentId);
+        if (handle == null) {
+            handle = mNextNodeHandle++;
+            mNodeHandles.put(componentId, handle);
+            mNodeHandleIds.put(handle, componentId);
+        }
+        return handle;
+    }
+
+    /**
+     * Drop the handle of a deleted component. Handles are never reused, so a stale handle
+     * from JS simply no longer resolves.
+     */
+    private void removeNodeHandle(String componentId) {
+        Integer handle = mNodeHandles.remove(componentId);
+        if (handle != null) {
+            mNodeHandleIds.remove(handle);
+        }
+    }
+    
+    /**
+     * Set the transforms of many nodes at once. For each handle, transforms holds nine floats:
+     * position xyz, rotation xyz in degrees and scale xyz. A part whose first value is NaN is
+     * left unchanged. The values are copied into each node's arrays, and all nodes reach the
+     * renderer together on the next frame.
+     */
+    @DoNotStrip
+    public void setNodeTransforms(int[] handles, float[] transforms) {
+        long start = ViroFrameMetrics.now();
+        int count = Math.min(handles.length, transforms.length / 9);
+        for (int i = 0; i < count; i++) {
+            String componentId = mNodeHandleIds.get(handles[i]);
+            VRTComponent component = componentId != null ? mComponentRegistry.get(componentId) : null;
+            if (component instanceof VRTNode) {
+                ((VRTNode) component).setTransform(transforms, i * 9);
+            }
+        }
+        ViroFrameMetrics.addPropTime(start);
+    }
+    
+    /**
+     * Update the transforms of a range of instances of an instanced mesh, nine floats per
+     * instance starting at instance start. Other instances are left untouched.
+     */
+    @DoNotStrip
+    public void updateInstanceTransforms(int handle, int start, float[] transforms) {
+        long timingStart = ViroFrameMetrics.now();
+        VRTInstancedMesh mesh = getInstancedMesh(handle);
+        if (mesh != null) {
+            mesh.updateInstanceTransforms(start, transforms);
+        }
+        ViroFrameMetrics.addPropTime(timingStart);
+    }
+    
+    /**
+     * Update the ARGB colors of a range of instances of an instanced mesh, starting at instance
+     * start. A color of 0 restores the plain materials.
+     */
+    @DoNotStrip
+    public void updateInstanceColors(int handle, int start, int[] colors) {
+        long timingStart = ViroFrameMetrics.now();
+        VRTInstancedMesh mesh = getInstancedMesh(handle);
+        if (mesh != null) {
+            mesh.updateInstanceColors(start, colors);
+        }
+        ViroFrameMetrics.addPropTime(timingStart);
+    }
+    
+    /**
+     * Replace the mesh data of a geometry with flat arrays: three floats per vertex and normal,
+     * two per texcoord, and the triangle indices of all submeshes back to back with the number
+     * of indices of each submesh. Null arrays are left unchanged; only the parts given are
+     * re-uploaded.
+     */
+    @DoNotStrip
+    public void setGeometryData(int handle, float[] vertices, float[] normals, float[] texcoords,
+                                int[] indices, int[] submeshCounts) {
+        long timingStart = ViroFrameMetrics.now();
+        VRTGeometry geometry = getGeometry(handle);
+        if (geometry != null) {
+            if (vertices != null) {
+                geometry.setVertices(vertices);
+            }
+            if (normals != null) {
+                geometry.setNormals(normals);
+            }
+            if (texcoords != null) {
+                geometry.setTexcoords(texcoords);
+            }
+            if (indices != null) {
+                geometry.setTriangleIndices(indices);
+            }
+            if (submeshCounts != null) {
+                geometry.setSubmeshCounts(submeshCounts);
+            }
+            geometry.updateGeometry();
+        }
+        ViroFrameMetrics.addPropTime(timingStart);
+    }
+    
+    /**
+     * Overwrite the vertices of a geometry starting at vertex offset, three floats per vertex.
+     * Normals, texcoords and indices are left untouched; the renderer is still given every
+     * vertex on the next frame, see VRTGeometry.
+     */
+    @DoNotStrip
+    public void updateGeometryVertices(int handle, int offset, float[] vertices) {
+        long timingStart = ViroFrameMetrics.now();
+        VRTGeometry geometry = getGeometry(handle);
+        if (geometry != null) {
+            geometry.updateVertexRange(offset, vertices);
+        }
+        ViroFrameMetrics.addPropTime(timingStart);
+    }
+    
+    /**
+     * Read the world transforms (nine floats per handle, as in setNodeTransforms) or bounding
+     * boxes (six floats: minX, maxX, minY, maxY, minZ, maxZ) of many nodes at once. Entries of
+     * unknown handles are NaN. Called synchronously from JS, so the values are those of the last
+     * rendered frame.
+     */
+    @DoNotStrip
+    public float[] queryNodes(int[] handles, boolean boundingBoxes) {
+        int stride = boundingBoxes ? 6 : 9;
+        float[] values = new float[handles.length * stride];
+        for (int i = 0; i < handles.length; i++) {
+            String componentId = mNodeHandleIds.get(handles[i]);
+            VRTComponent component = componentId != null ? mComponentRegistry.get(componentId) : null;
+            boolean found = false;
+            if (component instanceof VRTNode) {
+                VRTNode node = (VRTNode) component;
+                found = boundingBoxes ? node.getBoundingBox(values, i * stride)
+                        : node.getWorldTransform(values, i * stride);
+            }
+            if (!found) {
+                Arrays.fill(values, i * stride, (i + 1) * stride, Float.NaN);
+            }
+        }
+        return values;
+    }
+    
+    /**
+     * As queryNodes, but read on the UI thread, resolving the promise with the packed values.
+     */
+    @DoNotStrip
+    public void queryNodesAsync(final int[] handles, final boolean boundingBoxes, final String promiseId) {
+        UiThreadUtil.runOnUiThread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    resolvePromiseWithFloats(promiseId, queryNodes(handles, boundingBoxes));
+                } catch (Exception e) {
+                    Log.e(TAG, "Error querying nodes: " + e.getMessage(), e);
+                    rejectPromise(promiseId, "Failed to query nodes: " + e.getMessage());
+                }
+            }
+        });
+    }
+    
+    /**
+     * Apply a batch of physics commands on the UI thread, so they all reach the renderer before
+     * the same physics step. commands holds a (handle, op) pair per command, with op one of the
+     * VRTNode PHYSICS_OP_* values, and values six floats per command as read by
+     * VRTNode.applyPhysicsCommand. The promise resolves with the indices of the commands that
+     * failed: unknown handles and nodes without a physics body.
+     */
+    @DoNotStrip
+    public void applyPhysicsCommandsAsync(final int[] commands, final float[] values, final String promiseId) {
+        UiThreadUtil.runOnUiThread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    long start = ViroFrameMetrics.now();
+                    int count = Math.min(commands.length / 2, values.length / VRTNode.PHYSICS_COMMAND_FLOATS);
+                    float[] failed = new float[count];
+                    int failedCount = 0;
+                    for (int i = 0; i < count; i++) {
+                        String componentId = mNodeHandleIds.get(commands[i * 2]);
+                        VRTComponent component = componentId != null ? mComponentRegistry.get(componentId) : null;
+                        if (!(component instanceof VRTNode) || !((VRTNode) component).applyPhysicsCommand(
+                                commands[i * 2 + 1], values, i * VRTNode.PHYSICS_COMMAND_FLOATS)) {
+                            failed[failedCount++] = i;
+                        }
+                    }
+                    ViroFrameMetrics.addPropTime(start);
+                    resolvePromiseWithFloats(promiseId, Arrays.copyOf(failed, failedCount));
+                } catch (Exception e) {
+                    Log.e(TAG, "Error applying physics commands: " + e.getMessage(), e);
+                    rejectPromise(promiseId, "Failed to apply physics commands: " + e.getMessage());
+                }
+            }
+        });
+    }
+    
+    /**
+     * Cast a batch of rays against the physics world of the scene with the given handle, see
+     * VRTRayBatch. The promise resolves with the packed hits and the viroTags of the nodes hit.
+     */
+    @DoNotStrip
+    public void findCollisionsWithRaysAsync(final int sceneHandle, final float[] origins,
+                                            final float[] directions, final float maxDistance,
+                                            final String shapeType, final float[] shapeParams,
+                                            final String tag, final String promiseId) {
+        UiThreadUtil.runOnUiThread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    String componentId = mNodeHandleIds.get(sceneHandle);
+                    VRTComponent component = componentId != null ? mComponentRegistry.get(componentId) : null;
+                    if (!(component instanceof VRTScene)) {
+                        rejectPromise(promiseId, "findCollisionsWithRays expects the handle of a scene");
+                        return;
+                    }
+                    if (shapeType != null) {
+                        String error = PhysicsBody.checkIsValidShapeType(shapeType, shapeParams);
+                        if (error != null) {
+                            rejectPromise(promiseId, error);
+                            return;
+                        }
+                    }
+                    ((VRTScene) component).findCollisionsWithRaysAsync(origins, directions, maxDistance,
+                            shapeType, shapeParams, tag, new VRTRayBatch.Callback() {
+                                @Override
+                                public void onComplete(float[] hits, String[] tags) {
+                                    resolvePromiseWithFloatsAndTags(promiseId, hits, tags);
+                                }
+                            });
+                } catch (Exception e) {
+                    Log.e(TAG, "Error casting rays: " + e.getMessage(), e);
+                    rejectPromise(promiseId, "Failed to cast rays: " + e.getMessage());
+                }
+            }
+        });
+    }
+    
+    private VRTGeometry getGeometry(int handle) {
+        String componentId = mNodeHandleIds.get(handle);
+        VRTComponent component = componentId != null ? mComponentRegistry.get(componentId) : null;
+        if (!(component instanceof VRTGeometry)) {
+            Log.w(TAG, "Cannot update geometry: no geometry with handle " + handle);
+            return null;
+        }
+        return (VRTGeometry) component;
+    }
+    
+    private VRTInstancedMesh getInstancedMesh(int handle) {
+        String componentId = mNodeHandleIds.get(handle);
+        VRTComponent component = componentId != null ? mComponentRegistry.get(componentId) : null;
+        if (!(component instanceof VRTInstancedMesh)) {
+            Log.w(TAG, "Cannot update instances: no instanced mesh with handle " + handle);
+            return null;
+        }
+        return (VRTInstancedMesh) component;
+    }
+    
+    /**
+     * Subscribe to the packed binary form of a numeric event on a component. Subsequent events
+     * of this kind are written to the packed buffer instead of being sent as maps.
+     * @return the component's node handle, or 0 if the event has no packed form.
+     */
+    @DoNotStrip
+    public int registerPackedEventCallback(String componentId, String eventName) {
+        VRTComponent component = mComponentRegistry.get(componentId);
+        int type = getPackedEventType(eventName);
+        if (!(component instanceof VRTNode) || type == 0) {
+            Log.w(TAG, "Cannot register packed event " + eventName + " on component " + componentId);
+            return 0;
+        }
+        
+        VRTNode node = (VRTNode) component;
+        int handle = getNodeHandle(componentId);
+        node.getComponentEventDelegate().setPackedEventEnabled(type, true, mPackedEventBuffer, handle);
+        if (mEventDelegate != null) {
+            mEventDelegate.subscribe(node, eventName);
+        }
+        return handle;
+    }
+    
+    /**
+     * Unsubscribe from the packed form of an event; the event reverts to map delivery.
+     */
+    @DoNotStrip
+    public void unregisterPackedEventCallback(String componentId, String eventName) {
+        VRTComponent component = mComponentRegistry.get(componentId);
+        int type = getPackedEventType(eventName);
+        if (component instanceof VRTNode && type != 0) {
+            ((VRTNode) component).getComponentEventDelegate().setPackedEventEnabled(type, false, null, 0);
+            if (mEventDelegate != null) {
+                mEventDelegate.unsubscribe(component, eventName);
+            }
+        }
+    }
+    
+    private static int getPackedEventType(String eventName) {
+        switch (eventName) {
+            case "onDrag":
+                return ViroPackedEventBuffer.TYPE_DRAG;
+            case "onScroll":
+                return ViroPackedEventBuffer.TYPE_SCROLL;
+            case "onPinch":
+                return ViroPackedEventBuffer.TYPE_PINCH;
+            case "onRotate":
+                return ViroPackedEventBuffer.TYPE_ROTATE;
+            case "onCameraTransformUpdate":
+                return ViroPackedEventBuffer.TYPE_CAMERA_TRANSFORM;
+            case "onTransformUpdate":
+                return ViroPackedEventBuffer.TYPE_TRANSFORM_UPDATE;
+            case "onCameraARHitTest":
+                return ViroPackedEventBuffer.TYPE_AR_HIT_TEST;
+            case "onARPointCloudUpdate":
+                return ViroPackedEventBuffer.TYPE_AR_POINT_CLOUD;
+            default:
+                return 0;
+        }
+    }
 
     /**
      * Create a material with complete material support.
      */
     @DoNotStrip
     public void createMaterial(String materialName, ReadableMap properties) {
-        Log.d(TAG, "Creating material: " + materialName);
+        if (ViroLog.isDebugEnabled()) {
+            ViroLog.debug(TAG, "Creating material: " + materialName);
+        }
         
         try {
             // Initialize material manager if needed
@@ -1140,7 +1743,9 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
                 WritableMap materialsMap = Arguments.createMap();
                 materialsMap.putMap(materialName, properties);
                 mMaterialManager.setJSMaterials(materialsMap);
-                Log.d(TAG, "Successfully created material: " + materialName);
+                if (ViroLog.isDebugEnabled()) {
+                    ViroLog.debug(TAG, "Successfully created material: " + materialName);
+                }
             } else {
                 Log.e(TAG, "MaterialManager not available");
             }
@@ -1154,7 +1759,9 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
      */
     @DoNotStrip
     public void updateMaterial(String materialName, ReadableMap properties) {
-        Log.d(TAG, "Updating material: " + materialName);
+        if (ViroLog.isDebugEnabled()) {
+            ViroLog.debug(TAG, "Updating material: " + materialName);
+        }
         
         try {
             // Initialize material manager if needed
@@ -1167,7 +1774,9 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
                 WritableMap materialsMap = Arguments.createMap();
                 materialsMap.putMap(materialName, properties);
                 mMaterialManager.setJSMaterials(materialsMap);
-                Log.d(TAG, "Successfully updated material: " + materialName);
+                if (ViroLog.isDebugEnabled()) {
+                    ViroLog.debug(TAG, "Successfully updated material: " + materialName);
+                }
             } else {
                 Log.e(TAG, "MaterialManager not available for update");
             }
@@ -1181,7 +1790,9 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
      */
     @DoNotStrip
     public void createAnimation(String animationName, ReadableMap properties) {
-        Log.d(TAG, "Creating animation: " + animationName);
+        if (ViroLog.isDebugEnabled()) {
+            ViroLog.debug(TAG, "Creating animation: " + animationName);
+        }
         
         try {
             // Initialize animation manager if needed
@@ -1194,7 +1805,9 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
                 WritableMap animationsMap = Arguments.createMap();
                 animationsMap.putMap(animationName, properties);
                 mAnimationManager.setJSAnimations(animationsMap);
-                Log.d(TAG, "Successfully created animation: " + animationName);
+                if (ViroLog.isDebugEnabled()) {
+                    ViroLog.debug(TAG, "Successfully created animation: " + animationName);
+                }
             } else {
                 Log.e(TAG, "AnimationManager not available");
             }
@@ -1208,7 +1821,9 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
      */
     @DoNotStrip
     public void executeAnimation(String animationName, String componentId, ReadableMap options) {
-        Log.d(TAG, "Executing animation: " + animationName + " on component: " + componentId);
+        if (ViroLog.isDebugEnabled()) {
+            ViroLog.debug(TAG, "Executing animation: " + animationName + " on component: " + componentId);
+        }
         
         // Get the component from the registry
         VRTComponent component = mComponentRegistry.get(componentId);
@@ -1239,7 +1854,9 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
             }
             
             setAnimationMethod.invoke(component, animationConfig);
-            Log.d(TAG, "Successfully executed animation: " + animationName + " on component: " + componentId);
+            if (ViroLog.isDebugEnabled()) {
+                ViroLog.debug(TAG, "Successfully executed animation: " + animationName + " on component: " + componentId);
+            }
         } catch (Exception e) {
             Log.e(TAG, "Error executing animation " + animationName + " on component " + componentId + ": " + e.getMessage(), e);
         }
@@ -1252,7 +1869,9 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
      */
     @DoNotStrip
     public void createScene(String sceneId, String sceneType, ReadableMap props) {
-        Log.d(TAG, "Creating scene: " + sceneId + " of type: " + sceneType);
+        if (ViroLog.isDebugEnabled()) {
+            ViroLog.debug(TAG, "Creating scene: " + sceneId + " of type: " + sceneType);
+        }
         
         if (mSceneManager != null) {
             mSceneManager.createScene(sceneId, sceneType, props);
@@ -1262,11 +1881,25 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
     }
     
     /**
-     * Activate a scene.
+     * Activate a scene, traced as Viro:activateScene.
      */
     @DoNotStrip
     public void activateScene(String sceneId) {
-        Log.d(TAG, "Activating scene: " + sceneId);
+        ViroTrace.beginSection(ViroTrace.ACTIVATE_SCENE);
+        try {
+            activateSceneInternal(sceneId);
+        } finally {
+            ViroTrace.endSection();
+        }
+    }
+
+    /**
+     * Activate a scene.
+     */
+    private void activateSceneInternal(String sceneId) {
+        if (ViroLog.isDebugEnabled()) {
+            ViroLog.debug(TAG, "Activating scene: " + sceneId);
+        }
         
         if (mSceneManager != null) {
             mSceneManager.activateScene(sceneId);
@@ -1280,7 +1913,9 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
      */
     @DoNotStrip
     public void deactivateScene(String sceneId) {
-        Log.d(TAG, "Deactivating scene: " + sceneId);
+        if (ViroLog.isDebugEnabled()) {
+            ViroLog.debug(TAG, "Deactivating scene: " + sceneId);
+        }
         
         if (mSceneManager != null) {
             mSceneManager.deactivateScene(sceneId);
@@ -1294,7 +1929,9 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
      */
     @DoNotStrip
     public void destroyScene(String sceneId) {
-        Log.d(TAG, "Destroying scene: " + sceneId);
+        if (ViroLog.isDebugEnabled()) {
+            ViroLog.debug(TAG, "Destroying scene: " + sceneId);
+        }
         
         if (mSceneManager != null) {
             mSceneManager.destroyScene(sceneId);
@@ -1303,6 +1940,22 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
         }
     }
     
+    /**
+     * Preload a scene off-screen until the given fraction of its assets has loaded.
+     */
+    @DoNotStrip
+    public void preloadScene(String sceneId, float activationThreshold) {
+        if (ViroLog.isDebugEnabled()) {
+            ViroLog.debug(TAG, "Preloading scene: " + sceneId);
+        }
+        
+        if (mSceneManager != null) {
+            mSceneManager.preloadScene(sceneId, activationThreshold);
+        } else {
+            Log.e(TAG, "Scene manager not available");
+        }
+    }
+    
     /**
      * Get the state of a scene.
      */
@@ -1332,13 +1985,33 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
         return null;
     }
     
+    /**
+     * Get the state of a scene along with its estimated memory and whether it is held in the
+     * scene cache.
+     */
+    @DoNotStrip
+    public WritableMap getSceneInfo(String sceneId) {
+        if (mSceneManager == null) {
+            return null;
+        }
+        
+        WritableMap info = mSceneManager.getSceneMemoryEstimate(sceneId);
+        if (info != null) {
+            info.putString("state", getSceneState(sceneId));
+        }
+        return info;
+    }
+    
     /**
      * Get memory statistics.
      */
     @DoNotStrip
     public WritableMap getMemoryStats() {
         if (mSceneManager != null) {
-            return mSceneManager.getMemoryStats();
+            WritableMap stats = mSceneManager.getMemoryStats();
+            stats.putMap("eventQueue", ViroEventQueue.getInstance().getStats());
+            stats.putMap("resources", ViroResourceGovernor.getInstance().getStats());
+            return stats;
         } else {
             WritableMap stats = Arguments.createMap();
             stats.putString("error", "Scene manager not available");
@@ -1351,7 +2024,9 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
      */
     @DoNotStrip
     public void performMemoryCleanup() {
-        Log.d(TAG, "Performing memory cleanup");
+        if (ViroLog.isDebugEnabled()) {
+            ViroLog.debug(TAG, "Performing memory cleanup");
+        }
         
         if (mSceneManager != null) {
             mSceneManager.performMemoryCleanup();
@@ -1359,6 +2034,35 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
             Log.w(TAG, "Scene manager not available for memory cleanup");
         }
     }
+
+    /**
+     * Set how often memory, CPU and GC metrics are sampled in the background.
+     */
+    @DoNotStrip
+    public void setMetricsSampleInterval(int intervalMs) {
+        if (ViroLog.isDebugEnabled()) {
+            ViroLog.debug(TAG, "Setting metrics sample interval: " + intervalMs + "ms");
+        }
+        
+        if (mSceneManager != null) {
+            mSceneManager.setMetricsSampleInterval(intervalMs);
+        }
+    }
+
+    /**
+     * Set the resource governor's byte budgets from {textureBytes, modelBytes, soundBytes,
+     * videoBytes}. Assets over a budget are reclaimed on the next frame.
+     */
+    @DoNotStrip
+    public void setResourceBudgets(ReadableMap budgets) {
+        if (ViroLog.isDebugEnabled()) {
+            ViroLog.debug(TAG, "Setting resource budgets: " + budgets);
+        }
+        ViroResourceGovernor.getInstance().configure(budgets);
+        if (mSceneManager != null && budgets.hasKey("sceneCacheBytes")) {
+            mSceneManager.setSceneCacheBudget((long) budgets.getDouble("sceneCacheBytes"));
+        }
+    }
     
     // ======================== AR Configuration Methods ========================
     
@@ -1367,7 +2071,9 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
      */
     @DoNotStrip
     public void setARPlaneDetection(ReadableMap config) {
-        Log.d(TAG, "Setting AR plane detection configuration");
+        if (ViroLog.isDebugEnabled()) {
+            ViroLog.debug(TAG, "Setting AR plane detection configuration");
+        }
         
         if (!mIsAR || mARSceneNavigator == null) {
             Log.w(TAG, "Cannot set AR plane detection: not in AR mode");
@@ -1395,7 +2101,9 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
                     Log.w(TAG, "Could not set plane detection alignment, method may not be available: " + e.getMessage());
                 }
                 
-                Log.d(TAG, "Successfully configured AR plane detection - enabled: " + enabled + ", alignment: " + alignment);
+                if (ViroLog.isDebugEnabled()) {
+                    ViroLog.debug(TAG, "Successfully configured AR plane detection - enabled: " + enabled + ", alignment: " + alignment);
+                }
             }
         } catch (Exception e) {
             Log.e(TAG, "Error setting AR plane detection: " + e.getMessage(), e);
@@ -1407,7 +2115,9 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
      */
     @DoNotStrip
     public void setARImageTargets(ReadableMap targets) {
-        Log.d(TAG, "Setting AR image targets");
+        if (ViroLog.isDebugEnabled()) {
+            ViroLog.debug(TAG, "Setting AR image targets");
+        }
         
         if (!mIsAR || mARSceneNavigator == null) {
             Log.w(TAG, "Cannot set AR image targets: not in AR mode");
@@ -1420,7 +2130,9 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
                 try {
                     Method setImageTargetsMethod = mARSceneNavigator.getClass().getMethod("setImageTargets", ReadableMap.class);
                     setImageTargetsMethod.invoke(mARSceneNavigator, targets);
-                    Log.d(TAG, "Successfully configured AR image targets");
+                    if (ViroLog.isDebugEnabled()) {
+                        ViroLog.debug(TAG, "Successfully configured AR image targets");
+                    }
                 } catch (Exception e) {
                     Log.w(TAG, "Could not set image targets, method may not be available: " + e.getMessage());
                 }
@@ -1537,10 +2249,24 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
                 setComponentProperty(component, "setPhysicsBody", physicsBody);
             }
             
+            // Culling policy; null turns culling off
+            if (component instanceof VRTNode && props.hasKey("cullingPolicy")) {
+                ((VRTNode) component).setCullingPolicy(props.getType("cullingPolicy") == ReadableType.Map
+                        ? props.getMap("cullingPolicy") : null);
+            }
+
+            if (component instanceof VRTNode && props.hasKey("collisionStayInterval")) {
+                ((VRTNode) component).setCollisionStayInterval(props.isNull("collisionStayInterval")
+                        ? VRTNode.DEFAULT_COLLISION_STAY_INTERVAL
+                        : (float) props.getDouble("collisionStayInterval"));
+            }
+
             // Component-specific properties
             applyComponentSpecificProperties(component, props);
             
-            Log.d(TAG, "Applied properties to component successfully");
+            if (ViroLog.isDebugEnabled()) {
+                ViroLog.debug(TAG, "Applied properties to component successfully");
+            }
         } catch (Exception e) {
             Log.e(TAG, "Error applying component properties: " + e.getMessage(), e);
         }
@@ -1614,6 +2340,60 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
                 }
             }
             
+            // Geometry and instanced mesh properties; the geometry is rebuilt here since
+            // onPropsSet is not called for Fabric components
+            else if (component instanceof VRTGeometry) {
+                VRTGeometry geometry = (VRTGeometry) component;
+                boolean geometryChanged = false;
+                if (props.hasKey("vertices") && props.getType("vertices") == ReadableType.Array) {
+                    geometry.setVertices(VRTGeometryManager.convertVertexArray(props.getArray("vertices"), 3, "vertices"));
+                    geometryChanged = true;
+                }
+                if (props.hasKey("normals") && props.getType("normals") == ReadableType.Array) {
+                    geometry.setNormals(VRTGeometryManager.convertVertexArray(props.getArray("normals"), 3, "normals"));
+                    geometryChanged = true;
+                }
+                if (props.hasKey("texcoords") && props.getType("texcoords") == ReadableType.Array) {
+                    geometry.setTexcoords(VRTGeometryManager.convertVertexArray(props.getArray("texcoords"), 2, "texcoords"));
+                    geometryChanged = true;
+                }
+                if (props.hasKey("triangleIndices") && props.getType("triangleIndices") == ReadableType.Array) {
+                    ReadableArray triangleIndices = props.getArray("triangleIndices");
+                    geometry.setTriangleIndices(VRTGeometryManager.convertTriangleIndices(triangleIndices));
+                    geometry.setSubmeshCounts(VRTGeometryManager.convertSubmeshCounts(triangleIndices));
+                    geometryChanged = true;
+                }
+                if (geometryChanged) {
+                    geometry.updateGeometry();
+                }
+                if (component instanceof VRTInstancedMesh) {
+                    VRTInstancedMesh mesh = (VRTInstancedMesh) component;
+                    if (props.hasKey("staticInstances")) {
+                        mesh.setStaticInstances(props.getType("staticInstances") == ReadableType.Boolean
+                                && props.getBoolean("staticInstances"));
+                    }
+                    if (props.hasKey("instanceTransforms")) {
+                        mesh.setInstanceTransforms(props.getType("instanceTransforms") == ReadableType.Array
+                                ? VRTInstancedMeshManager.toFloatArray(props.getArray("instanceTransforms")) : null);
+                    }
+                    if (props.hasKey("instanceColors")) {
+                        mesh.setInstanceColors(props.getType("instanceColors") == ReadableType.Array
+                                ? VRTInstancedMeshManager.toColorArray(props.getArray("instanceColors")) : null);
+                    }
+                    mesh.updateInstances();
+                }
+            }
+            
+            // LOD-specific properties
+            else if (component instanceof VRTLOD) {
+                if (props.hasKey("distances") && props.getType("distances") == ReadableType.Array) {
+                    setComponentProperty(component, "setDistances", convertArrayToFloatArray(props.getArray("distances")));
+                }
+                if (props.hasKey("hysteresis") && props.getType("hysteresis") == ReadableType.Number) {
+                    setComponentProperty(component, "setHysteresis", (float) props.getDouble("hysteresis"));
+                }
+            }
+            
             // Sound-specific properties
             else if (component instanceof VRTSound) {
                 if (props.hasKey("source") && props.getType("source") == ReadableType.Map) {
@@ -1714,7 +2494,9 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
     // Scene lifecycle listener implementation
     @Override
     public void onSceneCreated(String sceneId, VRTComponent scene) {
-        Log.d(TAG, "Scene lifecycle: Scene created - " + sceneId);
+        if (ViroLog.isDebugEnabled()) {
+            ViroLog.debug(TAG, "Scene lifecycle: Scene created - " + sceneId);
+        }
         
         // Send event to JavaScript
         WritableMap event = new WritableNativeMap();
@@ -1725,7 +2507,9 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
 
     @Override
     public void onSceneActivated(String sceneId, VRTComponent scene) {
-        Log.d(TAG, "Scene lifecycle: Scene activated - " + sceneId);
+        if (ViroLog.isDebugEnabled()) {
+            ViroLog.debug(TAG, "Scene lifecycle: Scene activated - " + sceneId);
+        }
         
         // Send event to JavaScript
         WritableMap event = new WritableNativeMap();
@@ -1736,7 +2520,9 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
 
     @Override
     public void onSceneDeactivated(String sceneId, VRTComponent scene) {
-        Log.d(TAG, "Scene lifecycle: Scene deactivated - " + sceneId);
+        if (ViroLog.isDebugEnabled()) {
+            ViroLog.debug(TAG, "Scene lifecycle: Scene deactivated - " + sceneId);
+        }
         
         // Send event to JavaScript
         WritableMap event = new WritableNativeMap();
@@ -1747,7 +2533,9 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
 
     @Override
     public void onSceneDestroyed(String sceneId) {
-        Log.d(TAG, "Scene lifecycle: Scene destroyed - " + sceneId);
+        if (ViroLog.isDebugEnabled()) {
+            ViroLog.debug(TAG, "Scene lifecycle: Scene destroyed - " + sceneId);
+        }
         
         // Send event to JavaScript
         WritableMap event = new WritableNativeMap();
@@ -1756,6 +2544,17 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
         sendEvent("onSceneStateChanged", event);
     }
 
+    @Override
+    public void onScenePreloadProgress(String sceneId, int loadedAssets, int totalAssets, boolean ready) {
+        WritableMap event = new WritableNativeMap();
+        event.putString("sceneId", sceneId);
+        event.putInt("loadedAssets", loadedAssets);
+        event.putInt("totalAssets", totalAssets);
+        event.putDouble("progress", totalAssets == 0 ? 1.0 : (double) loadedAssets / totalAssets);
+        event.putBoolean("ready", ready);
+        sendEvent("onScenePreloadProgress", event);
+    }
+
     @Override
     public void onMemoryWarning() {
         Log.w(TAG, "Scene lifecycle: Memory warning received");
@@ -1776,7 +2575,9 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
      */
     @DoNotStrip
     public void recenterTracking(String nodeId) {
-        Log.d(TAG, "Recentering tracking for node: " + nodeId);
+        if (ViroLog.isDebugEnabled()) {
+            ViroLog.debug(TAG, "Recentering tracking for node: " + nodeId);
+        }
         
         if (!mIsAR || mARSceneNavigator == null) {
             Log.w(TAG, "Cannot recenter tracking: not in AR mode");
@@ -1791,9 +2592,13 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
                 Method recenterMethod = mARSceneNavigator.getClass().getMethod("recenterTracking");
                 recenterMethod.invoke(mARSceneNavigator);
                 trackingReset = true;
-                Log.d(TAG, "Successfully recentered tracking using recenterTracking method");
+                if (ViroLog.isDebugEnabled()) {
+                    ViroLog.debug(TAG, "Successfully recentered tracking using recenterTracking method");
+                }
             } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
-                Log.d(TAG, "recenterTracking method not available, trying alternatives");
+                if (ViroLog.isDebugEnabled()) {
+                    ViroLog.debug(TAG, "recenterTracking method not available, trying alternatives");
+                }
             }
             
             // Method 2: Try reset world origin
@@ -1802,9 +2607,13 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
                     Method resetWorldOriginMethod = mARSceneNavigator.getClass().getMethod("resetWorldOrigin");
                     resetWorldOriginMethod.invoke(mARSceneNavigator);
                     trackingReset = true;
-                    Log.d(TAG, "Successfully recentered tracking using resetWorldOrigin method");
+                    if (ViroLog.isDebugEnabled()) {
+                        ViroLog.debug(TAG, "Successfully recentered tracking using resetWorldOrigin method");
+                    }
                 } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
-                    Log.d(TAG, "resetWorldOrigin method not available");
+                    if (ViroLog.isDebugEnabled()) {
+                        ViroLog.debug(TAG, "resetWorldOrigin method not available");
+                    }
                 }
             }
             
@@ -1814,9 +2623,13 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
                     Method resetSessionMethod = mARSceneNavigator.getClass().getMethod("resetSession");
                     resetSessionMethod.invoke(mARSceneNavigator);
                     trackingReset = true;
-                    Log.d(TAG, "Successfully recentered tracking using resetSession method");
+                    if (ViroLog.isDebugEnabled()) {
+                        ViroLog.debug(TAG, "Successfully recentered tracking using resetSession method");
+                    }
                 } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
-                    Log.d(TAG, "resetSession method not available");
+                    if (ViroLog.isDebugEnabled()) {
+                        ViroLog.debug(TAG, "resetSession method not available");
+                    }
                 }
             }
             
@@ -1830,10 +2643,14 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
                         Method resumeMethod = session.getClass().getMethod("resume");
                         resumeMethod.invoke(session);
                         trackingReset = true;
-                        Log.d(TAG, "Successfully recentered tracking using AR session resume");
+                        if (ViroLog.isDebugEnabled()) {
+                            ViroLog.debug(TAG, "Successfully recentered tracking using AR session resume");
+                        }
                     }
                 } catch (Exception e) {
-                    Log.d(TAG, "AR session methods not available: " + e.getMessage());
+                    if (ViroLog.isDebugEnabled()) {
+                        ViroLog.debug(TAG, "AR session methods not available: " + e.getMessage());
+                    }
                 }
             }
             
@@ -1852,7 +2669,9 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
                 // mSceneManager.setTrackingInfo(trackingInfo);
             }
             
-            Log.d(TAG, "Tracking recenter operation completed for node: " + nodeId + " (success: " + trackingReset + ")");
+            if (ViroLog.isDebugEnabled()) {
+                ViroLog.debug(TAG, "Tracking recenter operation completed for node: " + nodeId + " (success: " + trackingReset + ")");
+            }
             
         } catch (Exception e) {
             Log.e(TAG, "Error recentering tracking for node " + nodeId + ": " + e.getMessage(), e);
@@ -1864,7 +2683,9 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
      */
     @DoNotStrip
     public void projectPoint(String nodeId, float x, float y, float z) {
-        Log.d(TAG, "Projecting point [" + x + ", " + y + ", " + z + "] for node: " + nodeId);
+        if (ViroLog.isDebugEnabled()) {
+            ViroLog.debug(TAG, "Projecting point [" + x + ", " + y + ", " + z + "] for node: " + nodeId);
+        }
         
         try {
             // Get the active navigator for projection calculations
@@ -1892,10 +2713,14 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
                 Object result = projectPointMethod.invoke(activeNavigator, x, y, z);
                 if (result != null) {
                     projectionDone = true;
-                    Log.d(TAG, "Successfully projected point using native Viro projection: " + result);
+                    if (ViroLog.isDebugEnabled()) {
+                        ViroLog.debug(TAG, "Successfully projected point using native Viro projection: " + result);
+                    }
                 }
             } catch (Exception e) {
-                Log.d(TAG, "Native Viro projection not available, using manual calculation");
+                if (ViroLog.isDebugEnabled()) {
+                    ViroLog.debug(TAG, "Native Viro projection not available, using manual calculation");
+                }
             }
             
             // Manual projection calculation if native method not available
@@ -1923,8 +2748,10 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
                 screenX = Math.max(0.0f, Math.min(viewportWidth, screenX));
                 screenY = Math.max(0.0f, Math.min(viewportHeight, screenY));
                 
-                Log.d(TAG, String.format("Projected [%.2f, %.2f, %.2f] to [%.2f, %.2f, %.2f]", 
-                      x, y, z, screenX, screenY, screenZ));
+                if (ViroLog.isDebugEnabled()) {
+                    ViroLog.debug(TAG, String.format("Projected [%.2f, %.2f, %.2f] to [%.2f, %.2f, %.2f]", 
+                          x, y, z, screenX, screenY, screenZ));
+                }
                 
                 // Store result for potential callback
                 WritableMap projectionResult = Arguments.createMap();
@@ -1950,7 +2777,9 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
      */
     @DoNotStrip
     public void unprojectPoint(String nodeId, float x, float y, float z) {
-        Log.d(TAG, "Unprojecting point [" + x + ", " + y + ", " + z + "] for node: " + nodeId);
+        if (ViroLog.isDebugEnabled()) {
+            ViroLog.debug(TAG, "Unprojecting point [" + x + ", " + y + ", " + z + "] for node: " + nodeId);
+        }
         
         try {
             // Get the active navigator for unprojection calculations
@@ -1982,10 +2811,14 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
                 Object result = unprojectPointMethod.invoke(activeNavigator, screenX, screenY, depth);
                 if (result != null) {
                     unprojectionDone = true;
-                    Log.d(TAG, "Successfully unprojected point using native Viro unprojection: " + result);
+                    if (ViroLog.isDebugEnabled()) {
+                        ViroLog.debug(TAG, "Successfully unprojected point using native Viro unprojection: " + result);
+                    }
                 }
             } catch (Exception e) {
-                Log.d(TAG, "Native Viro unprojection not available, using manual calculation");
+                if (ViroLog.isDebugEnabled()) {
+                    ViroLog.debug(TAG, "Native Viro unprojection not available, using manual calculation");
+                }
             }
             
             // Manual unprojection calculation if native method not available
@@ -2007,8 +2840,10 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
                 float worldY = ndc_y * depth * tanHalfFov;
                 float worldZ = depth;
                 
-                Log.d(TAG, String.format("Unprojected [%.2f, %.2f, %.2f] to [%.2f, %.2f, %.2f]", 
-                      screenX, screenY, depth, worldX, worldY, worldZ));
+                if (ViroLog.isDebugEnabled()) {
+                    ViroLog.debug(TAG, String.format("Unprojected [%.2f, %.2f, %.2f] to [%.2f, %.2f, %.2f]", 
+                          screenX, screenY, depth, worldX, worldY, worldZ));
+                }
                 
                 // Store result for potential callback
                 WritableMap unprojectionResult = Arguments.createMap();
@@ -2026,11 +2861,15 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
                         Method hitTestMethod = mARSceneNavigator.getClass().getMethod("hitTest", float.class, float.class);
                         Object hitResult = hitTestMethod.invoke(mARSceneNavigator, screenX, screenY);
                         if (hitResult != null) {
-                            Log.d(TAG, "AR hit test result: " + hitResult);
+                            if (ViroLog.isDebugEnabled()) {
+                                ViroLog.debug(TAG, "AR hit test result: " + hitResult);
+                            }
                             unprojectionResult.putString("hitTestResult", hitResult.toString());
                         }
                     } catch (Exception e) {
-                        Log.d(TAG, "AR hit testing not available: " + e.getMessage());
+                        if (ViroLog.isDebugEnabled()) {
+                            ViroLog.debug(TAG, "AR hit testing not available: " + e.getMessage());
+                        }
                     }
                 }
                 
@@ -2048,90 +2887,7 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
      */
     @DoNotStrip
     public void projectPointAsync(String nodeId, float x, float y, float z, String promiseId) {
-        Log.d(TAG, "Projecting point [" + x + ", " + y + ", " + z + "] for node: " + nodeId + " with promise: " + promiseId);
-        
-        // Perform calculation on background thread to avoid blocking JSI
-        new Thread(() -> {
-            try {
-                // Get the active navigator for projection calculations
-                ViewGroup activeNavigator = getActiveNavigator();
-                if (activeNavigator == null) {
-                    Log.w(TAG, "No active navigator found for projection");
-                    resolveProjectionPromise(promiseId, "[0.0, 0.0, 0.0]", "No active navigator available");
-                    return;
-                }
-                
-                // Get viewport dimensions
-                int viewportWidth = activeNavigator.getWidth();
-                int viewportHeight = activeNavigator.getHeight();
-                
-                if (viewportWidth <= 0 || viewportHeight <= 0) {
-                    // Use default dimensions if not available
-                    viewportWidth = 1080; // Default Android width
-                    viewportHeight = 1920; // Default Android height
-                }
-                
-                // Try to use native Viro projection if available
-                boolean projectionDone = false;
-                float[] projectedCoords = null;
-                
-                try {
-                    Method projectPointMethod = activeNavigator.getClass().getMethod("projectPoint", float.class, float.class, float.class);
-                    Object result = projectPointMethod.invoke(activeNavigator, x, y, z);
-                    if (result instanceof float[]) {
-                        projectedCoords = (float[]) result;
-                        projectionDone = true;
-                        Log.d(TAG, "Successfully projected point using native Viro projection");
-                    }
-                } catch (Exception e) {
-                    Log.d(TAG, "Native Viro projection not available, using manual calculation");
-                }
-                
-                // Manual projection calculation if native method not available
-                if (!projectionDone) {
-                    // Basic perspective projection parameters
-                    float fov = 60.0f; // Default field of view in degrees
-                    float aspectRatio = (float) viewportWidth / viewportHeight;
-                    
-                    // Convert FOV to radians
-                    float fovRad = (float) (fov * Math.PI / 180.0);
-                    float tanHalfFov = (float) Math.tan(fovRad / 2.0);
-                    
-                    // Project to normalized device coordinates
-                    float ndc_x = x / (z * tanHalfFov * aspectRatio);
-                    float ndc_y = y / (z * tanHalfFov);
-                    
-                    // Convert to screen coordinates
-                    float screenX = (ndc_x + 1.0f) * 0.5f * viewportWidth;
-                    float screenY = (1.0f - ndc_y) * 0.5f * viewportHeight; // Flip Y for screen coordinates
-                    float screenZ = z; // Preserve depth
-                    
-                    // Clamp to viewport bounds
-                    screenX = Math.max(0.0f, Math.min(viewportWidth, screenX));
-                    screenY = Math.max(0.0f, Math.min(viewportHeight, screenY));
-                    
-                    projectedCoords = new float[]{screenX, screenY, screenZ};
-                    
-                    Log.d(TAG, String.format("Projected [%.2f, %.2f, %.2f] to [%.2f, %.2f, %.2f]", 
-                          x, y, z, screenX, screenY, screenZ));
-                }
-                
-                // Format result as JSON array string for Promise resolution
-                String result = String.format("[%.6f, %.6f, %.6f]", 
-                    projectedCoords[0], projectedCoords[1], projectedCoords[2]);
-                
-                // Resolve the promise on the UI thread
-                UiThreadUtil.runOnUiThread(() -> {
-                    resolveProjectionPromise(promiseId, result, null);
-                });
-                
-            } catch (Exception e) {
-                Log.e(TAG, "Error during async point projection: " + e.getMessage(), e);
-                UiThreadUtil.runOnUiThread(() -> {
-                    resolveProjectionPromise(promiseId, null, "Error during projection: " + e.getMessage());
-                });
-            }
-        }).start();
+        resolvePointPromiseAsync(new float[]{x, y, z}, false, promiseId);
     }
     
     /**
@@ -2139,90 +2895,50 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
      */
     @DoNotStrip
     public void unprojectPointAsync(String nodeId, float x, float y, float z, String promiseId) {
-        Log.d(TAG, "Unprojecting point [" + x + ", " + y + ", " + z + "] for node: " + nodeId + " with promise: " + promiseId);
-        
-        // Perform calculation on background thread to avoid blocking JSI
-        new Thread(() -> {
-            try {
-                // Get the active navigator for unprojection calculations
-                ViewGroup activeNavigator = getActiveNavigator();
-                if (activeNavigator == null) {
-                    Log.w(TAG, "No active navigator found for unprojection");
-                    resolveProjectionPromise(promiseId, "[0.0, 0.0, 0.0]", "No active navigator available");
-                    return;
-                }
-                
-                // Get viewport dimensions
-                int viewportWidth = activeNavigator.getWidth();
-                int viewportHeight = activeNavigator.getHeight();
-                
-                if (viewportWidth <= 0 || viewportHeight <= 0) {
-                    // Use default dimensions if not available
-                    viewportWidth = 1080; // Default Android width
-                    viewportHeight = 1920; // Default Android height
-                }
-                
-                float screenX = x;
-                float screenY = y;
-                float depth = z > 0 ? z : 1.0f; // Default depth if not provided
-                
-                // Try to use native Viro unprojection if available
-                boolean unprojectionDone = false;
-                float[] unprojectedCoords = null;
-                
-                try {
-                    Method unprojectPointMethod = activeNavigator.getClass().getMethod("unprojectPoint", float.class, float.class, float.class);
-                    Object result = unprojectPointMethod.invoke(activeNavigator, screenX, screenY, depth);
-                    if (result instanceof float[]) {
-                        unprojectedCoords = (float[]) result;
-                        unprojectionDone = true;
-                        Log.d(TAG, "Successfully unprojected point using native Viro unprojection");
+        resolvePointPromiseAsync(new float[]{x, y, z}, true, promiseId);
+    }
+    
+    /**
+     * Project (or unproject) a packed array of x,y,z triples against one camera state and
+     * resolve the promise with a packed array of the same length.
+     */
+    @DoNotStrip
+    public void projectPointsAsync(float[] points, boolean unproject, String promiseId) {
+        ViroProjectionService.projectPointsAsync(getActiveNavigator(), points, unproject,
+                new ViroProjectionService.Callback() {
+                    @Override
+                    public void onComplete(float[] result) {
+                        try {
+                            resolvePromiseWithFloats(promiseId, result);
+                        } catch (Exception e) {
+                            Log.e(TAG, "Error resolving projection promise: " + e.getMessage(), e);
+                        }
                     }
-                } catch (Exception e) {
-                    Log.d(TAG, "Native Viro unprojection not available, using manual calculation");
-                }
-                
-                // Manual unprojection calculation if native method not available
-                if (!unprojectionDone) {
-                    // Basic perspective unprojection parameters
-                    float fov = 60.0f; // Default field of view in degrees
-                    float aspectRatio = (float) viewportWidth / viewportHeight;
-                    
-                    // Convert FOV to radians
-                    float fovRad = (float) (fov * Math.PI / 180.0);
-                    float tanHalfFov = (float) Math.tan(fovRad / 2.0);
-                    
-                    // Convert screen coordinates to normalized device coordinates
-                    float ndc_x = (screenX / viewportWidth) * 2.0f - 1.0f;
-                    float ndc_y = 1.0f - (screenY / viewportHeight) * 2.0f; // Flip Y back to world coordinates
                     
-                    // Convert to world coordinates
-                    float worldX = ndc_x * depth * tanHalfFov * aspectRatio;
-                    float worldY = ndc_y * depth * tanHalfFov;
-                    float worldZ = depth;
-                    
-                    unprojectedCoords = new float[]{worldX, worldY, worldZ};
-                    
-                    Log.d(TAG, String.format("Unprojected [%.2f, %.2f, %.2f] to [%.2f, %.2f, %.2f]", 
-                          screenX, screenY, depth, worldX, worldY, worldZ));
-                }
-                
-                // Format result as JSON array string for Promise resolution
-                String result = String.format("[%.6f, %.6f, %.6f]", 
-                    unprojectedCoords[0], unprojectedCoords[1], unprojectedCoords[2]);
-                
-                // Resolve the promise on the UI thread
-                UiThreadUtil.runOnUiThread(() -> {
-                    resolveProjectionPromise(promiseId, result, null);
+                    @Override
+                    public void onError(String error) {
+                        resolveProjectionPromise(promiseId, null, error);
+                    }
                 });
-                
-            } catch (Exception e) {
-                Log.e(TAG, "Error during async point unprojection: " + e.getMessage(), e);
-                UiThreadUtil.runOnUiThread(() -> {
-                    resolveProjectionPromise(promiseId, null, "Error during unprojection: " + e.getMessage());
+    }
+    
+    /**
+     * Resolve a single-point projection promise with the legacy "[x, y, z]" result string.
+     */
+    private void resolvePointPromiseAsync(float[] point, boolean unproject, String promiseId) {
+        ViroProjectionService.projectPointsAsync(getActiveNavigator(), point, unproject,
+                new ViroProjectionService.Callback() {
+                    @Override
+                    public void onComplete(float[] result) {
+                        resolveProjectionPromise(promiseId,
+                                String.format("[%.6f, %.6f, %.6f]", result[0], result[1], result[2]), null);
+                    }
+                    
+                    @Override
+                    public void onError(String error) {
+                        resolveProjectionPromise(promiseId, null, error);
+                    }
                 });
-            }
-        }).start();
     }
     
     /**
@@ -2247,11 +2963,19 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
     @DoNotStrip
     private native void rejectPromise(String promiseId, String error);
     
+    @DoNotStrip
+    private native void resolvePromiseWithFloats(String promiseId, float[] result);
+    
+    @DoNotStrip
+    private native void resolvePromiseWithFloatsAndTags(String promiseId, float[] result, String[] tags);
+    
     /**
      * Initialize advanced memory management and pressure monitoring.
      */
     private void initializeMemoryManagement() {
-        Log.d(TAG, "Initializing advanced memory management");
+        if (ViroLog.isDebugEnabled()) {
+            ViroLog.debug(TAG, "Initializing advanced memory management");
+        }
         
         try {
             // Initialize memory pressure handler
@@ -2259,6 +2983,15 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
             
             // Register for system memory callbacks
             mReactContext.registerComponentCallbacks(mMemoryPressureHandler);
+
+            // Forward every resource governor action to JavaScript
+            mResourceActionListener = new ViroResourceGovernor.ActionListener() {
+                @Override
+                public void onResourceAction(WritableMap action) {
+                    sendEvent("onResourceGovernorAction", action);
+                }
+            };
+            ViroResourceGovernor.getInstance().addListener(mResourceActionListener);
             
             // Initialize memory monitoring handler
             mMemoryMonitorHandler = new Handler(Looper.getMainLooper());
@@ -2274,7 +3007,9 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
             // Start memory monitoring
             mMemoryMonitorHandler.post(mMemoryMonitorRunnable);
             
-            Log.d(TAG, "Advanced memory management initialized");
+            if (ViroLog.isDebugEnabled()) {
+                ViroLog.debug(TAG, "Advanced memory management initialized");
+            }
             
         } catch (Exception e) {
             Log.e(TAG, "Error initializing memory management: " + e.getMessage(), e);
@@ -2299,7 +3034,12 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
         
         @Override
         public void onTrimMemory(int level) {
-            Log.d(TAG, "Memory trim requested, level: " + level + " (" + getTrimLevelDescription(level) + ")");
+            if (ViroLog.isDebugEnabled()) {
+                ViroLog.debug(TAG, "Memory trim requested, level: " + level + " (" + getTrimLevelDescription(level) + ")");
+            }
+            
+            // Reclaim assets down to the fraction of their budgets this level calls for
+            ViroResourceGovernor.getInstance().onTrimMemory(level);
             
             switch (level) {
                 case TRIM_MEMORY_UI_HIDDEN:
@@ -2351,7 +3091,9 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
         
         // Prevent too frequent aggressive cleanups
         if (currentTime - mLastLowMemoryTime < LOW_MEMORY_COOLDOWN_MS) {
-            Log.d(TAG, "Low memory event ignored due to cooldown");
+            if (ViroLog.isDebugEnabled()) {
+                ViroLog.debug(TAG, "Low memory event ignored due to cooldown");
+            }
             return;
         }
         
@@ -2374,7 +3116,9 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
             // Force garbage collection
             System.gc();
             
-            Log.d(TAG, "Low memory cleanup completed");
+            if (ViroLog.isDebugEnabled()) {
+                ViroLog.debug(TAG, "Low memory cleanup completed");
+            }
             
         } catch (Exception e) {
             Log.e(TAG, "Error handling low memory event: " + e.getMessage(), e);
@@ -2386,7 +3130,9 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
      */
     private void handleMemoryTrim(String level, boolean aggressive) {
         try {
-            Log.d(TAG, "Handling memory trim: " + level + " (aggressive: " + aggressive + ")");
+            if (ViroLog.isDebugEnabled()) {
+                ViroLog.debug(TAG, "Handling memory trim: " + level + " (aggressive: " + aggressive + ")");
+            }
             
             if (aggressive) {
                 // Aggressive cleanup for critical memory situations
@@ -2394,7 +3140,6 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
                     mSceneManager.performMemoryCleanup(true);
                 }
                 cleanupUnusedComponents();
-                clearCachedResources();
                 clearEventCallbacks();
                 System.gc();
             } else {
@@ -2405,7 +3150,9 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
                 Runtime.getRuntime().gc();
             }
             
-            Log.d(TAG, "Memory trim completed for level: " + level);
+            if (ViroLog.isDebugEnabled()) {
+                ViroLog.debug(TAG, "Memory trim completed for level: " + level);
+            }
             
         } catch (Exception e) {
             Log.e(TAG, "Error handling memory trim: " + e.getMessage(), e);
@@ -2422,17 +3169,16 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
                 mSceneManager.checkMemoryPressure();
             }
             
-            // Check system memory pressure
-            ActivityManager activityManager = (ActivityManager) mReactContext.getSystemService(Context.ACTIVITY_SERVICE);
-            if (activityManager != null) {
-                ActivityManager.MemoryInfo memInfo = new ActivityManager.MemoryInfo();
-                activityManager.getMemoryInfo(memInfo);
+            // Check system memory pressure from the latest background sample
+            if (mSceneManager != null) {
+                ViroMetricsSampler.Snapshot memInfo = mSceneManager.getMetricsSnapshot();
                 
                 // Check if we're approaching low memory
-                double memoryUsage = (double)(memInfo.totalMem - memInfo.availMem) / memInfo.totalMem;
+                double memoryUsage = memInfo.getSystemMemoryPressure();
                 
-                if (memInfo.lowMemory || memoryUsage > 0.85) {
-                    Log.w(TAG, "High memory pressure detected (usage: " + String.format("%.1f%%", memoryUsage * 100) + ", lowMemory: " + memInfo.lowMemory + ")");
+                if (memInfo.isSystemLowMemory() || memoryUsage > 0.85) {
+                    Log.w(TAG, "High memory pressure detected (usage: " + String.format("%.1f%%", memoryUsage * 100) + ", lowMemory: " + memInfo.isSystemLowMemory() + ")");
+                    ViroResourceGovernor.getInstance().onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW);
                     handleMemoryTrim("PROACTIVE_HIGH_USAGE", true);
                 }
             }
@@ -2447,21 +3193,28 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
      */
     private void cleanupUnusedComponents() {
         try {
-            Log.d(TAG, "Cleaning up unused components");
+            if (ViroLog.isDebugEnabled()) {
+                ViroLog.debug(TAG, "Cleaning up unused components");
+            }
             
             List<String> componentsToRemove = new ArrayList<>();
             for (Map.Entry<String, VRTComponent> entry : mComponentRegistry.entrySet()) {
                 VRTComponent component = entry.getValue();
-                if (component != null && component.getParent() == null) {
+                if (component != null && !component.hasParent()) {
                     componentsToRemove.add(entry.getKey());
                 }
             }
             
             for (String componentId : componentsToRemove) {
                 mComponentRegistry.remove(componentId);
+                mComponentTypes.remove(componentId);
+                mComponentProps.remove(componentId);
+                removeNodeHandle(componentId);
             }
             
-            Log.d(TAG, "Cleaned up " + componentsToRemove.size() + " unused components");
+            if (ViroLog.isDebugEnabled()) {
+                ViroLog.debug(TAG, "Cleaned up " + componentsToRemove.size() + " unused components");
+            }
             
         } catch (Exception e) {
             Log.e(TAG, "Error cleaning up unused components: " + e.getMessage(), e);
@@ -2469,16 +3222,17 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
     }
     
     /**
-     * Clear cached resources like materials and animations.
+     * Clear cached resources: evict every asset of an inactive scene and downscale the
+     * textures of hidden nodes through the resource governor.
      */
     private void clearCachedResources() {
         try {
-            Log.d(TAG, "Clearing cached resources");
-            
-            if (mViroContext != null) {
-                Log.d(TAG, "Cleared ViroContext cached resources");
+            if (ViroLog.isDebugEnabled()) {
+                ViroLog.debug(TAG, "Clearing cached resources");
             }
             
+            ViroResourceGovernor.getInstance().onLowMemory();
+            
         } catch (Exception e) {
             Log.e(TAG, "Error clearing cached resources: " + e.getMessage(), e);
         }
@@ -2489,7 +3243,9 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
      */
     private void clearEventCallbacks() {
         try {
-            Log.d(TAG, "Clearing event callbacks");
+            if (ViroLog.isDebugEnabled()) {
+                ViroLog.debug(TAG, "Clearing event callbacks");
+            }
             
             mEventCallbackRegistry.clear();
             
@@ -2497,7 +3253,9 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
                 mEventDelegate.dispose();
             }
             
-            Log.d(TAG, "Event callbacks cleared");
+            if (ViroLog.isDebugEnabled()) {
+                ViroLog.debug(TAG, "Event callbacks cleared");
+            }
             
         } catch (Exception e) {
             Log.e(TAG, "Error clearing event callbacks: " + e.getMessage(), e);
@@ -2509,7 +3267,9 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
      */
     @DoNotStrip
     public void testAsyncPromiseSystem(String promiseId) {
-        Log.d(TAG, "Testing async Promise system with ID: " + promiseId);
+        if (ViroLog.isDebugEnabled()) {
+            ViroLog.debug(TAG, "Testing async Promise system with ID: " + promiseId);
+        }
         
         // Simulate async operation on background thread
         new Thread(() -> {
@@ -2546,15 +3306,13 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
                 stats.merge(sceneStats);
             }
             
-            // Add advanced system memory information
-            ActivityManager activityManager = (ActivityManager) mReactContext.getSystemService(Context.ACTIVITY_SERVICE);
-            if (activityManager != null) {
-                ActivityManager.MemoryInfo memInfo = new ActivityManager.MemoryInfo();
-                activityManager.getMemoryInfo(memInfo);
+            // Add advanced system memory information from the latest background sample
+            if (mSceneManager != null) {
+                ViroMetricsSampler.Snapshot memInfo = mSceneManager.getMetricsSnapshot();
                 
-                stats.putDouble("systemMemoryPressure", (double)(memInfo.totalMem - memInfo.availMem) / memInfo.totalMem);
-                stats.putBoolean("systemLowMemory", memInfo.lowMemory);
-                stats.putDouble("systemMemoryThresholdMB", memInfo.threshold / (1024.0 * 1024.0));
+                stats.putDouble("systemMemoryPressure", memInfo.getSystemMemoryPressure());
+                stats.putBoolean("systemLowMemory", memInfo.isSystemLowMemory());
+                stats.putDouble("systemMemoryThresholdMB", memInfo.getSystemMemoryThresholdMB());
             }
             
             // Add component registry stats
@@ -2589,6 +3347,14 @@ public class ViroFabricContainer extends FrameLayout implements ViroFabricSceneM
             }
         }
         
+        if (mPackedEventBuffer != null) {
+            mPackedEventBuffer.dispose();
+        }
+        
+        if (mResourceActionListener != null) {
+            ViroResourceGovernor.getInstance().removeListener(mResourceActionListener);
+        }
+        
         if (mJSIBridge != null) {
             mJSIBridge.cleanup();
             mJSIBridge = null;
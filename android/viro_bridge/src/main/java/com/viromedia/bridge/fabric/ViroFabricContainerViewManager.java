@@ -78,7 +78,9 @@ public class ViroFabricContainerViewManager extends ViewGroupManager<ViroFabricC
                 .put("onTrackingUpdated", MapBuilder.of("registrationName", "onTrackingUpdated"))
                 .put("onCameraTransformUpdate", MapBuilder.of("registrationName", "onCameraTransformUpdate"))
                 .put("onSceneStateChanged", MapBuilder.of("registrationName", "onSceneStateChanged"))
+                .put("onScenePreloadProgress", MapBuilder.of("registrationName", "onScenePreloadProgress"))
                 .put("onMemoryWarning", MapBuilder.of("registrationName", "onMemoryWarning"))
+                .put("onResourceGovernorAction", MapBuilder.of("registrationName", "onResourceGovernorAction"))
                 .put("ViroEvent", MapBuilder.of("registrationName", "ViroEvent"))
                 .build();
     }
@@ -12,6 +12,8 @@ import com.facebook.react.uimanager.events.RCTEventEmitter;
 import com.viromedia.bridge.component.VRTComponent;
 import com.viromedia.bridge.component.node.VRTNode;
 import com.viromedia.bridge.utility.ComponentEventDelegate;
+import com.viromedia.bridge.utility.ViroEvents;
+import com.viromedia.bridge.utility.ViroLog;
 import com.viro.core.EventDelegate;
 
 import java.util.HashMap;
@@ -46,7 +48,8 @@ public class ViroFabricEventDelegate {
     // Event types that we support
     private static final String[] SUPPORTED_EVENTS = {
         "onClick", "onTouch", "onHover", "onScroll", "onSwipe", "onDrag", 
-        "onFuse", "onPinch", "onRotate", "onCollision", "onTransformUpdate",
+        "onFuse", "onPinch", "onRotate", "onCollision", "onCollisionEnter",
+        "onCollisionStay", "onCollisionExit", "onTransformUpdate",
         "onLoadStart", "onLoadEnd", "onError", "onAnimationStart", 
         "onAnimationFinish", "onSoundFinish"
     };
@@ -61,19 +64,27 @@ public class ViroFabricEventDelegate {
      * Register an event callback for a specific component and event.
      */
     public void registerEventCallback(String callbackId, String eventName, String componentId) {
-        Log.d(TAG, "Registering event callback: " + callbackId + " for event: " + eventName + " on component: " + componentId);
+        if (ViroLog.isDebugEnabled()) {
+            ViroLog.debug(TAG, "Registering event callback: " + callbackId + " for event: " + eventName + " on component: " + componentId);
+        }
         
         try {
             // Create event key
             String eventKey = componentId + "_" + eventName;
             
-            // Store the callback mapping
-            mEventCallbackRegistry.put(eventKey, callbackId);
+            // Store the callback mapping. A key holds one callback, so only the first
+            // registration subscribes; repeated or replacing registrations must not add to the
+            // subscription count, or the event could never be unsubscribed.
+            String previous = mEventCallbackRegistry.put(eventKey, callbackId);
             
             // Set up the actual event listener on the component
-            setupComponentEventListener(componentId, eventName, callbackId);
+            if (previous == null) {
+                setupComponentEventListener(componentId, eventName, callbackId);
+            }
             
-            Log.d(TAG, "Successfully registered event callback for " + eventKey);
+            if (ViroLog.isDebugEnabled()) {
+                ViroLog.debug(TAG, "Successfully registered event callback for " + eventKey);
+            }
         } catch (Exception e) {
             Log.e(TAG, "Error registering event callback: " + e.getMessage(), e);
         }
@@ -83,19 +94,25 @@ public class ViroFabricEventDelegate {
      * Unregister an event callback.
      */
     public void unregisterEventCallback(String callbackId, String eventName, String componentId) {
-        Log.d(TAG, "Unregistering event callback: " + callbackId + " for event: " + eventName + " on component: " + componentId);
+        if (ViroLog.isDebugEnabled()) {
+            ViroLog.debug(TAG, "Unregistering event callback: " + callbackId + " for event: " + eventName + " on component: " + componentId);
+        }
         
         try {
             // Create event key
             String eventKey = componentId + "_" + eventName;
             
-            // Remove the callback mapping
-            mEventCallbackRegistry.remove(eventKey);
+            // Remove the callback mapping, unless it has been replaced by another callback
+            if (!mEventCallbackRegistry.remove(eventKey, callbackId)) {
+                return;
+            }
             
             // Remove the actual event listener from the component
             removeComponentEventListener(componentId, eventName);
             
-            Log.d(TAG, "Successfully unregistered event callback for " + eventKey);
+            if (ViroLog.isDebugEnabled()) {
+                ViroLog.debug(TAG, "Successfully unregistered event callback for " + eventKey);
+            }
         } catch (Exception e) {
             Log.e(TAG, "Error unregistering event callback: " + e.getMessage(), e);
         }
@@ -105,7 +122,9 @@ public class ViroFabricEventDelegate {
      * Dispatch an event to JavaScript.
      */
     public void dispatchEvent(String componentId, String eventName, WritableMap eventData) {
-        Log.d(TAG, "Dispatching event: " + eventName + " for component: " + componentId);
+        if (ViroLog.isDebugEnabled()) {
+            ViroLog.debug(TAG, "Dispatching event: " + eventName + " for component: " + componentId);
+        }
         
         try {
             // Get the callback ID for this event
@@ -113,7 +132,9 @@ public class ViroFabricEventDelegate {
             String callbackId = mEventCallbackRegistry.get(eventKey);
             
             if (callbackId == null) {
-                Log.w(TAG, "No callback registered for event: " + eventKey);
+                if (ViroLog.isDebugEnabled()) {
+                    ViroLog.debug(TAG, "No callback registered for event: " + eventKey);
+                }
                 return;
             }
             
@@ -148,75 +169,116 @@ public class ViroFabricEventDelegate {
         }
         
         try {
-            // Set up the event listener using the existing VRT event system
+            subscribe(component, eventName);
+            
+            // Store a reference to the existing ComponentEventDelegate for cleanup
             if (component instanceof VRTNode) {
-                VRTNode node = (VRTNode) component;
-                
-                // VRTNode already has its own ComponentEventDelegate and EventDelegate setup
-                // We just need to enable the specific event type on the node
-                enableEventOnNode(node, eventName);
-                
-                // Store a reference to the existing ComponentEventDelegate for cleanup
-                // Note: VRTNode creates its own ComponentEventDelegate in its constructor
-                mComponentDelegates.put(componentId, new WeakReference<>(null)); // Placeholder for tracking
+                mComponentDelegates.put(componentId,
+                        new WeakReference<>(((VRTNode) component).getComponentEventDelegate()));
             }
-            
         } catch (Exception e) {
             Log.e(TAG, "Error setting up component event listener: " + e.getMessage(), e);
         }
     }
     
     /**
-     * Enable a specific event type on a VRT node.
+     * Add a JS listener for the event on the component. The first listener enables the event in
+     * the renderer; until then the event is neither dispatched natively nor built.
      */
-    private void enableEventOnNode(VRTNode node, String eventName) {
+    void subscribe(VRTComponent component, String eventName) {
+        String nativeEventName = toNativeEventName(eventName);
+        if (nativeEventName == null) {
+            Log.w(TAG, "Unknown event: " + eventName);
+            return;
+        }
+        if (component.getEventSubscriptions().add(nativeEventName) && component instanceof VRTNode) {
+            enableEventOnNode((VRTNode) component, eventName, true);
+        }
+    }
+    
+    /**
+     * Remove a JS listener for the event on the component. The last listener disables the event
+     * in the renderer.
+     */
+    void unsubscribe(VRTComponent component, String eventName) {
+        String nativeEventName = toNativeEventName(eventName);
+        if (nativeEventName == null) {
+            return;
+        }
+        if (component.getEventSubscriptions().remove(nativeEventName) && component instanceof VRTNode) {
+            enableEventOnNode((VRTNode) component, eventName, false);
+        }
+    }
+    
+    /**
+     * Enable or disable a specific event type on a VRT node.
+     */
+    void enableEventOnNode(VRTNode node, String eventName, boolean enabled) {
         try {
-            // Enable event handling on the node based on event type
-            switch (eventName) {
-                case "onClick":
-                    setNodeEventProperty(node, "setCanClick", true);
-                    break;
-                    
-                case "onTouch":
-                    setNodeEventProperty(node, "setCanTouch", true);
-                    break;
-                    
-                case "onHover":
-                    setNodeEventProperty(node, "setCanHover", true);
-                    break;
-                    
-                case "onDrag":
-                    setNodeEventProperty(node, "setCanDrag", true);
-                    break;
-                    
-                case "onFuse":
-                    setNodeEventProperty(node, "setCanFuse", true);
-                    break;
-                    
-                case "onPinch":
-                    setNodeEventProperty(node, "setCanPinch", true);
-                    break;
-                    
-                case "onRotate":
-                    setNodeEventProperty(node, "setCanRotate", true);
-                    break;
-                    
-                case "onScroll":
-                    setNodeEventProperty(node, "setCanScroll", true);
-                    break;
-                    
-                case "onSwipe":
-                    setNodeEventProperty(node, "setCanSwipe", true);
-                    break;
-                    
-                default:
-                    Log.w(TAG, "Unsupported event type for enabling: " + eventName);
-                    break;
+            if (!node.setEventEnabled(toNativeEventName(eventName), enabled)) {
+                // Events such as onLoadEnd or onAnimationFinish are always dispatched natively
+                if (ViroLog.isDebugEnabled()) {
+                    ViroLog.debug(TAG, "No native toggle for event: " + eventName);
+                }
             }
-            
         } catch (Exception e) {
-            Log.e(TAG, "Error enabling event " + eventName + " on node: " + e.getMessage(), e);
+            Log.e(TAG, "Error toggling event " + eventName + " on node: " + e.getMessage(), e);
+        }
+    }
+    
+    // Fabric event names and the ViroEvents names the emitters use for them
+    private static final Map<String, String> NATIVE_EVENT_NAMES = new HashMap<>();
+    static {
+        NATIVE_EVENT_NAMES.put("onClick", ViroEvents.ON_CLICK);
+        NATIVE_EVENT_NAMES.put("onTouch", ViroEvents.ON_TOUCH);
+        NATIVE_EVENT_NAMES.put("onHover", ViroEvents.ON_HOVER);
+        NATIVE_EVENT_NAMES.put("onScroll", ViroEvents.ON_SCROLL);
+        NATIVE_EVENT_NAMES.put("onSwipe", ViroEvents.ON_SWIPE);
+        NATIVE_EVENT_NAMES.put("onDrag", ViroEvents.ON_DRAG);
+        NATIVE_EVENT_NAMES.put("onFuse", ViroEvents.ON_FUSE);
+        NATIVE_EVENT_NAMES.put("onPinch", ViroEvents.ON_PINCH);
+        NATIVE_EVENT_NAMES.put("onRotate", ViroEvents.ON_ROTATE);
+        NATIVE_EVENT_NAMES.put("onCollision", ViroEvents.ON_COLLIDED);
+        NATIVE_EVENT_NAMES.put("onCollisionEnter", ViroEvents.ON_COLLISION_ENTER);
+        NATIVE_EVENT_NAMES.put("onCollisionStay", ViroEvents.ON_COLLISION_STAY);
+        NATIVE_EVENT_NAMES.put("onCollisionExit", ViroEvents.ON_COLLISION_EXIT);
+        NATIVE_EVENT_NAMES.put("onTransformUpdate", ViroEvents.ON_TRANSFORM_DELEGATE);
+        NATIVE_EVENT_NAMES.put("onCameraARHitTest", ViroEvents.ON_CAMERA_AR_HIT_TEST_VIRO);
+        NATIVE_EVENT_NAMES.put("onARPointCloudUpdate", ViroEvents.ON_AR_POINT_CLOUD_UPDATE);
+        NATIVE_EVENT_NAMES.put("onCameraTransformUpdate", ViroEvents.ON_CAMERA_TRANSFORM_UPDATE);
+        NATIVE_EVENT_NAMES.put("onPlatformUpdate", ViroEvents.ON_PLATFORM_UPDATE);
+        NATIVE_EVENT_NAMES.put("onControllerStatus", ViroEvents.ON_CONTROLLER_STATUS);
+        NATIVE_EVENT_NAMES.put("onTrackingUpdated", ViroEvents.ON_TRACKING_UPDATED);
+        NATIVE_EVENT_NAMES.put("onAmbientLightUpdate", ViroEvents.ON_AMBIENT_LIGHT_UPDATE);
+        NATIVE_EVENT_NAMES.put("onAnchorFound", ViroEvents.ON_ANCHOR_FOUND);
+        NATIVE_EVENT_NAMES.put("onAnchorUpdated", ViroEvents.ON_ANCHOR_UPDATED);
+        NATIVE_EVENT_NAMES.put("onAnchorRemoved", ViroEvents.ON_ANCHOR_REMOVED);
+        NATIVE_EVENT_NAMES.put("onLoadStart", ViroEvents.ON_LOAD_START);
+        NATIVE_EVENT_NAMES.put("onLoadEnd", ViroEvents.ON_LOAD_END);
+        NATIVE_EVENT_NAMES.put("onError", ViroEvents.ON_ERROR);
+        NATIVE_EVENT_NAMES.put("onAnimationStart", ViroEvents.ON_ANIMATION_START);
+        NATIVE_EVENT_NAMES.put("onAnimationFinish", ViroEvents.ON_ANIMATION_FINISH);
+        NATIVE_EVENT_NAMES.put("onUpdateTime", ViroEvents.ON_UPDATE_TIME);
+        NATIVE_EVENT_NAMES.put("onBufferStart", ViroEvents.ON_BUFFER_START);
+        NATIVE_EVENT_NAMES.put("onBufferEnd", ViroEvents.ON_BUFFER_END);
+        NATIVE_EVENT_NAMES.put("onFinish", ViroEvents.ON_FINISH);
+        // Sounds and videos emit onFinishViro when playback ends
+        NATIVE_EVENT_NAMES.put("onSoundFinish", ViroEvents.ON_FINISH);
+        NATIVE_EVENT_NAMES.put("onPortalEnter", ViroEvents.ON_PORTAL_ENTER);
+        NATIVE_EVENT_NAMES.put("onPortalExit", ViroEvents.ON_PORTAL_EXIT);
+    }
+
+    /**
+     * Map a Fabric event name (onClick) to the ViroEvents name used by the emitters (onClickViro).
+     * ViroEvents names map to themselves.
+     * @return null if the event is unknown.
+     */
+    static String toNativeEventName(String eventName) {
+        String nativeEventName = NATIVE_EVENT_NAMES.get(eventName);
+        if (nativeEventName == null && NATIVE_EVENT_NAMES.containsValue(eventName)) {
+            return eventName;
         }
+        return nativeEventName;
     }
     
     /**
@@ -270,53 +332,14 @@ public class ViroFabricEventDelegate {
         }
         
         VRTComponent component = container.mComponentRegistry.get(componentId);
-        if (component instanceof VRTNode) {
-            VRTNode node = (VRTNode) component;
-            
-            try {
-                // Remove event listeners by setting them to null
-                switch (eventName) {
-                    case "onClick":
-                        setNodeEventProperty(node, "setOnClickListener", null);
-                        break;
-                    case "onTouch":
-                        setNodeEventProperty(node, "setOnTouchListener", null);
-                        break;
-                    case "onHover":
-                        setNodeEventProperty(node, "setOnHoverListener", null);
-                        break;
-                    // Add other event types as needed
-                }
-            } catch (Exception e) {
-                Log.e(TAG, "Error removing event listener: " + e.getMessage(), e);
-            }
+        if (component == null) {
+            return;
         }
-    }
-    
-    /**
-     * Set an event property on a VRT node using reflection.
-     */
-    private void setNodeEventProperty(VRTNode node, String methodName, Object value) {
+        
         try {
-            Class<?> paramType = null;
-            if (value instanceof Boolean) {
-                paramType = boolean.class;
-            } else if (value instanceof Float) {
-                paramType = float.class;
-            } else if (value instanceof Integer) {
-                paramType = int.class;
-            } else if (value instanceof String) {
-                paramType = String.class;
-            } else if (value == null) {
-                paramType = Object.class;
-            } else {
-                paramType = value.getClass();
-            }
-            
-            java.lang.reflect.Method method = node.getClass().getMethod(methodName, paramType);
-            method.invoke(node, value);
+            unsubscribe(component, eventName);
         } catch (Exception e) {
-            Log.w(TAG, "Could not set event property " + methodName + ": " + e.getMessage());
+            Log.e(TAG, "Error removing event listener: " + e.getMessage(), e);
         }
     }
     
@@ -345,7 +368,7 @@ public class ViroFabricEventDelegate {
      * Clean up all event listeners and managed resources.
      */
     public void dispose() {
-        Log.d(TAG, "Disposing ViroFabricEventDelegate");
+        ViroLog.debug(TAG, "Disposing ViroFabricEventDelegate");
         
         try {
             // Clear all event callbacks
@@ -357,7 +380,7 @@ public class ViroFabricEventDelegate {
             // Clear managed nodes
             mManagedNodes.clear();
             
-            Log.d(TAG, "ViroFabricEventDelegate disposed successfully");
+            ViroLog.debug(TAG, "ViroFabricEventDelegate disposed successfully");
         } catch (Exception e) {
             Log.e(TAG, "Error disposing ViroFabricEventDelegate: " + e.getMessage(), e);
         }
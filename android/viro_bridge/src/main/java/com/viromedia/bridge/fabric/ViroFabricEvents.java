@@ -53,6 +53,9 @@ public class ViroFabricEvents {
     
     // Physics events
     public static final String ON_COLLIDED = "onCollisionViro";
+    public static final String ON_COLLISION_ENTER = "onCollisionEnterViro";
+    public static final String ON_COLLISION_STAY = "onCollisionStayViro";
+    public static final String ON_COLLISION_EXIT = "onCollisionExitViro";
     public static final String ON_TRANSFORM_DELEGATE = "onNativeTransformDelegateViro";
     
     // AR events
@@ -1,6 +1,9 @@
 package com.viromedia.bridge.fabric;
 
+import android.os.Handler;
+import android.os.Looper;
 import android.util.Log;
+import android.view.View;
 import android.view.ViewGroup;
 
 import com.facebook.react.bridge.ReadableMap;
@@ -8,6 +11,8 @@ import com.facebook.react.bridge.WritableMap;
 import com.facebook.react.bridge.WritableNativeMap;
 import com.facebook.react.uimanager.ThemedReactContext;
 
+import com.viro.core.ViroContext;
+import com.viromedia.bridge.component.VRTComponent;
 import com.viromedia.bridge.component.VRT3DSceneNavigator;
 import com.viromedia.bridge.component.VRTARSceneNavigator;
 import com.viromedia.bridge.component.VRTVRSceneNavigator;
@@ -21,15 +26,6 @@ import java.util.List;
 import java.util.ArrayList;
 import java.util.concurrent.ConcurrentHashMap;
 import java.lang.ref.WeakReference;
-import java.io.RandomAccessFile;
-import java.io.IOException;
-import android.app.ActivityManager;
-import android.content.Context;
-import android.os.Debug;
-import android.os.Process;
-import android.os.SystemClock;
-import android.system.Os;
-import android.system.ErrnoException;
 
 /**
  * Simplified ViroFabricSceneManager manages scene lifecycle and memory cleanup
@@ -63,6 +59,22 @@ public class ViroFabricSceneManager {
     private static final double MEMORY_WARNING_THRESHOLD = 0.8; // 80% usage threshold
     private static final double MEMORY_CRITICAL_THRESHOLD = 0.9; // 90% usage threshold
     private boolean mMemoryWarningActive = false;
+    private final ViroMetricsSampler mMetricsSampler;
+    
+    // Deactivated scenes kept warm for quick re-activation
+    private final ViroSceneCache mSceneCache = new ViroSceneCache();
+    
+    // Scene preloading: progress threshold per preloading scene, and a deferred activation
+    private static final long PRELOAD_POLL_INTERVAL_MS = 100;
+    private final Map<String, Float> mPreloadThresholds = new ConcurrentHashMap<>();
+    private final Handler mMainHandler = new Handler(Looper.getMainLooper());
+    private String mPendingActivationId;
+    private final Runnable mPreloadPollRunnable = new Runnable() {
+        @Override
+        public void run() {
+            pollPreloadProgress();
+        }
+    };
     
     // Scene lifecycle listener - use VRTComponent as common base
     public interface SceneLifecycleListener {
@@ -70,6 +82,7 @@ public class ViroFabricSceneManager {
         void onSceneActivated(String sceneId, com.viromedia.bridge.component.VRTComponent scene);
         void onSceneDeactivated(String sceneId, com.viromedia.bridge.component.VRTComponent scene);
         void onSceneDestroyed(String sceneId);
+        void onScenePreloadProgress(String sceneId, int loadedAssets, int totalAssets, boolean ready);
         void onMemoryWarning();
     }
     
@@ -88,6 +101,8 @@ public class ViroFabricSceneManager {
     public ViroFabricSceneManager(ViroFabricContainer container, ThemedReactContext reactContext) {
         mContainer = new WeakReference<>(container);
         mReactContext = reactContext;
+        mMetricsSampler = new ViroMetricsSampler(reactContext.getApplicationContext());
+        mMetricsSampler.start();
     }
     
     /**
@@ -184,6 +199,20 @@ public class ViroFabricSceneManager {
             
             VRTScene scene = sceneRef.get();
             
+            // A preloading scene is swapped in once it reaches its activation threshold
+            if (mSceneStates.get(sceneId) == SceneState.LOADING && mPreloadThresholds.containsKey(sceneId)) {
+                Log.d(TAG, "Deferring activation of preloading scene: " + sceneId);
+                mPendingActivationId = sceneId;
+                return true;
+            }
+            if (sceneId.equals(mPendingActivationId)) {
+                mPendingActivationId = null;
+            }
+            
+            if (mSceneCache.take(sceneId)) {
+                Log.d(TAG, "Re-activating cached scene: " + sceneId);
+            }
+            
             // Deactivate current active scene
             if (mActiveScene != null && mActiveScene.get() != null && mActiveSceneId != null) {
                 deactivateScene(mActiveSceneId);
@@ -193,7 +222,11 @@ public class ViroFabricSceneManager {
             ViroFabricContainer container = mContainer.get();
             if (container != null) {
                 ViewGroup navigator = container.getActiveNavigator();
-                if (navigator instanceof VRT3DSceneNavigator) {
+                if (scene.getParent() == navigator && navigator instanceof VRT3DSceneNavigator
+                        && ((VRT3DSceneNavigator) navigator).showScene(scene)) {
+                    // Cached scenes stay attached, so switching back needs no rebuild
+                    Log.d(TAG, "Switched back to attached scene: " + sceneId);
+                } else if (navigator instanceof VRT3DSceneNavigator) {
                     ((VRT3DSceneNavigator) navigator).addView(scene);
                 } else if (navigator instanceof VRTARSceneNavigator) {
                     ((VRTARSceneNavigator) navigator).addView(scene);
@@ -253,6 +286,11 @@ public class ViroFabricSceneManager {
                 mLifecycleListener.onSceneDeactivated(sceneId, scene);
             }
             
+            // Keep the scene warm, evicting the least recently used scenes over budget
+            if (!scene.isTornDown()) {
+                destroyEvictedScenes(mSceneCache.put(sceneId, scene));
+            }
+            
             Log.d(TAG, "Successfully deactivated scene: " + sceneId);
             return true;
             
@@ -288,6 +326,11 @@ public class ViroFabricSceneManager {
             }
             
             // Remove from registries
+            mSceneCache.remove(sceneId);
+            mPreloadThresholds.remove(sceneId);
+            if (sceneId.equals(mPendingActivationId)) {
+                mPendingActivationId = null;
+            }
             mSceneRegistry.remove(sceneId);
             mSceneStates.put(sceneId, SceneState.DESTROYED);
             mSceneCreationTimes.remove(sceneId);
@@ -306,6 +349,113 @@ public class ViroFabricSceneManager {
         }
     }
     
+    /**
+     * Preload a scene off-screen: its node tree is given the renderer context without being
+     * attached to the navigator, so models and images start loading before activation. Progress
+     * is reported through the lifecycle listener; the scene moves from LOADING to LOADED once the
+     * given fraction of its assets (0-1) has settled. Activating a scene still below its threshold
+     * is deferred until it reaches it.
+     */
+    public boolean preloadScene(String sceneId, float activationThreshold) {
+        Log.d(TAG, "Preloading scene: " + sceneId);
+        
+        try {
+            VRTScene scene = getScene(sceneId);
+            if (scene == null) {
+                Log.e(TAG, "Cannot preload scene: scene not found - " + sceneId);
+                return false;
+            }
+            
+            SceneState state = mSceneStates.get(sceneId);
+            if (state == SceneState.ACTIVE) {
+                return true;
+            }
+            
+            ViroFabricContainer container = mContainer.get();
+            ViroContext viroContext = container != null ? container.getViroContext() : null;
+            if (viroContext == null) {
+                Log.w(TAG, "Cannot preload scene before the renderer is initialized: " + sceneId);
+                return false;
+            }
+            
+            if (scene.getViroContext() == null) {
+                scene.setViroContext(viroContext);
+            }
+            
+            mPreloadThresholds.put(sceneId, Math.max(0f, Math.min(1f, activationThreshold)));
+            mSceneStates.put(sceneId, SceneState.LOADING);
+            
+            mMainHandler.removeCallbacks(mPreloadPollRunnable);
+            mMainHandler.post(mPreloadPollRunnable);
+            return true;
+            
+        } catch (Exception e) {
+            Log.e(TAG, "Error preloading scene " + sceneId + ": " + e.getMessage(), e);
+            return false;
+        }
+    }
+    
+    /**
+     * Report progress of every preloading scene, promote scenes that reached their threshold to
+     * LOADED, and run a deferred activation. Polls until all preloads have settled.
+     */
+    private void pollPreloadProgress() {
+        int[] counts = new int[2];
+        for (Map.Entry<String, Float> entry : mPreloadThresholds.entrySet()) {
+            String sceneId = entry.getKey();
+            VRTScene scene = getScene(sceneId);
+            if (scene == null || scene.isTornDown()) {
+                mPreloadThresholds.remove(sceneId);
+                continue;
+            }
+            
+            counts[0] = 0;
+            counts[1] = 0;
+            countAssets(scene, counts);
+            int loaded = counts[0];
+            int total = counts[1];
+            float progress = total == 0 ? 1f : (float) loaded / total;
+            boolean ready = progress >= entry.getValue();
+            
+            if (ready && mSceneStates.get(sceneId) == SceneState.LOADING) {
+                mSceneStates.put(sceneId, SceneState.LOADED);
+                Log.d(TAG, "Scene " + sceneId + " preloaded (" + loaded + "/" + total + " assets)");
+            }
+            if (mLifecycleListener != null) {
+                mLifecycleListener.onScenePreloadProgress(sceneId, loaded, total, ready);
+            }
+            if (loaded == total) {
+                mPreloadThresholds.remove(sceneId);
+            }
+            if (ready && sceneId.equals(mPendingActivationId)) {
+                activateScene(sceneId);
+            }
+        }
+        
+        if (!mPreloadThresholds.isEmpty()) {
+            mMainHandler.postDelayed(mPreloadPollRunnable, PRELOAD_POLL_INTERVAL_MS);
+        }
+    }
+    
+    /**
+     * Count settled and total asset-backed components under the given component.
+     */
+    private static void countAssets(VRTComponent component, int[] counts) {
+        int state = component.getAssetLoadState();
+        if (state != VRTComponent.ASSETS_NONE) {
+            counts[1]++;
+            if (state == VRTComponent.ASSETS_SETTLED) {
+                counts[0]++;
+            }
+        }
+        for (int i = 0; i < component.getChildCount(); i++) {
+            View child = component.getChildAt(i);
+            if (child instanceof VRTComponent) {
+                countAssets((VRTComponent) child, counts);
+            }
+        }
+    }
+    
     /**
      * Get the current active scene.
      */
@@ -341,6 +491,41 @@ public class ViroFabricSceneManager {
         return mSceneStates.get(sceneId);
     }
     
+    /**
+     * Estimated memory of a scene, from the scene cache if it is cached and measured otherwise.
+     * Returns null for unknown scenes.
+     */
+    public WritableMap getSceneMemoryEstimate(String sceneId) {
+        VRTScene scene = getScene(sceneId);
+        if (scene == null) {
+            return null;
+        }
+        
+        WritableMap map = new WritableNativeMap();
+        ViroSceneCache.Estimate estimate = mSceneCache.getEstimate(sceneId);
+        map.putBoolean("cached", estimate != null);
+        if (estimate == null) {
+            estimate = ViroSceneCache.estimate(scene);
+        }
+        estimate.writeTo(map);
+        return map;
+    }
+    
+    /**
+     * Set the estimated memory budget for deactivated scenes kept in the scene cache.
+     */
+    public void setSceneCacheBudget(long budgetBytes) {
+        mSceneCache.setBudgetBytes(budgetBytes);
+        destroyEvictedScenes(mSceneCache.trim(1f));
+    }
+    
+    private void destroyEvictedScenes(List<String> sceneIds) {
+        for (String sceneId : sceneIds) {
+            Log.d(TAG, "Evicting cached scene: " + sceneId);
+            destroyScene(sceneId);
+        }
+    }
+    
     /**
      * Get all scene IDs.
      */
@@ -363,8 +548,7 @@ public class ViroFabricSceneManager {
         
         try {
             // Check current memory pressure
-            WritableMap memStats = getMemoryStats();
-            double memoryUsage = memStats.getDouble("jvmMemoryUsagePercent");
+            double memoryUsage = mMetricsSampler.getSnapshot().getJvmMemoryUsagePercent();
             
             // Clean up stale scene references
             List<String> staleScenes = new ArrayList<>();
@@ -390,6 +574,11 @@ public class ViroFabricSceneManager {
             }
             mManagedNodes.removeAll(staleNodes);
             
+            // Shed half of the scene cache under normal cleanup; aggressive cleanup empties it
+            if (!aggressive) {
+                destroyEvictedScenes(mSceneCache.trim(0.5f));
+            }
+            
             // Aggressive cleanup if memory pressure is high
             if (aggressive || memoryUsage > MEMORY_CRITICAL_THRESHOLD) {
                 performAggressiveCleanup();
@@ -417,37 +606,8 @@ public class ViroFabricSceneManager {
         Log.w(TAG, "Performing aggressive memory cleanup due to high memory pressure");
         
         try {
-            // Find and destroy oldest inactive scenes
-            long currentTime = System.currentTimeMillis();
-            List<String> candidateScenes = new ArrayList<>();
-            
-            for (Map.Entry<String, Long> entry : mSceneCreationTimes.entrySet()) {
-                String sceneId = entry.getKey();
-                long age = currentTime - entry.getValue();
-                
-                // Target scenes older than 30 seconds that aren't active
-                if (age > 30000 && !sceneId.equals(mActiveSceneId)) {
-                    SceneState state = mSceneStates.get(sceneId);
-                    if (state == SceneState.PAUSED || state == SceneState.LOADED) {
-                        candidateScenes.add(sceneId);
-                    }
-                }
-            }
-            
-            // Sort by age (oldest first)
-            candidateScenes.sort((a, b) -> {
-                long ageA = currentTime - mSceneCreationTimes.get(a);
-                long ageB = currentTime - mSceneCreationTimes.get(b);
-                return Long.compare(ageB, ageA);
-            });
-            
-            // Destroy up to half of the old scenes
-            int destroyCount = Math.min(candidateScenes.size() / 2 + 1, candidateScenes.size());
-            for (int i = 0; i < destroyCount; i++) {
-                String sceneId = candidateScenes.get(i);
-                Log.d(TAG, "Aggressively destroying old scene: " + sceneId);
-                destroyScene(sceneId);
-            }
+            // Destroy every cached scene, least recently used first
+            destroyEvictedScenes(mSceneCache.trim(0f));
             
             // Clear any cached resources
             if (mContainer.get() != null) {
@@ -484,14 +644,11 @@ public class ViroFabricSceneManager {
         mLastMemoryCheckTime = currentTime;
         
         try {
-            WritableMap memStats = getMemoryStats();
-            double jvmUsage = memStats.getDouble("jvmMemoryUsagePercent");
+            ViroMetricsSampler.Snapshot snapshot = mMetricsSampler.getSnapshot();
+            double jvmUsage = snapshot.getJvmMemoryUsagePercent();
             
             // Check if system is under memory pressure
-            boolean systemLowMemory = false;
-            if (memStats.hasKey("systemLowMemory")) {
-                systemLowMemory = memStats.getBoolean("systemLowMemory");
-            }
+            boolean systemLowMemory = snapshot.isSystemLowMemory();
             
             // Trigger cleanup based on memory pressure
             if (systemLowMemory || jvmUsage > MEMORY_CRITICAL_THRESHOLD) {
@@ -532,12 +689,21 @@ public class ViroFabricSceneManager {
                 destroyScene(sceneId);
             }
             
+            mSceneCache.clear();
+            
+            // Stop preloading
+            mMainHandler.removeCallbacks(mPreloadPollRunnable);
+            mPreloadThresholds.clear();
+            mPendingActivationId = null;
+            
             // Clear all registries
             mSceneRegistry.clear();
             mSceneStates.clear();
             mSceneCreationTimes.clear();
             mManagedNodes.clear();
             
+            mMetricsSampler.stop();
+            
             // Clear active scene
             mActiveScene = null;
             mActiveSceneId = null;
@@ -550,7 +716,8 @@ public class ViroFabricSceneManager {
     }
     
     /**
-     * Get comprehensive memory and performance statistics.
+     * Get comprehensive memory and performance statistics. Process and system values come from
+     * the latest background sample, so this never blocks on /proc or the ActivityManager.
      */
     public WritableMap getMemoryStats() {
         WritableMap stats = new WritableNativeMap();
@@ -560,31 +727,12 @@ public class ViroFabricSceneManager {
             stats.putInt("totalScenes", mSceneRegistry.size());
             stats.putInt("activeScenes", mActiveScene != null ? 1 : 0);
             stats.putInt("managedNodes", mManagedNodes.size());
+            stats.putMap("sceneCache", mSceneCache.getStats());
             
-            // JVM Memory statistics
-            Runtime runtime = Runtime.getRuntime();
-            long totalMemory = runtime.totalMemory();
-            long freeMemory = runtime.freeMemory();
-            long usedMemory = totalMemory - freeMemory;
-            long maxMemory = runtime.maxMemory();
-            
-            stats.putDouble("jvmTotalMemoryMB", totalMemory / (1024.0 * 1024.0));
-            stats.putDouble("jvmUsedMemoryMB", usedMemory / (1024.0 * 1024.0));
-            stats.putDouble("jvmFreeMemoryMB", freeMemory / (1024.0 * 1024.0));
-            stats.putDouble("jvmMaxMemoryMB", maxMemory / (1024.0 * 1024.0));
-            stats.putDouble("jvmMemoryUsagePercent", (usedMemory * 100.0) / maxMemory);
-            
-            // Android native memory statistics
-            addNativeMemoryStats(stats);
-            
-            // Process memory statistics
-            addProcessMemoryStats(stats);
-            
-            // System memory statistics
-            addSystemMemoryStats(stats);
-            
-            // Performance statistics
-            addPerformanceStats(stats);
+            // Sampled memory, CPU and GC statistics with their rolling histories
+            mMetricsSampler.start();
+            mMetricsSampler.getSnapshot().writeTo(stats);
+            stats.putDouble("sampleIntervalMs", mMetricsSampler.getInterval());
             
             // Scene age statistics
             long currentTime = System.currentTimeMillis();
@@ -605,239 +753,17 @@ public class ViroFabricSceneManager {
     }
     
     /**
-     * Add native memory statistics (equivalent to iOS mach_task_basic_info).
+     * Latest background metrics sample.
      */
-    private void addNativeMemoryStats(WritableMap stats) {
-        try {
-            // Get native heap info
-            Debug.MemoryInfo memInfo = new Debug.MemoryInfo();
-            Debug.getMemoryInfo(memInfo);
-            
-            // These fields are deprecated in newer Android versions
-            // Using reflection to access them if available
-            try {
-                java.lang.reflect.Field nativeHeapSizeField = Debug.MemoryInfo.class.getField("nativeHeapSize");
-                stats.putDouble("nativeHeapSizeMB", nativeHeapSizeField.getInt(memInfo) / 1024.0);
-                
-                java.lang.reflect.Field nativeHeapAllocatedSizeField = Debug.MemoryInfo.class.getField("nativeHeapAllocatedSize");
-                stats.putDouble("nativeHeapAllocatedMB", nativeHeapAllocatedSizeField.getInt(memInfo) / 1024.0);
-                
-                java.lang.reflect.Field nativeHeapFreeSizeField = Debug.MemoryInfo.class.getField("nativeHeapFreeSize");
-                stats.putDouble("nativeHeapFreeMB", nativeHeapFreeSizeField.getInt(memInfo) / 1024.0);
-                
-                java.lang.reflect.Field dalvikHeapSizeField = Debug.MemoryInfo.class.getField("dalvikHeapSize");
-                stats.putDouble("dalvikHeapSizeMB", dalvikHeapSizeField.getInt(memInfo) / 1024.0);
-                
-                java.lang.reflect.Field dalvikHeapAllocatedSizeField = Debug.MemoryInfo.class.getField("dalvikHeapAllocatedSize");
-                stats.putDouble("dalvikHeapAllocatedMB", dalvikHeapAllocatedSizeField.getInt(memInfo) / 1024.0);
-                
-                java.lang.reflect.Field dalvikHeapFreeSizeField = Debug.MemoryInfo.class.getField("dalvikHeapFreeSize");
-                stats.putDouble("dalvikHeapFreeMB", dalvikHeapFreeSizeField.getInt(memInfo) / 1024.0);
-            } catch (Exception reflectEx) {
-                // Fallback: use available methods
-                stats.putDouble("totalPssKB", memInfo.getTotalPss());
-                stats.putDouble("nativePssKB", memInfo.nativePss);
-                stats.putDouble("dalvikPssKB", memInfo.dalvikPss);
-            }
-            
-            // Total PSS (Proportional Set Size) - closest to iOS resident memory
-            stats.putDouble("totalPssMB", memInfo.getTotalPss() / 1024.0);
-            stats.putDouble("nativePssMB", memInfo.nativePss / 1024.0);
-            stats.putDouble("dalvikPssMB", memInfo.dalvikPss / 1024.0);
-            stats.putDouble("otherPssMB", memInfo.otherPss / 1024.0);
-            
-        } catch (Exception e) {
-            Log.w(TAG, "Could not get native memory stats: " + e.getMessage());
-        }
+    public ViroMetricsSampler.Snapshot getMetricsSnapshot() {
+        return mMetricsSampler.getSnapshot();
     }
     
     /**
-     * Add process-level memory statistics.
+     * Set how often metrics are sampled in the background.
      */
-    private void addProcessMemoryStats(WritableMap stats) {
-        try {
-            int pid = Process.myPid();
-            
-            // Read /proc/[pid]/status for detailed memory info
-            RandomAccessFile reader = new RandomAccessFile("/proc/" + pid + "/status", "r");
-            String line;
-            while ((line = reader.readLine()) != null) {
-                if (line.startsWith("VmRSS:")) {
-                    // Resident Set Size (physical memory currently used)
-                    String[] parts = line.split("\\s+");
-                    if (parts.length >= 2) {
-                        long vmRssKB = Long.parseLong(parts[1]);
-                        stats.putDouble("processResidentMemoryMB", vmRssKB / 1024.0);
-                    }
-                } else if (line.startsWith("VmSize:")) {
-                    // Virtual Memory Size
-                    String[] parts = line.split("\\s+");
-                    if (parts.length >= 2) {
-                        long vmSizeKB = Long.parseLong(parts[1]);
-                        stats.putDouble("processVirtualMemoryMB", vmSizeKB / 1024.0);
-                    }
-                } else if (line.startsWith("VmHWM:")) {
-                    // High Water Mark (peak physical memory usage)
-                    String[] parts = line.split("\\s+");
-                    if (parts.length >= 2) {
-                        long vmHwmKB = Long.parseLong(parts[1]);
-                        stats.putDouble("processPeakMemoryMB", vmHwmKB / 1024.0);
-                    }
-                } else if (line.startsWith("VmSwap:")) {
-                    // Swap usage
-                    String[] parts = line.split("\\s+");
-                    if (parts.length >= 2) {
-                        long vmSwapKB = Long.parseLong(parts[1]);
-                        stats.putDouble("processSwapMB", vmSwapKB / 1024.0);
-                    }
-                }
-            }
-            reader.close();
-            
-        } catch (Exception e) {
-            Log.w(TAG, "Could not get process memory stats: " + e.getMessage());
-        }
-    }
-    
-    /**
-     * Add system-level memory statistics.
-     */
-    private void addSystemMemoryStats(WritableMap stats) {
-        try {
-            Context context = mReactContext;
-            ActivityManager activityManager = (ActivityManager) context.getSystemService(Context.ACTIVITY_SERVICE);
-            
-            if (activityManager != null) {
-                // Get system memory info
-                ActivityManager.MemoryInfo memInfo = new ActivityManager.MemoryInfo();
-                activityManager.getMemoryInfo(memInfo);
-                
-                stats.putDouble("systemAvailableMemoryMB", memInfo.availMem / (1024.0 * 1024.0));
-                stats.putDouble("systemTotalMemoryMB", memInfo.totalMem / (1024.0 * 1024.0));
-                stats.putDouble("systemMemoryUsagePercent", 
-                    ((memInfo.totalMem - memInfo.availMem) * 100.0) / memInfo.totalMem);
-                stats.putBoolean("systemLowMemory", memInfo.lowMemory);
-                stats.putDouble("systemMemoryThresholdMB", memInfo.threshold / (1024.0 * 1024.0));
-                
-                // Get running app processes
-                List<ActivityManager.RunningAppProcessInfo> runningApps = 
-                    activityManager.getRunningAppProcesses();
-                stats.putInt("systemRunningProcesses", runningApps != null ? runningApps.size() : 0);
-            }
-            
-        } catch (Exception e) {
-            Log.w(TAG, "Could not get system memory stats: " + e.getMessage());
-        }
-    }
-    
-    /**
-     * Add performance monitoring statistics.
-     */
-    private void addPerformanceStats(WritableMap stats) {
-        try {
-            // CPU usage
-            addCpuStats(stats);
-            
-            // Thread information
-            ThreadGroup rootGroup = Thread.currentThread().getThreadGroup();
-            ThreadGroup parentGroup;
-            while ((parentGroup = rootGroup.getParent()) != null) {
-                rootGroup = parentGroup;
-            }
-            stats.putInt("totalThreads", rootGroup.activeCount());
-            
-            // GC statistics - Debug.getRuntimeStat returns String
-            try {
-                String gcCount = Debug.getRuntimeStat("art.gc.gc-count");
-                if (gcCount != null && !gcCount.isEmpty()) {
-                    stats.putLong("totalGcInvocations", Long.parseLong(gcCount));
-                }
-                
-                String gcTime = Debug.getRuntimeStat("art.gc.gc-time");
-                if (gcTime != null && !gcTime.isEmpty()) {
-                    stats.putLong("totalGcTimeMs", Long.parseLong(gcTime));
-                }
-                
-                String objectsAllocated = Debug.getRuntimeStat("art.gc.objects-allocated");
-                if (objectsAllocated != null && !objectsAllocated.isEmpty()) {
-                    stats.putLong("totalAllocatedObjects", Long.parseLong(objectsAllocated));
-                }
-                
-                String objectsFreed = Debug.getRuntimeStat("art.gc.objects-freed");
-                if (objectsFreed != null && !objectsFreed.isEmpty()) {
-                    stats.putLong("totalFreedObjects", Long.parseLong(objectsFreed));
-                }
-                
-                // Process uptime - use SystemClock instead
-                long uptimeMs = SystemClock.elapsedRealtime();
-                stats.putDouble("processUptimeSeconds", uptimeMs / 1000.0);
-            } catch (Exception gcStatsEx) {
-                Log.w(TAG, "Could not parse GC stats: " + gcStatsEx.getMessage());
-            }
-            
-        } catch (Exception e) {
-            Log.w(TAG, "Could not get performance stats: " + e.getMessage());
-        }
-    }
-    
-    /**
-     * Add CPU usage statistics.
-     */
-    private void addCpuStats(WritableMap stats) {
-        try {
-            int pid = Process.myPid();
-            
-            // Read /proc/[pid]/stat for CPU usage
-            RandomAccessFile reader = new RandomAccessFile("/proc/" + pid + "/stat", "r");
-            String line = reader.readLine();
-            reader.close();
-            
-            if (line != null) {
-                String[] statParts = line.split(" ");
-                if (statParts.length >= 15) {
-                    // User time + System time (in jiffies)
-                    long utime = Long.parseLong(statParts[13]);
-                    long stime = Long.parseLong(statParts[14]);
-                    long totalTime = utime + stime;
-                    
-                    // Get clock ticks per second
-                    long clockTicks = Os.sysconf(android.system.OsConstants._SC_CLK_TCK);
-                    double cpuTimeSeconds = totalTime / (double) clockTicks;
-                    
-                    stats.putDouble("processCpuTimeSeconds", cpuTimeSeconds);
-                    stats.putLong("processUserTimeJiffies", utime);
-                    stats.putLong("processSystemTimeJiffies", stime);
-                }
-            }
-            
-            // Read system CPU info
-            reader = new RandomAccessFile("/proc/stat", "r");
-            line = reader.readLine(); // First line contains overall CPU stats
-            reader.close();
-            
-            if (line != null && line.startsWith("cpu ")) {
-                String[] cpuParts = line.split("\\s+");
-                if (cpuParts.length >= 8) {
-                    long user = Long.parseLong(cpuParts[1]);
-                    long nice = Long.parseLong(cpuParts[2]);
-                    long system = Long.parseLong(cpuParts[3]);
-                    long idle = Long.parseLong(cpuParts[4]);
-                    long iowait = Long.parseLong(cpuParts[5]);
-                    long irq = Long.parseLong(cpuParts[6]);
-                    long softirq = Long.parseLong(cpuParts[7]);
-                    
-                    long totalCpu = user + nice + system + idle + iowait + irq + softirq;
-                    long activeCpu = totalCpu - idle;
-                    
-                    stats.putDouble("systemCpuUsagePercent", (activeCpu * 100.0) / totalCpu);
-                    stats.putLong("systemCpuTotalJiffies", totalCpu);
-                    stats.putLong("systemCpuActiveJiffies", activeCpu);
-                }
-            }
-            
-        } catch (Exception e) {
-            Log.w(TAG, "Could not get CPU stats: " + e.getMessage());
-        }
+    public void setMetricsSampleInterval(long intervalMs) {
+        mMetricsSampler.setInterval(intervalMs);
     }
     
     /**
@@ -0,0 +1,523 @@
+package com.viromedia.bridge.fabric;
+
+import android.app.ActivityManager;
+import android.content.Context;
+import android.os.Debug;
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.os.Process;
+import android.os.SystemClock;
+import android.system.Os;
+import android.system.OsConstants;
+import android.util.Log;
+
+import com.facebook.react.bridge.WritableArray;
+import com.facebook.react.bridge.WritableMap;
+import com.facebook.react.bridge.WritableNativeArray;
+import com.facebook.react.bridge.WritableNativeMap;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+
+/**
+ * ViroMetricsSampler collects process, memory and CPU statistics on a background thread at a
+ * configurable rate.
+ *
+ * Each sample is published as an immutable Snapshot through a volatile reference, so readers
+ * never take a lock and never touch /proc or the ActivityManager themselves. Snapshots also carry
+ * short rolling histories of the most useful series. Debug.getMemoryInfo is very slow, so PSS is
+ * only refreshed every few samples.
+ */
+public class ViroMetricsSampler {
+
+    private static final String TAG = "ViroMetricsSampler";
+
+    public static final long DEFAULT_INTERVAL_MS = 1000;
+    private static final long MIN_INTERVAL_MS = 100;
+    private static final int HISTORY_SIZE = 60;
+    private static final long PSS_INTERVAL_MS = 10000;
+    private static final double MB = 1024.0 * 1024.0;
+
+    /**
+     * An immutable set of statistics taken at one point in time.
+     */
+    public static final class Snapshot {
+        final long sampleTimeMs;
+        final double sampleDurationMs;
+
+        final double jvmTotalMemoryMB;
+        final double jvmUsedMemoryMB;
+        final double jvmFreeMemoryMB;
+        final double jvmMaxMemoryMB;
+        final double jvmMemoryUsagePercent;
+
+        final double nativeHeapSizeMB;
+        final double nativeHeapAllocatedMB;
+        final double nativeHeapFreeMB;
+
+        final double totalPssMB;
+        final double nativePssMB;
+        final double dalvikPssMB;
+        final double otherPssMB;
+        final long pssSampleTimeMs;
+
+        final double processResidentMemoryMB;
+        final double processVirtualMemoryMB;
+        final double processPeakMemoryMB;
+        final double processSwapMB;
+        final int processThreads;
+
+        final double systemAvailableMemoryMB;
+        final double systemTotalMemoryMB;
+        final double systemMemoryThresholdMB;
+        final boolean systemLowMemory;
+
+        final double processCpuTimeSeconds;
+        final double processCpuUsagePercent;
+        final long totalGcInvocations;
+        final long totalGcTimeMs;
+
+        final float[] historyJvmUsedMB;
+        final float[] historyNativeHeapAllocatedMB;
+        final float[] historyProcessResidentMB;
+        final float[] historyProcessCpuPercent;
+
+        private Snapshot(Builder b) {
+            sampleTimeMs = b.sampleTimeMs;
+            sampleDurationMs = b.sampleDurationMs;
+            jvmTotalMemoryMB = b.jvmTotalMemoryMB;
+            jvmUsedMemoryMB = b.jvmUsedMemoryMB;
+            jvmFreeMemoryMB = b.jvmFreeMemoryMB;
+            jvmMaxMemoryMB = b.jvmMaxMemoryMB;
+            jvmMemoryUsagePercent = b.jvmMemoryUsagePercent;
+            nativeHeapSizeMB = b.nativeHeapSizeMB;
+            nativeHeapAllocatedMB = b.nativeHeapAllocatedMB;
+            nativeHeapFreeMB = b.nativeHeapFreeMB;
+            totalPssMB = b.totalPssMB;
+            nativePssMB = b.nativePssMB;
+            dalvikPssMB = b.dalvikPssMB;
+            otherPssMB = b.otherPssMB;
+            pssSampleTimeMs = b.pssSampleTimeMs;
+            processResidentMemoryMB = b.processResidentMemoryMB;
+            processVirtualMemoryMB = b.processVirtualMemoryMB;
+            processPeakMemoryMB = b.processPeakMemoryMB;
+            processSwapMB = b.processSwapMB;
+            processThreads = b.processThreads;
+            systemAvailableMemoryMB = b.systemAvailableMemoryMB;
+            systemTotalMemoryMB = b.systemTotalMemoryMB;
+            systemMemoryThresholdMB = b.systemMemoryThresholdMB;
+            systemLowMemory = b.systemLowMemory;
+            processCpuTimeSeconds = b.processCpuTimeSeconds;
+            processCpuUsagePercent = b.processCpuUsagePercent;
+            totalGcInvocations = b.totalGcInvocations;
+            totalGcTimeMs = b.totalGcTimeMs;
+            historyJvmUsedMB = b.historyJvmUsedMB;
+            historyNativeHeapAllocatedMB = b.historyNativeHeapAllocatedMB;
+            historyProcessResidentMB = b.historyProcessResidentMB;
+            historyProcessCpuPercent = b.historyProcessCpuPercent;
+        }
+
+        public double getJvmMemoryUsagePercent() {
+            return jvmMemoryUsagePercent;
+        }
+
+        public boolean isSystemLowMemory() {
+            return systemLowMemory;
+        }
+
+        /**
+         * Fraction (0-1) of system memory in use, or 0 if it has not been sampled yet.
+         */
+        public double getSystemMemoryPressure() {
+            if (systemTotalMemoryMB <= 0) {
+                return 0;
+            }
+            return (systemTotalMemoryMB - systemAvailableMemoryMB) / systemTotalMemoryMB;
+        }
+
+        public double getSystemMemoryThresholdMB() {
+            return systemMemoryThresholdMB;
+        }
+
+        /**
+         * Write this snapshot into the given map, using the keys getMemoryStats has always used.
+         */
+        public void writeTo(WritableMap stats) {
+            stats.putDouble("jvmTotalMemoryMB", jvmTotalMemoryMB);
+            stats.putDouble("jvmUsedMemoryMB", jvmUsedMemoryMB);
+            stats.putDouble("jvmFreeMemoryMB", jvmFreeMemoryMB);
+            stats.putDouble("jvmMaxMemoryMB", jvmMaxMemoryMB);
+            stats.putDouble("jvmMemoryUsagePercent", jvmMemoryUsagePercent);
+
+            stats.putDouble("nativeHeapSizeMB", nativeHeapSizeMB);
+            stats.putDouble("nativeHeapAllocatedMB", nativeHeapAllocatedMB);
+            stats.putDouble("nativeHeapFreeMB", nativeHeapFreeMB);
+
+            if (pssSampleTimeMs > 0) {
+                stats.putDouble("totalPssMB", totalPssMB);
+                stats.putDouble("nativePssMB", nativePssMB);
+                stats.putDouble("dalvikPssMB", dalvikPssMB);
+                stats.putDouble("otherPssMB", otherPssMB);
+                stats.putDouble("pssAgeMs", SystemClock.elapsedRealtime() - pssSampleTimeMs);
+            }
+
+            if (processResidentMemoryMB > 0) {
+                stats.putDouble("processResidentMemoryMB", processResidentMemoryMB);
+                stats.putDouble("processVirtualMemoryMB", processVirtualMemoryMB);
+                stats.putDouble("processPeakMemoryMB", processPeakMemoryMB);
+                stats.putDouble("processSwapMB", processSwapMB);
+                stats.putInt("totalThreads", processThreads);
+            }
+
+            if (systemTotalMemoryMB > 0) {
+                stats.putDouble("systemAvailableMemoryMB", systemAvailableMemoryMB);
+                stats.putDouble("systemTotalMemoryMB", systemTotalMemoryMB);
+                stats.putDouble("systemMemoryUsagePercent", getSystemMemoryPressure() * 100.0);
+                stats.putDouble("systemMemoryThresholdMB", systemMemoryThresholdMB);
+            }
+            stats.putBoolean("systemLowMemory", systemLowMemory);
+
+            stats.putDouble("processCpuTimeSeconds", processCpuTimeSeconds);
+            stats.putDouble("processCpuUsagePercent", processCpuUsagePercent);
+            stats.putDouble("totalGcInvocations", totalGcInvocations);
+            stats.putDouble("totalGcTimeMs", totalGcTimeMs);
+            stats.putDouble("processUptimeSeconds", SystemClock.elapsedRealtime() / 1000.0);
+
+            stats.putDouble("sampleAgeMs", SystemClock.elapsedRealtime() - sampleTimeMs);
+            stats.putDouble("sampleDurationMs", sampleDurationMs);
+
+            WritableMap history = new WritableNativeMap();
+            history.putArray("jvmUsedMemoryMB", toArray(historyJvmUsedMB));
+            history.putArray("nativeHeapAllocatedMB", toArray(historyNativeHeapAllocatedMB));
+            history.putArray("processResidentMemoryMB", toArray(historyProcessResidentMB));
+            history.putArray("processCpuUsagePercent", toArray(historyProcessCpuPercent));
+            stats.putMap("history", history);
+        }
+
+        private static WritableArray toArray(float[] values) {
+            WritableArray array = new WritableNativeArray();
+            for (float value : values) {
+                array.pushDouble(value);
+            }
+            return array;
+        }
+    }
+
+    // Mutable scratch used on the sampler thread to assemble a Snapshot
+    private static final class Builder {
+        long sampleTimeMs;
+        double sampleDurationMs;
+        double jvmTotalMemoryMB;
+        double jvmUsedMemoryMB;
+        double jvmFreeMemoryMB;
+        double jvmMaxMemoryMB;
+        double jvmMemoryUsagePercent;
+        double nativeHeapSizeMB;
+        double nativeHeapAllocatedMB;
+        double nativeHeapFreeMB;
+        double totalPssMB;
+        double nativePssMB;
+        double dalvikPssMB;
+        double otherPssMB;
+        long pssSampleTimeMs;
+        double processResidentMemoryMB;
+        double processVirtualMemoryMB;
+        double processPeakMemoryMB;
+        double processSwapMB;
+        int processThreads;
+        double systemAvailableMemoryMB;
+        double systemTotalMemoryMB;
+        double systemMemoryThresholdMB;
+        boolean systemLowMemory;
+        double processCpuTimeSeconds;
+        double processCpuUsagePercent;
+        long totalGcInvocations;
+        long totalGcTimeMs;
+        float[] historyJvmUsedMB = new float[0];
+        float[] historyNativeHeapAllocatedMB = new float[0];
+        float[] historyProcessResidentMB = new float[0];
+        float[] historyProcessCpuPercent = new float[0];
+    }
+
+    /**
+     * Fixed size ring of samples, only touched on the sampler thread.
+     */
+    private static final class History {
+        private final float[] mValues = new float[HISTORY_SIZE];
+        private int mNext = 0;
+        private int mCount = 0;
+
+        void add(double value) {
+            mValues[mNext] = (float) value;
+            mNext = (mNext + 1) % HISTORY_SIZE;
+            mCount = Math.min(mCount + 1, HISTORY_SIZE);
+        }
+
+        // Oldest first
+        float[] copy() {
+            float[] out = new float[mCount];
+            int start = (mNext - mCount + HISTORY_SIZE) % HISTORY_SIZE;
+            for (int i = 0; i < mCount; i++) {
+                out[i] = mValues[(start + i) % HISTORY_SIZE];
+            }
+            return out;
+        }
+    }
+
+    private final Context mContext;
+    private final Object mLifecycleLock = new Object();
+    private HandlerThread mThread;
+    private Handler mHandler;
+    private volatile long mIntervalMs = DEFAULT_INTERVAL_MS;
+    private volatile Snapshot mSnapshot;
+
+    // Sampler thread state
+    private final Builder mBuilder = new Builder();
+    private final History mJvmUsedHistory = new History();
+    private final History mNativeHeapHistory = new History();
+    private final History mResidentHistory = new History();
+    private final History mCpuHistory = new History();
+    private final long mClockTicksPerSecond;
+    private RandomAccessFile mStatusFile;
+    private RandomAccessFile mStatFile;
+    private long mLastCpuTicks = -1;
+    private long mLastCpuSampleTime = 0;
+
+    private final Runnable mSampleRunnable = new Runnable() {
+        @Override
+        public void run() {
+            sample();
+            Handler handler = mHandler;
+            if (handler != null) {
+                handler.postDelayed(this, mIntervalMs);
+            }
+        }
+    };
+
+    public ViroMetricsSampler(Context context) {
+        mContext = context;
+        long ticks = 100;
+        try {
+            ticks = Os.sysconf(OsConstants._SC_CLK_TCK);
+        } catch (Exception e) {
+            Log.w(TAG, "Could not read clock ticks, assuming 100: " + e.getMessage());
+        }
+        mClockTicksPerSecond = ticks > 0 ? ticks : 100;
+
+        // Cheap JVM-only snapshot so readers always have something before the first sample
+        sampleJvm(mBuilder);
+        mBuilder.sampleTimeMs = SystemClock.elapsedRealtime();
+        mSnapshot = new Snapshot(mBuilder);
+    }
+
+    /**
+     * Start sampling on the background thread. Does nothing if already started.
+     */
+    public void start() {
+        synchronized (mLifecycleLock) {
+            if (mThread != null) {
+                return;
+            }
+            mThread = new HandlerThread("ViroMetrics", Process.THREAD_PRIORITY_BACKGROUND);
+            mThread.start();
+            mHandler = new Handler(mThread.getLooper());
+            mHandler.post(mSampleRunnable);
+        }
+    }
+
+    public void stop() {
+        synchronized (mLifecycleLock) {
+            if (mThread == null) {
+                return;
+            }
+            final Handler handler = mHandler;
+            mHandler = null;
+            handler.removeCallbacks(mSampleRunnable);
+            handler.post(new Runnable() {
+                @Override
+                public void run() {
+                    closeFiles();
+                }
+            });
+            mThread.quitSafely();
+            mThread = null;
+        }
+    }
+
+    public boolean isRunning() {
+        synchronized (mLifecycleLock) {
+            return mThread != null;
+        }
+    }
+
+    /**
+     * Set the sampling interval. Takes effect after the pending sample.
+     */
+    public void setInterval(long intervalMs) {
+        mIntervalMs = Math.max(MIN_INTERVAL_MS, intervalMs);
+    }
+
+    public long getInterval() {
+        return mIntervalMs;
+    }
+
+    /**
+     * The latest snapshot. Never null, never blocks.
+     */
+    public Snapshot getSnapshot() {
+        return mSnapshot;
+    }
+
+    private void sample() {
+        long start = SystemClock.elapsedRealtimeNanos();
+        Builder b = mBuilder;
+        b.sampleTimeMs = SystemClock.elapsedRealtime();
+
+        try {
+            sampleJvm(b);
+            sampleProcessStatus(b);
+            sampleCpu(b);
+            sampleSystemMemory(b);
+            sampleGc(b);
+            if (b.sampleTimeMs - b.pssSampleTimeMs >= PSS_INTERVAL_MS) {
+                samplePss(b);
+            }
+        } catch (Exception e) {
+            Log.w(TAG, "Error sampling metrics: " + e.getMessage());
+        }
+
+        mJvmUsedHistory.add(b.jvmUsedMemoryMB);
+        mNativeHeapHistory.add(b.nativeHeapAllocatedMB);
+        mResidentHistory.add(b.processResidentMemoryMB);
+        mCpuHistory.add(b.processCpuUsagePercent);
+        b.historyJvmUsedMB = mJvmUsedHistory.copy();
+        b.historyNativeHeapAllocatedMB = mNativeHeapHistory.copy();
+        b.historyProcessResidentMB = mResidentHistory.copy();
+        b.historyProcessCpuPercent = mCpuHistory.copy();
+
+        b.sampleDurationMs = (SystemClock.elapsedRealtimeNanos() - start) / 1000000.0;
+        mSnapshot = new Snapshot(b);
+    }
+
+    private static void sampleJvm(Builder b) {
+        Runtime runtime = Runtime.getRuntime();
+        long totalMemory = runtime.totalMemory();
+        long freeMemory = runtime.freeMemory();
+        long usedMemory = totalMemory - freeMemory;
+        long maxMemory = runtime.maxMemory();
+        b.jvmTotalMemoryMB = totalMemory / MB;
+        b.jvmUsedMemoryMB = usedMemory / MB;
+        b.jvmFreeMemoryMB = freeMemory / MB;
+        b.jvmMaxMemoryMB = maxMemory / MB;
+        b.jvmMemoryUsagePercent = (usedMemory * 100.0) / maxMemory;
+
+        // Cheap mallinfo-based counters, unlike Debug.getMemoryInfo
+        b.nativeHeapSizeMB = Debug.getNativeHeapSize() / MB;
+        b.nativeHeapAllocatedMB = Debug.getNativeHeapAllocatedSize() / MB;
+        b.nativeHeapFreeMB = Debug.getNativeHeapFreeSize() / MB;
+    }
+
+    private void sampleProcessStatus(Builder b) throws IOException {
+        if (mStatusFile == null) {
+            mStatusFile = new RandomAccessFile("/proc/self/status", "r");
+        }
+        mStatusFile.seek(0);
+        String line;
+        while ((line = mStatusFile.readLine()) != null) {
+            if (line.startsWith("VmRSS:")) {
+                b.processResidentMemoryMB = parseKB(line) / 1024.0;
+            } else if (line.startsWith("VmSize:")) {
+                b.processVirtualMemoryMB = parseKB(line) / 1024.0;
+            } else if (line.startsWith("VmHWM:")) {
+                b.processPeakMemoryMB = parseKB(line) / 1024.0;
+            } else if (line.startsWith("VmSwap:")) {
+                b.processSwapMB = parseKB(line) / 1024.0;
+            } else if (line.startsWith("Threads:")) {
+                b.processThreads = (int) parseKB(line);
+            }
+        }
+    }
+
+    private static long parseKB(String line) {
+        String[] parts = line.split("\\s+");
+        return parts.length >= 2 ? Long.parseLong(parts[1]) : 0;
+    }
+
+    private void sampleCpu(Builder b) throws IOException {
+        if (mStatFile == null) {
+            mStatFile = new RandomAccessFile("/proc/self/stat", "r");
+        }
+        mStatFile.seek(0);
+        String line = mStatFile.readLine();
+        if (line == null) {
+            return;
+        }
+
+        // The command name may contain spaces, so parse the fields after its closing paren
+        int end = line.lastIndexOf(')');
+        String[] fields = line.substring(end + 2).split(" ");
+        if (fields.length < 13) {
+            return;
+        }
+        // utime and stime are fields 14 and 15 of the full line
+        long ticks = Long.parseLong(fields[11]) + Long.parseLong(fields[12]);
+        long now = b.sampleTimeMs;
+        b.processCpuTimeSeconds = ticks / (double) mClockTicksPerSecond;
+
+        if (mLastCpuTicks >= 0 && now > mLastCpuSampleTime) {
+            double cpuMs = (ticks - mLastCpuTicks) * 1000.0 / mClockTicksPerSecond;
+            b.processCpuUsagePercent = cpuMs * 100.0 / (now - mLastCpuSampleTime);
+        }
+        mLastCpuTicks = ticks;
+        mLastCpuSampleTime = now;
+    }
+
+    private void sampleSystemMemory(Builder b) {
+        ActivityManager activityManager = (ActivityManager) mContext.getSystemService(Context.ACTIVITY_SERVICE);
+        if (activityManager == null) {
+            return;
+        }
+        ActivityManager.MemoryInfo memInfo = new ActivityManager.MemoryInfo();
+        activityManager.getMemoryInfo(memInfo);
+        b.systemAvailableMemoryMB = memInfo.availMem / MB;
+        b.systemTotalMemoryMB = memInfo.totalMem / MB;
+        b.systemMemoryThresholdMB = memInfo.threshold / MB;
+        b.systemLowMemory = memInfo.lowMemory;
+    }
+
+    private static void sampleGc(Builder b) {
+        String gcCount = Debug.getRuntimeStat("art.gc.gc-count");
+        if (gcCount != null && !gcCount.isEmpty()) {
+            b.totalGcInvocations = Long.parseLong(gcCount);
+        }
+        String gcTime = Debug.getRuntimeStat("art.gc.gc-time");
+        if (gcTime != null && !gcTime.isEmpty()) {
+            b.totalGcTimeMs = Long.parseLong(gcTime);
+        }
+    }
+
+    private static void samplePss(Builder b) {
+        Debug.MemoryInfo memInfo = new Debug.MemoryInfo();
+        Debug.getMemoryInfo(memInfo);
+        b.totalPssMB = memInfo.getTotalPss() / 1024.0;
+        b.nativePssMB = memInfo.nativePss / 1024.0;
+        b.dalvikPssMB = memInfo.dalvikPss / 1024.0;
+        b.otherPssMB = memInfo.otherPss / 1024.0;
+        b.pssSampleTimeMs = b.sampleTimeMs;
+    }
+
+    private void closeFiles() {
+        try {
+            if (mStatusFile != null) {
+                mStatusFile.close();
+            }
+            if (mStatFile != null) {
+                mStatFile.close();
+            }
+        } catch (IOException e) {
+            Log.w(TAG, "Error closing proc files: " + e.getMessage());
+        }
+        mStatusFile = null;
+        mStatFile = null;
+    }
+}
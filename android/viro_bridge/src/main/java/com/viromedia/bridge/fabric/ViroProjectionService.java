@@ -0,0 +1,129 @@
+package com.viromedia.bridge.fabric;
+
+import android.util.Log;
+import android.view.ViewGroup;
+
+import com.viromedia.bridge.component.VRT3DSceneNavigator;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * ViroProjectionService projects and unprojects batches of points for the Fabric container.
+ *
+ * Points are passed as packed x,y,z triples and projected against the active navigator's
+ * renderer. The renderer's camera moves on the GL thread while this runs, so
+ * VRT3DSceneNavigator.projectPoints checks that no camera update happened during a batch and
+ * projects it again if one did. Async requests share one worker thread instead of spawning a
+ * thread per call.
+ */
+public class ViroProjectionService {
+
+    private static final String TAG = "ViroProjectionService";
+
+    // Fallback camera parameters used before the renderer is available
+    private static final float DEFAULT_FOV = 60.0f;
+    private static final int DEFAULT_VIEWPORT_WIDTH = 1080;
+    private static final int DEFAULT_VIEWPORT_HEIGHT = 1920;
+
+    private static final ExecutorService sExecutor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "ViroProjection");
+            thread.setDaemon(true);
+            return thread;
+        }
+    });
+
+    /**
+     * Callback for async batch projection.
+     */
+    public interface Callback {
+        void onComplete(float[] result);
+        void onError(String error);
+    }
+
+    private ViroProjectionService() {
+    }
+
+    /**
+     * Project (or unproject) the given packed points on the shared projection thread.
+     */
+    public static void projectPointsAsync(final ViewGroup navigator, final float[] points,
+                                          final boolean unproject, final Callback callback) {
+        sExecutor.execute(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    callback.onComplete(projectPoints(navigator, points, unproject));
+                } catch (Exception e) {
+                    Log.e(TAG, "Error during batch projection: " + e.getMessage(), e);
+                    callback.onError("Error during projection: " + e.getMessage());
+                }
+            }
+        });
+    }
+
+    /**
+     * Project (or unproject) the given packed points on the calling thread.
+     */
+    public static float[] projectPoints(ViewGroup navigator, float[] points, boolean unproject) {
+        if (navigator == null) {
+            throw new IllegalStateException("No active navigator available");
+        }
+
+        float[] result = new float[points.length];
+        if (navigator instanceof VRT3DSceneNavigator) {
+            try {
+                ((VRT3DSceneNavigator) navigator).projectPoints(points, result, unproject);
+                return result;
+            } catch (IllegalStateException e) {
+                // Renderer not ready yet, fall through to the manual estimate
+            }
+        }
+
+        projectPointsManually(navigator, points, result, unproject);
+        return result;
+    }
+
+    /**
+     * Estimate projections with a default perspective camera at the origin.
+     */
+    private static void projectPointsManually(ViewGroup navigator, float[] points, float[] out,
+                                              boolean unproject) {
+        int viewportWidth = navigator.getWidth();
+        int viewportHeight = navigator.getHeight();
+        if (viewportWidth <= 0 || viewportHeight <= 0) {
+            viewportWidth = DEFAULT_VIEWPORT_WIDTH;
+            viewportHeight = DEFAULT_VIEWPORT_HEIGHT;
+        }
+
+        float aspectRatio = (float) viewportWidth / viewportHeight;
+        float tanHalfFov = (float) Math.tan(Math.toRadians(DEFAULT_FOV) / 2.0);
+
+        int count = points.length - (points.length % 3);
+        for (int i = 0; i < count; i += 3) {
+            float x = points[i];
+            float y = points[i + 1];
+            float z = points[i + 2];
+
+            if (unproject) {
+                float depth = z > 0 ? z : 1.0f;
+                float ndcX = (x / viewportWidth) * 2.0f - 1.0f;
+                float ndcY = 1.0f - (y / viewportHeight) * 2.0f;
+                out[i] = ndcX * depth * tanHalfFov * aspectRatio;
+                out[i + 1] = ndcY * depth * tanHalfFov;
+                out[i + 2] = depth;
+            } else {
+                float ndcX = x / (z * tanHalfFov * aspectRatio);
+                float ndcY = y / (z * tanHalfFov);
+                float screenX = (ndcX + 1.0f) * 0.5f * viewportWidth;
+                float screenY = (1.0f - ndcY) * 0.5f * viewportHeight;
+                out[i] = Math.max(0.0f, Math.min(viewportWidth, screenX));
+                out[i + 1] = Math.max(0.0f, Math.min(viewportHeight, screenY));
+                out[i + 2] = z;
+            }
+        }
+    }
+}
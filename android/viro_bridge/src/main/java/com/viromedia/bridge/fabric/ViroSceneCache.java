@@ -0,0 +1,211 @@
+package com.viromedia.bridge.fabric;
+
+import android.util.Log;
+import android.view.View;
+
+import com.facebook.react.bridge.WritableMap;
+import com.facebook.react.bridge.WritableNativeMap;
+
+import com.viromedia.bridge.component.VRTComponent;
+import com.viromedia.bridge.component.node.VRTScene;
+import com.viromedia.bridge.utility.ViroResourceGovernor;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ViroSceneCache keeps deactivated scenes warm so switching back to them does not rebuild their
+ * node tree or reload their assets.
+ *
+ * Scenes are held strongly in least recently used order and sized by an estimate of their
+ * textures, geometry and audio. When the estimated total exceeds the budget the oldest scenes are
+ * handed back to the caller to be destroyed. All methods are called on the UI thread.
+ */
+public class ViroSceneCache {
+
+    private static final String TAG = "ViroSceneCache";
+
+    public static final long DEFAULT_BUDGET_BYTES = 96L * 1024 * 1024;
+
+    // Rough cost of a node with primitive geometry (box, quad, ...) that the governor does not track
+    private static final long ESTIMATED_NODE_BYTES = 4L * 1024;
+
+    /**
+     * Estimated resident memory of a scene, broken down by asset kind.
+     */
+    public static final class Estimate {
+        private final long[] mBytesByKind = new long[ViroResourceGovernor.Kind.values().length];
+        private int mNodeCount = 0;
+
+        public long getTotalBytes() {
+            long total = getGeometryBytes();
+            for (long bytes : mBytesByKind) {
+                total += bytes;
+            }
+            return total;
+        }
+
+        public long getGeometryBytes() {
+            return mNodeCount * ESTIMATED_NODE_BYTES;
+        }
+
+        public void writeTo(WritableMap map) {
+            map.putDouble("estimatedBytes", getTotalBytes());
+            map.putInt("nodeCount", mNodeCount);
+            map.putDouble("geometryBytes", getGeometryBytes());
+            for (ViroResourceGovernor.Kind kind : ViroResourceGovernor.Kind.values()) {
+                map.putDouble(kind.getName() + "Bytes", mBytesByKind[kind.ordinal()]);
+            }
+        }
+    }
+
+    private static final class Entry {
+        final VRTScene scene;
+        final Estimate estimate;
+
+        Entry(VRTScene scene, Estimate estimate) {
+            this.scene = scene;
+            this.estimate = estimate;
+        }
+    }
+
+    private final LinkedHashMap<String, Entry> mEntries = new LinkedHashMap<>(8, 0.75f, true);
+    private long mBudgetBytes = DEFAULT_BUDGET_BYTES;
+    private long mCachedBytes = 0;
+    private long mHitCount = 0;
+    private long mEvictedCount = 0;
+
+    /**
+     * Walk the scene and estimate its resident memory from the assets tracked by the resource
+     * governor plus a fixed cost per node.
+     */
+    public static Estimate estimate(VRTComponent root) {
+        Estimate estimate = new Estimate();
+        accumulate(root, estimate);
+        return estimate;
+    }
+
+    private static void accumulate(VRTComponent component, Estimate estimate) {
+        estimate.mNodeCount++;
+        if (component instanceof ViroResourceGovernor.Resource) {
+            ViroResourceGovernor.getInstance().addTrackedBytes(
+                    (ViroResourceGovernor.Resource) component, estimate.mBytesByKind);
+        }
+        for (int i = 0; i < component.getChildCount(); i++) {
+            View child = component.getChildAt(i);
+            if (child instanceof VRTComponent) {
+                accumulate((VRTComponent) child, estimate);
+            }
+        }
+    }
+
+    public void setBudgetBytes(long budgetBytes) {
+        mBudgetBytes = Math.max(0, budgetBytes);
+    }
+
+    public long getBudgetBytes() {
+        return mBudgetBytes;
+    }
+
+    /**
+     * Cache a deactivated scene and return the ids of scenes evicted to stay within budget. The
+     * scene just added is only evicted if it alone exceeds the budget.
+     */
+    public List<String> put(String sceneId, VRTScene scene) {
+        remove(sceneId);
+        Estimate estimate = estimate(scene);
+        mEntries.put(sceneId, new Entry(scene, estimate));
+        mCachedBytes += estimate.getTotalBytes();
+        Log.d(TAG, "Cached scene " + sceneId + " (~" + (estimate.getTotalBytes() / 1024) + "KB)");
+        return trimToBytes(mBudgetBytes);
+    }
+
+    /**
+     * Take a scene out of the cache, typically because it is being activated again.
+     *
+     * @return true if the scene was cached.
+     */
+    public boolean take(String sceneId) {
+        if (remove(sceneId)) {
+            mHitCount++;
+            return true;
+        }
+        return false;
+    }
+
+    public boolean remove(String sceneId) {
+        Entry entry = mEntries.remove(sceneId);
+        if (entry == null) {
+            return false;
+        }
+        mCachedBytes -= entry.estimate.getTotalBytes();
+        return true;
+    }
+
+    public boolean contains(String sceneId) {
+        return mEntries.containsKey(sceneId);
+    }
+
+    /**
+     * The estimate recorded when the scene was cached, or null if it is not cached.
+     */
+    public Estimate getEstimate(String sceneId) {
+        // Iterate rather than get() so reading an estimate does not count as a use
+        for (Map.Entry<String, Entry> entry : mEntries.entrySet()) {
+            if (entry.getKey().equals(sceneId)) {
+                return entry.getValue().estimate;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Evict least recently used scenes until the cache holds at most the given fraction of its
+     * budget, returning the evicted scene ids.
+     */
+    public List<String> trim(float fraction) {
+        return trimToBytes((long) (mBudgetBytes * Math.max(0f, Math.min(1f, fraction))));
+    }
+
+    private List<String> trimToBytes(long limitBytes) {
+        List<String> evicted = new ArrayList<>();
+        Iterator<Map.Entry<String, Entry>> iterator = mEntries.entrySet().iterator();
+        while (mCachedBytes > limitBytes && iterator.hasNext()) {
+            Map.Entry<String, Entry> entry = iterator.next();
+            iterator.remove();
+            mCachedBytes -= entry.getValue().estimate.getTotalBytes();
+            evicted.add(entry.getKey());
+            mEvictedCount++;
+        }
+        return evicted;
+    }
+
+    public void clear() {
+        mEntries.clear();
+        mCachedBytes = 0;
+    }
+
+    /**
+     * Budget, usage, counters and the estimate of each cached scene, least recently used first.
+     */
+    public WritableMap getStats() {
+        WritableMap stats = new WritableNativeMap();
+        stats.putDouble("budgetBytes", mBudgetBytes);
+        stats.putDouble("cachedBytes", mCachedBytes);
+        stats.putInt("cachedScenes", mEntries.size());
+        stats.putDouble("hits", mHitCount);
+        stats.putDouble("evicted", mEvictedCount);
+
+        WritableMap scenes = new WritableNativeMap();
+        for (Map.Entry<String, Entry> entry : mEntries.entrySet()) {
+            WritableMap sceneStats = new WritableNativeMap();
+            entry.getValue().estimate.writeTo(sceneStats);
+            scenes.putMap(entry.getKey(), sceneStats);
+        }
+        stats.putMap("scenes", scenes);
+        return stats;
+    }
+}
@@ -0,0 +1,315 @@
+package com.viromedia.bridge.fabric;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ViroSceneSnapshot is a compact binary description of a component subtree: each node's type,
+ * parent and the props it was built with (transforms, materials, geometry parameters, ...).
+ *
+ * Nodes are stored parents first. All strings - types, prop keys, material names - go into a
+ * shared table and are referenced by index, integers and counts are varints, and number arrays
+ * that survive a round trip through float are stored as packed floats.
+ *
+ * Layout: magic, version, string table, node count, then per node the type index, parent index
+ * plus one (0 for the snapshot root) and the props.
+ */
+public class ViroSceneSnapshot {
+
+    private static final int MAGIC = 0x504E5356; // "VSNP" little endian
+    private static final int VERSION = 1;
+
+    private static final byte TAG_NULL = 0;
+    private static final byte TAG_FALSE = 1;
+    private static final byte TAG_TRUE = 2;
+    private static final byte TAG_INT = 3;
+    private static final byte TAG_DOUBLE = 4;
+    private static final byte TAG_STRING = 5;
+    private static final byte TAG_FLOATS = 6;
+    private static final byte TAG_LIST = 7;
+    private static final byte TAG_MAP = 8;
+
+    /**
+     * A node of the snapshot. The parent is an index into the node list, or -1 for the root.
+     */
+    public static final class Node {
+        public final String type;
+        public final int parent;
+        public final Map<String, Object> props;
+
+        public Node(String type, int parent, Map<String, Object> props) {
+            this.type = type;
+            this.parent = parent;
+            this.props = props;
+        }
+    }
+
+    // ======================== Encoding ========================
+
+    public static byte[] encode(List<Node> nodes) {
+        Map<String, Integer> stringIndex = new HashMap<>();
+        List<String> strings = new ArrayList<>();
+        Writer body = new Writer();
+
+        body.writeVarint(nodes.size());
+        for (Node node : nodes) {
+            body.writeVarint(intern(node.type, stringIndex, strings));
+            body.writeVarint(node.parent + 1);
+            writeMap(body, node.props, stringIndex, strings);
+        }
+
+        Writer out = new Writer();
+        out.writeInt(MAGIC);
+        out.writeVarint(VERSION);
+        out.writeVarint(strings.size());
+        for (String string : strings) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            out.writeVarint(bytes.length);
+            out.write(bytes, 0, bytes.length);
+        }
+        body.appendTo(out);
+        return out.toByteArray();
+    }
+
+    private static int intern(String string, Map<String, Integer> stringIndex, List<String> strings) {
+        Integer index = stringIndex.get(string);
+        if (index == null) {
+            index = strings.size();
+            stringIndex.put(string, index);
+            strings.add(string);
+        }
+        return index;
+    }
+
+    private static void writeMap(Writer out, Map<String, Object> map,
+                                 Map<String, Integer> stringIndex, List<String> strings) {
+        if (map == null) {
+            out.writeVarint(0);
+            return;
+        }
+        out.writeVarint(map.size());
+        for (Map.Entry<String, Object> entry : map.entrySet()) {
+            out.writeVarint(intern(entry.getKey(), stringIndex, strings));
+            writeValue(out, entry.getValue(), stringIndex, strings);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void writeValue(Writer out, Object value,
+                                   Map<String, Integer> stringIndex, List<String> strings) {
+        if (value == null) {
+            out.write(TAG_NULL);
+        } else if (value instanceof Boolean) {
+            out.write((Boolean) value ? TAG_TRUE : TAG_FALSE);
+        } else if (value instanceof Number) {
+            double number = ((Number) value).doubleValue();
+            if (number == Math.rint(number) && Math.abs(number) <= Integer.MAX_VALUE) {
+                out.write(TAG_INT);
+                out.writeVarint(zigZag((int) number));
+            } else {
+                out.write(TAG_DOUBLE);
+                out.writeLong(Double.doubleToRawLongBits(number));
+            }
+        } else if (value instanceof String) {
+            out.write(TAG_STRING);
+            out.writeVarint(intern((String) value, stringIndex, strings));
+        } else if (value instanceof List) {
+            List<Object> list = (List<Object>) value;
+            if (isFloatList(list)) {
+                out.write(TAG_FLOATS);
+                out.writeVarint(list.size());
+                for (Object item : list) {
+                    out.writeInt(Float.floatToRawIntBits(((Number) item).floatValue()));
+                }
+            } else {
+                out.write(TAG_LIST);
+                out.writeVarint(list.size());
+                for (Object item : list) {
+                    writeValue(out, item, stringIndex, strings);
+                }
+            }
+        } else if (value instanceof Map) {
+            out.write(TAG_MAP);
+            writeMap(out, (Map<String, Object>) value, stringIndex, strings);
+        } else {
+            // Callbacks and other values without a serializable form
+            out.write(TAG_NULL);
+        }
+    }
+
+    private static boolean isFloatList(List<Object> list) {
+        if (list.isEmpty()) {
+            return false;
+        }
+        for (Object item : list) {
+            if (!(item instanceof Number)) {
+                return false;
+            }
+            double number = ((Number) item).doubleValue();
+            if ((double) (float) number != number) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int zigZag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private static int unZigZag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    // ======================== Decoding ========================
+
+    /**
+     * Decode a snapshot produced by {@link #encode}.
+     *
+     * @throws IllegalArgumentException if the data is not a valid snapshot.
+     */
+    public static List<Node> decode(byte[] data) {
+        ByteBuffer in = ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN);
+        try {
+            if (in.getInt() != MAGIC) {
+                throw new IllegalArgumentException("Not a Viro scene snapshot");
+            }
+            int version = readVarint(in);
+            if (version != VERSION) {
+                throw new IllegalArgumentException("Unsupported snapshot version " + version);
+            }
+
+            String[] strings = new String[readCount(in)];
+            for (int i = 0; i < strings.length; i++) {
+                byte[] bytes = new byte[readCount(in)];
+                in.get(bytes);
+                strings[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+
+            int nodeCount = readCount(in);
+            List<Node> nodes = new ArrayList<>(nodeCount);
+            for (int i = 0; i < nodeCount; i++) {
+                String type = strings[readVarint(in)];
+                int parent = readVarint(in) - 1;
+                if (parent >= i) {
+                    throw new IllegalArgumentException("Snapshot node " + i + " precedes its parent");
+                }
+                nodes.add(new Node(type, parent, readMap(in, strings)));
+            }
+            return nodes;
+        } catch (RuntimeException e) {
+            if (e instanceof IllegalArgumentException) {
+                throw e;
+            }
+            throw new IllegalArgumentException("Corrupt Viro scene snapshot", e);
+        }
+    }
+
+    private static HashMap<String, Object> readMap(ByteBuffer in, String[] strings) {
+        int count = readCount(in);
+        HashMap<String, Object> map = new HashMap<>(Math.max(4, count * 2));
+        for (int i = 0; i < count; i++) {
+            String key = strings[readVarint(in)];
+            map.put(key, readValue(in, strings));
+        }
+        return map;
+    }
+
+    private static Object readValue(ByteBuffer in, String[] strings) {
+        byte tag = in.get();
+        switch (tag) {
+            case TAG_NULL:
+                return null;
+            case TAG_FALSE:
+                return false;
+            case TAG_TRUE:
+                return true;
+            case TAG_INT:
+                return (double) unZigZag(readVarint(in));
+            case TAG_DOUBLE:
+                return Double.longBitsToDouble(in.getLong());
+            case TAG_STRING:
+                return strings[readVarint(in)];
+            case TAG_FLOATS: {
+                int count = readCount(in);
+                ArrayList<Object> list = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    list.add((double) Float.intBitsToFloat(in.getInt()));
+                }
+                return list;
+            }
+            case TAG_LIST: {
+                int count = readCount(in);
+                ArrayList<Object> list = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    list.add(readValue(in, strings));
+                }
+                return list;
+            }
+            case TAG_MAP:
+                return readMap(in, strings);
+            default:
+                throw new IllegalArgumentException("Unknown snapshot value tag " + tag);
+        }
+    }
+
+    // Every counted item takes at least one byte, so larger counts can only come from corrupt data
+    private static int readCount(ByteBuffer in) {
+        int count = readVarint(in);
+        if (count < 0 || count > in.remaining()) {
+            throw new IllegalArgumentException("Corrupt Viro scene snapshot");
+        }
+        return count;
+    }
+
+    private static int readVarint(ByteBuffer in) {
+        int result = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            byte b = in.get();
+            result |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint in snapshot");
+    }
+
+    /**
+     * Little endian byte writer with varint support.
+     */
+    private static final class Writer extends ByteArrayOutputStream {
+        Writer() {
+            super(1024);
+        }
+
+        void writeVarint(int value) {
+            while ((value & ~0x7F) != 0) {
+                write((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            write(value);
+        }
+
+        void writeInt(int value) {
+            write(value);
+            write(value >>> 8);
+            write(value >>> 16);
+            write(value >>> 24);
+        }
+
+        void writeLong(long value) {
+            writeInt((int) value);
+            writeInt((int) (value >>> 32));
+        }
+
+        void appendTo(Writer other) {
+            other.write(buf, 0, count);
+        }
+    }
+}
@@ -42,6 +42,8 @@ import com.viro.core.Texture;
 import com.viromedia.bridge.component.VRTMaterialVideo;
 import com.viromedia.bridge.utility.Helper;
 import com.viromedia.bridge.utility.ImageDownloader;
+import com.viromedia.bridge.utility.ViroFrameMetrics;
+import com.viromedia.bridge.utility.ViroTrace;
 
 import java.lang.ref.WeakReference;
 import java.util.ArrayList;
@@ -167,8 +169,13 @@ public class MaterialManager extends ReactContextBaseJavaModule {
         while (iter.hasNextKey()) {
             String key = iter.nextKey();
             ReadableMap material = newMaterials.getMap(key);
-            MaterialWrapper materialWrapper = createMaterial(key, material);
-            sMaterialsMap.put(key, materialWrapper);
+            ViroTrace.beginSection(ViroTrace.PARSE_MATERIAL);
+            try {
+                MaterialWrapper materialWrapper = createMaterial(key, material);
+                sMaterialsMap.put(key, materialWrapper);
+            } finally {
+                ViroTrace.endSection();
+            }
         }
     }
 
@@ -385,9 +392,15 @@ public class MaterialManager extends ReactContextBaseJavaModule {
 
     private Texture parseTexture(Image image, boolean sRGB, boolean mipmap,
                                  String name, ReadableMap materialMap) {
-        Texture nativeTexture = new Texture(image, sRGB, mipmap);
-        parseTexture(nativeTexture, name, materialMap);
-        return nativeTexture;
+        ViroTrace.beginSection(ViroTrace.UPLOAD_TEXTURE);
+        try {
+            Texture nativeTexture = new Texture(image, sRGB, mipmap);
+            ViroFrameMetrics.addTextureUploadBytes((long) image.getWidth() * image.getHeight() * 4);
+            parseTexture(nativeTexture, name, materialMap);
+            return nativeTexture;
+        } finally {
+            ViroTrace.endSection();
+        }
     }
 
     private void parseTexture(Texture nativeTexture, String materialPropertyName, ReadableMap materialMap) {
@@ -46,6 +46,10 @@ import com.viromedia.bridge.component.node.VRTNode;
 
 import com.viro.core.Node;
 import com.viromedia.bridge.component.node.control.VRT3DObject;
+import com.viromedia.bridge.component.node.control.VRTGeometry;
+import com.viromedia.bridge.component.node.control.VRTInstancedMesh;
+import com.viromedia.bridge.component.node.control.VRTInstancedMeshManager;
+import com.viromedia.bridge.utility.Helper;
 import java.util.Set;
 
 import static java.lang.Math.toDegrees;
@@ -144,6 +148,104 @@ public class NodeModule extends ReactContextBaseJavaModule {
         });
     }
 
+    @ReactMethod
+    public void updateInstanceTransforms(final int viewTag, final int start, final ReadableArray transforms) {
+        final float[] transformArray = VRTInstancedMeshManager.toFloatArray(transforms);
+        UIManagerModule uiManager = getReactApplicationContext().getNativeModule(UIManagerModule.class);
+        uiManager.addUIBlock(new UIBlock() {
+            @Override
+            public void execute(NativeViewHierarchyManager nativeViewHierarchyManager) {
+                View viroView = nativeViewHierarchyManager.resolveView(viewTag);
+                if (!(viroView instanceof VRTInstancedMesh)){
+                    throw new IllegalViewOperationException("Invalid view returned when updating instances: expected a VRTInstancedMesh!");
+                }
+                ((VRTInstancedMesh) viroView).updateInstanceTransforms(start, transformArray);
+            }
+        });
+    }
+
+    @ReactMethod
+    public void updateInstanceColors(final int viewTag, final int start, final ReadableArray colors) {
+        final int[] colorArray = VRTInstancedMeshManager.toColorArray(colors);
+        UIManagerModule uiManager = getReactApplicationContext().getNativeModule(UIManagerModule.class);
+        uiManager.addUIBlock(new UIBlock() {
+            @Override
+            public void execute(NativeViewHierarchyManager nativeViewHierarchyManager) {
+                View viroView = nativeViewHierarchyManager.resolveView(viewTag);
+                if (!(viroView instanceof VRTInstancedMesh)){
+                    throw new IllegalViewOperationException("Invalid view returned when updating instances: expected a VRTInstancedMesh!");
+                }
+                ((VRTInstancedMesh) viroView).updateInstanceColors(start, colorArray);
+            }
+        });
+    }
+
+    /**
+     * Overwrite the vertices of a ViroGeometry from vertex offset on. vertices is the base64 of
+     * a Float32Array, three floats per vertex.
+     */
+    @ReactMethod
+    public void updateGeometryVertices(final int viewTag, final int offset, final String vertices) {
+        final float[] vertexArray = Helper.decodeFloats(vertices);
+        UIManagerModule uiManager = getReactApplicationContext().getNativeModule(UIManagerModule.class);
+        uiManager.addUIBlock(new UIBlock() {
+            @Override
+            public void execute(NativeViewHierarchyManager nativeViewHierarchyManager) {
+                View viroView = nativeViewHierarchyManager.resolveView(viewTag);
+                if (!(viroView instanceof VRTGeometry)){
+                    throw new IllegalViewOperationException("Invalid view returned when updating vertices: expected a VRTGeometry!");
+                }
+                ((VRTGeometry) viroView).updateVertexRange(offset, vertexArray);
+            }
+        });
+    }
+
+    /**
+     * Apply a batch of physics commands in one UI pass, so they all reach the renderer before
+     * the same physics step. commands holds a (tag, op) pair per command, with op one of the
+     * VRTNode PHYSICS_OP_* values, and values six numbers per command as read by
+     * VRTNode.applyPhysicsCommand. Resolves { applied, failed } with failed the indices of
+     * commands whose tag is not a node with a physics body.
+     */
+    @ReactMethod
+    public void applyPhysicsCommands(final ReadableArray commands, final ReadableArray values,
+                                     final Promise promise) {
+        final int count = Math.min(commands.size() / 2, values.size() / VRTNode.PHYSICS_COMMAND_FLOATS);
+        final int[] commandArray = new int[count * 2];
+        for (int i = 0; i < commandArray.length; i++) {
+            commandArray[i] = commands.getInt(i);
+        }
+        final float[] valueArray = new float[count * VRTNode.PHYSICS_COMMAND_FLOATS];
+        for (int i = 0; i < valueArray.length; i++) {
+            valueArray[i] = (float) values.getDouble(i);
+        }
+
+        UIManagerModule uiManager = getReactApplicationContext().getNativeModule(UIManagerModule.class);
+        uiManager.addUIBlock(new UIBlock() {
+            @Override
+            public void execute(NativeViewHierarchyManager nativeViewHierarchyManager) {
+                WritableArray failed = Arguments.createArray();
+                for (int i = 0; i < count; i++) {
+                    View viroView;
+                    try {
+                        viroView = nativeViewHierarchyManager.resolveView(commandArray[i * 2]);
+                    } catch (IllegalViewOperationException e) {
+                        viroView = null;
+                    }
+                    if (!(viroView instanceof VRTNode) || !((VRTNode) viroView).applyPhysicsCommand(
+                            commandArray[i * 2 + 1], valueArray, i * VRTNode.PHYSICS_COMMAND_FLOATS)) {
+                        failed.pushInt(i);
+                    }
+                }
+
+                WritableMap returnMap = Arguments.createMap();
+                returnMap.putInt("applied", count - failed.size());
+                returnMap.putArray("failed", failed);
+                promise.resolve(returnMap);
+            }
+        });
+    }
+
     @ReactMethod
     public void getNodeTransform(final int viewTag, final Promise promise)
      {
@@ -217,6 +319,68 @@ public class NodeModule extends ReactContextBaseJavaModule {
         });
     }
 
+    /**
+     * World transforms of many nodes in one UI pass, resolved as { data, missing }: data holds
+     * nine numbers per tag - position xyz, rotation xyz in degrees, scale xyz - and missing the
+     * indices of tags that are not nodes, whose entries are zero.
+     */
+    @ReactMethod
+    public void getNodeTransforms(final ReadableArray viewTags, final Promise promise) {
+        getPacked(viewTags, 9, false, promise);
+    }
+
+    /**
+     * Bounding boxes of many nodes in one UI pass, resolved as { data, missing } like
+     * getNodeTransforms, with six numbers per tag: minX, maxX, minY, maxY, minZ, maxZ.
+     */
+    @ReactMethod
+    public void getBoundingBoxes(final ReadableArray viewTags, final Promise promise) {
+        getPacked(viewTags, 6, true, promise);
+    }
+
+    private void getPacked(final ReadableArray viewTags, final int stride, final boolean boundingBoxes,
+                           final Promise promise) {
+        final int[] tags = new int[viewTags.size()];
+        for (int i = 0; i < tags.length; i++) {
+            tags[i] = viewTags.getInt(i);
+        }
+
+        UIManagerModule uiManager = getReactApplicationContext().getNativeModule(UIManagerModule.class);
+        uiManager.addUIBlock(new UIBlock() {
+            @Override
+            public void execute(NativeViewHierarchyManager nativeViewHierarchyManager) {
+                float[] values = new float[tags.length * stride];
+                WritableArray missing = Arguments.createArray();
+                for (int i = 0; i < tags.length; i++) {
+                    View viroView;
+                    try {
+                        viroView = nativeViewHierarchyManager.resolveView(tags[i]);
+                    } catch (IllegalViewOperationException e) {
+                        viroView = null;
+                    }
+                    boolean found = false;
+                    if (viroView instanceof VRTNode) {
+                        VRTNode node = (VRTNode) viroView;
+                        found = boundingBoxes ? node.getBoundingBox(values, i * stride)
+                                : node.getWorldTransform(values, i * stride);
+                    }
+                    if (!found) {
+                        missing.pushInt(i);
+                    }
+                }
+
+                WritableArray data = Arguments.createArray();
+                for (float value : values) {
+                    data.pushDouble(value);
+                }
+                WritableMap returnMap = Arguments.createMap();
+                returnMap.putArray("data", data);
+                returnMap.putArray("missing", missing);
+                promise.resolve(returnMap);
+            }
+        });
+    }
+
     @ReactMethod
     public void getMorphTargets(final int viewTag, final Promise promise) {
         UIManagerModule uiManager = getReactApplicationContext().getNativeModule(UIManagerModule.class);
@@ -22,14 +22,20 @@
 package com.viromedia.bridge.module;
 
 import android.app.Application;
+import android.os.Handler;
+import android.os.Looper;
 
 import com.facebook.react.ReactApplication;
+import com.facebook.react.bridge.Promise;
 import com.facebook.react.bridge.ReactApplicationContext;
 import com.facebook.react.bridge.ReactContextBaseJavaModule;
+import com.facebook.react.bridge.ReactMethod;
 import com.facebook.react.devsupport.interfaces.DevOptionHandler;
 import com.facebook.react.devsupport.interfaces.DevSupportManager;
 import com.facebook.react.module.annotations.ReactModule;
+import com.facebook.react.modules.core.DeviceEventManagerModule;
 import com.viro.core.ViroView;
+import com.viromedia.bridge.utility.ViroFrameMetrics;
 
 import java.lang.ref.WeakReference;
 
@@ -63,10 +69,76 @@ public class PerfMonitor extends ReactContextBaseJavaModule {
 
     private WeakReference<ViroView> mView;
 
+    // Name of the device event carrying streamed frame metrics
+    private static final String FRAME_METRICS_EVENT = "ViroFrameMetrics";
+    private static final int MIN_STREAM_INTERVAL_MS = 250;
+
+    private final Handler mHandler = new Handler(Looper.getMainLooper());
+    private volatile int mStreamIntervalMs = 0;
+
+    private final Runnable mStreamRunnable = new Runnable() {
+        @Override
+        public void run() {
+            if (mStreamIntervalMs <= 0) {
+                return;
+            }
+            ReactApplicationContext context = getReactApplicationContext();
+            if (context.hasActiveReactInstance()) {
+                context.getJSModule(DeviceEventManagerModule.RCTDeviceEventEmitter.class)
+                        .emit(FRAME_METRICS_EVENT, ViroFrameMetrics.getInstance().getMetrics(true));
+            }
+            mHandler.postDelayed(this, mStreamIntervalMs);
+        }
+    };
+
     public PerfMonitor(ReactApplicationContext context) {
         super(context);
     }
 
+    /**
+     * Start collecting frame interval, bridge cost and texture upload metrics. Safe to leave on
+     * in production builds.
+     */
+    @ReactMethod
+    public void startFrameMetrics() {
+        ViroFrameMetrics.getInstance().start(getReactApplicationContext());
+    }
+
+    @ReactMethod
+    public void stopFrameMetrics() {
+        setFrameMetricsStreamInterval(0);
+        ViroFrameMetrics.getInstance().stop();
+    }
+
+    /**
+     * Resolve with the metrics collected since collection started or the last reset.
+     */
+    @ReactMethod
+    public void getFrameMetrics(boolean reset, final Promise promise) {
+        promise.resolve(ViroFrameMetrics.getInstance().getMetrics(reset));
+    }
+
+    /**
+     * Emit the metrics as a ViroFrameMetrics device event every intervalMs, starting a new window
+     * each time. An interval of 0 stops streaming.
+     */
+    @ReactMethod
+    public void setFrameMetricsStreamInterval(int intervalMs) {
+        mHandler.removeCallbacks(mStreamRunnable);
+        mStreamIntervalMs = intervalMs <= 0 ? 0 : Math.max(MIN_STREAM_INTERVAL_MS, intervalMs);
+        if (mStreamIntervalMs > 0) {
+            ViroFrameMetrics.getInstance().start(getReactApplicationContext());
+            mHandler.postDelayed(mStreamRunnable, mStreamIntervalMs);
+        }
+    }
+
+    @Override
+    public void onCatalystInstanceDestroy() {
+        super.onCatalystInstanceDestroy();
+        mStreamIntervalMs = 0;
+        mHandler.removeCallbacks(mStreamRunnable);
+    }
+
     public void onOptionSelected() {
         ViroView view = mView.get();
         if (view != null) {
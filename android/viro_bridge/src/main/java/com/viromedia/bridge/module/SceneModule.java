@@ -23,12 +23,15 @@ package com.viromedia.bridge.module;
 
 import android.view.View;
 
+import com.facebook.react.bridge.Arguments;
 import com.facebook.react.bridge.JSApplicationCausedNativeException;
 import com.facebook.react.bridge.Promise;
 import com.facebook.react.bridge.ReactApplicationContext;
 import com.facebook.react.bridge.ReactContextBaseJavaModule;
 import com.facebook.react.bridge.ReactMethod;
 import com.facebook.react.bridge.ReadableArray;
+import com.facebook.react.bridge.WritableArray;
+import com.facebook.react.bridge.WritableMap;
 import com.facebook.react.uimanager.IllegalViewOperationException;
 import com.facebook.react.uimanager.NativeViewHierarchyManager;
 import com.facebook.react.uimanager.UIBlock;
@@ -42,6 +45,7 @@ import com.viro.core.PhysicsShapeBox;
 import com.viro.core.PhysicsShapeSphere;
 import com.viro.core.PhysicsWorld;
 import com.viro.core.Scene;
+import com.viromedia.bridge.component.node.VRTRayBatch;
 import com.viromedia.bridge.component.node.VRTScene;
 import com.viromedia.bridge.utility.Helper;
 
@@ -148,4 +152,69 @@ public class SceneModule extends ReactContextBaseJavaModule {
             }
         });
     }
+
+    /**
+     * Cast a batch of rays in one call: origins and directions hold x,y,z per ray. Each ray is
+     * still its own native cast, see VRTRayBatch. If shapeType is set, that shape is swept along
+     * each ray instead. If tag is set, only hits on nodes with that viroTag count. Resolves with
+     * data, 7 numbers per ray (hit 1 or 0, hit point xyz, hit normal xyz), and tags, the viroTag
+     * of the node each ray hit.
+     */
+    @ReactMethod
+    public void findCollisionsWithRaysAsync(final int viewTag, final ReadableArray origins,
+                                            final ReadableArray directions, final double maxDistance,
+                                            final String shapeType, final ReadableArray shapeParams,
+                                            final String tag, final Promise promise) {
+        final float[] originsArray = Helper.toFloatArray(origins);
+        final float[] directionsArray = Helper.toFloatArray(directions);
+        final float[] params = shapeParams != null ? Helper.toFloatArray(shapeParams) : new float[0];
+        if (originsArray.length != directionsArray.length || originsArray.length % 3 != 0) {
+            promise.reject("ERROR", "Origins and directions of findCollisionsWithRaysAsync must hold x,y,z per ray");
+            return;
+        }
+        if (shapeType != null) {
+            String error = PhysicsBody.checkIsValidShapeType(shapeType, params);
+            if (error != null) {
+                promise.reject("ERROR", error);
+                return;
+            }
+        }
+
+        UIManagerModule uiManager = getReactApplicationContext().getNativeModule(UIManagerModule.class);
+        uiManager.addUIBlock(new UIBlock() {
+            @Override
+            public void execute(NativeViewHierarchyManager nativeViewHierarchyManager) {
+                View sceneView = nativeViewHierarchyManager.resolveView(viewTag);
+                if (!(sceneView instanceof VRTScene)) {
+                    promise.reject("ERROR", "Invalid view returned when calling " +
+                            "findCollisionsWithRaysAsync: expected a ViroScene!");
+                    return;
+                }
+
+                VRTScene scene = (VRTScene) sceneView;
+                scene.findCollisionsWithRaysAsync(originsArray, directionsArray, (float) maxDistance,
+                        shapeType, params, tag, new VRTRayBatch.Callback() {
+                            @Override
+                            public void onComplete(float[] hits, String[] tags) {
+                                WritableArray data = Arguments.createArray();
+                                for (float value : hits) {
+                                    data.pushDouble(value);
+                                }
+                                WritableArray hitTags = Arguments.createArray();
+                                for (String hitTag : tags) {
+                                    if (hitTag != null) {
+                                        hitTags.pushString(hitTag);
+                                    } else {
+                                        hitTags.pushNull();
+                                    }
+                                }
+                                WritableMap returnMap = Arguments.createMap();
+                                returnMap.putArray("data", data);
+                                returnMap.putArray("tags", hitTags);
+                                promise.resolve(returnMap);
+                            }
+                        });
+            }
+        });
+    }
 }
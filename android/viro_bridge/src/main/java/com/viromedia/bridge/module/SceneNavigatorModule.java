@@ -36,7 +36,9 @@ import com.facebook.react.uimanager.UIBlock;
 import com.facebook.react.uimanager.UIManagerModule;
 import com.facebook.react.module.annotations.ReactModule;
 import com.viro.core.Vector;
+import com.viromedia.bridge.component.VRT3DSceneNavigator;
 import com.viromedia.bridge.component.VRTVRSceneNavigator;
+import com.viromedia.bridge.utility.Helper;
 
 @ReactModule(name = "VRTSceneNavigatorModule")
 public class SceneNavigatorModule extends ReactContextBaseJavaModule {
@@ -138,4 +140,36 @@ public class SceneNavigatorModule extends ReactContextBaseJavaModule {
             }
         });
     }
+
+    /**
+     * Project (or unproject) packed x,y,z triples. points is the base64 of a Float32Array, and
+     * the promise resolves { points } in the same packed form.
+     */
+    @ReactMethod
+    public void projectPoints(final int sceneNavTag, final String points, final boolean unproject,
+                              final Promise promise) {
+        final float[] pointArray = Helper.decodeFloats(points);
+        UIManagerModule uiManager = getReactApplicationContext().getNativeModule(UIManagerModule.class);
+        uiManager.addUIBlock(new UIBlock() {
+            @Override
+            public void execute(NativeViewHierarchyManager nativeViewHierarchyManager) {
+                View view = nativeViewHierarchyManager.resolveView(sceneNavTag);
+                if (!(view instanceof VRT3DSceneNavigator)) {
+                    promise.reject("ERROR", "Invalid view returned when projecting points: expected a VRT3DSceneNavigator!");
+                    return;
+                }
+                float[] projectedPoints = new float[pointArray.length];
+                try {
+                    ((VRT3DSceneNavigator) view).projectPoints(pointArray, projectedPoints, unproject);
+                } catch (IllegalStateException e) {
+                    promise.reject("ERROR", e.getMessage());
+                    return;
+                }
+
+                WritableMap returnMap = Arguments.createMap();
+                returnMap.putString("points", Helper.encodeFloats(projectedPoints));
+                promise.resolve(returnMap);
+            }
+        });
+    }
 }
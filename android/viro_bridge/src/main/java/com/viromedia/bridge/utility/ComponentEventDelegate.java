@@ -24,7 +24,6 @@ package com.viromedia.bridge.utility;
 import com.facebook.react.bridge.Arguments;
 import com.facebook.react.bridge.WritableArray;
 import com.facebook.react.bridge.WritableMap;
-import com.facebook.react.uimanager.events.RCTEventEmitter;
 import com.viro.core.ARHitTestResult;
 import com.viro.core.ARPointCloud;
 import com.viro.core.internal.CameraCallback;
@@ -46,17 +45,136 @@ import java.lang.ref.WeakReference;
  * Represents all java-to-javascript calls that can be triggered from an EventDelegate.
  */
 public class ComponentEventDelegate implements EventDelegate.EventDelegateCallback {
+    private static final ViroEventQueue.PayloadBuilder SCROLL_BUILDER = new ViroEventQueue.PayloadBuilder() {
+        @Override
+        public WritableMap build(ViroEventQueue.QueuedEvent queued) {
+            WritableMap event = Arguments.createMap();
+            event.putInt("source", queued.intValue);
+            WritableArray scrollPos = Arguments.createArray();
+            scrollPos.pushDouble(queued.values[0]);
+            scrollPos.pushDouble(queued.values[1]);
+            event.putArray("scrollPos", scrollPos);
+            return event;
+        }
+    };
+
+    private static final ViroEventQueue.PayloadBuilder DRAG_BUILDER = new ViroEventQueue.PayloadBuilder() {
+        @Override
+        public WritableMap build(ViroEventQueue.QueuedEvent queued) {
+            WritableMap event = Arguments.createMap();
+            event.putInt("source", queued.intValue);
+            WritableArray dragToPos = Arguments.createArray();
+            dragToPos.pushDouble(queued.values[0]);
+            dragToPos.pushDouble(queued.values[1]);
+            dragToPos.pushDouble(queued.values[2]);
+            event.putArray("dragToPos", dragToPos);
+            return event;
+        }
+    };
+
+    private static final ViroEventQueue.PayloadBuilder PINCH_BUILDER = new ViroEventQueue.PayloadBuilder() {
+        @Override
+        public WritableMap build(ViroEventQueue.QueuedEvent queued) {
+            WritableMap event = Arguments.createMap();
+            event.putInt("source", queued.intValue);
+            event.putDouble("scaleFactor", queued.values[0]);
+            event.putInt("pinchState", PinchState.PINCH_MOVE.getTypeId());
+            return event;
+        }
+    };
+
+    private static final ViroEventQueue.PayloadBuilder ROTATE_BUILDER = new ViroEventQueue.PayloadBuilder() {
+        @Override
+        public WritableMap build(ViroEventQueue.QueuedEvent queued) {
+            WritableMap event = Arguments.createMap();
+            event.putInt("source", queued.intValue);
+            event.putDouble("rotationFactor", Math.toDegrees(queued.values[0]));
+            event.putInt("rotateState", RotateState.ROTATE_MOVE.getTypeId());
+            return event;
+        }
+    };
+
+    private static final ViroEventQueue.PayloadBuilder CAMERA_TRANSFORM_BUILDER = new ViroEventQueue.PayloadBuilder() {
+        @Override
+        public WritableMap build(ViroEventQueue.QueuedEvent queued) {
+            float[] values = queued.values;
+            WritableArray cameraTransformArray = Arguments.createArray();
+            cameraTransformArray.pushDouble(values[0]);
+            cameraTransformArray.pushDouble(values[1]);
+            cameraTransformArray.pushDouble(values[2]);
+            cameraTransformArray.pushDouble(Math.toDegrees(values[3]));
+            cameraTransformArray.pushDouble(Math.toDegrees(values[4]));
+            cameraTransformArray.pushDouble(Math.toDegrees(values[5]));
+            for (int i = 6; i < 12; i++) {
+                cameraTransformArray.pushDouble(values[i]);
+            }
+
+            WritableMap event = Arguments.createMap();
+            event.putArray("cameraTransform", cameraTransformArray);
+            return event;
+        }
+    };
+
     private WeakReference<VRTComponent> weakComponent;
+
+    // Scratch buffer for coalesced event values; copied by the queue on enqueue.
+    private final float[] mEventValues = new float[ViroEventQueue.MAX_VALUES];
+
+    // Packed event routing, set when JS subscribes to the binary form of an event.
+    private ViroPackedEventBuffer mPackedEventBuffer;
+    private int mPackedNodeHandle;
+    private int mPackedEventTypes = 0;
+    private float[] mPackedScratch = new float[64];
+
     public ComponentEventDelegate(VRTComponent component){
         weakComponent = new WeakReference<VRTComponent>(component);
     }
 
+    /**
+     * Route the given ViroPackedEventBuffer type to the packed buffer instead of the event queue.
+     */
+    public void setPackedEventEnabled(int type, boolean enabled, ViroPackedEventBuffer buffer, int nodeHandle) {
+        if (enabled) {
+            mPackedEventBuffer = buffer;
+            mPackedNodeHandle = nodeHandle;
+            mPackedEventTypes |= (1 << type);
+        } else {
+            mPackedEventTypes &= ~(1 << type);
+        }
+    }
+
+    public boolean isPackedEventEnabled(int type) {
+        return mPackedEventBuffer != null && (mPackedEventTypes & (1 << type)) != 0;
+    }
+
+    /**
+     * Write the event to the packed buffer if JS subscribed to its packed form.
+     * @return true if the event was consumed.
+     */
+    public boolean writePackedEvent(int type, float[] values, int count) {
+        if (!isPackedEventEnabled(type)) {
+            return false;
+        }
+        mPackedEventBuffer.writeEvent(type, mPackedNodeHandle, values, count);
+        return true;
+    }
+
+    private float[] packedScratch(int size) {
+        if (mPackedScratch.length < size) {
+            mPackedScratch = new float[Math.max(size, mPackedScratch.length * 2)];
+        }
+        return mPackedScratch;
+    }
+
     @Override
     public void onHover(int source, Node node, boolean isHovering, float position[]) {
         VRTComponent component = weakComponent.get();
         if (component == null){
             return;
         }
+        if (!component.hasEventListener(ViroEvents.ON_HOVER)) {
+            return;
+        }
 
         WritableArray positionArray = Arguments.createArray();
         if (position != null && position.length == 3) {
@@ -70,7 +188,7 @@ public class ComponentEventDelegate implements EventDelegate.EventDelegateCallba
         event.putBoolean("isHovering", isHovering);
         event.putArray("position", positionArray);
 
-        component.getReactContext().getJSModule(RCTEventEmitter.class).receiveEvent(
+        ViroEventQueue.getInstance().enqueue(component.getReactContext(),
                 component.getId(),
                 ViroEvents.ON_HOVER,
                 event);
@@ -82,6 +200,9 @@ public class ComponentEventDelegate implements EventDelegate.EventDelegateCallba
         if (component == null){
             return;
         }
+        if (!component.hasEventListener(ViroEvents.ON_CLICK)) {
+            return;
+        }
 
         WritableArray positionArray = Arguments.createArray();
         if (position != null && position.length == 3) {
@@ -95,7 +216,7 @@ public class ComponentEventDelegate implements EventDelegate.EventDelegateCallba
         event.putInt("clickState", clickState.getTypeId());
         event.putArray("position", positionArray);
 
-        component.getReactContext().getJSModule(RCTEventEmitter.class).receiveEvent(
+        ViroEventQueue.getInstance().enqueue(component.getReactContext(),
                 component.getId(),
                 ViroEvents.ON_CLICK,
                 event);
@@ -107,6 +228,9 @@ public class ComponentEventDelegate implements EventDelegate.EventDelegateCallba
         if (component == null){
             return;
         }
+        if (!component.hasEventListener(ViroEvents.ON_TOUCH)) {
+            return;
+        }
 
         WritableMap event = Arguments.createMap();
         event.putInt("source", source);
@@ -117,7 +241,7 @@ public class ComponentEventDelegate implements EventDelegate.EventDelegateCallba
         touchPos.pushDouble(touchPadPos[1]);
         event.putArray("touchPos", touchPos);
 
-        component.getReactContext().getJSModule(RCTEventEmitter.class).receiveEvent(
+        ViroEventQueue.getInstance().enqueue(component.getReactContext(),
                 component.getId(),
                 ViroEvents.ON_TOUCH,
                 event);
@@ -129,11 +253,14 @@ public class ComponentEventDelegate implements EventDelegate.EventDelegateCallba
         if (node == null){
             return;
         }
+        if (!node.hasEventListener(ViroEvents.ON_SWIPE)) {
+            return;
+        }
 
         WritableMap event = Arguments.createMap();
         event.putInt("source", source);
         event.putInt("swipeState", swipeState.getTypeId());
-        node.getReactContext().getJSModule(RCTEventEmitter.class).receiveEvent(
+        ViroEventQueue.getInstance().enqueue(node.getReactContext(),
                 node.getId(),
                 ViroEvents.ON_SWIPE,
                 event);
@@ -146,17 +273,25 @@ public class ComponentEventDelegate implements EventDelegate.EventDelegateCallba
             return;
         }
 
-        WritableMap event = Arguments.createMap();
-        event.putInt("source", source);
-        WritableArray scrollPos = Arguments.createArray();
-        scrollPos.pushDouble(x);
-        scrollPos.pushDouble(y);
+        if (isPackedEventEnabled(ViroPackedEventBuffer.TYPE_SCROLL)) {
+            float[] packed = packedScratch(3);
+            packed[0] = source;
+            packed[1] = x;
+            packed[2] = y;
+            writePackedEvent(ViroPackedEventBuffer.TYPE_SCROLL, packed, 3);
+            return;
+        }
+
+        if (!component.hasEventListener(ViroEvents.ON_SCROLL)) {
+            return;
+        }
 
-        event.putArray("scrollPos", scrollPos);
-        component.getReactContext().getJSModule(RCTEventEmitter.class).receiveEvent(
+        mEventValues[0] = x;
+        mEventValues[1] = y;
+        ViroEventQueue.getInstance().enqueueCoalesced(component.getReactContext(),
                 component.getId(),
                 ViroEvents.ON_SCROLL,
-                event);
+                SCROLL_BUILDER, source, mEventValues, 2);
     }
 
     @Override
@@ -166,18 +301,27 @@ public class ComponentEventDelegate implements EventDelegate.EventDelegateCallba
             return;
         }
 
-        WritableMap event = Arguments.createMap();
-        event.putInt("source", source);
-        WritableArray dragToPos = Arguments.createArray();
-        dragToPos.pushDouble(x);
-        dragToPos.pushDouble(y);
-        dragToPos.pushDouble(z);
-        event.putArray("dragToPos", dragToPos);
+        if (isPackedEventEnabled(ViroPackedEventBuffer.TYPE_DRAG)) {
+            float[] packed = packedScratch(4);
+            packed[0] = source;
+            packed[1] = x;
+            packed[2] = y;
+            packed[3] = z;
+            writePackedEvent(ViroPackedEventBuffer.TYPE_DRAG, packed, 4);
+            return;
+        }
+
+        if (!node.hasEventListener(ViroEvents.ON_DRAG)) {
+            return;
+        }
 
-        node.getReactContext().getJSModule(RCTEventEmitter.class).receiveEvent(
+        mEventValues[0] = x;
+        mEventValues[1] = y;
+        mEventValues[2] = z;
+        ViroEventQueue.getInstance().enqueueCoalesced(node.getReactContext(),
                 node.getId(),
                 ViroEvents.ON_DRAG,
-                event);
+                DRAG_BUILDER, source, mEventValues, 3);
     }
 
     @Override
@@ -186,10 +330,13 @@ public class ComponentEventDelegate implements EventDelegate.EventDelegateCallba
         if (node == null){
             return;
         }
+        if (!node.hasEventListener(ViroEvents.ON_FUSE)) {
+            return;
+        }
 
         WritableMap event = Arguments.createMap();
         event.putInt("source", source);
-        node.getReactContext().getJSModule(RCTEventEmitter.class).receiveEvent(
+        ViroEventQueue.getInstance().enqueue(node.getReactContext(),
                 node.getId(),
                 ViroEvents.ON_FUSE,
                 event);
@@ -202,12 +349,35 @@ public class ComponentEventDelegate implements EventDelegate.EventDelegateCallba
             return;
         }
 
+        if (isPackedEventEnabled(ViroPackedEventBuffer.TYPE_PINCH)) {
+            float[] packed = packedScratch(3);
+            packed[0] = source;
+            packed[1] = scaleFactor;
+            packed[2] = pinchState.getTypeId();
+            writePackedEvent(ViroPackedEventBuffer.TYPE_PINCH, packed, 3);
+            return;
+        }
+
+        if (!node.hasEventListener(ViroEvents.ON_PINCH)) {
+            return;
+        }
+
+        // Only intermediate updates are coalesced, start and end are always delivered.
+        if (pinchState.getTypeId() == PinchState.PINCH_MOVE.getTypeId()) {
+            mEventValues[0] = scaleFactor;
+            ViroEventQueue.getInstance().enqueueCoalesced(node.getReactContext(),
+                    node.getId(),
+                    ViroEvents.ON_PINCH,
+                    PINCH_BUILDER, source, mEventValues, 1);
+            return;
+        }
+
         WritableMap event = Arguments.createMap();
         event.putInt("source", source);
         event.putDouble("scaleFactor", scaleFactor);
         event.putInt("pinchState", pinchState.getTypeId());
 
-        node.getReactContext().getJSModule(RCTEventEmitter.class).receiveEvent(
+        ViroEventQueue.getInstance().enqueue(node.getReactContext(),
                 node.getId(),
                 ViroEvents.ON_PINCH,
                 event);
@@ -221,6 +391,10 @@ public class ComponentEventDelegate implements EventDelegate.EventDelegateCallba
         if (node == null){
             return;
         }
+        if (!isPackedEventEnabled(ViroPackedEventBuffer.TYPE_AR_HIT_TEST)
+                && !node.hasEventListener(ViroEvents.ON_CAMERA_AR_HIT_TEST_VIRO)) {
+            return;
+        }
         if( node instanceof VRTScene) {
             final VRTScene scene = (VRTScene) node;
             final ARHitTestResult arResults[] = results;
@@ -230,6 +404,31 @@ public class ComponentEventDelegate implements EventDelegate.EventDelegateCallba
                                                    float rotEulerX, float rotEulerY, float rotEulerZ,
                                                    float forwardX, float forwardY, float forwardZ,
                                                    float upX, float upY, float upZ) {
+                    if (isPackedEventEnabled(ViroPackedEventBuffer.TYPE_AR_HIT_TEST)) {
+                        float[] packed = packedScratch(12 + arResults.length * 10);
+                        packed[0] = posX;
+                        packed[1] = poxY;
+                        packed[2] = posZ;
+                        packed[3] = (float) Math.toDegrees(rotEulerX);
+                        packed[4] = (float) Math.toDegrees(rotEulerY);
+                        packed[5] = (float) Math.toDegrees(rotEulerZ);
+                        packed[6] = forwardX;
+                        packed[7] = forwardY;
+                        packed[8] = forwardZ;
+                        packed[9] = upX;
+                        packed[10] = upY;
+                        packed[11] = upZ;
+                        int offset = 12;
+                        for (ARHitTestResult result : arResults) {
+                            packed[offset++] = result.getType().ordinal();
+                            offset = packVector(packed, offset, result.getPosition().toArray(), false);
+                            offset = packVector(packed, offset, result.getRotation().toArray(), true);
+                            offset = packVector(packed, offset, result.getScale().toArray(), false);
+                        }
+                        writePackedEvent(ViroPackedEventBuffer.TYPE_AR_HIT_TEST, packed, offset);
+                        return;
+                    }
+
                     WritableArray cameraOrientationArray = Arguments.createArray();
                     cameraOrientationArray.pushDouble(posX);
                     cameraOrientationArray.pushDouble(poxY);
@@ -253,7 +452,7 @@ public class ComponentEventDelegate implements EventDelegate.EventDelegateCallba
 
                     event.putArray("cameraOrientation", cameraOrientationArray);
 
-                    scene.getReactContext().getJSModule(RCTEventEmitter.class).receiveEvent(
+                    ViroEventQueue.getInstance().enqueue(scene.getReactContext(),
                             scene.getId(),
                             ViroEvents.ON_CAMERA_AR_HIT_TEST_VIRO,
                             event);
@@ -272,10 +471,19 @@ public class ComponentEventDelegate implements EventDelegate.EventDelegateCallba
         if (node instanceof VRTARScene) {
             final VRTARScene arScene = (VRTARScene) node;
 
+            if (isPackedEventEnabled(ViroPackedEventBuffer.TYPE_AR_POINT_CLOUD)) {
+                float[] points = arPointCloud.getPoints();
+                writePackedEvent(ViroPackedEventBuffer.TYPE_AR_POINT_CLOUD, points, points.length);
+                return;
+            }
+            if (!arScene.hasEventListener(ViroEvents.ON_AR_POINT_CLOUD_UPDATE)) {
+                return;
+            }
+
             WritableMap event = Arguments.createMap();
             event.putMap("pointCloud", ARUtils.mapFromARPointCloud(arPointCloud));
 
-            arScene.getReactContext().getJSModule(RCTEventEmitter.class).receiveEvent(
+            ViroEventQueue.getInstance().enqueue(arScene.getReactContext(),
                     arScene.getId(),
                     ViroEvents.ON_AR_POINT_CLOUD_UPDATE,
                     event);
@@ -289,12 +497,34 @@ public class ComponentEventDelegate implements EventDelegate.EventDelegateCallba
             return;
         }
 
+        if (isPackedEventEnabled(ViroPackedEventBuffer.TYPE_ROTATE)) {
+            float[] packed = packedScratch(3);
+            packed[0] = source;
+            packed[1] = (float) Math.toDegrees(rotationRadians);
+            packed[2] = rotateState.getTypeId();
+            writePackedEvent(ViroPackedEventBuffer.TYPE_ROTATE, packed, 3);
+            return;
+        }
+
+        if (!node.hasEventListener(ViroEvents.ON_ROTATE)) {
+            return;
+        }
+
+        if (rotateState.getTypeId() == RotateState.ROTATE_MOVE.getTypeId()) {
+            mEventValues[0] = rotationRadians;
+            ViroEventQueue.getInstance().enqueueCoalesced(node.getReactContext(),
+                    node.getId(),
+                    ViroEvents.ON_ROTATE,
+                    ROTATE_BUILDER, source, mEventValues, 1);
+            return;
+        }
+
         WritableMap event = Arguments.createMap();
         event.putInt("source", source);
         event.putDouble("rotationFactor", Math.toDegrees(rotationRadians));
         event.putInt("rotateState", rotateState.getTypeId());
 
-        node.getReactContext().getJSModule(RCTEventEmitter.class).receiveEvent(
+        ViroEventQueue.getInstance().enqueue(node.getReactContext(),
                 node.getId(),
                 ViroEvents.ON_ROTATE,
                 event);
@@ -306,11 +536,14 @@ public class ComponentEventDelegate implements EventDelegate.EventDelegateCallba
         if (node == null){
             return;
         }
+        if (!node.hasEventListener(ViroEvents.ON_CONTROLLER_STATUS)) {
+            return;
+        }
 
         WritableMap event = Arguments.createMap();
         event.putInt("source", source);
         event.putInt("controllerStatus", controllerStatus.getTypeId());
-        node.getReactContext().getJSModule(RCTEventEmitter.class).receiveEvent(
+        ViroEventQueue.getInstance().enqueue(node.getReactContext(),
                 node.getId(),
                 ViroEvents.ON_CONTROLLER_STATUS,
                 event);
@@ -329,29 +562,43 @@ public class ComponentEventDelegate implements EventDelegate.EventDelegateCallba
         // This applies to all scenes (AR and non-AR)
         if (node instanceof VRTScene) {
             final VRTScene scene = (VRTScene) node;
+            boolean packed = isPackedEventEnabled(ViroPackedEventBuffer.TYPE_CAMERA_TRANSFORM);
+            if (!packed && !scene.hasEventListener(ViroEvents.ON_CAMERA_TRANSFORM_UPDATE)) {
+                return;
+            }
+
+            mEventValues[0] = posX;
+            mEventValues[1] = poxY;
+            mEventValues[2] = posZ;
+            mEventValues[3] = rotEulerX;
+            mEventValues[4] = rotEulerY;
+            mEventValues[5] = rotEulerZ;
+            mEventValues[6] = forwardX;
+            mEventValues[7] = forwardY;
+            mEventValues[8] = forwardZ;
+            mEventValues[9] = upX;
+            mEventValues[10] = upY;
+            mEventValues[11] = upZ;
+
+            if (packed) {
+                for (int i = 3; i < 6; i++) {
+                    mEventValues[i] = (float) Math.toDegrees(mEventValues[i]);
+                }
+                writePackedEvent(ViroPackedEventBuffer.TYPE_CAMERA_TRANSFORM, mEventValues, 12);
+                return;
+            }
 
-            WritableMap event = Arguments.createMap();
-
-            WritableArray cameraTransformArray = Arguments.createArray();
-            cameraTransformArray.pushDouble(posX);
-            cameraTransformArray.pushDouble(poxY);
-            cameraTransformArray.pushDouble(posZ);
-            cameraTransformArray.pushDouble(Math.toDegrees(rotEulerX));
-            cameraTransformArray.pushDouble(Math.toDegrees(rotEulerY));
-            cameraTransformArray.pushDouble(Math.toDegrees(rotEulerZ));
-            cameraTransformArray.pushDouble(forwardX);
-            cameraTransformArray.pushDouble(forwardY);
-            cameraTransformArray.pushDouble(forwardZ);
-            cameraTransformArray.pushDouble(upX);
-            cameraTransformArray.pushDouble(upY);
-            cameraTransformArray.pushDouble(upZ);
-
-            event.putArray("cameraTransform", cameraTransformArray);
-
-            scene.getReactContext().getJSModule(RCTEventEmitter.class).receiveEvent(
+            ViroEventQueue.getInstance().enqueueCoalesced(scene.getReactContext(),
                     scene.getId(),
                     ViroEvents.ON_CAMERA_TRANSFORM_UPDATE,
-                    event);
+                    CAMERA_TRANSFORM_BUILDER, 0, mEventValues, 12);
+        }
+    }
+
+    private static int packVector(float[] packed, int offset, float[] vector, boolean toDegrees) {
+        for (int i = 0; i < 3; i++) {
+            packed[offset++] = toDegrees ? (float) Math.toDegrees(vector[i]) : vector[i];
         }
+        return offset;
     }
 }
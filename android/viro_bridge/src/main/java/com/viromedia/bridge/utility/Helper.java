@@ -23,11 +23,18 @@ package com.viromedia.bridge.utility;
 
 import android.content.Context;
 import android.net.Uri;
+import android.util.Base64;
 import androidx.annotation.Nullable;
 
 import com.facebook.react.bridge.ReadableArray;
+import com.facebook.react.bridge.ReadableMap;
+import com.facebook.react.bridge.ReadableMapKeySetIterator;
+import com.facebook.react.bridge.ReadableType;
 import com.viro.core.Vector;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
 /**
  * Class containing few common helper methods.
  * Note - Feel free to split / rename this class as this class gets more methods
@@ -58,6 +65,109 @@ public class Helper {
         return result;
     }
 
+    /**
+     * Decode base64 packed little endian 32 bit floats, e.g. the bytes of a JS Float32Array.
+     */
+    public static float[] decodeFloats(String base64) {
+        ByteBuffer bytes = ByteBuffer.wrap(Base64.decode(base64, Base64.DEFAULT)).order(ByteOrder.LITTLE_ENDIAN);
+        float[] result = new float[bytes.remaining() / 4];
+        bytes.asFloatBuffer().get(result);
+        return result;
+    }
+
+    /**
+     * Encode floats as base64 packed little endian 32 bit floats, decoded in JS as a Float32Array.
+     */
+    public static String encodeFloats(float[] values) {
+        ByteBuffer bytes = ByteBuffer.allocate(values.length * 4).order(ByteOrder.LITTLE_ENDIAN);
+        bytes.asFloatBuffer().put(values);
+        return Base64.encodeToString(bytes.array(), Base64.NO_WRAP);
+    }
+
+    /**
+     * Decode base64 packed little endian 32 bit integers, e.g. the bytes of a JS Uint32Array.
+     */
+    public static int[] decodeInts(String base64) {
+        ByteBuffer bytes = ByteBuffer.wrap(Base64.decode(base64, Base64.DEFAULT)).order(ByteOrder.LITTLE_ENDIAN);
+        int[] result = new int[bytes.remaining() / 4];
+        bytes.asIntBuffer().get(result);
+        return result;
+    }
+
+    /**
+     * Whether key has the same value in both maps, comparing arrays and maps by content. A key
+     * that is missing, null, or in a null map counts as null.
+     */
+    public static boolean isSameValue(@Nullable ReadableMap a, @Nullable ReadableMap b, String key) {
+        boolean hasA = a != null && a.hasKey(key) && !a.isNull(key);
+        boolean hasB = b != null && b.hasKey(key) && !b.isNull(key);
+        if (!hasA || !hasB) {
+            return hasA == hasB;
+        }
+        ReadableType type = a.getType(key);
+        if (type != b.getType(key)) {
+            return false;
+        } else if (type == ReadableType.Boolean) {
+            return a.getBoolean(key) == b.getBoolean(key);
+        } else if (type == ReadableType.Number) {
+            return a.getDouble(key) == b.getDouble(key);
+        } else if (type == ReadableType.String) {
+            return a.getString(key).equals(b.getString(key));
+        } else if (type == ReadableType.Array) {
+            return isSameArray(a.getArray(key), b.getArray(key));
+        } else if (type == ReadableType.Map) {
+            return isSameMap(a.getMap(key), b.getMap(key));
+        }
+        return true;
+    }
+
+    private static boolean isSameArray(ReadableArray a, ReadableArray b) {
+        if (a.size() != b.size()) {
+            return false;
+        }
+        for (int i = 0; i < a.size(); i++) {
+            ReadableType type = a.getType(i);
+            boolean same;
+            if (type != b.getType(i)) {
+                same = false;
+            } else if (type == ReadableType.Boolean) {
+                same = a.getBoolean(i) == b.getBoolean(i);
+            } else if (type == ReadableType.Number) {
+                same = a.getDouble(i) == b.getDouble(i);
+            } else if (type == ReadableType.String) {
+                same = a.getString(i).equals(b.getString(i));
+            } else if (type == ReadableType.Array) {
+                same = isSameArray(a.getArray(i), b.getArray(i));
+            } else if (type == ReadableType.Map) {
+                same = isSameMap(a.getMap(i), b.getMap(i));
+            } else {
+                same = true;
+            }
+            if (!same) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isSameMap(ReadableMap a, ReadableMap b) {
+        int count = 0;
+        ReadableMapKeySetIterator iterator = a.keySetIterator();
+        while (iterator.hasNextKey()) {
+            if (!isSameValue(a, b, iterator.nextKey())) {
+                return false;
+            }
+            count++;
+        }
+        // Every key of a matched, so the maps are equal if b has no others
+        iterator = b.keySetIterator();
+        while (iterator.hasNextKey()) {
+            iterator.nextKey();
+            count--;
+        }
+        return count == 0;
+    }
+
     public static Vector toVector(ReadableArray value) {
         if (value == null) {
             return null;
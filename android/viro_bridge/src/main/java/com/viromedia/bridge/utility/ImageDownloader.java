@@ -152,17 +152,24 @@ public class ImageDownloader {
                         // data contained within.
                         CloseableReference<CloseableImage> result = dataSource.getResult();
                         CloseableImage image = result.get();
-                        Log.d("[ImageDownloader.onNewResultImpl]", image.getClass().toString());
+                        if (ViroLog.isDebugEnabled()) {
+                            Log.d("[ImageDownloader.onNewResultImpl]", image.getClass().toString());
+                        }
                         if (image instanceof BaseCloseableStaticBitmap) {
                             Bitmap bitmap = ((BaseCloseableStaticBitmap) image).getUnderlyingBitmap();
 
-                            if (listener != null) {
-                                listener.completed(bitmap.copy(mConfig, true));
-                            } else {
-                                Bitmap temp = bitmap.copy(mConfig, true);
-                                if (temp != null) {
-                                    mImageMap.put(latch, temp);
+                            ViroTrace.beginSection(ViroTrace.DECODE_IMAGE);
+                            try {
+                                if (listener != null) {
+                                    listener.completed(bitmap.copy(mConfig, true));
+                                } else {
+                                    Bitmap temp = bitmap.copy(mConfig, true);
+                                    if (temp != null) {
+                                        mImageMap.put(latch, temp);
+                                    }
                                 }
+                            } finally {
+                                ViroTrace.endSection();
                             }
                         }
 
@@ -0,0 +1,356 @@
+//  Copyright © 2017 Viro Media. All rights reserved.
+//
+//  Permission is hereby granted, free of charge, to any person obtaining
+//  a copy of this software and associated documentation files (the
+//  "Software"), to deal in the Software without restriction, including
+//  without limitation the rights to use, copy, modify, merge, publish,
+//  distribute, sublicense, and/or sell copies of the Software, and to
+//  permit persons to whom the Software is furnished to do so, subject to
+//  the following conditions:
+//
+//  The above copyright notice and this permission notice shall be included
+//  in all copies or substantial portions of the Software.
+//
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+//  EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+//  MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+//  IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY
+//  CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+//  TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+//  SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+
+package com.viromedia.bridge.utility;
+
+import android.util.LongSparseArray;
+import android.view.Choreographer;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.ReactContext;
+import com.facebook.react.bridge.UiThreadUtil;
+import com.facebook.react.bridge.WritableMap;
+import com.facebook.react.uimanager.events.RCTEventEmitter;
+
+import java.util.ArrayList;
+
+/**
+ * Queues java-to-javascript events and flushes them to the RCTEventEmitter.
+ *
+ * High frequency events (drag, pinch, camera transform, ...) are coalesced per view, event name
+ * and optional sub key, so only the latest payload of a frame is built and sent once per vsync.
+ * Discrete events (click, fuse, ...) are never coalesced or dropped and are not held for vsync:
+ * they are dispatched on the UI thread right away, after any coalesced events queued before them,
+ * so events are still delivered in the order they were queued.
+ */
+public class ViroEventQueue implements Choreographer.FrameCallback {
+    private static final String TAG = ViroLog.getTag(ViroEventQueue.class);
+
+    // Max number of coalesced events pending in a single frame before new ones are dropped.
+    private static final int MAX_PENDING_COALESCED = 512;
+    private static final int MAX_POOLED_EVENTS = 256;
+    public static final int MAX_VALUES = 12;
+
+    /**
+     * Builds the JS payload of a coalesced event at flush time from its primitive values.
+     */
+    public interface PayloadBuilder {
+        WritableMap build(QueuedEvent event);
+    }
+
+    /**
+     * A pending event. Instances are pooled and reused, so builders must not hold on to them.
+     */
+    public static final class QueuedEvent {
+        private ReactContext mReactContext;
+        private int mViewTag;
+        private String mEventName;
+        private String mSubKey;
+        private PayloadBuilder mBuilder;
+        private WritableMap mPayload;
+
+        public int intValue;
+        public final float[] values = new float[MAX_VALUES];
+        public int valueCount;
+        // Source object of the payload, for builders whose payload is not just numbers
+        public Object source;
+
+        private boolean matches(int viewTag, String eventName, String subKey) {
+            return mViewTag == viewTag && mEventName.equals(eventName)
+                    && (mSubKey == null ? subKey == null : mSubKey.equals(subKey));
+        }
+
+        private void reset() {
+            mReactContext = null;
+            mEventName = null;
+            mSubKey = null;
+            mBuilder = null;
+            mPayload = null;
+            intValue = 0;
+            valueCount = 0;
+            source = null;
+        }
+    }
+
+    private static ViroEventQueue sInstance;
+
+    public static synchronized ViroEventQueue getInstance() {
+        if (sInstance == null) {
+            sInstance = new ViroEventQueue();
+        }
+        return sInstance;
+    }
+
+    private final Object mLock = new Object();
+    private ArrayList<QueuedEvent> mPending = new ArrayList<>();
+    private ArrayList<QueuedEvent> mFlushing = new ArrayList<>();
+    private final LongSparseArray<QueuedEvent> mCoalesceIndex = new LongSparseArray<>();
+    private final ArrayList<QueuedEvent> mPool = new ArrayList<>();
+    private int mPendingCoalesced = 0;
+    private boolean mFrameScheduled = false;
+    private boolean mFlushPosted = false;
+    private boolean mDiscretePending = false;
+    // UI thread only: set while dispatching, so a flush requested from a listener is deferred
+    private boolean mDispatching = false;
+
+    private long mEnqueuedCount = 0;
+    private long mCoalescedCount = 0;
+    private long mDroppedCount = 0;
+    private long mDispatchedCount = 0;
+    private long mFlushCount = 0;
+
+    private final Runnable mScheduleFrameRunnable = new Runnable() {
+        @Override
+        public void run() {
+            Choreographer.getInstance().postFrameCallback(ViroEventQueue.this);
+        }
+    };
+
+    private final Runnable mFlushRunnable = new Runnable() {
+        @Override
+        public void run() {
+            synchronized (mLock) {
+                mFlushPosted = false;
+            }
+            flush();
+        }
+    };
+
+    private ViroEventQueue() {
+    }
+
+    /**
+     * Queue a discrete event. It is dispatched immediately if called on the UI thread, otherwise
+     * as soon as the UI thread runs, after everything queued before it.
+     */
+    public void enqueue(ReactContext reactContext, int viewTag, String eventName, WritableMap payload) {
+        boolean flushNow;
+        synchronized (mLock) {
+            QueuedEvent event = obtain(reactContext, viewTag, eventName, null);
+            event.mPayload = payload;
+            mPending.add(event);
+            mEnqueuedCount++;
+            mDiscretePending = true;
+
+            // Later high frequency events must not be merged into entries queued before this one.
+            mCoalesceIndex.clear();
+            flushNow = UiThreadUtil.isOnUiThread();
+            if (!flushNow && !mFlushPosted) {
+                mFlushPosted = true;
+                UiThreadUtil.runOnUiThread(mFlushRunnable);
+            }
+        }
+        if (flushNow) {
+            flush();
+        }
+    }
+
+    /**
+     * Queue a high frequency event whose payload is built from a source object by the given
+     * builder, only for the latest event of the frame with this view, name and sub key.
+     */
+    public void enqueueCoalesced(ReactContext reactContext, int viewTag, String eventName,
+                                 String subKey, PayloadBuilder builder, Object source) {
+        synchronized (mLock) {
+            QueuedEvent event = obtainCoalescedLocked(reactContext, viewTag, eventName, subKey);
+            if (event != null) {
+                event.mBuilder = builder;
+                event.source = source;
+            }
+        }
+    }
+
+    /**
+     * Queue a high frequency event as primitive values; the payload is built by the given builder
+     * only for the latest event of the frame. The values are copied, so callers may reuse the array.
+     */
+    public void enqueueCoalesced(ReactContext reactContext, int viewTag, String eventName,
+                                 PayloadBuilder builder, int intValue, float[] values, int valueCount) {
+        synchronized (mLock) {
+            QueuedEvent event = obtainCoalescedLocked(reactContext, viewTag, eventName, null);
+            if (event != null) {
+                event.mBuilder = builder;
+                event.intValue = intValue;
+                event.valueCount = Math.min(valueCount, MAX_VALUES);
+                System.arraycopy(values, 0, event.values, 0, event.valueCount);
+            }
+        }
+    }
+
+    private QueuedEvent obtainCoalescedLocked(ReactContext reactContext, int viewTag,
+                                              String eventName, String subKey) {
+        mEnqueuedCount++;
+
+        long key = coalesceKey(viewTag, eventName, subKey);
+        QueuedEvent existing = mCoalesceIndex.get(key);
+        if (existing != null && existing.matches(viewTag, eventName, subKey)) {
+            existing.mReactContext = reactContext;
+            existing.mPayload = null;
+            mCoalescedCount++;
+            return existing;
+        }
+
+        if (mPendingCoalesced >= MAX_PENDING_COALESCED) {
+            mDroppedCount++;
+            return null;
+        }
+
+        QueuedEvent event = obtain(reactContext, viewTag, eventName, subKey);
+        mPending.add(event);
+        mCoalesceIndex.put(key, event);
+        mPendingCoalesced++;
+        scheduleFrameLocked();
+        return event;
+    }
+
+    private QueuedEvent obtain(ReactContext reactContext, int viewTag, String eventName, String subKey) {
+        QueuedEvent event = mPool.isEmpty() ? new QueuedEvent() : mPool.remove(mPool.size() - 1);
+        event.mReactContext = reactContext;
+        event.mViewTag = viewTag;
+        event.mEventName = eventName;
+        event.mSubKey = subKey;
+        return event;
+    }
+
+    private static long coalesceKey(int viewTag, String eventName, String subKey) {
+        int nameHash = eventName.hashCode() * 31 + (subKey == null ? 0 : subKey.hashCode());
+        return ((long) viewTag << 32) | (nameHash & 0xffffffffL);
+    }
+
+    private void scheduleFrameLocked() {
+        if (mFrameScheduled) {
+            return;
+        }
+        mFrameScheduled = true;
+        if (UiThreadUtil.isOnUiThread()) {
+            Choreographer.getInstance().postFrameCallback(this);
+        } else {
+            UiThreadUtil.runOnUiThread(mScheduleFrameRunnable);
+        }
+    }
+
+    @Override
+    public void doFrame(long frameTimeNanos) {
+        synchronized (mLock) {
+            mFrameScheduled = false;
+        }
+        flush();
+    }
+
+    /**
+     * Dispatch everything pending, in order. Runs on the UI thread; repeats while listeners
+     * queue further discrete events, so those are not left waiting for the next frame.
+     */
+    private void flush() {
+        if (mDispatching) {
+            return;
+        }
+        mDispatching = true;
+        try {
+            while (true) {
+                ArrayList<QueuedEvent> events;
+                synchronized (mLock) {
+                    if (mPending.isEmpty()) {
+                        mDiscretePending = false;
+                        return;
+                    }
+                    events = mPending;
+                    mPending = mFlushing;
+                    mFlushing = events;
+                    mCoalesceIndex.clear();
+                    mPendingCoalesced = 0;
+                    mDiscretePending = false;
+                    mFlushCount++;
+                }
+                dispatch(events);
+                synchronized (mLock) {
+                    if (!mDiscretePending) {
+                        // Coalesced events queued meanwhile wait for their vsync
+                        return;
+                    }
+                }
+            }
+        } finally {
+            mDispatching = false;
+        }
+    }
+
+    private void dispatch(ArrayList<QueuedEvent> events) {
+        ViroTrace.beginSection(ViroTrace.DISPATCH_EVENTS);
+        long dispatchStart = ViroFrameMetrics.now();
+        int dispatched = 0;
+        int dropped = 0;
+        try {
+            ViroTrace.setCounter(ViroTrace.COUNTER_EVENTS_PER_FRAME, events.size());
+            for (int i = 0; i < events.size(); i++) {
+                QueuedEvent event = events.get(i);
+                ReactContext reactContext = event.mReactContext;
+                if (reactContext == null || !reactContext.hasActiveReactInstance()) {
+                    dropped++;
+                    continue;
+                }
+
+                try {
+                    WritableMap payload = event.mPayload != null ? event.mPayload : event.mBuilder.build(event);
+                    reactContext.getJSModule(RCTEventEmitter.class).receiveEvent(
+                            event.mViewTag, event.mEventName, payload);
+                    dispatched++;
+                } catch (RuntimeException e) {
+                    ViroLog.error(TAG, "Failed to dispatch " + event.mEventName + ": " + e.getMessage());
+                    dropped++;
+                }
+            }
+        } finally {
+            ViroFrameMetrics.addEventTime(dispatchStart);
+            ViroTrace.endSection();
+        }
+
+        synchronized (mLock) {
+            mDispatchedCount += dispatched;
+            mDroppedCount += dropped;
+            for (int i = 0; i < events.size(); i++) {
+                QueuedEvent event = events.get(i);
+                event.reset();
+                if (mPool.size() < MAX_POOLED_EVENTS) {
+                    mPool.add(event);
+                }
+            }
+            events.clear();
+        }
+    }
+
+    /**
+     * Counters since process start: enqueued, coalesced (replaced before being sent),
+     * dropped (over budget or no active React instance), dispatched and flushed frames.
+     */
+    public WritableMap getStats() {
+        WritableMap stats = Arguments.createMap();
+        synchronized (mLock) {
+            stats.putDouble("enqueued", mEnqueuedCount);
+            stats.putDouble("coalesced", mCoalescedCount);
+            stats.putDouble("dropped", mDroppedCount);
+            stats.putDouble("dispatched", mDispatchedCount);
+            stats.putDouble("flushes", mFlushCount);
+            stats.putInt("pending", mPending.size());
+        }
+        return stats;
+    }
+}
@@ -0,0 +1,99 @@
+//  Copyright © 2025 ReactVision. All rights reserved.
+//
+//  Permission is hereby granted, free of charge, to any person obtaining
+//  a copy of this software and associated documentation files (the
+//  "Software"), to deal in the Software without restriction, including
+//  without limitation the rights to use, copy, modify, merge, publish,
+//  distribute, sublicense, and/or sell copies of the Software, and to
+//  permit persons to whom the Software is furnished to do so, subject to
+//  the following conditions:
+//
+//  The above copyright notice and this permission notice shall be included
+//  in all copies or substantial portions of the Software.
+//
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+//  EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+//  MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+//  IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY
+//  CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+//  TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+//  SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+
+package com.viromedia.bridge.utility;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Reference counted set of the events JS listens to on a single component, keyed by
+ * ViroEvents name. Emitters consult it before building a payload so that events nobody
+ * listens to cost nothing past the native callback.
+ *
+ * Gated events are those whose emitters check VRTComponent.hasEventListener: the events switched
+ * on in the renderer per node (see VRTNode.setEventEnabled), and the per-frame scene and AR
+ * events (tracking, light estimation, anchors, point cloud, platform, camera and controller
+ * updates). Other events, such as onError and load events, are rare and still always delivered.
+ */
+public class ViroEventSubscriptions {
+    private static final Set<String> GATED_EVENTS = new HashSet<>(Arrays.asList(
+            ViroEvents.ON_HOVER, ViroEvents.ON_CLICK, ViroEvents.ON_TOUCH, ViroEvents.ON_SCROLL,
+            ViroEvents.ON_SWIPE, ViroEvents.ON_DRAG, ViroEvents.ON_FUSE, ViroEvents.ON_PINCH,
+            ViroEvents.ON_ROTATE, ViroEvents.ON_CAMERA_AR_HIT_TEST_VIRO, ViroEvents.ON_COLLIDED,
+            ViroEvents.ON_COLLISION_ENTER, ViroEvents.ON_COLLISION_STAY,
+            ViroEvents.ON_COLLISION_EXIT, ViroEvents.ON_TRANSFORM_DELEGATE,
+            ViroEvents.ON_TRACKING_UPDATED, ViroEvents.ON_AMBIENT_LIGHT_UPDATE,
+            ViroEvents.ON_ANCHOR_FOUND, ViroEvents.ON_ANCHOR_UPDATED, ViroEvents.ON_ANCHOR_REMOVED,
+            ViroEvents.ON_AR_POINT_CLOUD_UPDATE, ViroEvents.ON_PLATFORM_UPDATE,
+            ViroEvents.ON_CAMERA_TRANSFORM_UPDATE, ViroEvents.ON_CONTROLLER_STATUS));
+
+    private final HashMap<String, Integer> mCounts = new HashMap<>();
+
+    /**
+     * Whether the event is only delivered while subscribed.
+     */
+    public static boolean isGated(String eventName) {
+        return GATED_EVENTS.contains(eventName);
+    }
+
+    /**
+     * Add a listener for the given event.
+     * @return true if this is the first listener, i.e. the event should now be enabled natively.
+     */
+    public synchronized boolean add(String eventName) {
+        Integer count = mCounts.get(eventName);
+        int newCount = count == null ? 1 : count + 1;
+        mCounts.put(eventName, newCount);
+        return newCount == 1;
+    }
+
+    /**
+     * Remove a listener for the given event.
+     * @return true if this was the last listener, i.e. the event should now be disabled natively.
+     */
+    public synchronized boolean remove(String eventName) {
+        Integer count = mCounts.get(eventName);
+        if (count == null) {
+            return false;
+        }
+        if (count <= 1) {
+            mCounts.remove(eventName);
+            return true;
+        }
+        mCounts.put(eventName, count - 1);
+        return false;
+    }
+
+    public synchronized boolean contains(String eventName) {
+        return mCounts.containsKey(eventName);
+    }
+
+    public synchronized int size() {
+        return mCounts.size();
+    }
+
+    public synchronized void clear() {
+        mCounts.clear();
+    }
+}
@@ -50,6 +50,9 @@ public class ViroEvents {
     public static final String ON_BUFFER_START = "onBufferStartViro";
     public static final String ON_BUFFER_END = "onBufferEndViro";
     public static final String ON_COLLIDED = "onCollisionViro";
+    public static final String ON_COLLISION_ENTER = "onCollisionEnterViro";
+    public static final String ON_COLLISION_STAY = "onCollisionStayViro";
+    public static final String ON_COLLISION_EXIT = "onCollisionExitViro";
     public static final String ON_TRANSFORM_DELEGATE = "onNativeTransformDelegateViro";
     public static final String ON_TRACKING_UPDATED = "onTrackingUpdatedViro";
     public static final String ON_AMBIENT_LIGHT_UPDATE = "onAmbientLightUpdateViro";
@@ -0,0 +1,310 @@
+//  Copyright © 2025 ReactVision. All rights reserved.
+//
+//  Permission is hereby granted, free of charge, to any person obtaining
+//  a copy of this software and associated documentation files (the
+//  "Software"), to deal in the Software without restriction, including
+//  without limitation the rights to use, copy, modify, merge, publish,
+//  distribute, sublicense, and/or sell copies of the Software, and to
+//  permit persons to whom the Software is furnished to do so, subject to
+//  the following conditions:
+//
+//  The above copyright notice and this permission notice shall be included
+//  in all copies or substantial portions of the Software.
+//
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+//  EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+//  MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+//  IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY
+//  CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+//  TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+//  SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+
+package com.viromedia.bridge.utility;
+
+import android.content.Context;
+import android.view.Choreographer;
+import android.view.Display;
+import android.view.WindowManager;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.UiThreadUtil;
+import com.facebook.react.bridge.WritableMap;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Production-safe frame metrics: a Choreographer frame interval histogram with jank counts, plus
+ * the main thread time spent applying bridge props and dispatching events, and the texture bytes
+ * uploaded, attributed to the frame they happened in. Props applied from the JS thread through
+ * JSI are timed separately, since they do not hold up the main thread.
+ *
+ * Collection is off until {@link #start(Context)}. While off, the static hooks are a single
+ * volatile read; while on, each frame costs a few array increments and nothing is allocated.
+ */
+public class ViroFrameMetrics implements Choreographer.FrameCallback {
+    private static final String TAG = ViroLog.getTag(ViroFrameMetrics.class);
+
+    // Frame intervals are bucketed in quarter milliseconds up to 100ms, with one overflow bucket.
+    private static final int BUCKETS_PER_MS = 4;
+    private static final int MAX_BUCKETED_MS = 100;
+    private static final int BUCKET_COUNT = MAX_BUCKETED_MS * BUCKETS_PER_MS + 1;
+
+    // A frame counts as janky if it took longer than this many refresh intervals.
+    private static final float JANK_THRESHOLD = 1.5f;
+    private static final float DEFAULT_REFRESH_RATE = 60f;
+
+    private static volatile boolean sEnabled = false;
+    private static ViroFrameMetrics sInstance;
+
+    public static synchronized ViroFrameMetrics getInstance() {
+        if (sInstance == null) {
+            sInstance = new ViroFrameMetrics();
+        }
+        return sInstance;
+    }
+
+    public static boolean isEnabled() {
+        return sEnabled;
+    }
+
+    /**
+     * Timestamp to pass to {@link #addPropTime} or {@link #addEventTime}; 0 while disabled.
+     */
+    public static long now() {
+        return sEnabled ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Attribute time since {@code startNanos} to applying bridge props: to the main thread if
+     * called on it, else to the JS thread.
+     */
+    public static void addPropTime(long startNanos) {
+        if (sEnabled && startNanos != 0) {
+            long nanos = System.nanoTime() - startNanos;
+            if (UiThreadUtil.isOnUiThread()) {
+                getInstance().mPropNanos.addAndGet(nanos);
+            } else {
+                getInstance().mJsPropNanos.addAndGet(nanos);
+            }
+        }
+    }
+
+    /**
+     * Attribute main thread time since {@code startNanos} to dispatching events to JS.
+     */
+    public static void addEventTime(long startNanos) {
+        if (sEnabled && startNanos != 0) {
+            getInstance().mEventNanos.addAndGet(System.nanoTime() - startNanos);
+        }
+    }
+
+    public static void addTextureUploadBytes(long bytes) {
+        if (sEnabled) {
+            getInstance().mTextureBytes.addAndGet(bytes);
+        }
+    }
+
+    // Accumulated for the frame in progress, from any thread
+    private final AtomicLong mPropNanos = new AtomicLong();
+    private final AtomicLong mJsPropNanos = new AtomicLong();
+    private final AtomicLong mEventNanos = new AtomicLong();
+    private final AtomicLong mTextureBytes = new AtomicLong();
+
+    // Window totals, guarded by this
+    private final int[] mHistogram = new int[BUCKET_COUNT];
+    private long mFrameCount = 0;
+    private long mJankFrames = 0;
+    private long mDroppedFrames = 0;
+    private long mIntervalNanosTotal = 0;
+    private long mMaxIntervalNanos = 0;
+    private long mPropNanosTotal = 0;
+    private long mPropNanosMax = 0;
+    private long mJsPropNanosTotal = 0;
+    private long mJsPropNanosMax = 0;
+    private long mEventNanosTotal = 0;
+    private long mEventNanosMax = 0;
+    private long mTextureBytesTotal = 0;
+    private long mTextureBytesMax = 0;
+    private long mWindowStartNanos = 0;
+
+    private long mLastFrameNanos = 0;
+    private float mRefreshRate = DEFAULT_REFRESH_RATE;
+    private boolean mRunning = false;
+
+    private ViroFrameMetrics() {
+    }
+
+    /**
+     * Start collecting. The display refresh rate is read from the given context to judge jank.
+     */
+    public void start(Context context) {
+        float refreshRate = DEFAULT_REFRESH_RATE;
+        WindowManager windowManager = context != null
+                ? (WindowManager) context.getSystemService(Context.WINDOW_SERVICE) : null;
+        if (windowManager != null) {
+            Display display = windowManager.getDefaultDisplay();
+            if (display != null && display.getRefreshRate() > 1f) {
+                refreshRate = display.getRefreshRate();
+            }
+        }
+
+        final float rate = refreshRate;
+        UiThreadUtil.runOnUiThread(new Runnable() {
+            @Override
+            public void run() {
+                synchronized (ViroFrameMetrics.this) {
+                    mRefreshRate = rate;
+                    if (mRunning) {
+                        return;
+                    }
+                    mRunning = true;
+                    resetLocked();
+                }
+                sEnabled = true;
+                mLastFrameNanos = 0;
+                Choreographer.getInstance().postFrameCallback(ViroFrameMetrics.this);
+                ViroLog.info(TAG, "Frame metrics started at " + rate + "Hz");
+            }
+        });
+    }
+
+    public void stop() {
+        UiThreadUtil.runOnUiThread(new Runnable() {
+            @Override
+            public void run() {
+                sEnabled = false;
+                synchronized (ViroFrameMetrics.this) {
+                    mRunning = false;
+                }
+                Choreographer.getInstance().removeFrameCallback(ViroFrameMetrics.this);
+            }
+        });
+    }
+
+    @Override
+    public void doFrame(long frameTimeNanos) {
+        long propNanos = mPropNanos.getAndSet(0);
+        long jsPropNanos = mJsPropNanos.getAndSet(0);
+        long eventNanos = mEventNanos.getAndSet(0);
+        long textureBytes = mTextureBytes.getAndSet(0);
+
+        synchronized (this) {
+            if (!mRunning) {
+                return;
+            }
+
+            if (mLastFrameNanos != 0 && frameTimeNanos > mLastFrameNanos) {
+                long interval = frameTimeNanos - mLastFrameNanos;
+                int bucket = (int) Math.min(BUCKET_COUNT - 1, interval * BUCKETS_PER_MS / 1000000L);
+                mHistogram[bucket]++;
+                mFrameCount++;
+                mIntervalNanosTotal += interval;
+                mMaxIntervalNanos = Math.max(mMaxIntervalNanos, interval);
+
+                double refreshNanos = 1e9 / mRefreshRate;
+                if (interval > refreshNanos * JANK_THRESHOLD) {
+                    mJankFrames++;
+                    mDroppedFrames += Math.max(1, Math.round(interval / refreshNanos) - 1);
+                }
+
+                mPropNanosTotal += propNanos;
+                mPropNanosMax = Math.max(mPropNanosMax, propNanos);
+                mJsPropNanosTotal += jsPropNanos;
+                mJsPropNanosMax = Math.max(mJsPropNanosMax, jsPropNanos);
+                mEventNanosTotal += eventNanos;
+                mEventNanosMax = Math.max(mEventNanosMax, eventNanos);
+                mTextureBytesTotal += textureBytes;
+                mTextureBytesMax = Math.max(mTextureBytesMax, textureBytes);
+            }
+        }
+
+        mLastFrameNanos = frameTimeNanos;
+        Choreographer.getInstance().postFrameCallback(this);
+    }
+
+    /**
+     * Metrics for the window since collection started or the last reset.
+     *
+     * @param reset whether to start a new window after reading.
+     */
+    public synchronized WritableMap getMetrics(boolean reset) {
+        WritableMap metrics = Arguments.createMap();
+        metrics.putBoolean("enabled", mRunning);
+        metrics.putDouble("refreshRate", mRefreshRate);
+        metrics.putDouble("frames", mFrameCount);
+        metrics.putDouble("windowMs", mWindowStartNanos == 0 ? 0
+                : (System.nanoTime() - mWindowStartNanos) / 1e6);
+        metrics.putDouble("fps", mIntervalNanosTotal == 0 ? 0 : mFrameCount * 1e9 / mIntervalNanosTotal);
+
+        WritableMap frameInterval = Arguments.createMap();
+        frameInterval.putDouble("p50", percentileMs(0.50));
+        frameInterval.putDouble("p95", percentileMs(0.95));
+        frameInterval.putDouble("p99", percentileMs(0.99));
+        frameInterval.putDouble("mean", mFrameCount == 0 ? 0 : mIntervalNanosTotal / 1e6 / mFrameCount);
+        frameInterval.putDouble("max", mMaxIntervalNanos / 1e6);
+        metrics.putMap("frameIntervalMs", frameInterval);
+        metrics.putDouble("jankFrames", mJankFrames);
+        metrics.putDouble("droppedFrames", mDroppedFrames);
+
+        WritableMap bridge = Arguments.createMap();
+        bridge.putDouble("propTimeMsPerFrame", perFrame(mPropNanosTotal) / 1e6);
+        bridge.putDouble("propTimeMsMax", mPropNanosMax / 1e6);
+        bridge.putDouble("jsPropTimeMsPerFrame", perFrame(mJsPropNanosTotal) / 1e6);
+        bridge.putDouble("jsPropTimeMsMax", mJsPropNanosMax / 1e6);
+        bridge.putDouble("eventTimeMsPerFrame", perFrame(mEventNanosTotal) / 1e6);
+        bridge.putDouble("eventTimeMsMax", mEventNanosMax / 1e6);
+        metrics.putMap("bridge", bridge);
+
+        WritableMap textures = Arguments.createMap();
+        textures.putDouble("uploadBytesPerFrame", perFrame(mTextureBytesTotal));
+        textures.putDouble("uploadBytesMax", mTextureBytesMax);
+        textures.putDouble("uploadBytesTotal", mTextureBytesTotal);
+        metrics.putMap("textures", textures);
+
+        if (reset) {
+            resetLocked();
+        }
+        return metrics;
+    }
+
+    private double perFrame(long total) {
+        return mFrameCount == 0 ? 0 : (double) total / mFrameCount;
+    }
+
+    // Upper edge of the bucket holding the given percentile
+    private double percentileMs(double percentile) {
+        if (mFrameCount == 0) {
+            return 0;
+        }
+        long target = (long) Math.ceil(mFrameCount * percentile);
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += mHistogram[i];
+            if (seen >= target) {
+                return i == BUCKET_COUNT - 1 ? mMaxIntervalNanos / 1e6
+                        : (i + 1) / (double) BUCKETS_PER_MS;
+            }
+        }
+        return mMaxIntervalNanos / 1e6;
+    }
+
+    private void resetLocked() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            mHistogram[i] = 0;
+        }
+        mFrameCount = 0;
+        mJankFrames = 0;
+        mDroppedFrames = 0;
+        mIntervalNanosTotal = 0;
+        mMaxIntervalNanos = 0;
+        mPropNanosTotal = 0;
+        mPropNanosMax = 0;
+        mJsPropNanosTotal = 0;
+        mJsPropNanosMax = 0;
+        mEventNanosTotal = 0;
+        mEventNanosMax = 0;
+        mTextureBytesTotal = 0;
+        mTextureBytesMax = 0;
+        mWindowStartNanos = System.nanoTime();
+    }
+}
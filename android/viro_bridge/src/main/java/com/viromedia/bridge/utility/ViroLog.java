@@ -24,19 +24,43 @@ package com.viromedia.bridge.utility;
 
 import android.util.Log;
 
+import com.viromedia.bridge.BuildConfig;
+
 public class ViroLog {
     private static final String TAG_PREFIX = "Viro-";
 
+    /*
+     Minimum priority that is logged. Debug logging is on in debug builds, and can be turned on
+     in release builds with `adb shell setprop log.tag.Viro DEBUG` or setLogLevel().
+     */
+    private static volatile int sLogLevel =
+            BuildConfig.DEBUG || Log.isLoggable("Viro", Log.DEBUG) ? Log.DEBUG : Log.INFO;
+
     public static String getTag(Class clazz) {
         return TAG_PREFIX + clazz.getSimpleName();
     }
 
+    public static void setLogLevel(int level) {
+        sLogLevel = level;
+    }
+
+    /**
+     * Callers on hot paths should check this before concatenating a debug message.
+     */
+    public static boolean isDebugEnabled() {
+        return sLogLevel <= Log.DEBUG;
+    }
+
     public static void debug(String tag, String message) {
-        Log.d(tag, message);
+        if (sLogLevel <= Log.DEBUG) {
+            Log.d(tag, message);
+        }
     }
 
     public static void info(String tag, String message) {
-        Log.i(tag, message);
+        if (sLogLevel <= Log.INFO) {
+            Log.i(tag, message);
+        }
     }
 
     public static void warn(String tag, String message) {
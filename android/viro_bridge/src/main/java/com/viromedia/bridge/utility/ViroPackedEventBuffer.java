@@ -0,0 +1,285 @@
+//  Copyright © 2025 ReactVision. All rights reserved.
+//
+//  Permission is hereby granted, free of charge, to any person obtaining
+//  a copy of this software and associated documentation files (the
+//  "Software"), to deal in the Software without restriction, including
+//  without limitation the rights to use, copy, modify, merge, publish,
+//  distribute, sublicense, and/or sell copies of the Software, and to
+//  permit persons to whom the Software is furnished to do so, subject to
+//  the following conditions:
+//
+//  The above copyright notice and this permission notice shall be included
+//  in all copies or substantial portions of the Software.
+//
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+//  EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+//  MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+//  IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY
+//  CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+//  TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+//  SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+
+package com.viromedia.bridge.utility;
+
+import android.view.Choreographer;
+
+import com.facebook.react.bridge.UiThreadUtil;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+/**
+ * Packs numeric events into a reusable direct ByteBuffer that is flushed once per vsync.
+ *
+ * Each record is laid out as [int32 type][int32 node handle][int32 float count][float32 x count]
+ * in native byte order, so every field is 4-byte aligned and JS can read a whole batch through
+ * Int32Array / Float32Array views without per-event object construction. The float layout of
+ * each type is documented next to its constant and mirrored in fabric-interop/ViroPackedEvents.ts.
+ *
+ * Records are coalesced per node and type within a frame, so a listener firing every callback
+ * still sends one record per frame: a new record overwrites the pending one in place, or marks
+ * it TYPE_SKIPPED if its size changed. Pinch and rotate records are only coalesced while their
+ * gesture state is unchanged, so start and end records are never lost.
+ */
+public class ViroPackedEventBuffer implements Choreographer.FrameCallback {
+    private static final String TAG = ViroLog.getTag(ViroPackedEventBuffer.class);
+
+    /** A record superseded by a later one of the same frame; readers skip it */
+    public static final int TYPE_SKIPPED = 0;
+    /** [source, x, y, z] */
+    public static final int TYPE_DRAG = 1;
+    /** [source, x, y] */
+    public static final int TYPE_SCROLL = 2;
+    /** [source, scaleFactor, pinchState] */
+    public static final int TYPE_PINCH = 3;
+    /** [source, rotationDegrees, rotateState] */
+    public static final int TYPE_ROTATE = 4;
+    /** [posX, posY, posZ, rotX, rotY, rotZ (degrees), forwardX, forwardY, forwardZ, upX, upY, upZ] */
+    public static final int TYPE_CAMERA_TRANSFORM = 5;
+    /** [x, y, z] */
+    public static final int TYPE_TRANSFORM_UPDATE = 6;
+    /** 12 camera floats as TYPE_CAMERA_TRANSFORM, then per result [type, pos3, rot3 (degrees), scale3] */
+    public static final int TYPE_AR_HIT_TEST = 7;
+    /** Per point [x, y, z, confidence] */
+    public static final int TYPE_AR_POINT_CLOUD = 8;
+
+    public static final int HEADER_SIZE = 12;
+    private static final int INITIAL_CAPACITY = 16 * 1024;
+    private static final int MAX_CAPACITY = 4 * 1024 * 1024;
+
+    /**
+     * Receives the packed bytes of a frame. The buffer is reused after this returns,
+     * so the listener must consume or copy the first {@code length} bytes synchronously.
+     */
+    public interface FlushListener {
+        void onFlush(ByteBuffer buffer, int length);
+    }
+
+    private final FlushListener mListener;
+    private ByteBuffer mBuffer;
+    private boolean mFrameScheduled = false;
+    private boolean mDisposed = false;
+    private long mWrittenCount = 0;
+    private long mDroppedCount = 0;
+    private long mCoalescedCount = 0;
+
+    // Open addressed table from (handle, type) keys to the buffer offset of the latest record of
+    // each this frame, or -1 once that record is gone. A slot is in use only while its stamp is
+    // mFrameStamp, so bumping the stamp empties the table without touching it.
+    private long[] mSlotKeys = new long[128];
+    private int[] mSlotOffsets = new int[128];
+    private int[] mSlotStamps = new int[128];
+    private int mFrameStamp = 1;
+    private int mRecordCount = 0;
+
+    private final Runnable mScheduleFrameRunnable = new Runnable() {
+        @Override
+        public void run() {
+            Choreographer.getInstance().postFrameCallback(ViroPackedEventBuffer.this);
+        }
+    };
+
+    public ViroPackedEventBuffer(FlushListener listener) {
+        mListener = listener;
+        mBuffer = ByteBuffer.allocateDirect(INITIAL_CAPACITY).order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Write an event record holding the first {@code count} floats of {@code values}, replacing
+     * the pending record of the same node and type if there is one.
+     */
+    public synchronized void writeEvent(int type, int nodeHandle, float[] values, int count) {
+        if (mDisposed) {
+            return;
+        }
+
+        long key = ((long) nodeHandle << 32) | (type & 0xffffffffL);
+        int slot = findSlot(key);
+        boolean used = mSlotStamps[slot] == mFrameStamp;
+        if (used && mSlotOffsets[slot] >= 0) {
+            int offset = mSlotOffsets[slot];
+            int previousCount = mBuffer.getInt(offset + 8);
+            if (!keepsGestureState(type) || previousCount == 0 || count == 0
+                    || mBuffer.getFloat(offset + HEADER_SIZE + (previousCount - 1) * 4) == values[count - 1]) {
+                mCoalescedCount++;
+                if (previousCount == count) {
+                    for (int i = 0; i < count; i++) {
+                        mBuffer.putFloat(offset + HEADER_SIZE + i * 4, values[i]);
+                    }
+                    return;
+                }
+                mBuffer.putInt(offset, TYPE_SKIPPED);
+            }
+            mSlotOffsets[slot] = -1;
+        }
+
+        int size = HEADER_SIZE + count * 4;
+        if (!ensureCapacity(size)) {
+            mDroppedCount++;
+            return;
+        }
+
+        if (!used) {
+            if ((mRecordCount + 1) * 2 > mSlotKeys.length) {
+                growSlots();
+                slot = findSlot(key);
+            }
+            mSlotKeys[slot] = key;
+            mSlotStamps[slot] = mFrameStamp;
+            mRecordCount++;
+        }
+        mSlotOffsets[slot] = mBuffer.position();
+        mBuffer.putInt(type);
+        mBuffer.putInt(nodeHandle);
+        mBuffer.putInt(count);
+        for (int i = 0; i < count; i++) {
+            mBuffer.putFloat(values[i]);
+        }
+        mWrittenCount++;
+        scheduleFrame();
+    }
+
+    // Pinch and rotate end with a gesture state, which must survive coalescing
+    private static boolean keepsGestureState(int type) {
+        return type == TYPE_PINCH || type == TYPE_ROTATE;
+    }
+
+    // The slot holding key, or the free slot it would go in. The table is never more than half
+    // full, so the probe always ends.
+    private int findSlot(long key) {
+        int mask = mSlotKeys.length - 1;
+        int slot = (int) ((key * 0x9E3779B97F4A7C15L) >>> 40) & mask;
+        while (mSlotStamps[slot] == mFrameStamp) {
+            if (mSlotKeys[slot] == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void growSlots() {
+        long[] keys = mSlotKeys;
+        int[] offsets = mSlotOffsets;
+        int[] stamps = mSlotStamps;
+        mSlotKeys = new long[keys.length * 2];
+        mSlotOffsets = new int[keys.length * 2];
+        mSlotStamps = new int[keys.length * 2];
+        for (int i = 0; i < keys.length; i++) {
+            if (stamps[i] == mFrameStamp) {
+                int slot = findSlot(keys[i]);
+                mSlotKeys[slot] = keys[i];
+                mSlotOffsets[slot] = offsets[i];
+                mSlotStamps[slot] = mFrameStamp;
+            }
+        }
+    }
+
+    private void clearSlots() {
+        mRecordCount = 0;
+        mFrameStamp++;
+        if (mFrameStamp == 0) {
+            Arrays.fill(mSlotStamps, 0);
+            mFrameStamp = 1;
+        }
+    }
+
+    private boolean ensureCapacity(int size) {
+        if (mBuffer.remaining() >= size) {
+            return true;
+        }
+
+        int required = mBuffer.position() + size;
+        if (required > MAX_CAPACITY) {
+            return false;
+        }
+
+        int capacity = mBuffer.capacity();
+        while (capacity < required) {
+            capacity *= 2;
+        }
+        ByteBuffer grown = ByteBuffer.allocateDirect(Math.min(capacity, MAX_CAPACITY))
+                .order(ByteOrder.nativeOrder());
+        mBuffer.flip();
+        grown.put(mBuffer);
+        mBuffer = grown;
+        return true;
+    }
+
+    private void scheduleFrame() {
+        if (mFrameScheduled) {
+            return;
+        }
+        mFrameScheduled = true;
+        if (UiThreadUtil.isOnUiThread()) {
+            Choreographer.getInstance().postFrameCallback(this);
+        } else {
+            UiThreadUtil.runOnUiThread(mScheduleFrameRunnable);
+        }
+    }
+
+    @Override
+    public synchronized void doFrame(long frameTimeNanos) {
+        mFrameScheduled = false;
+        clearSlots();
+        int length = mBuffer.position();
+        if (length == 0 || mDisposed) {
+            return;
+        }
+
+        ViroTrace.beginSection(ViroTrace.DISPATCH_PACKED_EVENTS);
+        ViroTrace.setCounter(ViroTrace.COUNTER_PACKED_BYTES, length);
+        long start = ViroFrameMetrics.now();
+        try {
+            mListener.onFlush(mBuffer, length);
+        } catch (RuntimeException e) {
+            ViroLog.error(TAG, "Failed to flush packed events: " + e.getMessage());
+        } finally {
+            ViroFrameMetrics.addEventTime(start);
+            ViroTrace.endSection();
+        }
+        mBuffer.clear();
+    }
+
+    public synchronized long getWrittenCount() {
+        return mWrittenCount;
+    }
+
+    public synchronized long getDroppedCount() {
+        return mDroppedCount;
+    }
+
+    public synchronized long getCoalescedCount() {
+        return mCoalescedCount;
+    }
+
+    /**
+     * Stop accepting events; anything pending is discarded.
+     */
+    public synchronized void dispose() {
+        mDisposed = true;
+        clearSlots();
+        mBuffer.clear();
+    }
+}
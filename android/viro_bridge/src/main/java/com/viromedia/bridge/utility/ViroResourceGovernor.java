@@ -0,0 +1,502 @@
+//  Copyright © 2025 ReactVision. All rights reserved.
+//
+//  Permission is hereby granted, free of charge, to any person obtaining
+//  a copy of this software and associated documentation files (the
+//  "Software"), to deal in the Software without restriction, including
+//  without limitation the rights to use, copy, modify, merge, publish,
+//  distribute, sublicense, and/or sell copies of the Software, and to
+//  permit persons to whom the Software is furnished to do so, subject to
+//  the following conditions:
+//
+//  The above copyright notice and this permission notice shall be included
+//  in all copies or substantial portions of the Software.
+//
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+//  EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+//  MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+//  IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY
+//  CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+//  TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+//  SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+
+package com.viromedia.bridge.utility;
+
+import android.content.ComponentCallbacks2;
+import android.os.SystemClock;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.ReadableMap;
+import com.facebook.react.bridge.UiThreadUtil;
+import com.facebook.react.bridge.WritableMap;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Tracks the resident size and last use of every texture, model, sound and video loaded by the
+ * bridge and keeps each kind within a configurable byte budget.
+ *
+ * When a budget overflows or the system asks the app to trim memory, assets are reclaimed in two
+ * passes: first the least recently used assets of scenes that are not being shown are evicted
+ * (they reload when their scene appears again), then textures of nodes that are not visible are
+ * downscaled. Every action is reported to the registered listeners.
+ *
+ * Resources are only called back on the UI thread.
+ */
+public class ViroResourceGovernor {
+    private static final String TAG = ViroLog.getTag(ViroResourceGovernor.class);
+
+    public enum Kind {
+        TEXTURE("texture", "textureBytes", 128L * 1024 * 1024),
+        MODEL("model", "modelBytes", 128L * 1024 * 1024),
+        SOUND("sound", "soundBytes", 32L * 1024 * 1024),
+        VIDEO("video", "videoBytes", 64L * 1024 * 1024);
+
+        private final String mName;
+        private final String mBudgetKey;
+        private final long mDefaultBudget;
+
+        Kind(String name, String budgetKey, long defaultBudget) {
+            mName = name;
+            mBudgetKey = budgetKey;
+            mDefaultBudget = defaultBudget;
+        }
+
+        public String getName() {
+            return mName;
+        }
+    }
+
+    /*
+     Estimated resident sizes for assets whose real size is not exposed by the renderer.
+     */
+    public static final long ESTIMATED_MODEL_BYTES = 8L * 1024 * 1024;
+    public static final long ESTIMATED_SOUND_BYTES = 2L * 1024 * 1024;
+    public static final long ESTIMATED_VIDEO_BYTES = 1920L * 1080 * 4 * 3;
+
+    public static final String ACTION_EVICT = "evict";
+    public static final String ACTION_DOWNSCALE = "downscale";
+    public static final String ACTION_OVER_BUDGET = "overBudget";
+
+    public static final String REASON_BUDGET = "budget";
+    public static final String REASON_TRIM_MEMORY = "trimMemory";
+    public static final String REASON_LOW_MEMORY = "lowMemory";
+
+    /**
+     * An asset owned by a component that the governor may reclaim.
+     */
+    public interface Resource {
+        /**
+         * Whether the asset belongs to the scene currently being shown.
+         */
+        boolean isInActiveScene();
+
+        /**
+         * Whether the component owning the asset is currently visible.
+         */
+        boolean isResourceVisible();
+
+        /**
+         * Release the asset's native memory. It must be reloaded by the owner the next time it
+         * is needed, at which point the owner tracks it again.
+         *
+         * @return the number of bytes released.
+         */
+        long evictResource();
+
+        /**
+         * Start reducing the resolution of the asset, if it supports it. The smaller copy may
+         * load asynchronously; the owner tracks the asset again with its new size once it is
+         * resident, and that is when the released bytes are accounted.
+         *
+         * @return whether a downscale was started, false if the asset cannot be downscaled
+         * further.
+         */
+        boolean downscaleResource();
+
+        /**
+         * The source of the asset, reported in governor events.
+         */
+        String getResourceSource();
+    }
+
+    public interface ActionListener {
+        void onResourceAction(WritableMap action);
+    }
+
+    private static final class Entry {
+        final Resource resource;
+        final Kind kind;
+        long bytes;
+        long lastUsedTime;
+        boolean downscaled;
+        // Set while a downscale is loading; the bytes are accounted when it is tracked again.
+        boolean downscalePending;
+        String pendingReason;
+        int pendingTrimLevel;
+
+        Entry(Resource resource, Kind kind) {
+            this.resource = resource;
+            this.kind = kind;
+        }
+    }
+
+    private static ViroResourceGovernor sInstance;
+
+    public static synchronized ViroResourceGovernor getInstance() {
+        if (sInstance == null) {
+            sInstance = new ViroResourceGovernor();
+        }
+        return sInstance;
+    }
+
+    // Access ordered, so iteration runs from least to most recently used. Every get() counts as
+    // a use, so lookups that are not a use go through mIndex, which holds the same entries.
+    private final LinkedHashMap<Resource, Entry> mEntries = new LinkedHashMap<>(64, 0.75f, true);
+    private final HashMap<Resource, Entry> mIndex = new HashMap<>();
+    private final long[] mBudgets = new long[Kind.values().length];
+    private final long[] mResidentBytes = new long[Kind.values().length];
+    private final CopyOnWriteArrayList<ActionListener> mListeners = new CopyOnWriteArrayList<>();
+    private boolean mEnforceScheduled = false;
+
+    private long mEvictedCount = 0;
+    private long mDownscaledCount = 0;
+    private long mReclaimedBytes = 0;
+
+    private final Runnable mEnforceBudgetsRunnable = new Runnable() {
+        @Override
+        public void run() {
+            synchronized (ViroResourceGovernor.this) {
+                mEnforceScheduled = false;
+            }
+            reclaim(1.0f, REASON_BUDGET, -1);
+        }
+    };
+
+    private ViroResourceGovernor() {
+        for (Kind kind : Kind.values()) {
+            mBudgets[kind.ordinal()] = kind.mDefaultBudget;
+        }
+    }
+
+    public void addListener(ActionListener listener) {
+        mListeners.addIfAbsent(listener);
+    }
+
+    public void removeListener(ActionListener listener) {
+        mListeners.remove(listener);
+    }
+
+    public synchronized void setBudget(Kind kind, long bytes) {
+        mBudgets[kind.ordinal()] = Math.max(0, bytes);
+        scheduleEnforceLocked();
+    }
+
+    public synchronized long getBudget(Kind kind) {
+        return mBudgets[kind.ordinal()];
+    }
+
+    /**
+     * Set budgets from a JS map of {textureBytes, modelBytes, soundBytes, videoBytes}.
+     * Missing keys keep their current budget.
+     */
+    public void configure(ReadableMap budgets) {
+        if (budgets == null) {
+            return;
+        }
+        for (Kind kind : Kind.values()) {
+            if (budgets.hasKey(kind.mBudgetKey) && !budgets.isNull(kind.mBudgetKey)) {
+                setBudget(kind, (long) budgets.getDouble(kind.mBudgetKey));
+            }
+        }
+    }
+
+    /**
+     * Record that the given asset is resident with the given size, replacing any previous size.
+     */
+    public void track(Resource resource, Kind kind, long bytes) {
+        Entry downscaledEntry = null;
+        long freed = 0;
+        synchronized (this) {
+            Entry entry = mEntries.get(resource);
+            if (entry == null || entry.kind != kind) {
+                if (entry != null) {
+                    mResidentBytes[entry.kind.ordinal()] -= entry.bytes;
+                }
+                entry = new Entry(resource, kind);
+                mEntries.put(resource, entry);
+                mIndex.put(resource, entry);
+            } else {
+                mResidentBytes[kind.ordinal()] -= entry.bytes;
+            }
+            long newBytes = Math.max(0, bytes);
+            if (entry.downscalePending) {
+                entry.downscalePending = false;
+                if (newBytes < entry.bytes) {
+                    freed = entry.bytes - newBytes;
+                    mDownscaledCount++;
+                    mReclaimedBytes += freed;
+                    downscaledEntry = entry;
+                }
+            }
+            entry.bytes = newBytes;
+            entry.lastUsedTime = SystemClock.uptimeMillis();
+            mResidentBytes[kind.ordinal()] += entry.bytes;
+
+            if (mResidentBytes[kind.ordinal()] > mBudgets[kind.ordinal()]) {
+                scheduleEnforceLocked();
+            }
+        }
+        if (downscaledEntry != null) {
+            emit(ACTION_DOWNSCALE, downscaledEntry.pendingReason,
+                    downscaledEntry.pendingTrimLevel, downscaledEntry, freed);
+        }
+    }
+
+    /**
+     * Mark the asset as used now, moving it to the back of the eviction order.
+     */
+    public synchronized void touch(Resource resource) {
+        Entry entry = mEntries.get(resource);
+        if (entry != null) {
+            entry.lastUsedTime = SystemClock.uptimeMillis();
+        }
+    }
+
+    /**
+     * Stop tracking the asset, e.g. because its owner was torn down or replaced it.
+     */
+    public synchronized void untrack(Resource resource) {
+        mIndex.remove(resource);
+        Entry entry = mEntries.remove(resource);
+        if (entry != null) {
+            mResidentBytes[entry.kind.ordinal()] -= entry.bytes;
+        }
+    }
+
+    /**
+     * Add the tracked bytes of the given asset, if any, to its kind's slot in bytesByKind.
+     */
+    public synchronized void addTrackedBytes(Resource resource, long[] bytesByKind) {
+        Entry entry = mIndex.get(resource);
+        if (entry != null) {
+            bytesByKind[entry.kind.ordinal()] += entry.bytes;
+        }
+    }
+
+    /**
+     * Respond to ComponentCallbacks2#onTrimMemory by reclaiming down to a fraction of each
+     * budget that shrinks as the trim level grows.
+     */
+    public void onTrimMemory(int level) {
+        reclaim(targetFractionForTrimLevel(level), REASON_TRIM_MEMORY, level);
+    }
+
+    public void onLowMemory() {
+        reclaim(0f, REASON_LOW_MEMORY, ComponentCallbacks2.TRIM_MEMORY_COMPLETE);
+    }
+
+    /**
+     * The fraction of each budget to reclaim down to for a trim level. Never increases as the
+     * level grows, so a more severe level never keeps more resident than a milder one.
+     */
+    static float targetFractionForTrimLevel(int level) {
+        if (level >= ComponentCallbacks2.TRIM_MEMORY_COMPLETE) {
+            return 0f;
+        } else if (level >= ComponentCallbacks2.TRIM_MEMORY_MODERATE) {
+            return 0.1f;
+        } else if (level >= ComponentCallbacks2.TRIM_MEMORY_BACKGROUND) {
+            return 0.2f;
+        } else if (level >= ComponentCallbacks2.TRIM_MEMORY_UI_HIDDEN) {
+            return 0.25f;
+        } else if (level >= ComponentCallbacks2.TRIM_MEMORY_RUNNING_CRITICAL) {
+            return 0.25f;
+        } else if (level >= ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW) {
+            return 0.5f;
+        }
+        return 0.75f;
+    }
+
+    /**
+     * Reclaim assets until every kind is within {@code fraction} of its budget, or nothing
+     * more can be reclaimed. Must be called on the UI thread; other threads are redirected.
+     */
+    public void reclaim(final float fraction, final String reason, final int trimLevel) {
+        if (!UiThreadUtil.isOnUiThread()) {
+            UiThreadUtil.runOnUiThread(new Runnable() {
+                @Override
+                public void run() {
+                    reclaim(fraction, reason, trimLevel);
+                }
+            });
+            return;
+        }
+
+        for (Kind kind : Kind.values()) {
+            long target;
+            synchronized (this) {
+                target = (long) (mBudgets[kind.ordinal()] * fraction);
+                if (mResidentBytes[kind.ordinal()] <= target) {
+                    continue;
+                }
+            }
+
+            // Pass 1: evict assets of inactive scenes, least recently used first.
+            for (Entry entry : snapshot(kind)) {
+                if (residentBytes(kind) <= target) {
+                    break;
+                }
+                if (entry.resource.isInActiveScene()) {
+                    continue;
+                }
+                long freed = entry.resource.evictResource();
+                if (freed <= 0) {
+                    continue;
+                }
+                synchronized (this) {
+                    if (mIndex.get(entry.resource) == entry) {
+                        mIndex.remove(entry.resource);
+                        mEntries.remove(entry.resource);
+                        mResidentBytes[kind.ordinal()] -= entry.bytes;
+                    }
+                    mEvictedCount++;
+                    mReclaimedBytes += freed;
+                }
+                emit(ACTION_EVICT, reason, trimLevel, entry, freed);
+            }
+
+            // Pass 2: downscale textures of nodes that are not visible. Downscaled copies load
+            // asynchronously and are accounted when tracked again, so until then the expected
+            // savings (a quarter of the pixels remain) only decide when to stop.
+            long expectedFreed = 0;
+            if (kind == Kind.TEXTURE) {
+                for (Entry entry : snapshot(kind)) {
+                    if (residentBytes(kind) - expectedFreed <= target) {
+                        break;
+                    }
+                    if (entry.downscaled || entry.resource.isResourceVisible()) {
+                        continue;
+                    }
+                    long bytes;
+                    synchronized (this) {
+                        bytes = entry.bytes;
+                    }
+                    if (!entry.resource.downscaleResource()) {
+                        continue;
+                    }
+                    synchronized (this) {
+                        if (mIndex.get(entry.resource) == entry) {
+                            entry.downscaled = true;
+                            entry.downscalePending = true;
+                            entry.pendingReason = reason;
+                            entry.pendingTrimLevel = trimLevel;
+                        }
+                    }
+                    expectedFreed += bytes * 3 / 4;
+                }
+            }
+
+            if (REASON_BUDGET.equals(reason) && residentBytes(kind) - expectedFreed > target) {
+                WritableMap action = createAction(ACTION_OVER_BUDGET, reason, trimLevel, kind);
+                action.putDouble("residentBytes", residentBytes(kind));
+                action.putDouble("budgetBytes", getBudget(kind));
+                dispatch(action);
+            }
+        }
+    }
+
+    /**
+     * Clear the downscaled flag of an asset that was restored to full resolution.
+     */
+    public synchronized void clearDownscaled(Resource resource) {
+        Entry entry = mIndex.get(resource);
+        if (entry != null) {
+            entry.downscaled = false;
+            entry.downscalePending = false;
+        }
+    }
+
+    private synchronized ArrayList<Entry> snapshot(Kind kind) {
+        ArrayList<Entry> entries = new ArrayList<>();
+        for (Entry entry : mEntries.values()) {
+            if (entry.kind == kind) {
+                entries.add(entry);
+            }
+        }
+        return entries;
+    }
+
+    private synchronized long residentBytes(Kind kind) {
+        return mResidentBytes[kind.ordinal()];
+    }
+
+    private void scheduleEnforceLocked() {
+        if (mEnforceScheduled) {
+            return;
+        }
+        mEnforceScheduled = true;
+        UiThreadUtil.runOnUiThread(mEnforceBudgetsRunnable);
+    }
+
+    private void emit(String actionName, String reason, int trimLevel, Entry entry, long freed) {
+        WritableMap action = createAction(actionName, reason, trimLevel, entry.kind);
+        String source = entry.resource.getResourceSource();
+        if (source != null) {
+            action.putString("source", source);
+        }
+        action.putDouble("bytesFreed", freed);
+        action.putDouble("idleMillis", SystemClock.uptimeMillis() - entry.lastUsedTime);
+        dispatch(action);
+    }
+
+    private WritableMap createAction(String actionName, String reason, int trimLevel, Kind kind) {
+        WritableMap action = Arguments.createMap();
+        action.putString("action", actionName);
+        action.putString("reason", reason);
+        action.putString("kind", kind.getName());
+        if (trimLevel >= 0) {
+            action.putInt("trimLevel", trimLevel);
+        }
+        return action;
+    }
+
+    private void dispatch(WritableMap action) {
+        if (ViroLog.isDebugEnabled()) {
+            ViroLog.debug(TAG, "Resource action: " + action.toString());
+        }
+        for (ActionListener listener : mListeners) {
+            try {
+                // Each listener gets its own copy; a WritableMap can only be consumed once.
+                WritableMap copy = Arguments.createMap();
+                copy.merge(action);
+                listener.onResourceAction(copy);
+            } catch (RuntimeException e) {
+                ViroLog.error(TAG, "Resource action listener failed: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Resident bytes, budgets and asset counts per kind, plus reclaim counters.
+     */
+    public synchronized WritableMap getStats() {
+        WritableMap stats = Arguments.createMap();
+        int[] counts = new int[Kind.values().length];
+        for (Entry entry : mEntries.values()) {
+            counts[entry.kind.ordinal()]++;
+        }
+        for (Kind kind : Kind.values()) {
+            WritableMap kindStats = Arguments.createMap();
+            kindStats.putDouble("residentBytes", mResidentBytes[kind.ordinal()]);
+            kindStats.putDouble("budgetBytes", mBudgets[kind.ordinal()]);
+            kindStats.putInt("count", counts[kind.ordinal()]);
+            stats.putMap(kind.getName(), kindStats);
+        }
+        stats.putDouble("evicted", mEvictedCount);
+        stats.putDouble("downscaled", mDownscaledCount);
+        stats.putDouble("reclaimedBytes", mReclaimedBytes);
+        return stats;
+    }
+}
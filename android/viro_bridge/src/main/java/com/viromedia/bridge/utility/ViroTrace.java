@@ -0,0 +1,90 @@
+//  Copyright © 2025 ReactVision. All rights reserved.
+//
+//  Permission is hereby granted, free of charge, to any person obtaining
+//  a copy of this software and associated documentation files (the
+//  "Software"), to deal in the Software without restriction, including
+//  without limitation the rights to use, copy, modify, merge, publish,
+//  distribute, sublicense, and/or sell copies of the Software, and to
+//  permit persons to whom the Software is furnished to do so, subject to
+//  the following conditions:
+//
+//  The above copyright notice and this permission notice shall be included
+//  in all copies or substantial portions of the Software.
+//
+//  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+//  EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+//  MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.
+//  IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY
+//  CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT,
+//  TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+//  SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+
+package com.viromedia.bridge.utility;
+
+import android.os.Build;
+import android.os.Trace;
+
+/**
+ * Thin wrapper over android.os.Trace for the bridge's hot paths, visible in Perfetto / systrace
+ * captures under the "Viro:" prefix. Section names are constants so tracing never builds strings;
+ * counters and async sections are only emitted on API 29+, where the platform supports them.
+ */
+public class ViroTrace {
+    public static final String CREATE_COMPONENT = "Viro:createComponent";
+    public static final String UPDATE_COMPONENT = "Viro:updateComponent";
+    public static final String DELETE_COMPONENT = "Viro:deleteComponent";
+    public static final String PARSE_MATERIAL = "Viro:parseMaterial";
+    public static final String DECODE_IMAGE = "Viro:decodeImage";
+    public static final String UPLOAD_TEXTURE = "Viro:uploadTexture";
+    public static final String LOAD_MODEL = "Viro:loadModel";
+    public static final String DISPATCH_EVENTS = "Viro:dispatchEvents";
+    public static final String DISPATCH_PACKED_EVENTS = "Viro:dispatchPackedEvents";
+    public static final String ACTIVATE_SCENE = "Viro:activateScene";
+
+    public static final String COUNTER_COMPONENTS = "Viro:components";
+    public static final String COUNTER_EVENTS_PER_FRAME = "Viro:eventsPerFrame";
+    public static final String COUNTER_PACKED_BYTES = "Viro:packedEventBytes";
+    public static final String COUNTER_MODELS_LOADING = "Viro:modelsLoading";
+
+    private static final boolean SUPPORTS_ASYNC = Build.VERSION.SDK_INT >= Build.VERSION_CODES.Q;
+
+    private ViroTrace() {
+    }
+
+    /**
+     * Returns true if a trace capture is running. Always true below API 29, where the
+     * platform cannot tell; Trace calls are cheap no-ops when not capturing.
+     */
+    public static boolean isEnabled() {
+        return !SUPPORTS_ASYNC || Trace.isEnabled();
+    }
+
+    public static void beginSection(String sectionName) {
+        Trace.beginSection(sectionName);
+    }
+
+    public static void endSection() {
+        Trace.endSection();
+    }
+
+    public static void setCounter(String counterName, long value) {
+        if (SUPPORTS_ASYNC) {
+            Trace.setCounter(counterName, value);
+        }
+    }
+
+    /**
+     * Begin a section that may end on another thread, such as an asynchronous model load.
+     */
+    public static void beginAsyncSection(String sectionName, int cookie) {
+        if (SUPPORTS_ASYNC) {
+            Trace.beginAsyncSection(sectionName, cookie);
+        }
+    }
+
+    public static void endAsyncSection(String sectionName, int cookie) {
+        if (SUPPORTS_ASYNC) {
+            Trace.endAsyncSection(sectionName, cookie);
+        }
+    }
+}
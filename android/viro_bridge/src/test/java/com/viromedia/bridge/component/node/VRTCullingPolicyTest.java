@@ -0,0 +1,63 @@
+package com.viromedia.bridge.component.node;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class VRTCullingPolicyTest {
+
+    private static final double HALF_ANGLE = Math.toRadians(45);
+
+    // Camera at the origin looking down -z
+    private static boolean inView(float x, float y, float z, float radius) {
+        return VRTCullingPolicy.isSphereInCone(HALF_ANGLE, x, y, z, radius, 0, 0, 0, 0, 0, -1);
+    }
+
+    // A point at the given angle from the forward vector, 10 units away
+    private static boolean pointInViewAt(double degrees) {
+        double angle = Math.toRadians(degrees);
+        return inView((float) (10 * Math.sin(angle)), 0, (float) (-10 * Math.cos(angle)), 0);
+    }
+
+    @Test
+    public void sphereAheadIsInView() {
+        assertTrue(inView(0, 0, -5, 0.5f));
+    }
+
+    @Test
+    public void sphereBehindIsNotInView() {
+        assertFalse(inView(0, 0, 5, 0.5f));
+    }
+
+    @Test
+    public void pointsAreInViewWithinTheHalfAngle() {
+        assertTrue(pointInViewAt(40));
+        assertTrue(pointInViewAt(-40));
+        assertFalse(pointInViewAt(50));
+        assertFalse(pointInViewAt(-50));
+    }
+
+    @Test
+    public void radiusWidensTheCone() {
+        // 90 degrees off; a small sphere is out, one reaching into the cone is in
+        assertFalse(inView(5, 0, 0, 0.5f));
+        assertTrue(inView(5, 0, 0, 4.9f));
+    }
+
+    @Test
+    public void sphereAroundTheCameraIsInView() {
+        assertTrue(inView(0, 0, 1, 2));
+    }
+
+    @Test
+    public void forwardVectorNeedNotBeNormalized() {
+        assertTrue(VRTCullingPolicy.isSphereInCone(HALF_ANGLE, 0, 0, -5, 0, 0, 0, 0, 0, 0, -3));
+        assertFalse(VRTCullingPolicy.isSphereInCone(HALF_ANGLE, 0, 0, 5, 0, 0, 0, 0, 0, 0, -3));
+    }
+
+    @Test
+    public void zeroForwardVectorKeepsEverythingInView() {
+        assertTrue(VRTCullingPolicy.isSphereInCone(HALF_ANGLE, 0, 0, 5, 0, 0, 0, 0, 0, 0, 0));
+    }
+}
@@ -0,0 +1,48 @@
+package com.viromedia.bridge.utility;
+
+import android.content.ComponentCallbacks2;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ViroResourceGovernorTest {
+
+    @Test
+    public void trimTargetNeverGrowsWithLevel() {
+        float previous = ViroResourceGovernor.targetFractionForTrimLevel(0);
+        for (int level = 1; level <= ComponentCallbacks2.TRIM_MEMORY_COMPLETE + 10; level++) {
+            float fraction = ViroResourceGovernor.targetFractionForTrimLevel(level);
+            assertTrue("Trim level " + level + " keeps more than level " + (level - 1),
+                    fraction <= previous);
+            previous = fraction;
+        }
+    }
+
+    @Test
+    public void trimTargetsStayWithinBudget() {
+        for (int level = 0; level <= ComponentCallbacks2.TRIM_MEMORY_COMPLETE; level++) {
+            float fraction = ViroResourceGovernor.targetFractionForTrimLevel(level);
+            assertTrue(fraction >= 0 && fraction < 1);
+        }
+    }
+
+    @Test
+    public void trimTargetsOfEachLevel() {
+        assertEquals(0.75f, ViroResourceGovernor.targetFractionForTrimLevel(
+                ComponentCallbacks2.TRIM_MEMORY_RUNNING_MODERATE), 0);
+        assertEquals(0.5f, ViroResourceGovernor.targetFractionForTrimLevel(
+                ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW), 0);
+        assertEquals(0.25f, ViroResourceGovernor.targetFractionForTrimLevel(
+                ComponentCallbacks2.TRIM_MEMORY_RUNNING_CRITICAL), 0);
+        assertEquals(0.25f, ViroResourceGovernor.targetFractionForTrimLevel(
+                ComponentCallbacks2.TRIM_MEMORY_UI_HIDDEN), 0);
+        assertEquals(0.2f, ViroResourceGovernor.targetFractionForTrimLevel(
+                ComponentCallbacks2.TRIM_MEMORY_BACKGROUND), 0);
+        assertEquals(0.1f, ViroResourceGovernor.targetFractionForTrimLevel(
+                ComponentCallbacks2.TRIM_MEMORY_MODERATE), 0);
+        assertEquals(0f, ViroResourceGovernor.targetFractionForTrimLevel(
+                ComponentCallbacks2.TRIM_MEMORY_COMPLETE), 0);
+    }
+}
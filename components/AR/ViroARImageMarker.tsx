@@ -86,8 +86,7 @@ export class ViroARImageMarker extends ViroBase<{}> {
         onRotateViro={this._onRotate}
         onFuseViro={this._onFuse}
         timeToFuse={timeToFuse}
-        canCollide={this.props.onCollision != undefined}
-        onCollisionViro={this._onCollision}
+        {...this._collisionProps()}
         onAnchorFoundViro={this._onAnchorFound}
         onAnchorUpdatedViro={this._onAnchorUpdated}
         onAnchorRemovedViro={this._onAnchorRemoved}
@@ -133,6 +132,10 @@ var VRTARImageMarker = requireNativeComponent<any>(
       timeToFuse: true,
       canCollide: true,
       onCollisionViro: true,
+      onCollisionEnterViro: true,
+      onCollisionStayViro: true,
+      onCollisionExitViro: true,
+      collisionEventMask: true,
       onAnchorFoundViro: true,
       onAnchorUpdatedViro: true,
       onAnchorRemovedViro: true,
@@ -84,8 +84,7 @@ export class ViroARObjectMarker extends ViroBase<Props> {
         onRotateViro={this._onRotate}
         onFuseViro={this._onFuse}
         timeToFuse={timeToFuse}
-        canCollide={this.props.onCollision != undefined}
-        onCollisionViro={this._onCollision}
+        {...this._collisionProps()}
         onAnchorFoundViro={this._onAnchorFound}
         onAnchorUpdatedViro={this._onAnchorUpdated}
         onAnchorRemovedViro={this._onAnchorRemoved}
@@ -131,6 +130,10 @@ var VRTARObjectMarker = requireNativeComponent<any>(
       timeToFuse: true,
       canCollide: true,
       onCollisionViro: true,
+      onCollisionEnterViro: true,
+      onCollisionStayViro: true,
+      onCollisionExitViro: true,
+      collisionEventMask: true,
       onAnchorFoundViro: true,
       onAnchorUpdatedViro: true,
       onAnchorRemovedViro: true,
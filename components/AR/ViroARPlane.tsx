@@ -97,8 +97,7 @@ export class ViroARPlane extends ViroBase<Props> {
         onRotateViro={this._onRotate}
         onFuseViro={this._onFuse}
         timeToFuse={timeToFuse}
-        canCollide={this.props.onCollision != undefined}
-        onCollisionViro={this._onCollision}
+        {...this._collisionProps()}
         onAnchorFoundViro={this._onAnchorFound}
         onAnchorUpdatedViro={this._onAnchorUpdated}
         onAnchorRemovedViro={this._onAnchorRemoved}
@@ -144,6 +143,10 @@ var VRTARPlane = requireNativeComponent<any>(
       timeToFuse: true,
       canCollide: true,
       onCollisionViro: true,
+      onCollisionEnterViro: true,
+      onCollisionStayViro: true,
+      onCollisionExitViro: true,
+      collisionEventMask: true,
       onAnchorFoundViro: true,
       onAnchorUpdatedViro: true,
       onAnchorRemovedViro: true,
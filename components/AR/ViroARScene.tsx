@@ -38,6 +38,8 @@ import {
   Viro3DPoint,
   ViroPhysicsWorld,
   ViroRay,
+  ViroRayCastOptions,
+  ViroRayCastResult,
   ViroRotation,
   ViroScale,
   ViroSoundRoom,
@@ -59,6 +61,12 @@ type Props = ViroCommonProps & {
   };
 
   anchorDetectionTypes?: string[] | string;
+  /**
+   * Maximum number of anchors shared by the root nodes of this scene. Nearby
+   * root nodes share an anchor; once the limit is reached, new root nodes join
+   * the nearest existing anchor. Defaults to 32. Android only.
+   */
+  maxAnchors?: number;
 
   onCameraARHitTest?: (event: ViroCameraARHitTest) => void;
   onARPointCloudUpdate?: (pointCloud: ViroARPointCloud) => void;
@@ -288,6 +296,29 @@ export class ViroARScene extends ViroBase<Props> {
     );
   };
 
+  /**
+   * Cast many rays in one call and get the closest hit of each. origins and
+   * directions hold x,y,z per ray; rays extend maxDistance along their
+   * direction. This saves a bridge call per ray, but casting is not batched
+   * natively: the renderer still runs one cast per ray.
+   */
+  findCollisionsWithRaysAsync = async (
+    origins: number[],
+    directions: number[],
+    maxDistance: number,
+    options: ViroRayCastOptions = {}
+  ): Promise<ViroRayCastResult> => {
+    return await NativeModules.VRTSceneModule.findCollisionsWithRaysAsync(
+      findNodeHandle(this),
+      origins,
+      directions,
+      maxDistance,
+      options.shape?.type ?? null,
+      options.shape?.params ?? null,
+      options.tag ?? null
+    );
+  };
+
   performARHitTestWithRay = async (ray: ViroRay) => {
     return await NativeModules.VRTARSceneModule.performARHitTestWithRay(
       findNodeHandle(this),
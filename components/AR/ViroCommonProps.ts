@@ -9,6 +9,7 @@ import {
   ViroRotateState,
 } from "../Types/ViroEvents";
 import {
+  ViroCullingPolicy,
   ViroPhysicsBody,
   Viro3DPoint,
   ViroRotation,
@@ -25,6 +26,7 @@ export type ViroCommonProps = ViewProps & {
   visible?: boolean;
   opacity?: number;
   ignoreEventHandling?: boolean;
+  cullingPolicy?: ViroCullingPolicy;
   dragType?:
     | "FixedDistance"
     | "FixedDistanceOrigin"
@@ -73,6 +75,33 @@ export type ViroCommonProps = ViewProps & {
     collidedPoint: Viro3DPoint,
     collidedNormal: Viro3DPoint
   ) => void;
+  /**
+   * Called once when the body starts touching the body tagged viroTag.
+   * Unlike onCollision, it is not called again while the two stay in contact.
+   */
+  onCollisionEnter?: (
+    viroTag: string,
+    collidedPoint: Viro3DPoint,
+    collidedNormal: Viro3DPoint
+  ) => void;
+  /**
+   * Called while the body keeps touching the body tagged viroTag, at most
+   * once every collisionStayInterval milliseconds.
+   */
+  onCollisionStay?: (
+    viroTag: string,
+    collidedPoint: Viro3DPoint,
+    collidedNormal: Viro3DPoint
+  ) => void;
+  /**
+   * Called once when the body stops touching the body tagged viroTag.
+   */
+  onCollisionExit?: (viroTag: string) => void;
+  /**
+   * Minimum time in milliseconds between two onCollisionStay calls for the
+   * same pair of bodies. Defaults to 250; 0 calls it every frame.
+   */
+  collisionStayInterval?: number;
   viroTag?: string;
   onAnchorFound?: (anchorFoundMap: ViroAnchorFoundMap) => void;
   onAnchorUpdated?: (anchorUpdatedMap: ViroAnchorUpdatedMap) => void;
@@ -114,6 +114,10 @@ export type ViroCollisionEvent = {
   collidedNormal: Viro3DPoint;
 };
 
+export type ViroCollisionExitEvent = {
+  viroTag: string;
+};
+
 /**
  * Platform information for the current device.
  *
@@ -113,6 +113,44 @@ export type ViroPhysicsBody = {
   velocity?: number[];
 };
 
+/**
+ * Suspends work in a node's subtree while the node is off-screen. A node is
+ * off-screen when its bounding sphere is outside the camera's view cone.
+ */
+export type ViroCullingPolicy = {
+  /**
+   * "boundingSphere" (default) culls against the view cone; "none" turns
+   * culling off.
+   */
+  mode?: "boundingSphere" | "none";
+  /**
+   * Stop delivering events (click, hover, drag, transform updates...) while
+   * off-screen. Defaults to true.
+   */
+  suspendEvents?: boolean;
+  /**
+   * Pause animations while off-screen. Defaults to true.
+   */
+  suspendAnimations?: boolean;
+  /**
+   * Pause video decoding while off-screen. Defaults to true.
+   */
+  pauseVideo?: boolean;
+  /**
+   * Field of view of the view cone in degrees. Defaults to 90.
+   */
+  fieldOfView?: number;
+  /**
+   * Degrees added around the view cone so content is resumed just before it
+   * comes into view. Defaults to 10.
+   */
+  margin?: number;
+  /**
+   * Radius in meters used for nodes without geometry. Defaults to 0.5.
+   */
+  radius?: number;
+};
+
 export type ViroPhysicsBodyType = "Dynamic" | "Kinematic" | "Static";
 
 export type ViroPhysicsBodyShape = {
@@ -167,3 +205,17 @@ export type ViroSound = string;
 export type ViroSoundPreloadResult = {
   [key: string]: { result: any; msg: any };
 };
+
+export type ViroRayCastOptions = {
+  // Only count hits on nodes with this viroTag
+  tag?: string;
+  // Sweep this physics shape along the rays instead of casting plain rays
+  shape?: { type: "box" | "sphere" | "compound"; params: number[] };
+};
+
+export type ViroRayCastResult = {
+  // Seven numbers per ray: hit (1 or 0), hit point xyz and hit normal xyz
+  data: number[];
+  // viroTag of the node each ray hit, null for rays without a hit
+  tags: (string | null)[];
+};
@@ -0,0 +1,110 @@
+/**
+ * Copyright (c) 2025-present, ReactVision.
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ *
+ * @providesModule ViroPerfMonitor
+ */
+
+import {
+  DeviceEventEmitter,
+  EmitterSubscription,
+  NativeModules,
+} from "react-native";
+
+const PerfMonitor = NativeModules.VRTPerfMonitor;
+
+const FRAME_METRICS_EVENT = "ViroFrameMetrics";
+
+export type ViroFrameMetrics = {
+  enabled: boolean;
+  refreshRate: number;
+  frames: number;
+  windowMs: number;
+  fps: number;
+  frameIntervalMs: {
+    p50: number;
+    p95: number;
+    p99: number;
+    mean: number;
+    max: number;
+  };
+  jankFrames: number;
+  droppedFrames: number;
+  bridge: {
+    // Props applied on the main thread
+    propTimeMsPerFrame: number;
+    propTimeMsMax: number;
+    // Props applied on the JS thread through JSI (Fabric)
+    jsPropTimeMsPerFrame: number;
+    jsPropTimeMsMax: number;
+    eventTimeMsPerFrame: number;
+    eventTimeMsMax: number;
+  };
+  textures: {
+    uploadBytesPerFrame: number;
+    uploadBytesMax: number;
+    uploadBytesTotal: number;
+  };
+};
+
+/**
+ * Frame-time and bridge-cost metrics collected by the native renderer bridge.
+ * Collection is off until start() is called, and is cheap enough to leave on
+ * in release builds. Currently only implemented on Android.
+ */
+export class ViroPerfMonitor {
+  static isAvailable(): boolean {
+    return !!PerfMonitor && !!PerfMonitor.getFrameMetrics;
+  }
+
+  static start() {
+    if (ViroPerfMonitor.isAvailable()) {
+      PerfMonitor.startFrameMetrics();
+    }
+  }
+
+  static stop() {
+    if (ViroPerfMonitor.isAvailable()) {
+      PerfMonitor.stopFrameMetrics();
+    }
+  }
+
+  /**
+   * Metrics since collection started or the last reset. Pass reset to start a
+   * new measurement window.
+   */
+  static getMetrics(reset: boolean = false): Promise<ViroFrameMetrics | null> {
+    if (!ViroPerfMonitor.isAvailable()) {
+      return Promise.resolve(null);
+    }
+    return PerfMonitor.getFrameMetrics(reset);
+  }
+
+  /**
+   * Stream metrics to the given listener every intervalMs (250ms minimum).
+   * Each report covers the window since the previous one. Call remove() on the
+   * returned subscription to stop streaming.
+   */
+  static subscribe(
+    listener: (metrics: ViroFrameMetrics) => void,
+    intervalMs: number = 1000
+  ): { remove: () => void } {
+    if (!ViroPerfMonitor.isAvailable()) {
+      return { remove: () => {} };
+    }
+    const subscription: EmitterSubscription = DeviceEventEmitter.addListener(
+      FRAME_METRICS_EVENT,
+      listener
+    );
+    PerfMonitor.setFrameMetricsStreamInterval(intervalMs);
+    return {
+      remove: () => {
+        subscription.remove();
+        PerfMonitor.setFrameMetricsStreamInterval(0);
+      },
+    };
+  }
+}
@@ -116,3 +116,131 @@ export function isARSupportedOnDevice() {
     }
   });
 }
+
+type PackedNodeResult = { data: number[]; missing: number[] };
+
+function toPackedFloats(result: PackedNodeResult, stride: number) {
+  const packed = Float32Array.from(result.data);
+  for (const index of result.missing) {
+    packed.fill(NaN, index * stride, (index + 1) * stride);
+  }
+  return packed;
+}
+
+/**
+ * Get the world transforms of many nodes in one native pass. tags are node
+ * handles from findNodeHandle. The result holds nine floats per tag: position
+ * xyz, rotation xyz in degrees and scale xyz. Entries of tags that are not
+ * nodes are NaN.
+ */
+export async function getNodeTransforms(tags: number[]) {
+  const result: PackedNodeResult =
+    await NativeModules.VRTNodeModule.getNodeTransforms(tags);
+  return toPackedFloats(result, 9);
+}
+
+/**
+ * Get the bounding boxes of many nodes in one native pass, as six floats per
+ * tag: minX, maxX, minY, maxY, minZ, maxZ. Entries of tags that are not nodes
+ * are NaN.
+ */
+export async function getBoundingBoxes(tags: number[]) {
+  const result: PackedNodeResult =
+    await NativeModules.VRTNodeModule.getBoundingBoxes(tags);
+  return toPackedFloats(result, 6);
+}
+
+/**
+ * Operations of a batched physics command.
+ */
+export const ViroPhysicsOp = {
+  Impulse: 0,
+  TorqueImpulse: 1,
+  Velocity: 2,
+  ConstantVelocity: 3,
+} as const;
+
+export type ViroPhysicsCommand = {
+  // Node handle from findNodeHandle
+  tag: number;
+  op: (typeof ViroPhysicsOp)[keyof typeof ViroPhysicsOp];
+  // The impulse, torque impulse or velocity
+  vector: [number, number, number];
+  // For an impulse, the point it is applied at relative to the body's center
+  position?: [number, number, number];
+};
+
+/**
+ * Apply many physics commands in one native pass; they all reach the renderer
+ * before the same physics step. Resolves with the number applied and the
+ * indices of commands whose tag is not a node with a physics body.
+ */
+export function applyPhysicsCommands(
+  commands: ViroPhysicsCommand[]
+): Promise<{ applied: number; failed: number[] }> {
+  const packed: number[] = new Array(commands.length * 2);
+  const values: number[] = new Array(commands.length * 6);
+  commands.forEach((command, i) => {
+    const position = command.position ?? [0, 0, 0];
+    packed[i * 2] = command.tag;
+    packed[i * 2 + 1] = command.op;
+    values[i * 6] = command.vector[0];
+    values[i * 6 + 1] = command.vector[1];
+    values[i * 6 + 2] = command.vector[2];
+    values[i * 6 + 3] = position[0];
+    values[i * 6 + 4] = position[1];
+    values[i * 6 + 5] = position[2];
+  });
+  return NativeModules.VRTNodeModule.applyPhysicsCommands(packed, values);
+}
+
+const BASE64_CHARS =
+  "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/";
+
+/**
+ * Encode the bytes of a typed array as base64, so it crosses the bridge as one
+ * string instead of an array of boxed numbers. Decoded natively as little
+ * endian, the byte order of every platform React Native runs on.
+ */
+export function encodeTypedArray(array: Float32Array | Uint32Array): string {
+  const bytes = new Uint8Array(
+    array.buffer,
+    array.byteOffset,
+    array.byteLength
+  );
+  const chunks: string[] = [];
+  for (let i = 0; i < bytes.length; i += 3) {
+    const b0 = bytes[i];
+    const b1 = i + 1 < bytes.length ? bytes[i + 1] : 0;
+    const b2 = i + 2 < bytes.length ? bytes[i + 2] : 0;
+    chunks.push(
+      BASE64_CHARS[b0 >> 2] +
+        BASE64_CHARS[((b0 & 3) << 4) | (b1 >> 4)] +
+        (i + 1 < bytes.length
+          ? BASE64_CHARS[((b1 & 15) << 2) | (b2 >> 6)]
+          : "=") +
+        (i + 2 < bytes.length ? BASE64_CHARS[b2 & 63] : "=")
+    );
+  }
+  return chunks.join("");
+}
+
+/**
+ * Decode base64 packed little endian 32 bit floats, as encoded natively, into
+ * a Float32Array.
+ */
+export function decodeFloat32Array(base64: string): Float32Array {
+  const clean = base64.replace(/=+$/, "");
+  const bytes = new Uint8Array((clean.length * 3) >> 2);
+  let byte = 0;
+  for (let i = 0; i < clean.length; i += 4) {
+    const c0 = BASE64_CHARS.indexOf(clean[i]);
+    const c1 = BASE64_CHARS.indexOf(clean[i + 1]);
+    const c2 = i + 2 < clean.length ? BASE64_CHARS.indexOf(clean[i + 2]) : 0;
+    const c3 = i + 3 < clean.length ? BASE64_CHARS.indexOf(clean[i + 3]) : 0;
+    bytes[byte++] = (c0 << 2) | (c1 >> 4);
+    if (byte < bytes.length) bytes[byte++] = ((c1 & 15) << 4) | (c2 >> 2);
+    if (byte < bytes.length) bytes[byte++] = ((c2 & 3) << 6) | c3;
+  }
+  return new Float32Array(bytes.buffer, 0, bytes.length >> 2);
+}
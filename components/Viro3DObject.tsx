@@ -131,8 +131,7 @@ export class Viro3DObject extends ViroBase<Props> {
         onAnimationStartViro={this._onAnimationStart}
         onAnimationFinishViro={this._onAnimationFinish}
         timeToFuse={timeToFuse}
-        canCollide={this.props.onCollision != undefined}
-        onCollisionViro={this._onCollision}
+        {...this._collisionProps()}
       />
     );
   }
@@ -185,6 +184,10 @@ const VRT3DObject = requireNativeComponent<any>(
       timeToFuse: true,
       canCollide: true,
       onCollisionViro: true,
+      onCollisionEnterViro: true,
+      onCollisionStayViro: true,
+      onCollisionExitViro: true,
+      collisionEventMask: true,
       onNativeTransformDelegateViro: true,
       hasTransformDelegate: true,
       onAnimationStartViro: true,
@@ -20,6 +20,7 @@ import {
   ViroAnimationStartEvent,
   ViroAnimationFinishEvent,
   ViroCollisionEvent,
+  ViroCollisionExitEvent,
   ViroNativeTransformUpdateEvent,
   ViroErrorEvent,
 } from "./Types/ViroEvents";
@@ -186,6 +187,46 @@ export class ViroBase<T> extends React.Component<ViroBaseProps & T> {
     }
   };
 
+  _onCollisionEnter = (event: NativeSyntheticEvent<ViroCollisionEvent>) => {
+    this.props.onCollisionEnter &&
+      this.props.onCollisionEnter(
+        event.nativeEvent.viroTag,
+        event.nativeEvent.collidedPoint,
+        event.nativeEvent.collidedNormal
+      );
+  };
+
+  _onCollisionStay = (event: NativeSyntheticEvent<ViroCollisionEvent>) => {
+    this.props.onCollisionStay &&
+      this.props.onCollisionStay(
+        event.nativeEvent.viroTag,
+        event.nativeEvent.collidedPoint,
+        event.nativeEvent.collidedNormal
+      );
+  };
+
+  _onCollisionExit = (event: NativeSyntheticEvent<ViroCollisionExitEvent>) => {
+    this.props.onCollisionExit &&
+      this.props.onCollisionExit(event.nativeEvent.viroTag);
+  };
+
+  // The collision props every native node component takes. collisionEventMask
+  // holds the collision pair events to send from native, matching the
+  // COLLISION_EVENT_* bits of VRTNode.
+  _collisionProps = () => {
+    return {
+      canCollide: this.props.onCollision != undefined,
+      collisionEventMask:
+        (this.props.onCollisionEnter ? 1 : 0) |
+        (this.props.onCollisionStay ? 2 : 0) |
+        (this.props.onCollisionExit ? 4 : 0),
+      onCollisionViro: this._onCollision,
+      onCollisionEnterViro: this._onCollisionEnter,
+      onCollisionStayViro: this._onCollisionStay,
+      onCollisionExitViro: this._onCollisionExit,
+    };
+  };
+
   // Called from native on the event a positional change has occured
   // for the underlying control within the renderer.
   _onNativeTransformUpdate = (
@@ -92,8 +92,7 @@ export class ViroBox extends ViroBase<{}> {
         onFuseViro={this._onFuse}
         onAnimationStartViro={this._onAnimationStart}
         onAnimationFinishViro={this._onAnimationFinish}
-        canCollide={this.props.onCollision != undefined}
-        onCollisionViro={this._onCollision}
+        {...this._collisionProps()}
         timeToFuse={timeToFuse}
       />
     );
@@ -127,6 +126,10 @@ var VRTBox = requireNativeComponent<any>(
       timeToFuse: true,
       canCollide: true,
       onCollisionViro: true,
+      onCollisionEnterViro: true,
+      onCollisionStayViro: true,
+      onCollisionExitViro: true,
+      collisionEventMask: true,
       onNativeTransformDelegateViro: true,
       hasTransformDelegate: true,
       onAnimationStartViro: true,
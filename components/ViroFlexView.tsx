@@ -79,8 +79,7 @@ export class ViroFlexView extends ViroBase<Props> {
     nativeProps.timeToFuse = timeToFuse;
     nativeProps.onAnimationStartViro = this._onAnimationStart;
     nativeProps.onAnimationFinishViro = this._onAnimationFinish;
-    nativeProps.canCollide = this.props.onCollision != undefined;
-    nativeProps.onCollisionViro = this._onCollision;
+    Object.assign(nativeProps, this._collisionProps());
     nativeProps.ref = (component: ViroNativeRef) => {
       this._component = component;
     };
@@ -115,6 +114,10 @@ var VROFlexView = requireNativeComponent<any>(
       timeToFuse: true,
       canCollide: true,
       onCollisionViro: true,
+      onCollisionEnterViro: true,
+      onCollisionStayViro: true,
+      onCollisionExitViro: true,
+      collisionEventMask: true,
       onNativeTransformDelegateViro: true,
       hasTransformDelegate: true,
       onAnimationStartViro: true,
@@ -8,9 +8,14 @@
  */
 
 import * as React from "react";
-import { requireNativeComponent } from "react-native";
+import {
+  findNodeHandle,
+  NativeModules,
+  requireNativeComponent,
+} from "react-native";
 import { Viro2DPoint, Viro3DPoint, ViroNativeRef } from "./Types/ViroUtils";
 import { checkMisnamedProps } from "./Utilities/ViroProps";
+import { encodeTypedArray } from "./Utilities/ViroUtils";
 import { ViroBase } from "./ViroBase";
 
 type Props = {
@@ -18,9 +23,54 @@ type Props = {
   normals?: Viro3DPoint[];
   texcoords?: Viro2DPoint[];
   triangleIndices?: Viro3DPoint[];
+
+  /**
+   * Flat typed forms of the above, three floats per vertex and normal and two
+   * per texcoord, sent as one packed string each. An array is only re-encoded
+   * when it is replaced by a different array.
+   */
+  vertexData?: Float32Array;
+  normalData?: Float32Array;
+  texcoordData?: Float32Array;
+  // Triangle indices of all submeshes back to back
+  indexData?: Uint32Array;
+  // Number of indices of each submesh; one submesh of all indices if omitted
+  submeshIndexCounts?: number[];
 };
 
 export class ViroGeometry extends ViroBase<Props> {
+  _encoded = new Map<
+    string,
+    { array: Float32Array | Uint32Array; data: string }
+  >();
+
+  /**
+   * Overwrite the vertices from vertex offset on, three floats per vertex.
+   * Only these vertices cross the bridge, but the renderer re-uploads every
+   * vertex of the mesh, once per frame however many ranges are updated.
+   */
+  updateVertexRange = (offset: number, vertices: Float32Array) => {
+    NativeModules.VRTNodeModule.updateGeometryVertices(
+      findNodeHandle(this),
+      offset,
+      encodeTypedArray(vertices)
+    );
+  };
+
+  _encode(prop: string, array?: Float32Array | Uint32Array) {
+    if (array == undefined) {
+      this._encoded.delete(prop);
+      return undefined;
+    }
+    const cached = this._encoded.get(prop);
+    if (cached && cached.array === array) {
+      return cached.data;
+    }
+    const data = encodeTypedArray(array);
+    this._encoded.set(prop, { array, data });
+    return data;
+  }
+
   render() {
     checkMisnamedProps("ViroGeometry", this.props);
 
@@ -69,6 +119,10 @@ export class ViroGeometry extends ViroBase<Props> {
         onNativeTransformDelegateViro={transformDelegate}
         hasTransformDelegate={this.props.onTransformUpdate != undefined}
         materials={materials}
+        vertexData={this._encode("vertexData", this.props.vertexData)}
+        normalData={this._encode("normalData", this.props.normalData)}
+        texcoordData={this._encode("texcoordData", this.props.texcoordData)}
+        indexData={this._encode("indexData", this.props.indexData)}
         canHover={this.props.onHover != undefined}
         canClick={
           this.props.onClick != undefined ||
@@ -92,8 +146,7 @@ export class ViroGeometry extends ViroBase<Props> {
         onFuseViro={this._onFuse}
         onAnimationStartViro={this._onAnimationStart}
         onAnimationFinishViro={this._onAnimationFinish}
-        canCollide={this.props.onCollision != undefined}
-        onCollisionViro={this._onCollision}
+        {...this._collisionProps()}
         timeToFuse={timeToFuse}
       />
     );
@@ -127,6 +180,10 @@ var VRTGeometry = requireNativeComponent<any>(
       timeToFuse: true,
       canCollide: true,
       onCollisionViro: true,
+      onCollisionEnterViro: true,
+      onCollisionStayViro: true,
+      onCollisionExitViro: true,
+      collisionEventMask: true,
       onNativeTransformDelegateViro: true,
       hasTransformDelegate: true,
       onAnimationStartViro: true,
@@ -162,8 +162,7 @@ export class ViroImage extends ViroBase<Props> {
     nativeProps.onAnimationStartViro = this._onAnimationStart;
     nativeProps.onAnimationFinishViro = this._onAnimationFinish;
     nativeProps.timeToFuse = timeToFuse;
-    nativeProps.canCollide = this.props.onCollision != undefined;
-    nativeProps.onCollisionViro = this._onCollision;
+    Object.assign(nativeProps, this._collisionProps());
     nativeProps.ref = (component: ViroNativeRef) => {
       this._component = component;
     };
@@ -212,6 +211,10 @@ var VRTImage = requireNativeComponent<any>(
       timeToFuse: true,
       canCollide: true,
       onCollisionViro: true,
+      onCollisionEnterViro: true,
+      onCollisionStayViro: true,
+      onCollisionExitViro: true,
+      collisionEventMask: true,
       onNativeTransformDelegateViro: true,
       hasTransformDelegate: true,
       onAnimationStartViro: true,
@@ -0,0 +1,194 @@
+/**
+ * Copyright (c) 2025-present, ReactVision.
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+import * as React from "react";
+import {
+  findNodeHandle,
+  NativeModules,
+  processColor,
+  requireNativeComponent,
+} from "react-native";
+import { Viro2DPoint, Viro3DPoint, ViroNativeRef } from "./Types/ViroUtils";
+import { checkMisnamedProps } from "./Utilities/ViroProps";
+import { ViroBase } from "./ViroBase";
+
+type Props = {
+  vertices?: Viro3DPoint[];
+  normals?: Viro3DPoint[];
+  texcoords?: Viro2DPoint[];
+  triangleIndices?: Viro3DPoint[];
+  /**
+   * Bake the instances into one merged mesh per instance color, drawn in one
+   * call, instead of a node per instance. Any change to the instances or mesh
+   * rebuilds every instance, so use this for sets that rarely change.
+   */
+  staticInstances?: boolean;
+  /**
+   * Nine floats per instance: position xyz, rotation xyz in degrees and scale
+   * xyz. The number of instances is instanceTransforms.length / 9.
+   */
+  instanceTransforms?: number[];
+  /**
+   * Optional color per instance, tinting the diffuse color of the materials.
+   * Each distinct color keeps its own copy of the mesh, so use few of them.
+   */
+  instanceColors?: (string | number)[];
+};
+
+/**
+ * Renders many copies of one mesh from a single component. The mesh is given
+ * as for ViroGeometry and shared, with its materials, by every instance.
+ * Instances need no view or bridge call of their own. Unless staticInstances
+ * is set, each is still drawn separately. Currently only implemented on
+ * Android.
+ */
+export class ViroInstancedMesh extends ViroBase<Props> {
+  /**
+   * Update the transforms of instances start onwards without re-sending the
+   * rest. Nine floats per instance, as in instanceTransforms.
+   */
+  updateInstanceTransforms = (start: number, transforms: number[]) => {
+    NativeModules.VRTNodeModule.updateInstanceTransforms(
+      findNodeHandle(this),
+      start,
+      transforms
+    );
+  };
+
+  /**
+   * Update the colors of instances start onwards without re-sending the rest.
+   */
+  updateInstanceColors = (start: number, colors: (string | number)[]) => {
+    NativeModules.VRTNodeModule.updateInstanceColors(
+      findNodeHandle(this),
+      start,
+      colors.map(processColor)
+    );
+  };
+
+  render() {
+    checkMisnamedProps("ViroInstancedMesh", this.props);
+
+    // Since materials and transformBehaviors can be either a string or an array, convert the string to a 1-element array.
+    let materials =
+      typeof this.props.materials === "string"
+        ? new Array(this.props.materials)
+        : this.props.materials;
+    let transformBehaviors =
+      typeof this.props.transformBehaviors === "string"
+        ? new Array(this.props.transformBehaviors)
+        : this.props.transformBehaviors;
+
+    let timeToFuse = undefined;
+    if (
+      this.props.onFuse != undefined &&
+      typeof this.props.onFuse === "object"
+    ) {
+      timeToFuse = this.props.onFuse.timeToFuse;
+    }
+
+    let transformDelegate =
+      this.props.onTransformUpdate != undefined
+        ? this._onNativeTransformUpdate
+        : undefined;
+
+    let highAccuracyEvents = this.props.highAccuracyEvents;
+    if (
+      this.props.highAccuracyEvents == undefined &&
+      this.props.highAccuracyGaze != undefined
+    ) {
+      console.warn(
+        "**DEPRECATION WARNING** highAccuracyGaze has been deprecated/renamed to highAccuracyEvents"
+      );
+      highAccuracyEvents = this.props.highAccuracyGaze;
+    }
+
+    let instanceColors = this.props.instanceColors
+      ? this.props.instanceColors.map(processColor)
+      : undefined;
+
+    return (
+      <VRTInstancedMesh
+        {...this.props}
+        ref={(component: ViroNativeRef) => {
+          this._component = component;
+        }}
+        highAccuracyEvents={highAccuracyEvents}
+        transformBehaviors={transformBehaviors}
+        onNativeTransformDelegateViro={transformDelegate}
+        hasTransformDelegate={this.props.onTransformUpdate != undefined}
+        materials={materials}
+        canHover={this.props.onHover != undefined}
+        canClick={
+          this.props.onClick != undefined ||
+          this.props.onClickState != undefined
+        }
+        canTouch={this.props.onTouch != undefined}
+        canScroll={this.props.onScroll != undefined}
+        canSwipe={this.props.onSwipe != undefined}
+        canDrag={this.props.onDrag != undefined}
+        canPinch={this.props.onPinch != undefined}
+        canRotate={this.props.onRotate != undefined}
+        canFuse={this.props.onFuse != undefined}
+        onHoverViro={this._onHover}
+        onClickViro={this._onClickState}
+        onTouchViro={this._onTouch}
+        onScrollViro={this._onScroll}
+        onSwipeViro={this._onSwipe}
+        onDragViro={this._onDrag}
+        onPinchViro={this._onPinch}
+        onRotateViro={this._onRotate}
+        onFuseViro={this._onFuse}
+        onAnimationStartViro={this._onAnimationStart}
+        onAnimationFinishViro={this._onAnimationFinish}
+        {...this._collisionProps()}
+        timeToFuse={timeToFuse}
+        instanceColors={instanceColors}
+      />
+    );
+  }
+}
+
+var VRTInstancedMesh = requireNativeComponent<any>(
+  "VRTInstancedMesh",
+  // @ts-ignore
+  ViroInstancedMesh,
+  {
+    nativeOnly: {
+      canHover: true,
+      canClick: true,
+      canTouch: true,
+      canScroll: true,
+      canSwipe: true,
+      canDrag: true,
+      canPinch: true,
+      canRotate: true,
+      canFuse: true,
+      onHoverViro: true,
+      onClickViro: true,
+      onTouchViro: true,
+      onScrollViro: true,
+      onSwipeViro: true,
+      onDragViro: true,
+      onPinchViro: true,
+      onRotateViro: true,
+      onFuseViro: true,
+      timeToFuse: true,
+      canCollide: true,
+      onCollisionViro: true,
+      onCollisionEnterViro: true,
+      onCollisionStayViro: true,
+      onCollisionExitViro: true,
+      collisionEventMask: true,
+      onNativeTransformDelegateViro: true,
+      hasTransformDelegate: true,
+      onAnimationStartViro: true,
+      onAnimationFinishViro: true,
+    },
+  }
+);
@@ -0,0 +1,139 @@
+/**
+ * Copyright (c) 2025-present, ReactVision.
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ *
+ * @providesModule ViroLOD
+ */
+
+"use strict";
+
+import * as React from "react";
+import { requireNativeComponent } from "react-native";
+import { checkMisnamedProps } from "./Utilities/ViroProps";
+import { ViroBase } from "./ViroBase";
+
+type Props = {
+  /**
+   * Camera distance thresholds, ascending. Child i is shown from
+   * distances[i - 1] up to distances[i], so the first child is the most
+   * detailed; past the last threshold the next child is shown, or nothing if
+   * there is none.
+   */
+  distances?: number[];
+  /**
+   * Fraction by which the distance must pass a threshold before the level
+   * changes, to avoid flickering at the boundary. Defaults to 0.1.
+   */
+  hysteresis?: number;
+};
+
+/**
+ * Shows one of its children depending on the distance to the camera, chosen
+ * natively every frame. Viro3DObject children other than the least detailed
+ * one are loaded when first shown, and a level is only swapped in once its
+ * model has loaded. Currently only implemented on Android.
+ */
+export class ViroLOD extends ViroBase<Props> {
+  render() {
+    checkMisnamedProps("ViroLOD", this.props);
+
+    // Since transformBehaviors can be either a string or an array, convert the string to a 1-element array.
+    let transformBehaviors =
+      typeof this.props.transformBehaviors === "string"
+        ? new Array(this.props.transformBehaviors)
+        : this.props.transformBehaviors;
+
+    let timeToFuse = undefined;
+    if (
+      this.props.onFuse != undefined &&
+      typeof this.props.onFuse === "object"
+    ) {
+      timeToFuse = this.props.onFuse.timeToFuse;
+    }
+
+    let transformDelegate =
+      this.props.onTransformUpdate != undefined
+        ? this._onNativeTransformUpdate
+        : undefined;
+
+    return (
+      <VRTLOD
+        {...this.props}
+        ref={(component) => {
+          this._component = component;
+        }}
+        onNativeTransformDelegateViro={transformDelegate}
+        hasTransformDelegate={this.props.onTransformUpdate != undefined}
+        transformBehaviors={transformBehaviors}
+        canHover={this.props.onHover != undefined}
+        canClick={
+          this.props.onClick != undefined ||
+          this.props.onClickState != undefined
+        }
+        canTouch={this.props.onTouch != undefined}
+        canScroll={this.props.onScroll != undefined}
+        canSwipe={this.props.onSwipe != undefined}
+        canDrag={this.props.onDrag != undefined}
+        canPinch={this.props.onPinch != undefined}
+        canRotate={this.props.onRotate != undefined}
+        canFuse={this.props.onFuse != undefined}
+        onHoverViro={this._onHover}
+        onClickViro={this._onClickState}
+        onTouchViro={this._onTouch}
+        onScrollViro={this._onScroll}
+        onSwipeViro={this._onSwipe}
+        onDragViro={this._onDrag}
+        onPinchViro={this._onPinch}
+        onRotateViro={this._onRotate}
+        onFuseViro={this._onFuse}
+        onAnimationStartViro={this._onAnimationStart}
+        onAnimationFinishViro={this._onAnimationFinish}
+        timeToFuse={timeToFuse}
+        {...this._collisionProps()}
+      />
+    );
+  }
+}
+
+var VRTLOD = requireNativeComponent<any>(
+  "VRTLOD",
+  // @ts-ignore
+  ViroLOD,
+  {
+    nativeOnly: {
+      materials: [],
+      canHover: true,
+      canClick: true,
+      canTouch: true,
+      canScroll: true,
+      canSwipe: true,
+      canDrag: true,
+      canPinch: true,
+      canRotate: true,
+      canFuse: true,
+      onHoverViro: true,
+      onClickViro: true,
+      onTouchViro: true,
+      onScrollViro: true,
+      onSwipeViro: true,
+      onDragViro: true,
+      onPinchViro: true,
+      onRotateViro: true,
+      onFuseViro: true,
+      timeToFuse: true,
+      canCollide: true,
+      onCollisionViro: true,
+      onCollisionEnterViro: true,
+      onCollisionStayViro: true,
+      onCollisionExitViro: true,
+      collisionEventMask: true,
+      onNativeTransformDelegateViro: true,
+      hasTransformDelegate: true,
+      onAnimationStartViro: true,
+      onAnimationFinishViro: true,
+    },
+  }
+);
@@ -25,6 +25,8 @@ import {
 import {
   Viro3DPoint,
   ViroPhysicsWorld,
+  ViroRayCastOptions,
+  ViroRayCastResult,
   ViroRotation,
   ViroSoundRoom,
 } from "./Types/ViroUtils";
@@ -145,6 +147,29 @@ export class ViroScene extends ViroBase<Props> {
     );
   };
 
+  /**
+   * Cast many rays in one call and get the closest hit of each. origins and
+   * directions hold x,y,z per ray; rays extend maxDistance along their
+   * direction. This saves a bridge call per ray, but casting is not batched
+   * natively: the renderer still runs one cast per ray.
+   */
+  findCollisionsWithRaysAsync = async (
+    origins: number[],
+    directions: number[],
+    maxDistance: number,
+    options: ViroRayCastOptions = {}
+  ): Promise<ViroRayCastResult> => {
+    return await NativeModules.VRTSceneModule.findCollisionsWithRaysAsync(
+      findNodeHandle(this),
+      origins,
+      directions,
+      maxDistance,
+      options.shape?.type ?? null,
+      options.shape?.params ?? null,
+      options.tag ?? null
+    );
+  };
+
   /**
    * ##### DEPRECATION WARNING - this prop may be removed in future releases #####
    * @deprecated
@@ -25,6 +25,7 @@ import { ViroExitViroEvent } from "./Types/ViroEvents";
 import { Viro3DPoint } from "./Types/ViroUtils";
 import { ViroSceneDictionary } from "./Types/ViroUtils";
 import { ViroScene } from "./ViroScene";
+import { decodeFloat32Array, encodeTypedArray } from "./Utilities/ViroUtils";
 
 var ViroSceneNavigatorModule = NativeModules.VRTSceneNavigatorModule;
 
@@ -90,6 +91,8 @@ export class ViroSceneNavigator extends React.Component<Props, State> {
     recenterTracking: this._recenterTracking,
     project: this._project,
     unproject: this._unproject,
+    projectPoints: (points: Float32Array, unproject = false) =>
+      this._projectPoints(points, unproject),
     viroAppProps: this.props.viroAppProps || {},
   };
 
@@ -442,6 +445,20 @@ export class ViroSceneNavigator extends React.Component<Props, State> {
     );
   }
 
+  /**
+   * Project (or unproject) packed x,y,z triples in one native pass. Each point
+   * uses the renderer's camera at the time it is processed.
+   */
+  async _projectPoints(points: Float32Array, unproject: boolean) {
+    const result: { points: string } =
+      await ViroSceneNavigatorModule.projectPoints(
+        findNodeHandle(this),
+        encodeTypedArray(points),
+        unproject
+      );
+    return decodeFloat32Array(result.points);
+  }
+
   _recenterTracking() {
     ViroSceneNavigatorModule.recenterTracking(findNodeHandle(this));
   }
@@ -94,8 +94,7 @@ export class ViroSphere extends ViroBase<Props> {
         onPinchViro={this._onPinch}
         onRotateViro={this._onRotate}
         onFuseViro={this._onFuse}
-        canCollide={this.props.onCollision != undefined}
-        onCollisionViro={this._onCollision}
+        {...this._collisionProps()}
         onAnimationStartViro={this._onAnimationStart}
         onAnimationFinishViro={this._onAnimationFinish}
         onNativeTransformDelegateViro={transformDelegate}
@@ -133,6 +132,10 @@ var VRTSphere = requireNativeComponent<any>(
       timeToFuse: true,
       canCollide: true,
       onCollisionViro: true,
+      onCollisionEnterViro: true,
+      onCollisionStayViro: true,
+      onCollisionExitViro: true,
+      collisionEventMask: true,
       onNativeTransformDelegateViro: true,
       hasTransformDelegate: true,
       onAnimationStartViro: true,
@@ -114,8 +114,7 @@ export class ViroText extends ViroBase<Props> {
         materials={materials}
         transformBehaviors={transformBehaviors}
         outerStroke={outerStroke}
-        canCollide={this.props.onCollision != undefined}
-        onCollisionViro={this._onCollision}
+        {...this._collisionProps()}
         timeToFuse={timeToFuse}
       />
     );
@@ -151,6 +150,10 @@ var VRTText = requireNativeComponent<any>(
       timeToFuse: true,
       canCollide: true,
       onCollisionViro: true,
+      onCollisionEnterViro: true,
+      onCollisionStayViro: true,
+      onCollisionExitViro: true,
+      collisionEventMask: true,
       onNativeTransformDelegateViro: true,
       hasTransformDelegate: true,
       onAnimationStartViro: true,
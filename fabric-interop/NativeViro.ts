@@ -41,8 +41,10 @@ export type ViroNodeType =
   | "polygon"
   | "polyline"
   | "geometry"
+  | "instancedMesh"
   | "particle"
   | "flexView"
+  | "lod"
   | "surface"
   | "360Image"
   | "360Video"
@@ -63,6 +65,25 @@ export type ViroEventCallback = (event: any) => void;
 // - recenterTracking(nodeId: string): void
 // - project(nodeId: string, point: [number, number, number]): Promise<[number, number, number]>
 // - unproject(nodeId: string, point: [number, number, number]): Promise<[number, number, number]>
+// - projectPoints(points: Float32Array, unproject?: boolean): Promise<Float32Array>
+// - registerPackedEventCallback(nodeId: string, eventName: string): number
+// - unregisterPackedEventCallback(nodeId: string, eventName: string): void
+// - getViroNodeHandle(nodeId: string): number
+// - setViroNodeTransforms(handles: Int32Array, transforms: Float32Array): void
+// - queryViroNodes(handles: Int32Array, boundingBoxes?: boolean): Float32Array
+// - queryViroNodesAsync(handles: Int32Array, boundingBoxes?: boolean): Promise<Float32Array>
+// - applyViroPhysicsCommands(commands: Int32Array, values: Float32Array): Promise<Float32Array>
+// - findViroCollisionsWithRays(sceneHandle: number, origins: Float32Array, directions: Float32Array, maxDistance: number, tag?: string | null, shapeType?: string | null, shapeParams?: number[]): Promise<{ data: Float32Array; tags: (string | null)[] }>
+// - updateViroInstanceTransforms(handle: number, start: number, transforms: Float32Array): void
+// - updateViroInstanceColors(handle: number, start: number, colors: Uint32Array): void
+// - setViroGeometryData(handle: number, vertices?: Float32Array | null, normals?: Float32Array | null, texcoords?: Float32Array | null, indices?: Uint32Array | null, submeshCounts?: Uint32Array | null): void
+// - updateViroGeometryVertices(handle: number, offset: number, vertices: Float32Array): void
+// - setViroResourceBudgets(budgets: ViroResourceBudgets): void
+// - setViroMetricsSampleInterval(intervalMs: number): void
+// - preloadViroScene(sceneId: string, activationThreshold?: number): void
+// - getViroSceneInfo(sceneId: string): ViroSceneInfo | null
+// - snapshotViroSubtree(rootId: string): ArrayBuffer | null
+// - instantiateViroSnapshot(snapshot: ArrayBuffer | Uint8Array, parentId: string | null, idPrefix: string): Int32Array
 
 // Event callback registry
 const eventCallbacks: Record<string, ViroEventCallback> = {};
@@ -92,7 +113,12 @@ if (typeof global !== "undefined") {
   global.handleViroEvent = handleViroEvent;
 }
 
-import { getNativeViro, isNativeViroAvailable } from "./components/ViroGlobal";
+import {
+  getNativeViro,
+  isNativeViroAvailable,
+  ViroResourceBudgets,
+  ViroSceneInfo,
+} from "./components/ViroGlobal";
 
 // Register a JS callback for native events
 export function registerEventListener(
@@ -181,6 +207,24 @@ export function destroyScene(sceneId: string): void {
   }
 }
 
+/**
+ * Build a scene off-screen and start loading its models and images before it
+ * is activated. The container reports progress through onScenePreloadProgress.
+ * Activating the scene before the given fraction (0-1) of its assets has
+ * loaded defers the switch until it has.
+ */
+export function preloadScene(
+  sceneId: string,
+  activationThreshold: number = 1
+): void {
+  const nativeViro = getNativeViro();
+  if (nativeViro && nativeViro.preloadViroScene) {
+    nativeViro.preloadViroScene(sceneId, activationThreshold);
+  } else {
+    console.warn("Scene preloading not available - preloadScene");
+  }
+}
+
 export function getSceneState(sceneId: string): string | null {
   const nativeViro = getNativeViro();
   if (nativeViro && nativeViro.getViroSceneState) {
@@ -189,6 +233,54 @@ export function getSceneState(sceneId: string): string | null {
   return null;
 }
 
+/**
+ * Scene state plus its estimated memory, and whether it is held in the warm
+ * scene cache that deactivated scenes are kept in.
+ */
+export function getSceneInfo(sceneId: string): ViroSceneInfo | null {
+  const nativeViro = getNativeViro();
+  if (nativeViro && nativeViro.getViroSceneInfo) {
+    return nativeViro.getViroSceneInfo(sceneId);
+  }
+  return null;
+}
+
+// Subtree Snapshots
+/**
+ * Serialize a node and its descendants (types, transforms, materials and other
+ * props) into a compact binary snapshot, or null if the node is unknown.
+ * Props are only recorded for nodes created with `recordSnapshot: true`, see
+ * ViroSnapshotRecording; other nodes are captured by type alone.
+ */
+export function snapshotSubtree(rootId: string): ArrayBuffer | null {
+  const nativeViro = getNativeViro();
+  if (nativeViro && nativeViro.snapshotViroSubtree) {
+    return nativeViro.snapshotViroSubtree(rootId);
+  }
+  console.warn("Subtree snapshots not available - snapshotSubtree");
+  return null;
+}
+
+/**
+ * Rebuild a snapshot under the given parent from a single JSI call. Natively
+ * each node is still created and attached one by one; what this saves is the
+ * createNode and addChild crossings. Node i of the snapshot gets the id
+ * `${idPrefix}${i}`; the returned handles are in the same order. An empty array
+ * means the snapshot was invalid or ids clashed.
+ */
+export function instantiateSnapshot(
+  snapshot: ArrayBuffer | Uint8Array,
+  parentId: string | null,
+  idPrefix: string
+): Int32Array {
+  const nativeViro = getNativeViro();
+  if (nativeViro && nativeViro.instantiateViroSnapshot) {
+    return nativeViro.instantiateViroSnapshot(snapshot, parentId, idPrefix);
+  }
+  console.warn("Subtree snapshots not available - instantiateSnapshot");
+  return new Int32Array(0);
+}
+
 export function getMemoryStats(): Record<string, any> | null {
   const nativeViro = getNativeViro();
   if (nativeViro && nativeViro.getViroMemoryStats) {
@@ -206,6 +298,25 @@ export function performMemoryCleanup(): void {
   }
 }
 
+// Memory stats are sampled in the background; this sets how often (default 1000ms).
+export function setMetricsSampleInterval(intervalMs: number): void {
+  const nativeViro = getNativeViro();
+  if (nativeViro && nativeViro.setViroMetricsSampleInterval) {
+    nativeViro.setViroMetricsSampleInterval(intervalMs);
+  } else {
+    console.warn("Metrics sampler not available - setMetricsSampleInterval");
+  }
+}
+
+export function setResourceBudgets(budgets: ViroResourceBudgets): void {
+  const nativeViro = getNativeViro();
+  if (nativeViro && nativeViro.setViroResourceBudgets) {
+    nativeViro.setViroResourceBudgets(budgets);
+  } else {
+    console.warn("Resource governor not available - setResourceBudgets");
+  }
+}
+
 // Node Management Functions (enhanced)
 export function createNode(
   nodeId: string,
@@ -329,6 +440,280 @@ export function setARImageTargets(targets: Record<string, any>): void {
   }
 }
 
+// Bulk Transforms
+export function getNodeHandle(nodeId: string): number {
+  const nativeViro = getNativeViro();
+  if (nativeViro && nativeViro.getViroNodeHandle) {
+    return nativeViro.getViroNodeHandle(nodeId);
+  }
+  return 0;
+}
+
+/**
+ * Set the transforms of many nodes in one call. For each handle, transforms
+ * holds nine floats: position xyz, rotation xyz in degrees and scale xyz. Put
+ * NaN in the first value of a part to leave it unchanged. All nodes are sent to
+ * the renderer together on the next frame.
+ */
+export function setNodeTransforms(
+  handles: Int32Array,
+  transforms: Float32Array
+): void {
+  const nativeViro = getNativeViro();
+  if (nativeViro && nativeViro.setViroNodeTransforms) {
+    nativeViro.setViroNodeTransforms(handles, transforms);
+  } else {
+    console.warn("NativeViro not available - setNodeTransforms");
+  }
+}
+
+/**
+ * Get the world transforms of many nodes in one call: nine floats per handle,
+ * laid out as in setNodeTransforms. Entries of unknown handles are NaN.
+ */
+export function getNodeTransforms(handles: Int32Array): Promise<Float32Array> {
+  return queryNodes(handles, false);
+}
+
+/**
+ * Get the bounding boxes of many nodes in one call: six floats per handle,
+ * minX, maxX, minY, maxY, minZ, maxZ. Entries of unknown handles are NaN.
+ */
+export function getBoundingBoxes(handles: Int32Array): Promise<Float32Array> {
+  return queryNodes(handles, true);
+}
+
+/**
+ * Synchronous getNodeTransforms, for callers that can use the values of the
+ * last rendered frame.
+ */
+export function getNodeTransformsSync(handles: Int32Array): Float32Array | null {
+  return queryNodesSync(handles, false);
+}
+
+/**
+ * Synchronous getBoundingBoxes, for callers that can use the values of the
+ * last rendered frame.
+ */
+export function getBoundingBoxesSync(handles: Int32Array): Float32Array | null {
+  return queryNodesSync(handles, true);
+}
+
+function queryNodes(
+  handles: Int32Array,
+  boundingBoxes: boolean
+): Promise<Float32Array> {
+  const nativeViro = getNativeViro();
+  if (nativeViro && nativeViro.queryViroNodesAsync) {
+    return nativeViro.queryViroNodesAsync(handles, boundingBoxes);
+  }
+  return Promise.reject(new Error("NativeViro not available - queryNodes"));
+}
+
+function queryNodesSync(
+  handles: Int32Array,
+  boundingBoxes: boolean
+): Float32Array | null {
+  const nativeViro = getNativeViro();
+  if (nativeViro && nativeViro.queryViroNodes) {
+    return nativeViro.queryViroNodes(handles, boundingBoxes);
+  }
+  console.warn("NativeViro not available - queryNodes");
+  return null;
+}
+
+// Physics
+/**
+ * Operations of a batched physics command.
+ */
+export const ViroPhysicsOp = {
+  Impulse: 0,
+  TorqueImpulse: 1,
+  Velocity: 2,
+  ConstantVelocity: 3,
+} as const;
+
+export type ViroPhysicsBatchResult = {
+  applied: number;
+  // Indices of commands whose handle is not a node with a physics body
+  failed: Int32Array;
+};
+
+/**
+ * Apply many physics commands in one call; they all reach the renderer before
+ * the same physics step. commands holds a [handle, op] pair per command, with
+ * op a ViroPhysicsOp. values holds six floats per command: the impulse, torque
+ * impulse or velocity, then for an impulse the point it is applied at relative
+ * to the body's center.
+ */
+export function applyPhysicsCommands(
+  commands: Int32Array,
+  values: Float32Array
+): Promise<ViroPhysicsBatchResult> {
+  const nativeViro = getNativeViro();
+  if (nativeViro && nativeViro.applyViroPhysicsCommands) {
+    const count = Math.min(commands.length / 2, values.length / 6);
+    return nativeViro
+      .applyViroPhysicsCommands(commands, values)
+      .then((failed: Float32Array) => ({
+        applied: Math.floor(count) - failed.length,
+        failed: Int32Array.from(failed),
+      }));
+  }
+  return Promise.reject(
+    new Error("NativeViro not available - applyPhysicsCommands")
+  );
+}
+
+export type ViroRayCastOptions = {
+  // Only count hits on nodes with this viroTag
+  tag?: string;
+  // Sweep this physics shape along the rays instead of casting plain rays
+  shape?: { type: "box" | "sphere" | "compound"; params: number[] };
+};
+
+export type ViroRayCastResult = {
+  // Seven floats per ray: hit (1 or 0), hit point xyz and hit normal xyz
+  data: Float32Array;
+  // viroTag of the node each ray hit, null for rays without a hit
+  tags: (string | null)[];
+};
+
+/**
+ * Cast many rays against the physics world of a scene in one call and get the
+ * closest hit of each. origins and directions hold x,y,z per ray; rays extend
+ * maxDistance along their direction. sceneHandle is the handle of the scene
+ * node, see getNodeHandle.
+ *
+ * This saves a bridge round trip per ray, but casting is not batched
+ * natively: the renderer still runs one cast per ray.
+ */
+export function findCollisionsWithRays(
+  sceneHandle: number,
+  origins: Float32Array,
+  directions: Float32Array,
+  maxDistance: number,
+  options: ViroRayCastOptions = {}
+): Promise<ViroRayCastResult> {
+  const nativeViro = getNativeViro();
+  if (nativeViro && nativeViro.findViroCollisionsWithRays) {
+    return nativeViro.findViroCollisionsWithRays(
+      sceneHandle,
+      origins,
+      directions,
+      maxDistance,
+      options.tag ?? null,
+      options.shape?.type ?? null,
+      options.shape?.params ?? []
+    );
+  }
+  return Promise.reject(
+    new Error("NativeViro not available - findCollisionsWithRays")
+  );
+}
+
+// Instanced Meshes
+/**
+ * Update the transforms of instances start onwards of an instanced mesh, nine
+ * floats per instance as in setNodeTransforms. Other instances are untouched.
+ */
+export function updateInstanceTransforms(
+  handle: number,
+  start: number,
+  transforms: Float32Array
+): void {
+  const nativeViro = getNativeViro();
+  if (nativeViro && nativeViro.updateViroInstanceTransforms) {
+    nativeViro.updateViroInstanceTransforms(handle, start, transforms);
+  } else {
+    console.warn("NativeViro not available - updateInstanceTransforms");
+  }
+}
+
+/**
+ * Update the ARGB colors of instances start onwards of an instanced mesh. A
+ * color of 0 restores the plain materials.
+ */
+export function updateInstanceColors(
+  handle: number,
+  start: number,
+  colors: Uint32Array
+): void {
+  const nativeViro = getNativeViro();
+  if (nativeViro && nativeViro.updateViroInstanceColors) {
+    nativeViro.updateViroInstanceColors(handle, start, colors);
+  } else {
+    console.warn("NativeViro not available - updateInstanceColors");
+  }
+}
+
+// Geometry
+export interface ViroGeometryData {
+  // Three floats per vertex
+  vertices?: Float32Array | null;
+  // Three floats per vertex
+  normals?: Float32Array | null;
+  // Two floats per vertex
+  texcoords?: Float32Array | null;
+  // Triangle indices of all submeshes back to back
+  indices?: Uint32Array | null;
+  // Number of indices of each submesh; one submesh of all indices if empty
+  submeshCounts?: Uint32Array | null;
+}
+
+/**
+ * Replace the mesh data of a geometry. Parts left out are unchanged, and only
+ * the parts given are re-uploaded.
+ */
+export function setGeometryData(handle: number, data: ViroGeometryData): void {
+  const nativeViro = getNativeViro();
+  if (nativeViro && nativeViro.setViroGeometryData) {
+    nativeViro.setViroGeometryData(
+      handle,
+      data.vertices ?? null,
+      data.normals ?? null,
+      data.texcoords ?? null,
+      data.indices ?? null,
+      data.submeshCounts ?? null
+    );
+  } else {
+    console.warn("NativeViro not available - setGeometryData");
+  }
+}
+
+/**
+ * Overwrite the vertices of a geometry from vertex offset on, three floats per
+ * vertex. Only the given vertices cross the bridge, but this is not a partial
+ * upload: the renderer is given every vertex of the mesh again, once on the
+ * next frame for all the ranges updated until then. Normals, texture
+ * coordinates and indices are left alone.
+ */
+export function updateGeometryVertices(
+  handle: number,
+  offset: number,
+  vertices: Float32Array
+): void {
+  const nativeViro = getNativeViro();
+  if (nativeViro && nativeViro.updateViroGeometryVertices) {
+    nativeViro.updateViroGeometryVertices(handle, offset, vertices);
+  } else {
+    console.warn("NativeViro not available - updateGeometryVertices");
+  }
+}
+
+// Projection Functions
+// Points are packed [x0, y0, z0, x1, y1, z1, ...] and the result uses the same layout.
+export function projectPoints(
+  points: Float32Array,
+  unproject: boolean = false
+): Promise<Float32Array> {
+  const nativeViro = getNativeViro();
+  if (nativeViro && nativeViro.projectPoints) {
+    return nativeViro.projectPoints(points, unproject);
+  }
+  return Promise.reject(new Error("NativeViro not available - projectPoints"));
+}
+
 // Check if the JSI interface is available
 export function isViroJSIAvailable(): boolean {
   return isNativeViroAvailable();
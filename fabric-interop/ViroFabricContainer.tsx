@@ -54,6 +54,29 @@ const NativeViroFabricContainer = requireNativeComponent<any>(
   "ViroFabricContainerView"
 );
 
+// Action taken by the native resource governor to stay within its memory budgets
+export interface ViroResourceGovernorAction {
+  action: "evict" | "downscale" | "overBudget";
+  reason: "budget" | "trimMemory" | "lowMemory";
+  kind: "texture" | "model" | "sound" | "video";
+  trimLevel?: number;
+  source?: string;
+  bytesFreed?: number;
+  idleMillis?: number;
+  residentBytes?: number;
+  budgetBytes?: number;
+}
+
+// Progress of a scene being preloaded off-screen
+export interface ViroScenePreloadProgress {
+  sceneId: string;
+  loadedAssets: number;
+  totalAssets: number;
+  progress: number;
+  // True once progress has reached the activation threshold
+  ready: boolean;
+}
+
 // Props for the container
 export interface ViroFabricContainerProps {
   // General props
@@ -74,7 +97,9 @@ export interface ViroFabricContainerProps {
 
   // Scene management callbacks
   onSceneStateChanged?: (event: { sceneId: string; state: string }) => void;
+  onScenePreloadProgress?: (event: ViroScenePreloadProgress) => void;
   onMemoryWarning?: (event: { memoryStats: Record<string, any> }) => void;
+  onResourceGovernorAction?: (event: ViroResourceGovernorAction) => void;
 
   // Children components
   children?: React.ReactNode;
@@ -93,7 +118,9 @@ export const ViroFabricContainer: React.FC<ViroFabricContainerProps> = ({
   onTrackingUpdated,
   onCameraTransformUpdate,
   onSceneStateChanged,
+  onScenePreloadProgress,
   onMemoryWarning,
+  onResourceGovernorAction,
   children,
 }) => {
   // Reference to the native component
@@ -247,6 +274,13 @@ export const ViroFabricContainer: React.FC<ViroFabricContainerProps> = ({
     }
   };
 
+  // Handle scene preload progress event
+  const handleScenePreloadProgress = (event: any) => {
+    if (onScenePreloadProgress) {
+      onScenePreloadProgress(event.nativeEvent);
+    }
+  };
+
   // Handle memory warning event
   const handleMemoryWarning = (event: any) => {
     if (onMemoryWarning) {
@@ -254,6 +288,13 @@ export const ViroFabricContainer: React.FC<ViroFabricContainerProps> = ({
     }
   };
 
+  // Handle resource governor action event
+  const handleResourceGovernorAction = (event: any) => {
+    if (onResourceGovernorAction) {
+      onResourceGovernorAction(event.nativeEvent);
+    }
+  };
+
   // This will throw an error if the native component is not available or New Architecture is not enabled
   isFabricComponentAvailable();
 
@@ -265,7 +306,9 @@ export const ViroFabricContainer: React.FC<ViroFabricContainerProps> = ({
       onTrackingUpdated={handleTrackingUpdated}
       onCameraTransformUpdate={handleCameraTransformUpdate}
       onSceneStateChanged={handleSceneStateChanged}
+      onScenePreloadProgress={handleScenePreloadProgress}
       onMemoryWarning={handleMemoryWarning}
+      onResourceGovernorAction={handleResourceGovernorAction}
     >
       {children}
     </NativeViroFabricContainer>
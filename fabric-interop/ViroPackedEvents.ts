@@ -0,0 +1,148 @@
+/**
+ * ViroPackedEvents
+ *
+ * Decoder for packed binary events sent by the native side once per frame.
+ *
+ * Each record in the ArrayBuffer is laid out as
+ *   [int32 type][int32 node handle][int32 float count][float32 x count]
+ * in native (little-endian) byte order. Records are decoded lazily: listeners
+ * receive a Float32Array view over the payload, and nothing is copied or
+ * allocated per event unless the listener asks for it. The native side keeps
+ * one record per node and event type per frame; records it superseded are
+ * marked SKIPPED and not visited.
+ */
+
+import { getNativeViro } from "./components/ViroGlobal";
+
+// Keep in sync with ViroPackedEventBuffer.java
+export const ViroPackedEventType = {
+  /** A record superseded later in the same frame */
+  SKIPPED: 0,
+  /** [source, x, y, z] */
+  DRAG: 1,
+  /** [source, x, y] */
+  SCROLL: 2,
+  /** [source, scaleFactor, pinchState] */
+  PINCH: 3,
+  /** [source, rotationDegrees, rotateState] */
+  ROTATE: 4,
+  /** [posX, posY, posZ, rotX, rotY, rotZ, forwardX, forwardY, forwardZ, upX, upY, upZ] */
+  CAMERA_TRANSFORM: 5,
+  /** [x, y, z] */
+  TRANSFORM_UPDATE: 6,
+  /** 12 camera floats, then per result [type, pos3, rot3, scale3] */
+  AR_HIT_TEST: 7,
+  /** Per point [x, y, z, confidence] */
+  AR_POINT_CLOUD: 8,
+} as const;
+
+const PACKED_EVENT_NAMES: Record<string, number> = {
+  onDrag: ViroPackedEventType.DRAG,
+  onScroll: ViroPackedEventType.SCROLL,
+  onPinch: ViroPackedEventType.PINCH,
+  onRotate: ViroPackedEventType.ROTATE,
+  onCameraTransformUpdate: ViroPackedEventType.CAMERA_TRANSFORM,
+  onTransformUpdate: ViroPackedEventType.TRANSFORM_UPDATE,
+  onCameraARHitTest: ViroPackedEventType.AR_HIT_TEST,
+  onARPointCloudUpdate: ViroPackedEventType.AR_POINT_CLOUD,
+};
+
+const HEADER_INTS = 3;
+// Event types are all below TYPE_COUNT, so handle * TYPE_COUNT + type is a
+// unique numeric key for (handle, type). A multiplier rather than a shift, so
+// large handles do not overflow 32 bit integer arithmetic.
+const TYPE_COUNT = 32;
+
+export type ViroPackedEventListener = (values: Float32Array) => void;
+
+const packedListeners = new Map<number, ViroPackedEventListener>();
+
+/**
+ * Walk every record in a packed buffer. `values` is a view into the buffer and is only
+ * valid for the duration of the visitor call; copy it if it must be kept.
+ */
+export function forEachPackedEvent(
+  buffer: ArrayBuffer,
+  visitor: (type: number, handle: number, values: Float32Array) => void
+): void {
+  const ints = new Int32Array(buffer);
+  const floats = new Float32Array(buffer);
+  let offset = 0;
+  while (offset + HEADER_INTS <= ints.length) {
+    const type = ints[offset];
+    const handle = ints[offset + 1];
+    const count = ints[offset + 2];
+    const start = offset + HEADER_INTS;
+    if (count < 0 || start + count > floats.length) {
+      break;
+    }
+    if (type !== ViroPackedEventType.SKIPPED) {
+      visitor(type, handle, floats.subarray(start, start + count));
+    }
+    offset = start + count;
+  }
+}
+
+export function handleViroPackedEvents(buffer: ArrayBuffer): void {
+  if (packedListeners.size === 0) {
+    return;
+  }
+  forEachPackedEvent(buffer, (type, handle, values) => {
+    const listener = packedListeners.get(handle * TYPE_COUNT + type);
+    if (listener) {
+      listener(values);
+    }
+  });
+}
+
+if (typeof global !== "undefined") {
+  // @ts-ignore - Called by the native code with a frame of packed events
+  global.handleViroPackedEvents = handleViroPackedEvents;
+}
+
+/**
+ * Subscribe to the packed form of a numeric event (onDrag, onCameraTransformUpdate, ...).
+ * While subscribed, the event is no longer delivered as a map for this node.
+ * Returns an unsubscribe function, or null if the event has no packed form.
+ */
+export function registerPackedEventListener(
+  nodeId: string,
+  eventName: string,
+  listener: ViroPackedEventListener
+): (() => void) | null {
+  const type = PACKED_EVENT_NAMES[eventName];
+  const nativeViro = getNativeViro();
+  if (!type || !nativeViro || !nativeViro.registerPackedEventCallback) {
+    return null;
+  }
+
+  const handle = nativeViro.registerPackedEventCallback(nodeId, eventName);
+  if (!handle) {
+    return null;
+  }
+
+  const key = handle * TYPE_COUNT + type;
+  packedListeners.set(key, listener);
+  return () => {
+    packedListeners.delete(key);
+    getNativeViro()?.unregisterPackedEventCallback?.(nodeId, eventName);
+  };
+}
+
+// Helpers to materialize payloads on demand
+
+export function decodeDragEvent(values: Float32Array) {
+  return {
+    source: values[0],
+    dragToPos: [values[1], values[2], values[3]] as [number, number, number],
+  };
+}
+
+export function decodeCameraTransform(values: Float32Array) {
+  return {
+    position: [values[0], values[1], values[2]] as [number, number, number],
+    rotation: [values[3], values[4], values[5]] as [number, number, number],
+    forward: [values[6], values[7], values[8]] as [number, number, number],
+    up: [values[9], values[10], values[11]] as [number, number, number],
+  };
+}
@@ -62,6 +62,9 @@ export const Viro360Image: React.FC<Viro360ImageProps> = (props) => {
         ? props.onFuse
         : props.onFuse?.callback,
     onCollision: props.onCollision,
+    onCollisionEnter: props.onCollisionEnter,
+    onCollisionStay: props.onCollisionStay,
+    onCollisionExit: props.onCollisionExit,
     onTransformUpdate: props.onTransformUpdate,
   });
 
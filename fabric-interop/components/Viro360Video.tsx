@@ -70,6 +70,9 @@ export const Viro360Video: React.FC<Viro360VideoProps> = (props) => {
         ? props.onFuse
         : props.onFuse?.callback,
     onCollision: props.onCollision,
+    onCollisionEnter: props.onCollisionEnter,
+    onCollisionStay: props.onCollisionStay,
+    onCollisionExit: props.onCollisionExit,
     onTransformUpdate: props.onTransformUpdate,
   });
 
@@ -114,6 +114,9 @@ export const Viro3DObject: React.FC<Viro3DObjectProps> = (props) => {
         ? props.onFuse
         : props.onFuse?.callback,
     onCollision: props.onCollision,
+    onCollisionEnter: props.onCollisionEnter,
+    onCollisionStay: props.onCollisionStay,
+    onCollisionExit: props.onCollisionExit,
     onTransformUpdate: props.onTransformUpdate,
   });
 
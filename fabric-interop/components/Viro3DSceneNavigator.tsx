@@ -450,6 +450,17 @@ export function Viro3DSceneNavigator(props: Props): React.ReactElement {
     return null;
   };
 
+  /**
+   * Project (or unproject) packed [x, y, z, ...] points in a single native call
+   */
+  const projectPoints = async (points: Float32Array, unprojectPoints = false) => {
+    const nativeViro = getNativeViro();
+    if (nativeViro && nativeViro.projectPoints) {
+      return await nativeViro.projectPoints(points, unprojectPoints);
+    }
+    return null;
+  };
+
   // Create the sceneNavigator object to pass to scenes
   const sceneNavigator = {
     push,
@@ -460,6 +471,7 @@ export function Viro3DSceneNavigator(props: Props): React.ReactElement {
     recenterTracking,
     project,
     unproject,
+    projectPoints,
     viroAppProps: viroAppProps || {},
   };
 
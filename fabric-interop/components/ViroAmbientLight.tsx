@@ -54,6 +54,9 @@ export const ViroAmbientLight: React.FC<ViroAmbientLightProps> = (props) => {
         ? props.onFuse
         : props.onFuse?.callback,
     onCollision: props.onCollision,
+    onCollisionEnter: props.onCollisionEnter,
+    onCollisionStay: props.onCollisionStay,
+    onCollisionExit: props.onCollisionExit,
     onTransformUpdate: props.onTransformUpdate,
   });
 
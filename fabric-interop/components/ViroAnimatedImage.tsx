@@ -73,6 +73,9 @@ export const ViroAnimatedImage: React.FC<ViroAnimatedImageProps> = (props) => {
         ? props.onFuse
         : props.onFuse?.callback,
     onCollision: props.onCollision,
+    onCollisionEnter: props.onCollisionEnter,
+    onCollisionStay: props.onCollisionStay,
+    onCollisionExit: props.onCollisionExit,
     onTransformUpdate: props.onTransformUpdate,
   });
 
@@ -4,21 +4,43 @@
  * A component for rendering custom 3D geometry.
  */
 
-import React from "react";
+import React, {
+  forwardRef,
+  useEffect,
+  useImperativeHandle,
+  useRef,
+} from "react";
 import {
   ViroCommonProps,
   useViroNode,
   convertCommonProps,
   useViroEventListeners,
 } from "./ViroUtils";
-import { getNativeViro } from "./ViroGlobal";
+import {
+  getNodeHandle,
+  setGeometryData,
+  updateGeometryVertices,
+  ViroGeometryData,
+} from "../NativeViro";
 
 export interface ViroGeometryProps extends ViroCommonProps {
   // Geometry data
-  vertices: [number, number, number][];
-  normals?: [number, number, number][];
-  texcoords?: [number, number][];
-  triangleIndices: number[][];
+  vertices?: [number, number, number][] | number[];
+  normals?: [number, number, number][] | number[];
+  texcoords?: [number, number][] | number[];
+  triangleIndices?: number[][] | number[];
+
+  /**
+   * Flat typed forms of the above, sent without per-vertex conversion. Each
+   * array is only re-sent when it is replaced by a different array.
+   */
+  vertexData?: Float32Array;
+  normalData?: Float32Array;
+  texcoordData?: Float32Array;
+  // Triangle indices of all submeshes back to back
+  indexData?: Uint32Array;
+  // Number of indices of each submesh; one submesh of all indices if omitted
+  submeshIndexCounts?: Uint32Array;
 
   // Materials
   materials?: string | string[];
@@ -31,48 +53,108 @@ export interface ViroGeometryProps extends ViroCommonProps {
   type?: "Dynamic" | "Kinematic" | "Static";
 }
 
+export interface ViroGeometryHandle {
+  /**
+   * Overwrite the vertices from vertex offset on, three floats per vertex.
+   * Only these vertices cross the bridge, but the renderer re-uploads every
+   * vertex of the mesh, once per frame however many ranges are updated.
+   */
+  updateVertexRange(offset: number, vertices: Float32Array): void;
+}
+
 /**
  * ViroGeometry is a component for rendering custom 3D geometry.
  * It allows you to create custom 3D shapes by specifying vertices, normals,
  * texture coordinates, and triangle indices.
  */
-export const ViroGeometry: React.FC<ViroGeometryProps> = (props) => {
-  // Convert common props to the format expected by the native code
-  const nativeProps = {
-    ...convertCommonProps(props),
-    vertices: props.vertices,
-    normals: props.normals,
-    texcoords: props.texcoords,
-    triangleIndices: props.triangleIndices,
-    materials: props.materials,
-    lightReceivingBitMask: props.lightReceivingBitMask,
-    shadowCastingBitMask: props.shadowCastingBitMask,
-    type: props.type,
-  };
+export const ViroGeometry = forwardRef<ViroGeometryHandle, ViroGeometryProps>(
+  (props, ref) => {
+    // Convert common props to the format expected by the native code
+    const nativeProps = {
+      ...convertCommonProps(props),
+      vertices: props.vertices,
+      normals: props.normals,
+      texcoords: props.texcoords,
+      triangleIndices: props.triangleIndices,
+      materials: props.materials,
+      lightReceivingBitMask: props.lightReceivingBitMask,
+      shadowCastingBitMask: props.shadowCastingBitMask,
+      type: props.type,
+    };
 
-  // Create the node (parent will be determined by context)
-  const nodeId = useViroNode("geometry", nativeProps);
+    // Create the node (parent will be determined by context)
+    const nodeId = useViroNode("geometry", nativeProps);
 
   
-  // Register event handlers using our new event system
-  useViroEventListeners(nodeId, {
-    onHover: props.onHover,
-    onClick: props.onClick,
-    onClickState: props.onClickState,
-    onTouch: props.onTouch,
-    onScroll: props.onScroll,
-    onSwipe: props.onSwipe,
-    onDrag: props.onDrag,
-    onPinch: props.onPinch,
-    onRotate: props.onRotate,
-    onFuse:
-      typeof props.onFuse === "function"
-        ? props.onFuse
-        : props.onFuse?.callback,
-    onCollision: props.onCollision,
-    onTransformUpdate: props.onTransformUpdate,
-  });
+    // Register event handlers using our new event system
+    useViroEventListeners(nodeId, {
+      onHover: props.onHover,
+      onClick: props.onClick,
+      onClickState: props.onClickState,
+      onTouch: props.onTouch,
+      onScroll: props.onScroll,
+      onSwipe: props.onSwipe,
+      onDrag: props.onDrag,
+      onPinch: props.onPinch,
+      onRotate: props.onRotate,
+      onFuse:
+        typeof props.onFuse === "function"
+          ? props.onFuse
+          : props.onFuse?.callback,
+      onCollision: props.onCollision,
+      onCollisionEnter: props.onCollisionEnter,
+      onCollisionStay: props.onCollisionStay,
+      onCollisionExit: props.onCollisionExit,
+      onTransformUpdate: props.onTransformUpdate,
+    });
+
+    // Send the typed arrays directly; only those replaced since the last
+    // render are re-sent
+    const sentData = useRef<ViroGeometryData>({});
+    useEffect(() => {
+      const handle = getNodeHandle(nodeId);
+      const sent = sentData.current;
+      const changed: ViroGeometryData = {
+        vertices: props.vertexData !== sent.vertices ? props.vertexData : null,
+        normals: props.normalData !== sent.normals ? props.normalData : null,
+        texcoords:
+          props.texcoordData !== sent.texcoords ? props.texcoordData : null,
+        indices: props.indexData !== sent.indices ? props.indexData : null,
+        submeshCounts:
+          props.submeshIndexCounts !== sent.submeshCounts
+            ? props.submeshIndexCounts ?? new Uint32Array(0)
+            : null,
+      };
+      if (!handle || !Object.values(changed).some((part) => part != null)) {
+        return;
+      }
+      setGeometryData(handle, changed);
+      sentData.current = {
+        vertices: props.vertexData,
+        normals: props.normalData,
+        texcoords: props.texcoordData,
+        indices: props.indexData,
+        submeshCounts: props.submeshIndexCounts,
+      };
+    }, [
+      nodeId,
+      props.vertexData,
+      props.normalData,
+      props.texcoordData,
+      props.indexData,
+      props.submeshIndexCounts,
+    ]);
+
+    useImperativeHandle(
+      ref,
+      () => ({
+        updateVertexRange: (offset: number, vertices: Float32Array) =>
+          updateGeometryVertices(getNodeHandle(nodeId), offset, vertices),
+      }),
+      [nodeId]
+    );
 
-  // Component doesn't have children, so just return null
-  return null;
-};
+    // Component doesn't have children, so just return null
+    return null;
+  }
+);
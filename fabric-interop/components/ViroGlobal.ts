@@ -9,6 +9,29 @@ declare global {
   var NativeViro: any;
 }
 
+// Per-kind byte budgets for the native resource governor
+export interface ViroResourceBudgets {
+  textureBytes?: number;
+  modelBytes?: number;
+  soundBytes?: number;
+  videoBytes?: number;
+  // Estimated memory allowed for deactivated scenes kept warm for re-activation
+  sceneCacheBytes?: number;
+}
+
+// State and estimated memory of a scene
+export interface ViroSceneInfo {
+  state: string | null;
+  cached: boolean;
+  estimatedBytes: number;
+  nodeCount: number;
+  geometryBytes: number;
+  textureBytes: number;
+  modelBytes: number;
+  soundBytes: number;
+  videoBytes: number;
+}
+
 // Define the shape of the NativeViro object
 export interface NativeViroType {
   // Node management
@@ -67,10 +90,22 @@ export interface NativeViroType {
   deactivateViroScene: (sceneId: string) => void;
   destroyViroScene: (sceneId: string) => void;
   getViroSceneState: (sceneId: string) => string | null;
+  preloadViroScene?: (sceneId: string, activationThreshold?: number) => void;
+  getViroSceneInfo?: (sceneId: string) => ViroSceneInfo | null;
+
+  // Subtree Snapshots
+  snapshotViroSubtree?: (rootId: string) => ArrayBuffer | null;
+  instantiateViroSnapshot?: (
+    snapshot: ArrayBuffer | Uint8Array,
+    parentId: string | null,
+    idPrefix: string
+  ) => Int32Array;
 
   // Memory Management
   getViroMemoryStats: () => Record<string, any> | null;
   performViroMemoryCleanup: () => void;
+  setViroResourceBudgets?: (budgets: ViroResourceBudgets) => void;
+  setViroMetricsSampleInterval?: (intervalMs: number) => void;
 
   // AR specific
   setViroARPlaneDetection: (config: {
@@ -91,6 +126,68 @@ export interface NativeViroType {
     nodeId: string,
     point: [number, number, number]
   ) => Promise<[number, number, number]>;
+  projectPoints?: (
+    points: Float32Array,
+    unproject?: boolean
+  ) => Promise<Float32Array>;
+
+  // Packed binary events
+  registerPackedEventCallback?: (nodeId: string, eventName: string) => number;
+  unregisterPackedEventCallback?: (nodeId: string, eventName: string) => void;
+
+  // Bulk transforms
+  getViroNodeHandle?: (nodeId: string) => number;
+  setViroNodeTransforms?: (
+    handles: Int32Array,
+    transforms: Float32Array
+  ) => void;
+  queryViroNodes?: (handles: Int32Array, boundingBoxes?: boolean) => Float32Array;
+  queryViroNodesAsync?: (
+    handles: Int32Array,
+    boundingBoxes?: boolean
+  ) => Promise<Float32Array>;
+
+  // Physics
+  applyViroPhysicsCommands?: (
+    commands: Int32Array,
+    values: Float32Array
+  ) => Promise<Float32Array>;
+  findViroCollisionsWithRays?: (
+    sceneHandle: number,
+    origins: Float32Array,
+    directions: Float32Array,
+    maxDistance: number,
+    tag?: string | null,
+    shapeType?: string | null,
+    shapeParams?: number[]
+  ) => Promise<{ data: Float32Array; tags: (string | null)[] }>;
+
+  // Instanced meshes
+  updateViroInstanceTransforms?: (
+    handle: number,
+    start: number,
+    transforms: Float32Array
+  ) => void;
+  updateViroInstanceColors?: (
+    handle: number,
+    start: number,
+    colors: Uint32Array
+  ) => void;
+
+  // Geometry
+  setViroGeometryData?: (
+    handle: number,
+    vertices: Float32Array | null,
+    normals: Float32Array | null,
+    texcoords: Float32Array | null,
+    indices: Uint32Array | null,
+    submeshCounts: Uint32Array | null
+  ) => void;
+  updateViroGeometryVertices?: (
+    handle: number,
+    offset: number,
+    vertices: Float32Array
+  ) => void;
 
   // Initialization
   initialize: (config?: {
@@ -0,0 +1,111 @@
+/**
+ * ViroInstancedMesh
+ *
+ * A component for rendering many copies of one mesh.
+ */
+
+import React, { forwardRef, useImperativeHandle } from "react";
+import {
+  ViroCommonProps,
+  useViroNode,
+  convertCommonProps,
+} from "./ViroUtils";
+import {
+  getNodeHandle,
+  updateInstanceColors,
+  updateInstanceTransforms,
+} from "../NativeViro";
+
+export interface ViroInstancedMeshProps extends ViroCommonProps {
+  // Mesh data, as for ViroGeometry
+  vertices: [number, number, number][];
+  normals?: [number, number, number][];
+  texcoords?: [number, number][];
+  triangleIndices: number[][];
+
+  // Materials shared by all instances
+  materials?: string | string[];
+
+  /**
+   * Bake the instances into one merged mesh per instance color, drawn in one
+   * call, instead of a node per instance. Any change to the instances or mesh
+   * rebuilds every instance, so use this for sets that rarely change.
+   */
+  staticInstances?: boolean;
+
+  /**
+   * Nine floats per instance: position xyz, rotation xyz in degrees and scale
+   * xyz. The number of instances is instanceTransforms.length / 9.
+   */
+  instanceTransforms: Float32Array | number[];
+
+  /**
+   * Optional ARGB color per instance, tinting the diffuse color of the
+   * materials. 0 leaves an instance with the plain materials. Each distinct
+   * color keeps its own copy of the mesh, so use few of them.
+   */
+  instanceColors?: Uint32Array | number[];
+
+  // Lighting props
+  lightReceivingBitMask?: number;
+  shadowCastingBitMask?: number;
+}
+
+export interface ViroInstancedMeshHandle {
+  /**
+   * Update the transforms of instances start onwards without re-sending the
+   * rest. Nine floats per instance, as in instanceTransforms.
+   */
+  updateInstanceTransforms(start: number, transforms: Float32Array): void;
+  /**
+   * Update the colors of instances start onwards without re-sending the rest.
+   */
+  updateInstanceColors(start: number, colors: Uint32Array): void;
+}
+
+/**
+ * ViroInstancedMesh renders many copies of one mesh - a forest of trees, a
+ * crowd of markers - from a single component. All instances share the mesh
+ * and its materials; each instance is only a transform and an optional color.
+ * Instances need no view or bridge call of their own. Unless staticInstances
+ * is set, each is still drawn separately.
+ */
+export const ViroInstancedMesh = forwardRef<
+  ViroInstancedMeshHandle,
+  ViroInstancedMeshProps
+>((props, ref) => {
+  // Typed arrays do not cross the props bridge, so send plain arrays
+  const nativeProps = {
+    ...convertCommonProps(props),
+    vertices: props.vertices,
+    normals: props.normals,
+    texcoords: props.texcoords,
+    triangleIndices: props.triangleIndices,
+    materials: props.materials,
+    // Before the instances, so they are not first given nodes of their own
+    staticInstances: props.staticInstances,
+    instanceTransforms: Array.from(props.instanceTransforms),
+    instanceColors: props.instanceColors
+      ? Array.from(props.instanceColors)
+      : undefined,
+    lightReceivingBitMask: props.lightReceivingBitMask,
+    shadowCastingBitMask: props.shadowCastingBitMask,
+  };
+
+  // Create the node (parent will be determined by context)
+  const nodeId = useViroNode("instancedMesh", nativeProps);
+
+  useImperativeHandle(
+    ref,
+    () => ({
+      updateInstanceTransforms: (start: number, transforms: Float32Array) =>
+        updateInstanceTransforms(getNodeHandle(nodeId), start, transforms),
+      updateInstanceColors: (start: number, colors: Uint32Array) =>
+        updateInstanceColors(getNodeHandle(nodeId), start, colors),
+    }),
+    [nodeId]
+  );
+
+  // Component doesn't have children, so just return null
+  return null;
+});
@@ -0,0 +1,49 @@
+/**
+ * ViroLOD
+ *
+ * A node that shows one of its children depending on the distance to the camera.
+ */
+
+import React from "react";
+import {
+  ViroContextProvider,
+  ViroCommonProps,
+  useViroNode,
+  convertCommonProps,
+} from "./ViroUtils";
+
+export interface ViroLODProps extends ViroCommonProps {
+  /**
+   * Camera distance thresholds, ascending. Child i is shown from
+   * distances[i - 1] up to distances[i], so the first child is the most
+   * detailed; past the last threshold the next child is shown, or nothing if
+   * there is none.
+   */
+  distances: number[];
+  /**
+   * Fraction by which the distance must pass a threshold before the level
+   * changes. Defaults to 0.1.
+   */
+  hysteresis?: number;
+
+  children?: React.ReactNode;
+}
+
+/**
+ * ViroLOD picks a level of detail natively every frame, without JS
+ * involvement. Viro3DObject levels other than the least detailed one are
+ * loaded when first needed, and a level is only swapped in once loaded.
+ */
+export const ViroLOD: React.FC<ViroLODProps> = (props) => {
+  const nativeProps = {
+    ...convertCommonProps(props),
+    distances: props.distances,
+    hysteresis: props.hysteresis,
+  };
+
+  const nodeId = useViroNode("lod", nativeProps);
+
+  return (
+    <ViroContextProvider value={nodeId}>{props.children}</ViroContextProvider>
+  );
+};
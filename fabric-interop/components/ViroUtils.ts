@@ -29,6 +29,26 @@ export const useViroParent = () => {
   return React.useContext(ViroContext);
 };
 
+// Whether nodes below record their props for snapshotSubtree
+export const ViroSnapshotRecordingContext = React.createContext(false);
+
+/**
+ * Record the props of every node created below, so that snapshotSubtree can
+ * capture them. Recording costs a props conversion on every create and update,
+ * so only wrap the subtrees you intend to snapshot.
+ */
+export const ViroSnapshotRecording = ({
+  children,
+}: {
+  children: React.ReactNode;
+}) => {
+  return React.createElement(
+    ViroSnapshotRecordingContext.Provider,
+    { value: true },
+    children
+  );
+};
+
 // Hook to manage a node's lifecycle
 export function useViroNode(
   nodeType: ViroNodeType,
@@ -37,13 +57,18 @@ export function useViroNode(
 ): string {
   const nodeId = useRef<string>(generateNodeId());
   const contextParentId = useViroParent();
+  const recordSnapshot = React.useContext(ViroSnapshotRecordingContext);
 
   // Use explicit parent ID if provided, otherwise use context
   const parentId = explicitParentId || contextParentId;
 
   useEffect(() => {
     // Create the node when the component mounts using our enhanced functions
-    createNode(nodeId.current, nodeType, props);
+    createNode(
+      nodeId.current,
+      nodeType,
+      recordSnapshot ? { ...props, recordSnapshot: true } : props
+    );
 
     // Add to parent if specified
     if (parentId) {
@@ -60,7 +85,7 @@ export function useViroNode(
       // Delete the node
       deleteNode(nodeId.current);
     };
-  }, [nodeType, parentId]);
+  }, [nodeType, parentId, recordSnapshot]);
 
   // Update props when they change
   useEffect(() => {
@@ -117,6 +142,17 @@ export interface ViroCommonProps {
   canRotate?: boolean;
   timeToFuse?: number;
 
+  // Suspend events, animations and video in the subtree while off-screen
+  cullingPolicy?: {
+    mode?: "boundingSphere" | "none";
+    suspendEvents?: boolean;
+    suspendAnimations?: boolean;
+    pauseVideo?: boolean;
+    fieldOfView?: number;
+    margin?: number;
+    radius?: number;
+  };
+
   // Event handlers
   onHover?: ViroEventHandler;
   onClick?: ViroEventHandler;
@@ -131,6 +167,12 @@ export interface ViroCommonProps {
     | ViroEventHandler
     | { callback: ViroEventHandler; timeToFuse?: number };
   onCollision?: ViroEventHandler;
+  // Sent once when a pair of bodies starts and stops touching, and while it
+  // keeps touching at most every collisionStayInterval ms (default 250)
+  onCollisionEnter?: ViroEventHandler;
+  onCollisionStay?: ViroEventHandler;
+  onCollisionExit?: ViroEventHandler;
+  collisionStayInterval?: number;
   onTransformUpdate?: ViroEventHandler;
 }
 
@@ -10,12 +10,14 @@ export { ViroNode } from "./ViroNode";
 export { ViroScene } from "./ViroScene";
 export { ViroARScene } from "./ViroARScene";
 export { ViroFlexView } from "./ViroFlexView";
+export { ViroLOD } from "./ViroLOD";
 
 // 3D primitives
 export { ViroBox } from "./ViroBox";
 export { ViroSphere } from "./ViroSphere";
 export { Viro3DObject } from "./Viro3DObject";
 export { ViroGeometry } from "./ViroGeometry";
+export { ViroInstancedMesh } from "./ViroInstancedMesh";
 export { ViroQuad } from "./ViroQuad";
 export { ViroPolygon } from "./ViroPolygon";
 export { ViroPolyline } from "./ViroPolyline";
@@ -17,6 +17,8 @@ export {
   ViroSphere,
   Viro3DObject,
   ViroGeometry,
+  ViroInstancedMesh,
+  ViroLOD,
   ViroQuad,
   ViroPolygon,
   ViroPolyline,
@@ -75,9 +77,15 @@ export {
   activateScene,
   deactivateScene,
   destroyScene,
+  preloadScene,
   getSceneState,
+  getSceneInfo,
+  snapshotSubtree,
+  instantiateSnapshot,
   getMemoryStats,
   performMemoryCleanup,
+  setResourceBudgets,
+  setMetricsSampleInterval,
   createNode,
   updateNode,
   deleteNode,
@@ -87,6 +95,24 @@ export {
   createAnimation,
   setARPlaneDetection,
   setARImageTargets,
+  projectPoints,
+  getNodeHandle,
+  setNodeTransforms,
+  getNodeTransforms,
+  getBoundingBoxes,
+  getNodeTransformsSync,
+  getBoundingBoxesSync,
+  applyPhysicsCommands,
+  ViroPhysicsOp,
+  type ViroPhysicsBatchResult,
+  findCollisionsWithRays,
+  type ViroRayCastOptions,
+  type ViroRayCastResult,
+  updateInstanceTransforms,
+  updateInstanceColors,
+  setGeometryData,
+  updateGeometryVertices,
+  type ViroGeometryData,
   isViroJSIAvailable,
   type ViroNodeProps,
   type ViroNodeType,
@@ -102,6 +128,21 @@ export {
 // Also export the original names for backward compatibility
 export { executeAnimation, updateMaterial } from "./NativeViro";
 
+export type {
+  ViroResourceBudgets,
+  ViroSceneInfo,
+} from "./components/ViroGlobal";
+
+// Export packed binary event utilities
+export {
+  ViroPackedEventType,
+  forEachPackedEvent,
+  registerPackedEventListener,
+  decodeDragEvent,
+  decodeCameraTransform,
+  type ViroPackedEventListener,
+} from "./ViroPackedEvents";
+
 // Export event management utilities
 export { default as ViroEventsManager } from "./ViroEventsManager";
 export type { Spec as ViroEventsTurboModuleSpec } from "./specs/ViroEventsTurboModule";
@@ -29,6 +29,8 @@ import { ViroController } from "./components/ViroController";
 import { ViroDirectionalLight } from "./components/ViroDirectionalLight";
 import { ViroFlexView } from "./components/ViroFlexView";
 import { ViroGeometry } from "./components/ViroGeometry";
+import { ViroInstancedMesh } from "./components/ViroInstancedMesh";
+import { ViroLOD } from "./components/ViroLOD";
 import { ViroLightingEnvironment } from "./components/ViroLightingEnvironment";
 import { ViroImage } from "./components/ViroImage";
 import { ViroMaterials } from "./components/Material/ViroMaterials";
@@ -60,6 +62,11 @@ import {
   polarToCartesian,
   polarToCartesianActual,
   isARSupportedOnDevice,
+  getNodeTransforms,
+  getBoundingBoxes,
+  applyPhysicsCommands,
+  ViroPhysicsOp,
+  ViroPhysicsCommand,
   ViroARSupportResponse,
 } from "./components/Utilities/ViroUtils";
 import { ViroARCamera } from "./components/AR/ViroARCamera";
@@ -127,6 +134,10 @@ import {
 import { ViroSurface } from "./components/ViroSurface";
 import { ViroSceneNavigator } from "./components/ViroSceneNavigator";
 import { VIRO_VERSION } from "./components/Utilities/ViroVersion";
+import {
+  ViroPerfMonitor,
+  ViroFrameMetrics,
+} from "./components/Utilities/ViroPerfMonitor";
 
 export {
   ViroARImageMarker,
@@ -143,6 +154,8 @@ export {
   ViroDirectionalLight,
   ViroFlexView,
   ViroGeometry,
+  ViroInstancedMesh,
+  ViroLOD,
   ViroLightingEnvironment,
   ViroImage,
   ViroMaterials,
@@ -185,8 +198,15 @@ export {
   polarToCartesian,
   polarToCartesianActual,
   isARSupportedOnDevice,
+  getNodeTransforms,
+  getBoundingBoxes,
+  applyPhysicsCommands,
+  ViroPhysicsOp,
+  ViroPerfMonitor,
   // Types
   ViroARSupportResponse,
+  ViroPhysicsCommand,
+  ViroFrameMetrics,
   ViroHoverEvent,
   ViroClickEvent,
   ViroClickStateEvent,